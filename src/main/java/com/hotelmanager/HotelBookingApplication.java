@@ -1,28 +1,61 @@
 package com.hotelmanager;
 
+import com.hotelmanager.config.ShardRouterProperties;
 import com.hotelmanager.exception.BookingSystemException;
 import com.hotelmanager.service.presentation.ConsoleOutputService;
+import com.hotelmanager.service.CommandHandler;
 import com.hotelmanager.service.HotelBookingService;
 import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.replication.ReplicaFollower;
+import com.hotelmanager.service.replication.ReplicationPublisher;
+import com.hotelmanager.service.server.CommandServer;
+import com.hotelmanager.service.server.HttpQueryServer;
+import com.hotelmanager.service.shard.ShardAssignment;
+import com.hotelmanager.service.shard.ShardRouter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @Slf4j
 public class HotelBookingApplication implements CommandLineRunner {
+    private static final String USAGE = "Usage: myapp --hotels <hotels-file> --bookings <bookings-file|dir> [--shard <i/N>] [--listen <port>] [--http <port>]"
+            + " [--publish <port> | --replicate <host:port>]"
+            + " | myapp --route <host:port,...> [--listen <port>]";
 
     private final HotelDataService hotelDataService;
     private final HotelBookingService hotelBookingService;
     private final ConsoleOutputService consoleOutputService;
+    private final CommandServer commandServer;
+    private final HttpQueryServer httpQueryServer;
+    private final ReplicationPublisher replicationPublisher;
+    private final ReplicaFollower replicaFollower;
+    private final ShardRouterProperties shardRouterProperties;
 
     public HotelBookingApplication(HotelDataService hotelDataService,
                                    HotelBookingService hotelBookingService,
-                                   ConsoleOutputService consoleOutputService) {
+                                   ConsoleOutputService consoleOutputService,
+                                   CommandServer commandServer,
+                                   HttpQueryServer httpQueryServer,
+                                   ReplicationPublisher replicationPublisher,
+                                   ReplicaFollower replicaFollower,
+                                   ShardRouterProperties shardRouterProperties) {
         this.hotelDataService = hotelDataService;
         this.hotelBookingService = hotelBookingService;
         this.consoleOutputService = consoleOutputService;
+        this.commandServer = commandServer;
+        this.httpQueryServer = httpQueryServer;
+        this.replicationPublisher = replicationPublisher;
+        this.replicaFollower = replicaFollower;
+        this.shardRouterProperties = shardRouterProperties;
     }
 
     public static void main(String[] args) {
@@ -37,31 +70,97 @@ public class HotelBookingApplication implements CommandLineRunner {
     }
 
     boolean executeApplication(String... args) {
-        if (args.length < 4) {
-            consoleOutputService.displayError("Usage: myapp --hotels <hotels-file> --bookings <bookings-file>");
+        if (args.length < 2) {
+            consoleOutputService.displayError(USAGE);
             return false;
         }
 
         String hotelsFile = null;
         String bookingsFile = null;
+        String listenPort = null;
+        String httpPort = null;
+        String shard = null;
+        String route = null;
+        String publishPort = null;
+        String primary = null;
 
         for (int i = 0; i < args.length - 1; i++) {
             if ("--hotels".equals(args[i])) {
                 hotelsFile = args[i + 1];
             } else if ("--bookings".equals(args[i])) {
                 bookingsFile = args[i + 1];
+            } else if ("--listen".equals(args[i])) {
+                listenPort = args[i + 1];
+            } else if ("--http".equals(args[i])) {
+                httpPort = args[i + 1];
+            } else if ("--shard".equals(args[i])) {
+                shard = args[i + 1];
+            } else if ("--route".equals(args[i])) {
+                route = args[i + 1];
+            } else if ("--publish".equals(args[i])) {
+                publishPort = args[i + 1];
+            } else if ("--replicate".equals(args[i])) {
+                primary = args[i + 1];
             }
         }
 
-        if (hotelsFile == null || bookingsFile == null) {
-            consoleOutputService.displayError("Usage: myapp --hotels <hotels-file> --bookings <bookings-file>");
+        if ((listenPort != null && !isValidPort(listenPort)) || (httpPort != null && !isValidPort(httpPort))
+                || (publishPort != null && !isValidPort(publishPort))) {
+            consoleOutputService.displayError(USAGE);
+            return false;
+        }
+
+        if (route != null) {
+            return executeRouter(route, listenPort, httpPort);
+        }
+
+        Optional<ShardAssignment> shardAssignment = shard == null ? Optional.empty() : ShardAssignment.parse(shard);
+        Optional<InetSocketAddress> primaryAddress = primary == null ? Optional.empty() : parseAddress(primary);
+        if (hotelsFile == null || bookingsFile == null || (shard != null && shardAssignment.isEmpty())
+                || (primary != null && (primaryAddress.isEmpty() || httpPort != null))) {
+            consoleOutputService.displayError(USAGE);
             return false;
         }
 
         try {
             log.info("Loading data files - hotels: {}, bookings: {}", hotelsFile, bookingsFile);
-            hotelDataService.loadFromFiles(hotelsFile, bookingsFile);
-            hotelBookingService.startCommandLoop();
+            if (shardAssignment.isPresent()) {
+                log.info("Loading partition {} of hotels", shardAssignment.get());
+                hotelDataService.loadFromFiles(hotelsFile, bookingsFile, shardAssignment.get().hotelFilter());
+            } else {
+                hotelDataService.loadFromFiles(hotelsFile, bookingsFile);
+            }
+            if (publishPort != null) {
+                int boundPort = replicationPublisher.start(Integer.parseInt(publishPort));
+                consoleOutputService.displayMessage("Publishing changes on port " + boundPort);
+            }
+
+            if (primaryAddress.isPresent()) {
+                replicaFollower.start(primaryAddress.get());
+                serve(replicaFollower.readOnlyHandler(), listenPort);
+            } else if (listenPort == null && httpPort == null) {
+                hotelBookingService.startCommandLoop();
+            } else {
+                serve(listenPort, httpPort);
+            }
+            return true;
+        } catch (BookingSystemException e) {
+            log.error("Application error", e);
+            consoleOutputService.displayError(e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean executeRouter(String route, String listenPort, String httpPort) {
+        Optional<List<InetSocketAddress>> shardAddresses = parseShardAddresses(route);
+        if (shardAddresses.isEmpty() || httpPort != null) {
+            consoleOutputService.displayError(USAGE);
+            return false;
+        }
+
+        try (ShardRouter router = new ShardRouter(shardAddresses.get(), shardRouterProperties)) {
+            log.info("Routing commands to {} shards", shardAddresses.get().size());
+            serve(router, listenPort);
             return true;
         } catch (BookingSystemException e) {
             log.error("Application error", e);
@@ -69,4 +168,60 @@ public class HotelBookingApplication implements CommandLineRunner {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private void serve(CommandHandler handler, String listenPort) {
+        if (listenPort == null) {
+            hotelBookingService.startCommandLoop(handler);
+            return;
+        }
+
+        int boundPort = commandServer.start(Integer.parseInt(listenPort), handler);
+        consoleOutputService.displayMessage("Listening on port " + boundPort);
+        commandServer.awaitTermination();
+    }
+
+    private void serve(String listenPort, String httpPort) {
+        if (httpPort != null) {
+            int boundPort = httpQueryServer.start(Integer.parseInt(httpPort));
+            consoleOutputService.displayMessage("HTTP API listening on port " + boundPort);
+        }
+        if (listenPort != null) {
+            int boundPort = commandServer.start(Integer.parseInt(listenPort));
+            consoleOutputService.displayMessage("Listening on port " + boundPort);
+            commandServer.awaitTermination();
+        }
+        if (httpPort != null) {
+            httpQueryServer.awaitTermination();
+        }
+    }
+
+    private static Optional<List<InetSocketAddress>> parseShardAddresses(String route) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (String shard : route.split(",")) {
+            Optional<InetSocketAddress> address = parseAddress(shard);
+            if (address.isEmpty()) {
+                return Optional.empty();
+            }
+            addresses.add(address.get());
+        }
+        return Optional.of(addresses);
+    }
+
+    private static Optional<InetSocketAddress> parseAddress(String hostAndPort) {
+        int separator = hostAndPort.lastIndexOf(':');
+        if (separator <= 0 || !isValidPort(hostAndPort.substring(separator + 1))) {
+            return Optional.empty();
+        }
+        return Optional.of(new InetSocketAddress(hostAndPort.substring(0, separator),
+                Integer.parseInt(hostAndPort.substring(separator + 1))));
+    }
+
+    private static boolean isValidPort(String port) {
+        try {
+            int value = Integer.parseInt(port);
+            return value >= 0 && value <= 65535;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.hotelmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "bookings.shards")
+public record BookingShardProperties(
+        // Bookings kept resident from a sharded bookings directory before the least recently used shards are evicted
+        @DefaultValue("2000000")
+        long maxResidentBookings
+) {
+    public static BookingShardProperties defaults() {
+        return new BookingShardProperties(2_000_000);
+    }
+}
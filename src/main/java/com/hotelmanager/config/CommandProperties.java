@@ -0,0 +1,25 @@
+package com.hotelmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "commands")
+public record CommandProperties(
+        @DefaultValue("5s")
+        Duration timeBudget,
+
+        @DefaultValue("3650")
+        int maxDaysAhead,
+
+        @DefaultValue("false")
+        boolean streamSearchResults,
+
+        @DefaultValue("8192")
+        int maxLineLength
+) {
+    public static CommandProperties defaults() {
+        return new CommandProperties(Duration.ofSeconds(5), 3650, false, 8192);
+    }
+}
@@ -0,0 +1,20 @@
+package com.hotelmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "hotels")
+public record HotelLoadProperties(
+        // full binds every field of the hotels file; projecting keeps what queries read and counts rooms per type
+        @DefaultValue("full")
+        Loader loader
+) {
+    public enum Loader {
+        FULL,
+        PROJECTING
+    }
+
+    public static HotelLoadProperties defaults() {
+        return new HotelLoadProperties(Loader.FULL);
+    }
+}
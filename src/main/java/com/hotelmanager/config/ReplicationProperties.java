@@ -0,0 +1,29 @@
+package com.hotelmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "replication")
+public record ReplicationProperties(
+        @DefaultValue("200ms")
+        Duration heartbeatInterval,
+
+        @DefaultValue("2s")
+        Duration maxStaleness,
+
+        @DefaultValue("500ms")
+        Duration reconnectDelay,
+
+        @DefaultValue("100000")
+        int maxRetainedChanges,
+
+        @DefaultValue("10000")
+        int maxPendingChanges
+) {
+    public static ReplicationProperties defaults() {
+        return new ReplicationProperties(Duration.ofMillis(200), Duration.ofSeconds(2), Duration.ofMillis(500), 100000,
+                10000);
+    }
+}
@@ -0,0 +1,27 @@
+package com.hotelmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "bookings.retention")
+public record RetentionProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        // Full months of finished stays kept before the current month
+        @DefaultValue("1")
+        int pastMonths,
+
+        // Dropped partitions are written here as JSON when set, and discarded otherwise
+        @DefaultValue("")
+        String archiveDirectory,
+
+        @DefaultValue("1d")
+        Duration checkInterval
+) {
+    public static RetentionProperties defaults() {
+        return new RetentionProperties(false, 1, "", Duration.ofDays(1));
+    }
+}
@@ -0,0 +1,19 @@
+package com.hotelmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "router")
+public record ShardRouterProperties(
+        @DefaultValue("1s")
+        Duration connectTimeout,
+
+        @DefaultValue("10s")
+        Duration readTimeout
+) {
+    public static ShardRouterProperties defaults() {
+        return new ShardRouterProperties(Duration.ofSeconds(1), Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,7 @@
+package com.hotelmanager.exception;
+
+public class BookingNotFoundException extends BookingSystemException {
+    public BookingNotFoundException() {
+        super("Booking not found", true);
+    }
+}
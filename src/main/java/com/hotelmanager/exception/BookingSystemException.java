@@ -1,11 +1,25 @@
 package com.hotelmanager.exception;
 
 public abstract class BookingSystemException extends RuntimeException {
+    private final boolean expected;
+
     protected BookingSystemException(String message) {
         super(message);
+        this.expected = false;
     }
 
     protected BookingSystemException(String message, Throwable cause) {
         super(message, cause);
+        this.expected = false;
+    }
+
+    // Expected failures (bad input, unknown ids) are routine, so they skip stack capture entirely
+    protected BookingSystemException(String message, boolean expected) {
+        super(message, null, false, !expected);
+        this.expected = expected;
+    }
+
+    public boolean isExpected() {
+        return expected;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.hotelmanager.exception;
+
+public class CommandCancelledException extends BookingSystemException {
+    public CommandCancelledException(String message) {
+        super(message, true);
+    }
+}
@@ -2,6 +2,6 @@ package com.hotelmanager.exception;
 
 public class InvalidCommandException extends BookingSystemException {
     public InvalidCommandException(String message) {
-        super(message);
+        super(message, true);
     }
 }
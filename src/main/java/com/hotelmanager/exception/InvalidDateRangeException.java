@@ -2,6 +2,6 @@ package com.hotelmanager.exception;
 
 public class InvalidDateRangeException extends BookingSystemException {
     public InvalidDateRangeException(String message) {
-        super(message);
+        super(message, true);
     }
 }
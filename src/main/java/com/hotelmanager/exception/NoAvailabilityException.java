@@ -0,0 +1,8 @@
+package com.hotelmanager.exception;
+
+public class NoAvailabilityException extends BookingSystemException {
+    public NoAvailabilityException(String hotelId, String roomType) {
+        super(String.format("No '%s' room available in hotel '%s' for every night of the stay", roomType, hotelId),
+                true);
+    }
+}
@@ -0,0 +1,7 @@
+package com.hotelmanager.exception;
+
+public class ReplicationException extends BookingSystemException {
+    public ReplicationException(String message) {
+        super(message, true);
+    }
+}
@@ -2,6 +2,6 @@ package com.hotelmanager.exception;
 
 public class RoomTypeNotFoundException extends BookingSystemException {
     public RoomTypeNotFoundException(String hotelId, String roomType) {
-        super(String.format("Room type '%s' not found in hotel '%s'", roomType, hotelId));
+        super(String.format("Room type '%s' not found in hotel '%s'", roomType, hotelId), true);
     }
-}
\ No newline at end of file
+}
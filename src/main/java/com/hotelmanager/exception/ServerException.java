@@ -0,0 +1,7 @@
+package com.hotelmanager.exception;
+
+public class ServerException extends BookingSystemException {
+    public ServerException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -17,4 +17,10 @@ public record Booking(
         @JsonFormat(pattern = "yyyyMMdd")
         LocalDate departure
 ) {
+    public static final String UNKNOWN_RATE = "UNKNOWN";
+
+    // The rate plan to group by; bookings exported without one share a single bucket
+    public String rateKey() {
+        return roomRate == null || roomRate.isBlank() ? UNKNOWN_RATE : roomRate;
+    }
 }
\ No newline at end of file
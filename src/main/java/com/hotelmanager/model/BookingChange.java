@@ -0,0 +1,9 @@
+package com.hotelmanager.model;
+
+// One entry of the replicated change stream; booking is null for RELOAD
+public record BookingChange(
+        long sequence,
+        ChangeType type,
+        Booking booking
+) {
+}
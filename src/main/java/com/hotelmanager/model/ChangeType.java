@@ -0,0 +1,7 @@
+package com.hotelmanager.model;
+
+public enum ChangeType {
+    ADD,
+    CANCEL,
+    RELOAD
+}
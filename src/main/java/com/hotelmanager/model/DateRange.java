@@ -0,0 +1,9 @@
+package com.hotelmanager.model;
+
+import java.time.LocalDate;
+
+public record DateRange(
+        LocalDate startDate,
+        LocalDate endDate
+) {
+}
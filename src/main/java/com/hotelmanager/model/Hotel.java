@@ -1,5 +1,6 @@
 package com.hotelmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,12 @@ public class Hotel {
         log.debug("Hotel {}: Calculated room totals: {}", id, totalRoomsByType);
     }
 
+    // Rooms of every type; set from the room counts alone when the hotel was loaded without its rooms
+    @JsonIgnore
+    public int getTotalRooms() {
+        return totalRoomsByType == null ? 0 : totalRoomsByType.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
     public int getTotalRoomsByType(String roomType) {
         int total = totalRoomsByType.getOrDefault(roomType, 0);
         log.trace("Hotel {}: Total rooms of type {}: {}", id, roomType, total);
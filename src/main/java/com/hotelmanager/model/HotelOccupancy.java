@@ -0,0 +1,11 @@
+package com.hotelmanager.model;
+
+public record HotelOccupancy(
+        String hotelId,
+        long soldRoomNights,
+        long availableRoomNights
+) {
+    public double occupancyPercent() {
+        return availableRoomNights == 0 ? 0 : soldRoomNights * 100.0 / availableRoomNights;
+    }
+}
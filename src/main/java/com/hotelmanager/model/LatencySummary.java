@@ -0,0 +1,14 @@
+package com.hotelmanager.model;
+
+public record LatencySummary(
+        long count,
+        long errors,
+        double throughputPerSecond,
+        long p50Nanos,
+        long p99Nanos,
+        long p999Nanos,
+        long maxNanos,
+        long allocatedBytesP50,
+        long allocatedBytesP99
+) {
+}
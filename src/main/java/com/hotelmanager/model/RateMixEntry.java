@@ -0,0 +1,8 @@
+package com.hotelmanager.model;
+
+public record RateMixEntry(
+        String roomRate,
+        long bookings,
+        long roomNights
+) {
+}
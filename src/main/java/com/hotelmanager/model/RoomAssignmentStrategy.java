@@ -0,0 +1,8 @@
+package com.hotelmanager.model;
+
+public enum RoomAssignmentStrategy {
+    // The first room, in hotel order, free for the whole stay
+    FIRST_FIT,
+    // The free room leaving the fewest idle nights next to its neighbouring stays
+    BEST_FIT
+}
@@ -0,0 +1,13 @@
+package com.hotelmanager.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+public record RoomRequirement(
+        @NotBlank(message = "Room type is required")
+        String roomType,
+
+        @Positive(message = "Room quantity must be positive")
+        int quantity
+) {
+}
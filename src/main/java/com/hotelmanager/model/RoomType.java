@@ -1,7 +1,11 @@
 package com.hotelmanager.model;
 
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 public record RoomType(
         String code,
@@ -11,4 +15,24 @@ public record RoomType(
         List<String> amenities,
         List<String> features
 ) {
+    // Amenities and features share one namespace for filtering and are compared case-insensitively
+    public Set<String> attributes() {
+        Set<String> attributes = new HashSet<>();
+        if (amenities != null) {
+            amenities.forEach(amenity -> attributes.add(normalizeAttribute(amenity)));
+        }
+        if (features != null) {
+            features.forEach(feature -> attributes.add(normalizeAttribute(feature)));
+        }
+        return attributes;
+    }
+
+    public boolean hasAttributes(Collection<String> required) {
+        Set<String> attributes = attributes();
+        return required.stream().allMatch(attribute -> attributes.contains(normalizeAttribute(attribute)));
+    }
+
+    public static String normalizeAttribute(String attribute) {
+        return attribute.trim().toLowerCase(Locale.ROOT);
+    }
 }
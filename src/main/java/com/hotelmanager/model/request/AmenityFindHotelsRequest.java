@@ -0,0 +1,22 @@
+package com.hotelmanager.model.request;
+
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+public record AmenityFindHotelsRequest(
+        @NotBlank(message = "Date range is required")
+        @Pattern(regexp = "\\d{8}(-\\d{8})?", message = "Date range must be in format YYYYMMDD or YYYYMMDD-YYYYMMDD")
+        String dateRange,
+
+        @NotEmpty(message = "At least one amenity or feature is required")
+        List<String> attributes,
+
+        @Positive(message = "Minimum rooms must be positive")
+        int minRooms
+) {
+}
@@ -0,0 +1,20 @@
+package com.hotelmanager.model.request;
+
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+public record AmenitySearchRequest(
+        @NotBlank(message = "Hotel ID is required")
+        String hotelId,
+
+        @Positive(message = "Days ahead must be positive")
+        int daysAhead,
+
+        @NotEmpty(message = "At least one amenity or feature is required")
+        List<String> attributes
+) {
+}
@@ -13,6 +13,12 @@ public record AvailabilityRequest(
         String dateRange,
 
         @NotBlank(message = "Room type is required")
-        String roomType
+        String roomType,
+
+        // Also report the rooms sold under each rate plan
+        boolean byRate
 ) {
+    public AvailabilityRequest(String hotelId, String dateRange, String roomType) {
+        this(hotelId, dateRange, roomType, false);
+    }
 }
\ No newline at end of file
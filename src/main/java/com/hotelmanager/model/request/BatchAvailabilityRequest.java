@@ -0,0 +1,21 @@
+package com.hotelmanager.model.request;
+
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+public record BatchAvailabilityRequest(
+        @NotBlank(message = "Hotel ID is required")
+        String hotelId,
+
+        @NotEmpty(message = "At least one date range is required")
+        List<@Pattern(regexp = "\\d{8}(-\\d{8})?", message = "Date range must be in format YYYYMMDD or YYYYMMDD-YYYYMMDD")
+                String> dateRanges,
+
+        @NotBlank(message = "Room type is required")
+        String roomType
+) {
+}
@@ -0,0 +1,18 @@
+package com.hotelmanager.model.request;
+
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record BookingListRequest(
+        @NotBlank(message = "Hotel ID is required")
+        String hotelId,
+
+        @NotBlank(message = "Date range is required")
+        @Pattern(regexp = "\\d{8}(-\\d{8})?", message = "Date range must be in format YYYYMMDD or YYYYMMDD-YYYYMMDD")
+        String dateRange,
+
+        @NotBlank(message = "Room type is required")
+        String roomType
+) {
+}
@@ -0,0 +1,19 @@
+package com.hotelmanager.model.request;
+
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+public record FindHotelsRequest(
+        @NotBlank(message = "Date range is required")
+        @Pattern(regexp = "\\d{8}(-\\d{8})?", message = "Date range must be in format YYYYMMDD or YYYYMMDD-YYYYMMDD")
+        String dateRange,
+
+        @NotBlank(message = "Room type is required")
+        String roomType,
+
+        @Positive(message = "Minimum rooms must be positive")
+        int minRooms
+) {
+}
@@ -0,0 +1,20 @@
+package com.hotelmanager.model.request;
+
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+// hotelId and roomType accept * for every hotel or every room type
+public record OccupancyRequest(
+        @NotBlank(message = "Hotel ID is required")
+        String hotelId,
+
+        @NotBlank(message = "Date range is required")
+        @Pattern(regexp = "\\d{8}(-\\d{8})?", message = "Date range must be in format YYYYMMDD or YYYYMMDD-YYYYMMDD")
+        String dateRange,
+
+        @NotBlank(message = "Room type is required")
+        String roomType
+) {
+    public static final String ALL = "*";
+}
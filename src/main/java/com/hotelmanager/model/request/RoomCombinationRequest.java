@@ -0,0 +1,23 @@
+package com.hotelmanager.model.request;
+
+
+import com.hotelmanager.model.RoomRequirement;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+public record RoomCombinationRequest(
+        @NotBlank(message = "Hotel ID is required")
+        String hotelId,
+
+        @NotBlank(message = "Date range is required")
+        @Pattern(regexp = "\\d{8}(-\\d{8})?", message = "Date range must be in format YYYYMMDD or YYYYMMDD-YYYYMMDD")
+        String dateRange,
+
+        @NotEmpty(message = "At least one room requirement is required")
+        List<@Valid RoomRequirement> rooms
+) {
+}
@@ -12,6 +12,19 @@ public record SearchRequest(
         int daysAhead,
 
         @NotBlank(message = "Room type is required")
-        String roomType
+        String roomType,
+
+        @Positive(message = "Nights must be positive")
+        int nights,
+
+        @Positive(message = "Minimum rooms must be positive")
+        int minRooms
 ) {
+    public SearchRequest(String hotelId, int daysAhead, String roomType) {
+        this(hotelId, daysAhead, roomType, 1);
+    }
+
+    public SearchRequest(String hotelId, int daysAhead, String roomType, int nights) {
+        this(hotelId, daysAhead, roomType, nights, 1);
+    }
 }
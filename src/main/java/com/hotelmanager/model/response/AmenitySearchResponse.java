@@ -0,0 +1,12 @@
+package com.hotelmanager.model.response;
+
+import com.hotelmanager.model.DateRangeAvailability;
+
+import java.util.List;
+import java.util.Map;
+
+public record AmenitySearchResponse(
+        Map<String, List<DateRangeAvailability>> availabilitiesByRoomType,
+        int totalResults
+) {
+}
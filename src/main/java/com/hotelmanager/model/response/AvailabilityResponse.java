@@ -1,15 +1,30 @@
 package com.hotelmanager.model.response;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// soldByRate holds, per rate plan, the most rooms sold on any night of the range; empty unless requested
 public record AvailabilityResponse(
         String hotelId,
         String roomType,
         String dateRange,
         int availability,
-        String message
+        String message,
+        Map<String, Integer> soldByRate
 ) {
+    public AvailabilityResponse(String hotelId, String roomType, String dateRange, int availability, String message) {
+        this(hotelId, roomType, dateRange, availability, message, Map.of());
+    }
+
     @Override
     public String toString() {
-        return String.format("Hotel: %s, Room Type: %s, Date Range: %s, Available Rooms: %d",
+        String summary = String.format("Hotel: %s, Room Type: %s, Date Range: %s, Available Rooms: %d",
                 hotelId, roomType, dateRange, availability);
+        if (soldByRate.isEmpty()) {
+            return summary;
+        }
+        return soldByRate.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", ", summary + ", Sold by Rate: ", ""));
     }
-}
\ No newline at end of file
+}
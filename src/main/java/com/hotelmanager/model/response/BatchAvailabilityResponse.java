@@ -0,0 +1,9 @@
+package com.hotelmanager.model.response;
+
+import java.util.List;
+
+// One result per requested date range, in request order
+public record BatchAvailabilityResponse(
+        List<AvailabilityResponse> availabilities
+) {
+}
@@ -0,0 +1,11 @@
+package com.hotelmanager.model.response;
+
+import com.hotelmanager.model.Booking;
+
+import java.util.List;
+
+public record BookingListResponse(
+        List<Booking> bookings,
+        int totalResults
+) {
+}
@@ -0,0 +1,9 @@
+package com.hotelmanager.model.response;
+
+import java.util.List;
+
+public record FindHotelsResponse(
+        List<String> hotelIds,
+        int totalResults
+) {
+}
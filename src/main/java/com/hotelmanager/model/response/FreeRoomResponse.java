@@ -0,0 +1,11 @@
+package com.hotelmanager.model.response;
+
+import java.util.Optional;
+
+public record FreeRoomResponse(
+        String hotelId,
+        String roomType,
+        String dateRange,
+        Optional<String> roomId
+) {
+}
@@ -0,0 +1,14 @@
+package com.hotelmanager.model.response;
+
+import com.hotelmanager.model.HotelOccupancy;
+
+import java.util.List;
+
+// total carries hotelId * when the query covered every hotel
+public record OccupancyResponse(
+        String roomType,
+        String dateRange,
+        List<HotelOccupancy> hotels,
+        HotelOccupancy total
+) {
+}
@@ -0,0 +1,13 @@
+package com.hotelmanager.model.response;
+
+import com.hotelmanager.model.RateMixEntry;
+
+import java.util.List;
+
+public record RateMixResponse(
+        String hotelId,
+        String dateRange,
+        List<RateMixEntry> rates,
+        long totalRoomNights
+) {
+}
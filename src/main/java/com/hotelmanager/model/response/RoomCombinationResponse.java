@@ -0,0 +1,15 @@
+package com.hotelmanager.model.response;
+
+import com.hotelmanager.model.DateRange;
+
+import java.util.List;
+import java.util.Map;
+
+// Headroom is the fewest rooms of a type free over the whole range minus the quantity requested; negative is a shortfall
+public record RoomCombinationResponse(
+        String hotelId,
+        String dateRange,
+        List<DateRange> feasibleDates,
+        Map<String, Integer> headroomByRoomType
+) {
+}
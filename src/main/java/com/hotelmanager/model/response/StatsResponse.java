@@ -0,0 +1,15 @@
+package com.hotelmanager.model.response;
+
+import com.hotelmanager.model.LatencySummary;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record StatsResponse(
+        Duration uptime,
+        Map<String, LatencySummary> commands,
+        Map<String, LatencySummary> stages,
+        Map<String, Long> gauges,
+        Map<String, Long> errorsByType
+) {
+}
@@ -0,0 +1,48 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.request.AmenityFindHotelsRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class AmenityFindHotelsCommandParser implements CommandParser<AmenityFindHotelsRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "FindHotels\\((?<dateRange>[0-9-]+),\\s*" + AttributeList.PATTERN + ",\\s*(?<minRooms>\\d+)\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public AmenityFindHotelsRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid find hotels command");
+        }
+
+        try {
+            AmenityFindHotelsRequest request = new AmenityFindHotelsRequest(
+                    matcher.group("dateRange"),
+                    AttributeList.parse(matcher.group("attributes")),
+                    Integer.parseInt(matcher.group("minRooms"))
+            );
+
+            validationService.validate(request);
+
+            return request;
+
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException("Invalid minimum rooms format");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.request.AmenitySearchRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class AmenitySearchCommandParser implements CommandParser<AmenitySearchRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "Search\\((?<hotelId>\\w+),\\s*(?<daysAhead>\\d+),\\s*" + AttributeList.PATTERN + "\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public AmenitySearchRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid amenity search command");
+        }
+
+        try {
+            AmenitySearchRequest request = new AmenitySearchRequest(
+                    matcher.group("hotelId"),
+                    Integer.parseInt(matcher.group("daysAhead")),
+                    AttributeList.parse(matcher.group("attributes"))
+            );
+
+            validationService.validate(request);
+
+            return request;
+
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException("Invalid days ahead format");
+        }
+    }
+}
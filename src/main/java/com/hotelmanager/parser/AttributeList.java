@@ -0,0 +1,20 @@
+package com.hotelmanager.parser;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Bracketed, comma-separated amenity and feature names, e.g. [Sea View, Minibar]
+@UtilityClass
+class AttributeList {
+
+    static final String PATTERN = "\\[(?<attributes>[^\\]]*)\\]";
+
+    List<String> parse(String attributes) {
+        return Arrays.stream(attributes.split(","))
+                .map(String::trim)
+                .filter(attribute -> !attribute.isEmpty())
+                .toList();
+    }
+}
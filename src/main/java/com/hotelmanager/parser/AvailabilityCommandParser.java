@@ -12,8 +12,9 @@ import java.util.regex.Pattern;
 @Component
 @RequiredArgsConstructor
 public class AvailabilityCommandParser implements CommandParser<AvailabilityRequest> {
+    private static final String RATE_BREAKDOWN = "ByRate";
     private static final Pattern PATTERN = Pattern.compile(
-            "Availability\\((?<hotelId>\\w+),\\s*(?<dateRange>[0-9-]+),\\s*(?<roomType>\\w+)\\)"
+            "Availability\\((?<hotelId>\\w+),\\s*(?<dateRange>[0-9-]+),\\s*(?<roomType>\\w+)(?:,\\s*(?<breakdown>\\w+))?\\)"
     );
 
     private final RequestValidationService validationService;
@@ -30,10 +31,16 @@ public class AvailabilityCommandParser implements CommandParser<AvailabilityRequ
             throw new InvalidCommandException("Invalid availability command");
         }
 
+        String breakdown = matcher.group("breakdown");
+        if (breakdown != null && !breakdown.equalsIgnoreCase(RATE_BREAKDOWN)) {
+            throw new InvalidCommandException("Invalid availability breakdown: " + breakdown);
+        }
+
         AvailabilityRequest request = new AvailabilityRequest(
                 matcher.group("hotelId"),
                 matcher.group("dateRange"),
-                matcher.group("roomType")
+                matcher.group("roomType"),
+                breakdown != null
         );
 
         validateCreatedRequest(request);
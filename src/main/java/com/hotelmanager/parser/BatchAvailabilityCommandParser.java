@@ -0,0 +1,47 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.request.BatchAvailabilityRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class BatchAvailabilityCommandParser implements CommandParser<BatchAvailabilityRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "Availability\\((?<hotelId>\\w+),\\s*\\[(?<dateRanges>[0-9,\\s-]*)\\],\\s*(?<roomType>\\w+)\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public BatchAvailabilityRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid batch availability command");
+        }
+
+        BatchAvailabilityRequest request = new BatchAvailabilityRequest(
+                matcher.group("hotelId"),
+                Arrays.stream(matcher.group("dateRanges").split(","))
+                        .map(String::trim)
+                        .filter(dateRange -> !dateRange.isEmpty())
+                        .toList(),
+                matcher.group("roomType")
+        );
+
+        validationService.validate(request);
+
+        return request;
+    }
+}
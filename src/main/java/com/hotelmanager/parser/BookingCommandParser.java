@@ -0,0 +1,46 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.ChangeType;
+import com.hotelmanager.model.request.BookingRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class BookingCommandParser implements CommandParser<BookingRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "(?<action>Book|Cancel)\\((?<hotelId>\\w+),\\s*(?<dateRange>[0-9-]+),\\s*(?<roomType>\\w+),\\s*(?<roomRate>\\w+)\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public BookingRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid booking command");
+        }
+
+        BookingRequest request = new BookingRequest(
+                "Book".equals(matcher.group("action")) ? ChangeType.ADD : ChangeType.CANCEL,
+                matcher.group("hotelId"),
+                matcher.group("dateRange"),
+                matcher.group("roomType"),
+                matcher.group("roomRate")
+        );
+
+        validationService.validate(request);
+
+        return request;
+    }
+}
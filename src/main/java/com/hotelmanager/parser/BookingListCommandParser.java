@@ -0,0 +1,43 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.request.BookingListRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class BookingListCommandParser implements CommandParser<BookingListRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "Bookings\\((?<hotelId>\\w+),\\s*(?<dateRange>[0-9-]+),\\s*(?<roomType>\\w+)\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public BookingListRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid bookings command");
+        }
+
+        BookingListRequest request = new BookingListRequest(
+                matcher.group("hotelId"),
+                matcher.group("dateRange"),
+                matcher.group("roomType")
+        );
+
+        validationService.validate(request);
+
+        return request;
+    }
+}
@@ -0,0 +1,56 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.RoomAssignmentStrategy;
+import com.hotelmanager.model.request.FreeRoomRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class FreeRoomCommandParser implements CommandParser<FreeRoomRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "FreeRoom\\((?<hotelId>\\w+),\\s*(?<dateRange>[0-9-]+),\\s*(?<roomType>\\w+)(?:,\\s*(?<strategy>\\w+))?\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public FreeRoomRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid free room command");
+        }
+
+        FreeRoomRequest request = new FreeRoomRequest(
+                matcher.group("hotelId"),
+                matcher.group("dateRange"),
+                matcher.group("roomType"),
+                parseStrategy(matcher.group("strategy"))
+        );
+
+        validationService.validate(request);
+
+        return request;
+    }
+
+    // FirstFit by default; BestFit packs stays next to existing ones
+    private RoomAssignmentStrategy parseStrategy(String strategy) {
+        if (strategy == null || strategy.equalsIgnoreCase("FirstFit")) {
+            return RoomAssignmentStrategy.FIRST_FIT;
+        }
+        if (strategy.equalsIgnoreCase("BestFit")) {
+            return RoomAssignmentStrategy.BEST_FIT;
+        }
+        throw new InvalidCommandException("Invalid room assignment strategy: " + strategy);
+    }
+}
@@ -0,0 +1,43 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.request.OccupancyRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class OccupancyCommandParser implements CommandParser<OccupancyRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "Occupancy\\((?<hotelId>\\w+|\\*),\\s*(?<dateRange>[0-9-]+),\\s*(?<roomType>\\w+|\\*)\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public OccupancyRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid occupancy command");
+        }
+
+        OccupancyRequest request = new OccupancyRequest(
+                matcher.group("hotelId"),
+                matcher.group("dateRange"),
+                matcher.group("roomType")
+        );
+
+        validationService.validate(request);
+
+        return request;
+    }
+}
@@ -0,0 +1,42 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.request.RateMixRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class RateMixCommandParser implements CommandParser<RateMixRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "RateMix\\((?<hotelId>\\w+),\\s*(?<dateRange>[0-9-]+)\\)"
+    );
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public RateMixRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid rate mix command");
+        }
+
+        RateMixRequest request = new RateMixRequest(
+                matcher.group("hotelId"),
+                matcher.group("dateRange")
+        );
+
+        validationService.validate(request);
+
+        return request;
+    }
+}
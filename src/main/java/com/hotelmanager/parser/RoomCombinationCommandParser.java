@@ -0,0 +1,68 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.RoomRequirement;
+import com.hotelmanager.model.request.RoomCombinationRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class RoomCombinationCommandParser implements CommandParser<RoomCombinationRequest> {
+    private static final Pattern PATTERN = Pattern.compile(
+            "Availability\\((?<hotelId>\\w+),\\s*(?<dateRange>[0-9-]+),\\s*\\[(?<rooms>[^\\]]*)\\]\\)"
+    );
+    private static final Pattern REQUIREMENT = Pattern.compile("(?<quantity>\\d+)\\s+(?<roomType>\\w+)");
+
+    private final RequestValidationService validationService;
+
+    @Override
+    public boolean canParse(String input) {
+        return PATTERN.matcher(input).matches();
+    }
+
+    @Override
+    public RoomCombinationRequest parse(String input) {
+        Matcher matcher = PATTERN.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidCommandException("Invalid room combination command");
+        }
+
+        RoomCombinationRequest request = new RoomCombinationRequest(
+                matcher.group("hotelId"),
+                matcher.group("dateRange"),
+                parseRequirements(matcher.group("rooms"))
+        );
+
+        validationService.validate(request);
+
+        return request;
+    }
+
+    // Comma-separated "<quantity> <roomType>" pairs, e.g. [2 DBL, 1 SGL]
+    private List<RoomRequirement> parseRequirements(String rooms) {
+        List<RoomRequirement> requirements = new ArrayList<>();
+        for (String requirement : rooms.split(",")) {
+            if (requirement.isBlank()) {
+                continue;
+            }
+            Matcher matcher = REQUIREMENT.matcher(requirement.trim());
+            if (!matcher.matches()) {
+                throw new InvalidCommandException("Invalid room requirement: " + requirement.trim());
+            }
+            try {
+                requirements.add(new RoomRequirement(matcher.group("roomType"),
+                        Integer.parseInt(matcher.group("quantity"))));
+            } catch (NumberFormatException e) {
+                throw new InvalidCommandException("Invalid room quantity format");
+            }
+        }
+        return requirements;
+    }
+}
@@ -13,7 +13,7 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class SearchCommandParser implements CommandParser<SearchRequest> {
     private static final Pattern PATTERN = Pattern.compile(
-            "Search\\((?<hotelId>\\w+),\\s*(?<daysAhead>\\d+),\\s*(?<roomType>\\w+)\\)"
+            "Search\\((?<hotelId>\\w+),\\s*(?<daysAhead>\\d+),\\s*(?<roomType>\\w+)(?:,\\s*(?<nights>\\d+))?(?:,\\s*minRooms\\s*=\\s*(?<minRooms>\\d+))?\\)"
     );
 
     private final RequestValidationService validationService;
@@ -35,7 +35,9 @@ public class SearchCommandParser implements CommandParser<SearchRequest> {
             SearchRequest request = new SearchRequest(
                     matcher.group("hotelId"),
                     Integer.parseInt(matcher.group("daysAhead")),
-                    matcher.group("roomType")
+                    matcher.group("roomType"),
+                    parseOptional(matcher.group("nights"), "Invalid nights format"),
+                    parseOptional(matcher.group("minRooms"), "Invalid minimum rooms format")
             );
 
             validateCreatedRequest(request);
@@ -47,6 +49,18 @@ public class SearchCommandParser implements CommandParser<SearchRequest> {
         }
     }
 
+    // Optional trailing arguments default to 1; minRooms is labelled so it cannot be mistaken for nights
+    private int parseOptional(String value, String invalidMessage) {
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException(invalidMessage);
+        }
+    }
+
     private void validateCreatedRequest(SearchRequest request) {
         validationService.validate(request);
     }
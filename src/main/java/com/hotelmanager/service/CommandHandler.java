@@ -0,0 +1,14 @@
+package com.hotelmanager.service;
+
+import com.hotelmanager.model.CommandResult;
+
+import java.util.function.Consumer;
+
+public interface CommandHandler {
+
+    CommandResult processCommand(String command);
+
+    default CommandResult processCommand(String command, Consumer<String> streamingOutput) {
+        return processCommand(command);
+    }
+}
@@ -1,61 +1,139 @@
 package com.hotelmanager.service;
 
+import com.hotelmanager.config.CommandProperties;
 import com.hotelmanager.exception.BookingSystemException;
 import com.hotelmanager.model.CommandResult;
-import com.hotelmanager.model.request.AvailabilityRequest;
-import com.hotelmanager.model.request.SearchRequest;
-import com.hotelmanager.model.response.AvailabilityResponse;
-import com.hotelmanager.model.response.SearchResponse;
-import com.hotelmanager.parser.AvailabilityCommandParser;
-import com.hotelmanager.parser.SearchCommandParser;
-import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.command.CommandRoute;
+import com.hotelmanager.service.command.StreamingCommandRoute;
+import com.hotelmanager.service.monitoring.AllocationMeter;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.ErrorTracker;
+import com.hotelmanager.service.monitoring.Stage;
 import com.hotelmanager.service.presentation.ResponseFormatter;
+import com.hotelmanager.service.replication.BookingChangeLog;
+import com.hotelmanager.util.CommandDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CommandProcessor {
-    private final AvailabilityCommandParser availabilityParser;
-    private final SearchCommandParser searchParser;
-    private final AvailabilityService availabilityService;
+public class CommandProcessor implements CommandHandler {
+    private static final String STATS_COMMAND = "Stats()";
+    private static final String RELOAD_COMMAND = "Reload()";
+    private static final String RELOAD = "Reload";
+    private static final String UNRECOGNISED = "Unrecognised";
+
+    // Every command type but Stats and Reload, which take no arguments. Command patterns do not overlap, so the order
+    // routes are tried in does not change which one answers
+    private final List<CommandRoute<?, ?>> routes;
     private final ResponseFormatter responseFormatter;
+    private final ErrorTracker errorTracker;
+    private final CommandMetrics commandMetrics;
+    private final CommandProperties commandProperties;
+    private final BookingChangeLog bookingChangeLog;
 
+    @Override
     public CommandResult processCommand(String command) {
+        return processCommand(command, null);
+    }
+
+    // With a streaming output, Search ranges are written as they are found and the result carries no output. A Search
+    // that fails after writing ranges also writes its error to the stream, so callers only end the line
+    @Override
+    public CommandResult processCommand(String command, Consumer<String> streamingOutput) {
         if (command == null || command.trim().isEmpty()) {
             return CommandResult.error("Empty command");
         }
 
-        try {
-            if (availabilityParser.canParse(command)) {
-                return processAvailabilityCommand(command);
+        if (STATS_COMMAND.equals(command.trim())) {
+            return CommandResult.success(responseFormatter.formatStatsResponse(commandMetrics.snapshot()));
+        }
+
+        CommandExecutionEvent event = new CommandExecutionEvent();
+        event.begin();
+        long startBytes = AllocationMeter.currentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        String commandType = UNRECOGNISED;
+        try (CommandDeadline ignored = CommandDeadline.start(commandProperties.timeBudget())) {
+            for (CommandRoute<?, ?> route : routes) {
+                if (route.parser().canParse(command)) {
+                    commandType = route.commandType();
+                    return recordCommand(commandType, startNanos, startBytes, event,
+                            execute(route, command, startNanos, event, streamingOutput));
+                }
             }
 
-            if (searchParser.canParse(command)) {
-                return processSearchCommand(command);
+            if (RELOAD_COMMAND.equals(command.trim())) {
+                commandType = RELOAD;
+                return recordCommand(commandType, startNanos, startBytes, event,
+                        CommandResult.success(responseFormatter.formatBookingChange(bookingChangeLog.reload())));
             }
 
-            return CommandResult.error("Invalid command format");
+            return recordCommand(commandType, startNanos, startBytes, event, CommandResult.error("Invalid command format"));
 
         } catch (BookingSystemException e) {
-            log.error("Error processing command: {}", command, e);
-            return CommandResult.error(e.getMessage());
+            errorTracker.record(command, e);
+            return recordCommand(commandType, startNanos, startBytes, event, CommandResult.error(e.getMessage()));
         }
     }
 
-    private CommandResult processAvailabilityCommand(String command) {
-        AvailabilityRequest request = availabilityParser.parse(command);
-        AvailabilityResponse response = availabilityService.checkAvailability(request);
-        String output = responseFormatter.formatAvailabilityResponse(response);
+    private <Q, R> CommandResult execute(CommandRoute<Q, R> route, String command, long startNanos,
+                                         CommandExecutionEvent event, Consumer<String> streamingOutput) {
+        Q request = route.parser().parse(command);
+        commandMetrics.recordStage(Stage.PARSE, startNanos);
+        route.describe(request, event);
+
+        if (streamingOutput != null && route instanceof StreamingCommandRoute<Q, R> streaming) {
+            return stream(streaming, request, event, streamingOutput);
+        }
+
+        R response = route.execute(request);
+        long formatStart = System.nanoTime();
+        String output = route.format(response);
+        commandMetrics.recordStage(Stage.FORMAT, formatStart);
+        event.resultSize = route.resultSize(response);
         return CommandResult.success(output);
     }
 
-    private CommandResult processSearchCommand(String command) {
-        SearchRequest request = searchParser.parse(command);
-        SearchResponse response = availabilityService.searchAvailability(request);
-        String output = responseFormatter.formatSearchResponse(response);
-        return CommandResult.success(output);
+    private <Q> CommandResult stream(StreamingCommandRoute<Q, ?> route, Q request, CommandExecutionEvent event,
+                                     Consumer<String> streamingOutput) {
+        AtomicBoolean streamed = new AtomicBoolean();
+        Consumer<String> output = fragment -> {
+            streamingOutput.accept(fragment);
+            streamed.set(true);
+        };
+        try {
+            event.resultSize = route.stream(request, output);
+        } catch (BookingSystemException e) {
+            // Results already written would read as a complete answer, so the error follows them on its own line
+            if (streamed.get()) {
+                streamingOutput.accept(System.lineSeparator() + "Error: " + e.getMessage());
+            }
+            throw e;
+        }
+        return CommandResult.success("");
+    }
+
+    // Event fields beyond plain references are only filled in when JFR will actually record the event
+    private CommandResult recordCommand(String commandType, long startNanos, long startBytes,
+                                        CommandExecutionEvent event, CommandResult result) {
+        long allocatedBytes = AllocationMeter.allocatedSince(startBytes);
+        commandMetrics.recordCommand(commandType, System.nanoTime() - startNanos, allocatedBytes, result.success());
+        event.end();
+        if (event.shouldCommit()) {
+            event.commandType = commandType;
+            event.success = result.success();
+            event.allocatedBytes = allocatedBytes;
+            event.resolveDateSpan();
+            event.commit();
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.hotelmanager.service;
 
+import com.hotelmanager.config.CommandProperties;
 import com.hotelmanager.model.CommandResult;
 import com.hotelmanager.service.presentation.ConsoleOutputService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
@@ -15,8 +17,13 @@ public class HotelBookingService {
 
     private final CommandProcessor commandProcessor;
     private final ConsoleOutputService consoleOutputService;
+    private final CommandProperties commandProperties;
 
     public void startCommandLoop() {
+        startCommandLoop(commandProcessor);
+    }
+
+    public void startCommandLoop(CommandHandler handler) {
         Scanner scanner = new Scanner(System.in);
 
         log.info("Starting command loop for hotel booking system");
@@ -31,8 +38,19 @@ public class HotelBookingService {
                 break;
             }
 
-            CommandResult result = commandProcessor.processCommand(command);
-            consoleOutputService.display(result);
+            AtomicBoolean streamed = new AtomicBoolean();
+            CommandResult result = commandProperties.streamSearchResults()
+                    ? handler.processCommand(command, fragment -> {
+                        consoleOutputService.displayFragment(fragment);
+                        streamed.set(true);
+                    })
+                    : handler.processCommand(command);
+            // Streamed output, including an error that cut it short, is already on stdout and only needs its line ended
+            if (streamed.get()) {
+                consoleOutputService.displayMessage("");
+            } else {
+                consoleOutputService.display(result);
+            }
         }
 
         log.info("Command loop ended");
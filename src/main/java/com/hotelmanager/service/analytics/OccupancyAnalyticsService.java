@@ -0,0 +1,151 @@
+package com.hotelmanager.service.analytics;
+
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.HotelOccupancy;
+import com.hotelmanager.model.RateMixEntry;
+import com.hotelmanager.model.request.OccupancyRequest;
+import com.hotelmanager.model.request.RateMixRequest;
+import com.hotelmanager.model.response.OccupancyResponse;
+import com.hotelmanager.model.response.RateMixResponse;
+import com.hotelmanager.service.data.BookingIntervalIndex;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.data.OccupancyCalendar;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.Stage;
+import com.hotelmanager.service.validation.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/*
+ * Portfolio analytics answered straight from the loaded indexes. Occupancy sums the per-night columns of the
+ * occupancy calendars and RateMix clips overlapping bookings against the interval index date columns, both into
+ * primitive accumulators, so neither materialises bookings.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OccupancyAnalyticsService {
+
+    // Hotel counts above which a portfolio scan is split over the fork/join common pool
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private static final Comparator<RateMixEntry> BY_ROOM_NIGHTS = Comparator
+            .comparingLong(RateMixEntry::roomNights).reversed()
+            .thenComparing(RateMixEntry::roomRate);
+
+    private final ValidationService validationService;
+    private final HotelDataService hotelDataService;
+    private final CommandMetrics commandMetrics;
+
+    public OccupancyResponse calculateOccupancy(OccupancyRequest request) {
+        log.debug("Processing occupancy: {}", request);
+
+        long validateStart = System.nanoTime();
+        boolean allHotels = OccupancyRequest.ALL.equals(request.hotelId());
+        boolean allRoomTypes = OccupancyRequest.ALL.equals(request.roomType());
+        Collection<Hotel> hotels;
+        if (allHotels) {
+            hotels = hotelDataService.findAllHotels();
+        } else {
+            Hotel hotel = validationService.validateHotelExists(request.hotelId());
+            if (!allRoomTypes) {
+                validationService.validateRoomTypeExists(hotel, request.roomType());
+            }
+            hotels = List.of(hotel);
+        }
+        LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long start = dateRange[0].toEpochDay();
+        long end = dateRange[1].toEpochDay();
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        if (allHotels) {
+            hotelDataService.loadAllBookings(dateRange[0], dateRange[1]);
+        } else {
+            hotelDataService.loadBookings(request.hotelId(), dateRange[0], dateRange[1]);
+        }
+        Stream<Hotel> scan = hotels.stream();
+        if (hotels.size() >= PARALLEL_THRESHOLD) {
+            scan = scan.parallel();
+        }
+        List<HotelOccupancy> occupancies = scan
+                .map(hotel -> hotelOccupancy(hotel, allRoomTypes ? null : request.roomType(), start, end))
+                .filter(occupancy -> !allHotels || occupancy.availableRoomNights() > 0 || occupancy.soldRoomNights() > 0)
+                .sorted(Comparator.comparing(HotelOccupancy::hotelId))
+                .toList();
+
+        long sold = 0;
+        long available = 0;
+        for (HotelOccupancy occupancy : occupancies) {
+            sold += occupancy.soldRoomNights();
+            available += occupancy.availableRoomNights();
+        }
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Occupancy completed: hotelId={}, roomType={}, dateRange={}, hotels={}, sold={}, available={}",
+                request.hotelId(), request.roomType(), request.dateRange(), occupancies.size(), sold, available);
+
+        return new OccupancyResponse(request.roomType(), request.dateRange(), occupancies,
+                new HotelOccupancy(request.hotelId(), sold, available));
+    }
+
+    public RateMixResponse calculateRateMix(RateMixRequest request) {
+        log.debug("Processing rate mix: {}", request);
+
+        long validateStart = System.nanoTime();
+        validationService.validateHotelExists(request.hotelId());
+        LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        hotelDataService.loadBookings(request.hotelId(), dateRange[0], dateRange[1]);
+        // Per rate: [0] bookings, [1] room-nights inside the range
+        Map<String, long[]> totals = new HashMap<>();
+        for (BookingIntervalIndex index : hotelDataService.getBookingIndexes(request.hotelId()).values()) {
+            index.forEachOverlapping(dateRange[0].toEpochDay(), dateRange[1].toEpochDay(), (booking, nights) -> {
+                long[] counts = totals.computeIfAbsent(booking.rateKey(), rate -> new long[2]);
+                counts[0]++;
+                counts[1] += nights;
+            });
+        }
+
+        long totalRoomNights = 0;
+        for (long[] counts : totals.values()) {
+            totalRoomNights += counts[1];
+        }
+        List<RateMixEntry> rates = totals.entrySet().stream()
+                .map(entry -> new RateMixEntry(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .sorted(BY_ROOM_NIGHTS)
+                .toList();
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Rate mix completed: hotelId={}, dateRange={}, rates={}, roomNights={}",
+                request.hotelId(), request.dateRange(), rates.size(), totalRoomNights);
+
+        return new RateMixResponse(request.hotelId(), request.dateRange(), rates, totalRoomNights);
+    }
+
+    // A null roomType covers every room type of the hotel
+    private HotelOccupancy hotelOccupancy(Hotel hotel, String roomType, long start, long end) {
+        long nights = end - start + 1;
+        long sold = 0;
+        long rooms;
+        if (roomType == null) {
+            for (OccupancyCalendar calendar : hotelDataService.getOccupancyCalendars(hotel.getId()).values()) {
+                sold += calendar.sumOccupied(start, end);
+            }
+            rooms = hotel.getTotalRooms();
+        } else {
+            sold = hotelDataService.getOccupancyCalendar(hotel.getId(), roomType).sumOccupied(start, end);
+            rooms = hotel.getTotalRoomsByType(roomType);
+        }
+        return new HotelOccupancy(hotel.getId(), sold, rooms * nights);
+    }
+}
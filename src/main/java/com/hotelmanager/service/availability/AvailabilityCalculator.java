@@ -1,25 +1,35 @@
 package com.hotelmanager.service.availability;
 
 import com.hotelmanager.exception.HotelNotFoundException;
+import com.hotelmanager.model.Booking;
 import com.hotelmanager.model.DailyAvailability;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.RoomType;
 import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.util.CommandDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class AvailabilityCalculator {
+@ConditionalOnProperty(name = "availability.engine", havingValue = "scan")
+public class AvailabilityCalculator implements AvailabilityEngine {
 
     private final HotelDataService hotelDataService;
 
+    @Override
     public int calculateMinimumAvailability(String hotelId, String roomType,
                                             LocalDate startDate, LocalDate endDate) {
         log.debug("Calculating minimum availability: hotelId={}, roomType={}, start={}, end={}",
@@ -37,9 +47,33 @@ public class AvailabilityCalculator {
         return minAvailability;
     }
 
-    public List<DailyAvailability> findAvailableDates(String hotelId, String roomType, int daysAhead) {
-        log.debug("Finding available dates: hotelId={}, roomType={}, daysAhead={}",
-                hotelId, roomType, daysAhead);
+    @Override
+    public int[] calculateDailyAvailability(String hotelId, String roomType, LocalDate startDate, int days) {
+        int totalRooms = getTotalRoomsByType(hotelId, roomType);
+        int[] daily = new int[Math.max(days, 0)];
+        for (int i = 0; i < daily.length; i++) {
+            daily[i] = calculateAvailabilityForDate(hotelId, roomType, totalRooms, startDate.plusDays(i));
+        }
+        return daily;
+    }
+
+    @Override
+    public Map<String, Integer> calculateSoldByRate(String hotelId, String roomType,
+                                                    LocalDate startDate, LocalDate endDate) {
+        Map<String, Integer> soldByRate = new TreeMap<>();
+        for (LocalDate date : generateDateRange(startDate, endDate)) {
+            CommandDeadline.checkpoint();
+            hotelDataService.findBookingsForDate(hotelId, roomType, date).stream()
+                    .collect(Collectors.groupingBy(Booking::rateKey, Collectors.counting()))
+                    .forEach((rate, sold) -> soldByRate.merge(rate, sold.intValue(), Math::max));
+        }
+        return soldByRate;
+    }
+
+    @Override
+    public List<DailyAvailability> findAvailableDates(String hotelId, String roomType, int daysAhead, int minRooms) {
+        log.debug("Finding available dates: hotelId={}, roomType={}, daysAhead={}, minRooms={}",
+                hotelId, roomType, daysAhead, minRooms);
 
         int totalRooms = getTotalRoomsByType(hotelId, roomType);
         LocalDate today = LocalDate.now();
@@ -50,7 +84,42 @@ public class AvailabilityCalculator {
                     int availability = calculateAvailabilityForDate(hotelId, roomType, totalRooms, date);
                     return new DailyAvailability(date, availability);
                 })
-                .filter(daily -> daily.availability() > 0)
+                .filter(daily -> daily.availability() >= minRooms)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findHotels(String roomType, LocalDate startDate, LocalDate endDate, int minRooms) {
+        log.debug("Finding hotels: roomType={}, start={}, end={}, minRooms={}", roomType, startDate, endDate, minRooms);
+
+        return hotelDataService.findAllHotels().stream()
+                .map(Hotel::getId)
+                .sorted()
+                .filter(hotelId -> calculateMinimumAvailability(hotelId, roomType, startDate, endDate) >= minRooms)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findRoomTypes(String hotelId, Collection<String> attributes) {
+        Hotel hotel = hotelDataService.findHotelById(hotelId).orElseThrow(() -> new HotelNotFoundException(hotelId));
+        return hotel.getRoomTypes().stream()
+                .filter(roomType -> hotel.getTotalRoomsByType(roomType.code()) > 0 && roomType.hasAttributes(attributes))
+                .map(RoomType::code)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findHotelsWithAttributes(Collection<String> attributes, LocalDate startDate,
+                                                 LocalDate endDate, int minRooms) {
+        log.debug("Finding hotels: attributes={}, start={}, end={}, minRooms={}", attributes, startDate, endDate, minRooms);
+
+        return hotelDataService.findAllHotels().stream()
+                .map(Hotel::getId)
+                .sorted()
+                .filter(hotelId -> findRoomTypes(hotelId, attributes).stream().anyMatch(roomType ->
+                        calculateMinimumAvailability(hotelId, roomType, startDate, endDate) >= minRooms))
                 .collect(Collectors.toList());
     }
 
@@ -61,6 +130,7 @@ public class AvailabilityCalculator {
     }
 
     private int calculateAvailabilityForDate(String hotelId, String roomType, int totalRooms, LocalDate date) {
+        CommandDeadline.checkpoint();
         int bookings = hotelDataService.findBookingsForDate(hotelId, roomType, date).size();
         return totalRooms - bookings;
     }
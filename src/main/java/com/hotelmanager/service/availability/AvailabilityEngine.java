@@ -0,0 +1,72 @@
+package com.hotelmanager.service.availability;
+
+import com.hotelmanager.model.DailyAvailability;
+import com.hotelmanager.model.DateRange;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Computes room availability (total rooms of a type minus bookings covering a night) for one hotel.
+ * AvailabilityCalculator is the reference implementation; any other engine must produce identical
+ * results, which AvailabilityEngineDifferentialTest checks over generated datasets.
+ */
+public interface AvailabilityEngine {
+
+    int calculateMinimumAvailability(String hotelId, String roomType, LocalDate startDate, LocalDate endDate);
+
+    int[] calculateDailyAvailability(String hotelId, String roomType, LocalDate startDate, int days);
+
+    // Per rate plan with a booking in the range, the most rooms sold under it on any night, keyed in rate order
+    Map<String, Integer> calculateSoldByRate(String hotelId, String roomType, LocalDate startDate, LocalDate endDate);
+
+    // Ids, in order, of every loaded hotel with at least minRooms of the type free on each night from start to end
+    List<String> findHotels(String roomType, LocalDate startDate, LocalDate endDate, int minRooms);
+
+    // Codes, in order, of the hotel's room types whose amenities and features include every attribute
+    List<String> findRoomTypes(String hotelId, Collection<String> attributes);
+
+    // As findHotels, for any room type carrying every attribute; a hotel qualifies through a single room type
+    List<String> findHotelsWithAttributes(Collection<String> attributes, LocalDate startDate, LocalDate endDate,
+                                          int minRooms);
+
+    default List<DailyAvailability> findAvailableDates(String hotelId, String roomType, int daysAhead) {
+        return findAvailableDates(hotelId, roomType, daysAhead, 1);
+    }
+
+    // Days from today with at least minRooms free; days below the threshold are never materialised
+    default List<DailyAvailability> findAvailableDates(String hotelId, String roomType, int daysAhead, int minRooms) {
+        LocalDate today = LocalDate.now();
+        int[] daily = calculateDailyAvailability(hotelId, roomType, today, daysAhead);
+
+        List<DailyAvailability> available = new ArrayList<>();
+        for (int i = 0; i < daily.length; i++) {
+            if (daily[i] >= minRooms) {
+                available.add(new DailyAvailability(today.plusDays(i), daily[i]));
+            }
+        }
+        return available;
+    }
+
+    default int[] calculateMinimumAvailability(String hotelId, String roomType, List<DateRange> dateRanges) {
+        int[] minimums = new int[dateRanges.size()];
+        for (int i = 0; i < minimums.length; i++) {
+            DateRange range = dateRanges.get(i);
+            minimums[i] = calculateMinimumAvailability(hotelId, roomType, range.startDate(), range.endDate());
+        }
+        return minimums;
+    }
+
+    default Map<String, int[]> calculateDailyAvailability(String hotelId, List<String> roomTypes,
+                                                         LocalDate startDate, int days) {
+        Map<String, int[]> byRoomType = new LinkedHashMap<>();
+        for (String roomType : roomTypes) {
+            byRoomType.put(roomType, calculateDailyAvailability(hotelId, roomType, startDate, days));
+        }
+        return byRoomType;
+    }
+}
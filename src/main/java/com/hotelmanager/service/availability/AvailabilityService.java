@@ -1,38 +1,68 @@
 package com.hotelmanager.service.availability;
 
 import com.hotelmanager.model.DailyAvailability;
+import com.hotelmanager.model.DateRange;
 import com.hotelmanager.model.DateRangeAvailability;
 import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.RoomRequirement;
+import com.hotelmanager.model.request.AmenityFindHotelsRequest;
+import com.hotelmanager.model.request.AmenitySearchRequest;
 import com.hotelmanager.model.request.AvailabilityRequest;
+import com.hotelmanager.model.request.BatchAvailabilityRequest;
+import com.hotelmanager.model.request.FindHotelsRequest;
+import com.hotelmanager.model.request.RoomCombinationRequest;
 import com.hotelmanager.model.request.SearchRequest;
+import com.hotelmanager.model.response.AmenitySearchResponse;
 import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.model.response.BatchAvailabilityResponse;
+import com.hotelmanager.model.response.FindHotelsResponse;
+import com.hotelmanager.model.response.RoomCombinationResponse;
 import com.hotelmanager.model.response.SearchResponse;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.Stage;
 import com.hotelmanager.service.validation.ValidationService;
+import com.hotelmanager.util.CommandDeadline;
+import com.hotelmanager.util.DateRangeConsolidator;
 import com.hotelmanager.util.DateRangeUtil;
+import com.hotelmanager.util.SlidingWindowMinimum;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AvailabilityService {
 
+    private static final int SEARCH_CHUNK_DAYS = 366;
+
     private final ValidationService validationService;
-    private final AvailabilityCalculator availabilityCalculator;
+    private final AvailabilityEngine availabilityEngine;
+    private final CommandMetrics commandMetrics;
 
     public AvailabilityResponse checkAvailability(AvailabilityRequest request) {
         log.debug("Processing availability check: {}", request);
 
+        long validateStart = System.nanoTime();
         Hotel hotel = validationService.validateHotelExists(request.hotelId());
         validationService.validateRoomTypeExists(hotel, request.roomType());
         LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
 
-        int minAvailability = availabilityCalculator.calculateMinimumAvailability(
+        int minAvailability = availabilityEngine.calculateMinimumAvailability(
                 request.hotelId(), request.roomType(), dateRange[0], dateRange[1]);
+        Map<String, Integer> soldByRate = request.byRate()
+                ? availabilityEngine.calculateSoldByRate(request.hotelId(), request.roomType(), dateRange[0], dateRange[1])
+                : Map.of();
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
 
         log.info("Availability check completed: hotelId={}, roomType={}, dateRange={}, availability={}",
                 request.hotelId(), request.roomType(), request.dateRange(), minAvailability);
@@ -42,26 +72,235 @@ public class AvailabilityService {
                 request.roomType(),
                 request.dateRange(),
                 minAvailability,
-                "Success"
+                "Success",
+                soldByRate
         );
     }
 
-    public SearchResponse searchAvailability(SearchRequest request) {
-        log.debug("Processing availability search: {}", request);
+    // Hotel and room type are resolved once and every range is answered by one engine call, in request order
+    public BatchAvailabilityResponse checkBatchAvailability(BatchAvailabilityRequest request) {
+        log.debug("Processing batch availability check: {}", request);
 
+        long validateStart = System.nanoTime();
         Hotel hotel = validationService.validateHotelExists(request.hotelId());
         validationService.validateRoomTypeExists(hotel, request.roomType());
+        List<DateRange> dateRanges = new ArrayList<>(request.dateRanges().size());
+        for (String dateRange : request.dateRanges()) {
+            LocalDate[] dates = validationService.parseDateRange(dateRange);
+            dateRanges.add(new DateRange(dates[0], dates[1]));
+        }
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        int[] minimums = availabilityEngine.calculateMinimumAvailability(
+                request.hotelId(), request.roomType(), dateRanges);
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        List<AvailabilityResponse> availabilities = new ArrayList<>(minimums.length);
+        for (int i = 0; i < minimums.length; i++) {
+            availabilities.add(new AvailabilityResponse(request.hotelId(), request.roomType(),
+                    request.dateRanges().get(i), minimums[i], "Success"));
+        }
+
+        log.info("Batch availability check completed: hotelId={}, roomType={}, ranges={}",
+                request.hotelId(), request.roomType(), minimums.length);
+
+        return new BatchAvailabilityResponse(availabilities);
+    }
+
+    // Every requirement is checked together in a single pass over the nights of the range
+    public RoomCombinationResponse checkRoomCombination(RoomCombinationRequest request) {
+        log.debug("Processing room combination check: {}", request);
+
+        long validateStart = System.nanoTime();
+        Hotel hotel = validationService.validateHotelExists(request.hotelId());
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (RoomRequirement requirement : request.rooms()) {
+            validationService.validateRoomTypeExists(hotel, requirement.roomType());
+            quantities.merge(requirement.roomType(), requirement.quantity(), Integer::sum);
+        }
+        LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        List<String> roomTypes = List.copyOf(quantities.keySet());
+        int nights = (int) ChronoUnit.DAYS.between(dateRange[0], dateRange[1]) + 1;
+        Map<String, int[]> dailyByRoomType = availabilityEngine.calculateDailyAvailability(
+                request.hotelId(), roomTypes, dateRange[0], nights);
+
+        int[][] daily = new int[roomTypes.size()][];
+        int[] required = new int[roomTypes.size()];
+        int[] headroom = new int[roomTypes.size()];
+        for (int type = 0; type < daily.length; type++) {
+            daily[type] = dailyByRoomType.get(roomTypes.get(type));
+            required[type] = quantities.get(roomTypes.get(type));
+            headroom[type] = Integer.MAX_VALUE;
+        }
+
+        List<DateRange> feasibleDates = new ArrayList<>();
+        LocalDate rangeStart = null;
+        for (int night = 0; night < nights; night++) {
+            CommandDeadline.checkpoint();
+            boolean feasible = true;
+            for (int type = 0; type < daily.length; type++) {
+                int spare = daily[type][night] - required[type];
+                headroom[type] = Math.min(headroom[type], spare);
+                feasible &= spare >= 0;
+            }
+
+            if (feasible && rangeStart == null) {
+                rangeStart = dateRange[0].plusDays(night);
+            } else if (!feasible && rangeStart != null) {
+                feasibleDates.add(new DateRange(rangeStart, dateRange[0].plusDays(night - 1)));
+                rangeStart = null;
+            }
+        }
+        if (rangeStart != null) {
+            feasibleDates.add(new DateRange(rangeStart, dateRange[1]));
+        }
+
+        Map<String, Integer> headroomByRoomType = new LinkedHashMap<>();
+        for (int type = 0; type < headroom.length; type++) {
+            headroomByRoomType.put(roomTypes.get(type), headroom[type]);
+        }
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Room combination check completed: hotelId={}, dateRange={}, rooms={}, feasibleRanges={}",
+                request.hotelId(), request.dateRange(), quantities, feasibleDates.size());
+
+        return new RoomCombinationResponse(request.hotelId(), request.dateRange(), feasibleDates, headroomByRoomType);
+    }
+
+    public FindHotelsResponse findHotels(FindHotelsRequest request) {
+        log.debug("Processing hotel search: {}", request);
+
+        long validateStart = System.nanoTime();
+        LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        List<String> hotelIds = availabilityEngine.findHotels(
+                request.roomType(), dateRange[0], dateRange[1], request.minRooms());
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Hotel search completed: roomType={}, dateRange={}, minRooms={}, resultCount={}",
+                request.roomType(), request.dateRange(), request.minRooms(), hotelIds.size());
+
+        return new FindHotelsResponse(hotelIds, hotelIds.size());
+    }
+
+    public FindHotelsResponse findHotelsWithAttributes(AmenityFindHotelsRequest request) {
+        log.debug("Processing amenity hotel search: {}", request);
+
+        long validateStart = System.nanoTime();
+        LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        List<String> hotelIds = availabilityEngine.findHotelsWithAttributes(
+                request.attributes(), dateRange[0], dateRange[1], request.minRooms());
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Amenity hotel search completed: attributes={}, dateRange={}, minRooms={}, resultCount={}",
+                request.attributes(), request.dateRange(), request.minRooms(), hotelIds.size());
+
+        return new FindHotelsResponse(hotelIds, hotelIds.size());
+    }
+
+    public AmenitySearchResponse searchAmenityAvailability(AmenitySearchRequest request) {
+        log.debug("Processing amenity availability search: {}", request);
+
+        long validateStart = System.nanoTime();
+        validationService.validateHotelExists(request.hotelId());
         validationService.validateDaysAhead(request.daysAhead());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        Map<String, List<DateRangeAvailability>> byRoomType = new LinkedHashMap<>();
+        int totalResults = 0;
+        for (String roomType : availabilityEngine.findRoomTypes(request.hotelId(), request.attributes())) {
+            CommandDeadline.checkpoint();
+            List<DateRangeAvailability> results = DateRangeUtil.consolidateDateRanges(
+                    availabilityEngine.findAvailableDates(request.hotelId(), roomType, request.daysAhead()));
+            byRoomType.put(roomType, results);
+            totalResults += results.size();
+        }
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Amenity availability search completed: hotelId={}, attributes={}, daysAhead={}, roomTypes={}, resultCount={}",
+                request.hotelId(), request.attributes(), request.daysAhead(), byRoomType.keySet(), totalResults);
+
+        return new AmenitySearchResponse(byRoomType, totalResults);
+    }
+
+    public SearchResponse searchAvailability(SearchRequest request) {
+        log.debug("Processing availability search: {}", request);
+
+        if (request.nights() > 1) {
+            List<DateRangeAvailability> results = new ArrayList<>();
+            searchInChunks(request, results::add);
+            log.info("Stay search completed: hotelId={}, roomType={}, daysAhead={}, nights={}, minRooms={}, resultCount={}",
+                    request.hotelId(), request.roomType(), request.daysAhead(), request.nights(), request.minRooms(),
+                    results.size());
+            return new SearchResponse(results, results.size());
+        }
+
+        long computeStart = validateSearchRequest(request);
 
         List<DailyAvailability> dailyAvailabilities =
-                availabilityCalculator.findAvailableDates(
-                        request.hotelId(), request.roomType(), request.daysAhead());
+                availabilityEngine.findAvailableDates(
+                        request.hotelId(), request.roomType(), request.daysAhead(), request.minRooms());
 
         List<DateRangeAvailability> results = DateRangeUtil.consolidateDateRanges(dailyAvailabilities);
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
 
-        log.info("Availability search completed: hotelId={}, roomType={}, daysAhead={}, resultCount={}",
-                request.hotelId(), request.roomType(), request.daysAhead(), results.size());
+        log.info("Availability search completed: hotelId={}, roomType={}, daysAhead={}, minRooms={}, resultCount={}",
+                request.hotelId(), request.roomType(), request.daysAhead(), request.minRooms(), results.size());
 
         return new SearchResponse(results, results.size());
     }
-}
\ No newline at end of file
+
+    // Computes the horizon in chunks so ranges reach the sink while later days are still being evaluated
+    public int streamSearchAvailability(SearchRequest request, Consumer<DateRangeAvailability> sink) {
+        log.debug("Processing streaming availability search: {}", request);
+
+        int resultCount = searchInChunks(request, sink);
+
+        log.info("Streaming availability search completed: hotelId={}, roomType={}, daysAhead={}, nights={}, minRooms={}, resultCount={}",
+                request.hotelId(), request.roomType(), request.daysAhead(), request.nights(), request.minRooms(), resultCount);
+        return resultCount;
+    }
+
+    // With nights > 1 each date is an arrival, and its count is the minimum availability over the stay.
+    // Dates below minRooms never reach the consolidator, so they break ranges without being materialised.
+    private int searchInChunks(SearchRequest request, Consumer<DateRangeAvailability> sink) {
+        long computeStart = validateSearchRequest(request);
+        DateRangeConsolidator consolidator = new DateRangeConsolidator(sink);
+        LocalDate today = LocalDate.now();
+        int nights = request.nights();
+
+        for (int offset = 0; offset < request.daysAhead(); offset += SEARCH_CHUNK_DAYS) {
+            CommandDeadline.checkpoint();
+            LocalDate chunkStart = today.plusDays(offset);
+            int arrivals = Math.min(SEARCH_CHUNK_DAYS, request.daysAhead() - offset);
+            int[] daily = availabilityEngine.calculateDailyAvailability(request.hotelId(), request.roomType(),
+                    chunkStart, arrivals + nights - 1);
+            int[] bookable = nights > 1 ? SlidingWindowMinimum.of(daily, nights) : daily;
+
+            for (int i = 0; i < bookable.length; i++) {
+                if (bookable[i] >= request.minRooms()) {
+                    consolidator.accept(chunkStart.plusDays(i), bookable[i]);
+                }
+            }
+        }
+
+        int resultCount = consolidator.finish();
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+        return resultCount;
+    }
+
+    private long validateSearchRequest(SearchRequest request) {
+        long validateStart = System.nanoTime();
+        Hotel hotel = validationService.validateHotelExists(request.hotelId());
+        validationService.validateRoomTypeExists(hotel, request.roomType());
+        validationService.validateDaysAhead(request.daysAhead());
+        validationService.validateNights(request.nights());
+        validationService.validateMinRooms(request.minRooms());
+        return commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+    }
+}
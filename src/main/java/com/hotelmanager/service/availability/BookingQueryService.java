@@ -0,0 +1,45 @@
+package com.hotelmanager.service.availability;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.request.BookingListRequest;
+import com.hotelmanager.model.response.BookingListResponse;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.Stage;
+import com.hotelmanager.service.validation.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingQueryService {
+
+    private final ValidationService validationService;
+    private final HotelDataService hotelDataService;
+    private final CommandMetrics commandMetrics;
+
+    public BookingListResponse listBookings(BookingListRequest request) {
+        log.debug("Processing booking list: {}", request);
+
+        long validateStart = System.nanoTime();
+        Hotel hotel = validationService.validateHotelExists(request.hotelId());
+        validationService.validateRoomTypeExists(hotel, request.roomType());
+        LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        List<Booking> bookings = hotelDataService.findBookingsOverlapping(
+                request.hotelId(), request.roomType(), dateRange[0], dateRange[1]);
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Booking list completed: hotelId={}, roomType={}, dateRange={}, resultCount={}",
+                request.hotelId(), request.roomType(), request.dateRange(), bookings.size());
+
+        return new BookingListResponse(bookings, bookings.size());
+    }
+}
@@ -0,0 +1,248 @@
+package com.hotelmanager.service.availability;
+
+import com.hotelmanager.exception.HotelNotFoundException;
+import com.hotelmanager.model.DateRange;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.service.data.BookingSnapshot;
+import com.hotelmanager.service.data.HotelAvailabilityIndex;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.data.OccupancyCalendar;
+import com.hotelmanager.util.CommandDeadline;
+import com.hotelmanager.util.RangeMaximum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "availability.engine", havingValue = "indexed", matchIfMissing = true)
+public class IndexedAvailabilityEngine implements AvailabilityEngine {
+
+    // Candidate counts above which exact minRooms checks are spread over the fork/join common pool
+    private static final int PARALLEL_THRESHOLD = 256;
+    // Longest cluster copied into a sparse table; the copy and table cost about 16 ints per night
+    private static final int MAX_CLUSTER_NIGHTS = 1 << 14;
+
+    private final HotelDataService hotelDataService;
+
+    @Override
+    public int calculateMinimumAvailability(String hotelId, String roomType,
+                                            LocalDate startDate, LocalDate endDate) {
+        int totalRooms = getTotalRoomsByType(hotelId, roomType);
+        if (endDate.isBefore(startDate)) {
+            return totalRooms;
+        }
+
+        hotelDataService.loadBookings(hotelId, startDate, endDate);
+        OccupancyCalendar calendar = hotelDataService.getOccupancyCalendar(hotelId, roomType);
+        int minAvailability = totalRooms - calendar.maxOccupied(startDate.toEpochDay(), endDate.toEpochDay());
+
+        log.debug("Minimum availability from index: hotelId={}, roomType={}, start={}, end={}, availability={}",
+                hotelId, roomType, startDate, endDate, minAvailability);
+        return minAvailability;
+    }
+
+    // Ranges are sorted by start and grouped into overlapping clusters; each cluster copies its nights once and
+    // answers all of its ranges from a sparse table. A single range, or a cluster spanning more than
+    // MAX_CLUSTER_NIGHTS, is answered range by range from the calendar's chunks instead
+    @Override
+    public int[] calculateMinimumAvailability(String hotelId, String roomType, List<DateRange> dateRanges) {
+        int totalRooms = getTotalRoomsByType(hotelId, roomType);
+        loadBookingsSpanning(hotelId, dateRanges);
+        OccupancyCalendar calendar = hotelDataService.getOccupancyCalendar(hotelId, roomType);
+        int[] minimums = new int[dateRanges.size()];
+        Arrays.fill(minimums, totalRooms);
+
+        int[] order = IntStream.range(0, dateRanges.size())
+                .filter(i -> !dateRanges.get(i).endDate().isBefore(dateRanges.get(i).startDate()))
+                .boxed()
+                .sorted(Comparator.comparing(i -> dateRanges.get(i).startDate()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int first = 0;
+        while (first < order.length) {
+            CommandDeadline.checkpoint();
+            long clusterStart = dateRanges.get(order[first]).startDate().toEpochDay();
+            long clusterEnd = dateRanges.get(order[first]).endDate().toEpochDay();
+            int last = first;
+            while (last + 1 < order.length
+                    && dateRanges.get(order[last + 1]).startDate().toEpochDay() <= clusterEnd) {
+                last++;
+                clusterEnd = Math.max(clusterEnd, dateRanges.get(order[last]).endDate().toEpochDay());
+            }
+
+            if (first == last || clusterEnd - clusterStart >= MAX_CLUSTER_NIGHTS) {
+                for (int i = first; i <= last; i++) {
+                    CommandDeadline.checkpoint();
+                    DateRange range = dateRanges.get(order[i]);
+                    minimums[order[i]] = totalRooms - calendar.maxOccupied(
+                            range.startDate().toEpochDay(), range.endDate().toEpochDay());
+                }
+            } else {
+                int[] occupied = new int[Math.toIntExact(clusterEnd - clusterStart + 1)];
+                calendar.copyOccupied(clusterStart, occupied);
+                RangeMaximum maximum = RangeMaximum.of(occupied);
+                for (int i = first; i <= last; i++) {
+                    DateRange range = dateRanges.get(order[i]);
+                    minimums[order[i]] = totalRooms - maximum.max(
+                            (int) (range.startDate().toEpochDay() - clusterStart),
+                            (int) (range.endDate().toEpochDay() - clusterStart));
+                }
+            }
+            first = last + 1;
+        }
+
+        log.debug("Batch minimum availability from index: hotelId={}, roomType={}, ranges={}",
+                hotelId, roomType, dateRanges.size());
+        return minimums;
+    }
+
+    @Override
+    public Map<String, Integer> calculateSoldByRate(String hotelId, String roomType,
+                                                    LocalDate startDate, LocalDate endDate) {
+        Map<String, Integer> soldByRate = new TreeMap<>();
+        hotelDataService.loadBookings(hotelId, startDate, endDate);
+        hotelDataService.getRateOccupancyCalendars(hotelId, roomType).forEach((rate, calendar) -> {
+            int sold = calendar.maxOccupied(startDate.toEpochDay(), endDate.toEpochDay());
+            if (sold > 0) {
+                soldByRate.put(rate, sold);
+            }
+        });
+        return soldByRate;
+    }
+
+    @Override
+    public int[] calculateDailyAvailability(String hotelId, String roomType, LocalDate startDate, int days) {
+        int totalRooms = getTotalRoomsByType(hotelId, roomType);
+        int[] daily = new int[Math.max(days, 0)];
+
+        hotelDataService.loadBookings(hotelId, startDate, startDate.plusDays(days - 1L));
+        hotelDataService.getOccupancyCalendar(hotelId, roomType).copyOccupied(startDate.toEpochDay(), daily);
+        for (int i = 0; i < daily.length; i++) {
+            daily[i] = totalRooms - daily[i];
+        }
+        return daily;
+    }
+
+    // Resolves the hotel and its calendars once for all of the room types
+    @Override
+    public Map<String, int[]> calculateDailyAvailability(String hotelId, List<String> roomTypes,
+                                                        LocalDate startDate, int days) {
+        Hotel hotel = hotelDataService.findHotelById(hotelId).orElseThrow(() -> new HotelNotFoundException(hotelId));
+        hotelDataService.loadBookings(hotelId, startDate, startDate.plusDays(days - 1L));
+        Map<String, OccupancyCalendar> calendars = hotelDataService.getOccupancyCalendars(hotelId);
+
+        Map<String, int[]> byRoomType = new LinkedHashMap<>();
+        for (String roomType : roomTypes) {
+            int totalRooms = hotel.getTotalRoomsByType(roomType);
+            int[] daily = new int[Math.max(days, 0)];
+            calendars.getOrDefault(roomType, OccupancyCalendar.EMPTY).copyOccupied(startDate.toEpochDay(), daily);
+            for (int i = 0; i < daily.length; i++) {
+                daily[i] = totalRooms - daily[i];
+            }
+            byRoomType.put(roomType, daily);
+        }
+        return byRoomType;
+    }
+
+    @Override
+    public List<String> findHotels(String roomType, LocalDate startDate, LocalDate endDate, int minRooms) {
+        hotelDataService.loadAllBookings(startDate, endDate);
+        BookingSnapshot snapshot = hotelDataService.getBookingSnapshot();
+        HotelAvailabilityIndex index = snapshot.availabilityIndex();
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        BitSet candidates = index.availableHotels(roomType, start, end, minRooms);
+        List<String> hotelIds = toHotelIds(index, confirmMinRooms(snapshot, roomType, start, end, minRooms, candidates));
+
+        log.debug("Hotels from index: roomType={}, start={}, end={}, minRooms={}, candidates={}, matches={}",
+                roomType, startDate, endDate, minRooms, candidates.cardinality(), hotelIds.size());
+        return hotelIds;
+    }
+
+    @Override
+    public List<String> findRoomTypes(String hotelId, Collection<String> attributes) {
+        if (hotelDataService.findHotelById(hotelId).isEmpty()) {
+            throw new HotelNotFoundException(hotelId);
+        }
+        return hotelDataService.getAvailabilityIndex().roomTypesWithAttributes(hotelId, attributes);
+    }
+
+    @Override
+    public List<String> findHotelsWithAttributes(Collection<String> attributes, LocalDate startDate,
+                                                 LocalDate endDate, int minRooms) {
+        hotelDataService.loadAllBookings(startDate, endDate);
+        BookingSnapshot snapshot = hotelDataService.getBookingSnapshot();
+        HotelAvailabilityIndex index = snapshot.availabilityIndex();
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+
+        BitSet matches = new BitSet();
+        for (String roomType : index.roomTypeCodes()) {
+            BitSet candidates = index.hotelsWithAttributes(roomType, attributes);
+            if (candidates.isEmpty()) {
+                continue;
+            }
+            candidates.and(index.availableHotels(roomType, start, end, minRooms));
+            matches.or(confirmMinRooms(snapshot, roomType, start, end, minRooms, candidates));
+        }
+        return toHotelIds(index, matches);
+    }
+
+    // No sold-out night only guarantees one free room, so larger requests are confirmed against the occupancy calendars
+    // of the same snapshot as the index
+    private BitSet confirmMinRooms(BookingSnapshot snapshot, String roomType, long start, long end,
+                                  int minRooms, BitSet candidates) {
+        if (minRooms <= 1 || candidates.isEmpty()) {
+            return candidates;
+        }
+
+        HotelAvailabilityIndex index = snapshot.availabilityIndex();
+        IntStream ordinals = candidates.stream();
+        if (candidates.cardinality() >= PARALLEL_THRESHOLD) {
+            ordinals = ordinals.parallel();
+        }
+        return ordinals
+                .filter(ordinal -> index.capacity(roomType, ordinal) - snapshot
+                        .occupancyCalendar(index.hotelId(ordinal), roomType).maxOccupied(start, end) >= minRooms)
+                .collect(BitSet::new, BitSet::set, BitSet::or);
+    }
+
+    // One load for the span of all ranges, as a load may evict shards an earlier load of the same command read
+    private void loadBookingsSpanning(String hotelId, List<DateRange> dateRanges) {
+        if (dateRanges.isEmpty()) {
+            return;
+        }
+        LocalDate first = dateRanges.get(0).startDate();
+        LocalDate last = dateRanges.get(0).endDate();
+        for (DateRange range : dateRanges) {
+            first = range.startDate().isBefore(first) ? range.startDate() : first;
+            last = range.endDate().isAfter(last) ? range.endDate() : last;
+        }
+        hotelDataService.loadBookings(hotelId, first, last);
+    }
+
+    private static List<String> toHotelIds(HotelAvailabilityIndex index, BitSet ordinals) {
+        return ordinals.stream().mapToObj(index::hotelId).toList();
+    }
+
+    private int getTotalRoomsByType(String hotelId, String roomType) {
+        return hotelDataService.findHotelById(hotelId)
+                .orElseThrow(() -> new HotelNotFoundException(hotelId))
+                .getTotalRoomsByType(roomType);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hotelmanager.service.availability;
+
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.request.FreeRoomRequest;
+import com.hotelmanager.model.response.FreeRoomResponse;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.Stage;
+import com.hotelmanager.service.validation.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomAssignmentService {
+
+    private final ValidationService validationService;
+    private final HotelDataService hotelDataService;
+    private final CommandMetrics commandMetrics;
+
+    public FreeRoomResponse findFreeRoom(FreeRoomRequest request) {
+        log.debug("Processing free room query: {}", request);
+
+        long validateStart = System.nanoTime();
+        Hotel hotel = validationService.validateHotelExists(request.hotelId());
+        validationService.validateRoomTypeExists(hotel, request.roomType());
+        LocalDate[] dateRange = validationService.parseDateRange(request.dateRange());
+        long computeStart = commandMetrics.recordStage(Stage.VALIDATE, validateStart);
+
+        Optional<String> roomId = hotelDataService.getRoomAssignmentCalendar(request.hotelId(), request.roomType())
+                .findFreeRoom(dateRange[0].toEpochDay(), dateRange[1].toEpochDay(), request.strategy());
+        commandMetrics.recordStage(Stage.COMPUTE, computeStart);
+
+        log.info("Free room query completed: hotelId={}, roomType={}, dateRange={}, strategy={}, roomId={}",
+                request.hotelId(), request.roomType(), request.dateRange(), request.strategy(), roomId.orElse(null));
+
+        return new FreeRoomResponse(request.hotelId(), request.roomType(), request.dateRange(), roomId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.AmenityFindHotelsRequest;
+import com.hotelmanager.model.response.FindHotelsResponse;
+import com.hotelmanager.parser.AmenityFindHotelsCommandParser;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AmenityFindHotelsCommandRoute implements CommandRoute<AmenityFindHotelsRequest, FindHotelsResponse> {
+    private final AmenityFindHotelsCommandParser parser;
+    private final AvailabilityService availabilityService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "AmenityFindHotels";
+    }
+
+    @Override
+    public CommandParser<AmenityFindHotelsRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(AmenityFindHotelsRequest request, CommandExecutionEvent event) {
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public FindHotelsResponse execute(AmenityFindHotelsRequest request) {
+        return availabilityService.findHotelsWithAttributes(request);
+    }
+
+    @Override
+    public String format(FindHotelsResponse response) {
+        return responseFormatter.formatFindHotelsResponse(response);
+    }
+
+    @Override
+    public int resultSize(FindHotelsResponse response) {
+        return response.totalResults();
+    }
+}
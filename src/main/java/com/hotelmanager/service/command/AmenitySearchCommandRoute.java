@@ -0,0 +1,50 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.AmenitySearchRequest;
+import com.hotelmanager.model.response.AmenitySearchResponse;
+import com.hotelmanager.parser.AmenitySearchCommandParser;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AmenitySearchCommandRoute implements CommandRoute<AmenitySearchRequest, AmenitySearchResponse> {
+    private final AmenitySearchCommandParser parser;
+    private final AvailabilityService availabilityService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "AmenitySearch";
+    }
+
+    @Override
+    public CommandParser<AmenitySearchRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(AmenitySearchRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.dateSpanDays = request.daysAhead();
+    }
+
+    @Override
+    public AmenitySearchResponse execute(AmenitySearchRequest request) {
+        return availabilityService.searchAmenityAvailability(request);
+    }
+
+    @Override
+    public String format(AmenitySearchResponse response) {
+        return responseFormatter.formatAmenitySearchResponse(response);
+    }
+
+    @Override
+    public int resultSize(AmenitySearchResponse response) {
+        return response.totalResults();
+    }
+}
@@ -0,0 +1,51 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.AvailabilityRequest;
+import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.parser.AvailabilityCommandParser;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilityCommandRoute implements CommandRoute<AvailabilityRequest, AvailabilityResponse> {
+    private final AvailabilityCommandParser parser;
+    private final AvailabilityService availabilityService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "Availability";
+    }
+
+    @Override
+    public CommandParser<AvailabilityRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(AvailabilityRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.roomType = request.roomType();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public AvailabilityResponse execute(AvailabilityRequest request) {
+        return availabilityService.checkAvailability(request);
+    }
+
+    @Override
+    public String format(AvailabilityResponse response) {
+        return responseFormatter.formatAvailabilityResponse(response);
+    }
+
+    @Override
+    public int resultSize(AvailabilityResponse response) {
+        return 1;
+    }
+}
@@ -0,0 +1,51 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.BatchAvailabilityRequest;
+import com.hotelmanager.model.response.BatchAvailabilityResponse;
+import com.hotelmanager.parser.BatchAvailabilityCommandParser;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BatchAvailabilityCommandRoute
+        implements CommandRoute<BatchAvailabilityRequest, BatchAvailabilityResponse> {
+    private final BatchAvailabilityCommandParser parser;
+    private final AvailabilityService availabilityService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "BatchAvailability";
+    }
+
+    @Override
+    public CommandParser<BatchAvailabilityRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(BatchAvailabilityRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.roomType = request.roomType();
+    }
+
+    @Override
+    public BatchAvailabilityResponse execute(BatchAvailabilityRequest request) {
+        return availabilityService.checkBatchAvailability(request);
+    }
+
+    @Override
+    public String format(BatchAvailabilityResponse response) {
+        return responseFormatter.formatBatchAvailabilityResponse(response);
+    }
+
+    @Override
+    public int resultSize(BatchAvailabilityResponse response) {
+        return response.availabilities().size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.model.request.BookingRequest;
+import com.hotelmanager.parser.BookingCommandParser;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import com.hotelmanager.service.replication.BookingChangeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookingChangeCommandRoute implements CommandRoute<BookingRequest, BookingChange> {
+    private final BookingCommandParser parser;
+    private final BookingChangeLog bookingChangeLog;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "BookingChange";
+    }
+
+    @Override
+    public CommandParser<BookingRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(BookingRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.roomType = request.roomType();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public BookingChange execute(BookingRequest request) {
+        return bookingChangeLog.apply(request);
+    }
+
+    @Override
+    public String format(BookingChange response) {
+        return responseFormatter.formatBookingChange(response);
+    }
+
+    @Override
+    public int resultSize(BookingChange response) {
+        return 1;
+    }
+}
@@ -0,0 +1,51 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.BookingListRequest;
+import com.hotelmanager.model.response.BookingListResponse;
+import com.hotelmanager.parser.BookingListCommandParser;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.service.availability.BookingQueryService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookingListCommandRoute implements CommandRoute<BookingListRequest, BookingListResponse> {
+    private final BookingListCommandParser parser;
+    private final BookingQueryService bookingQueryService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "BookingList";
+    }
+
+    @Override
+    public CommandParser<BookingListRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(BookingListRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.roomType = request.roomType();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public BookingListResponse execute(BookingListRequest request) {
+        return bookingQueryService.listBookings(request);
+    }
+
+    @Override
+    public String format(BookingListResponse response) {
+        return responseFormatter.formatBookingListResponse(response);
+    }
+
+    @Override
+    public int resultSize(BookingListResponse response) {
+        return response.totalResults();
+    }
+}
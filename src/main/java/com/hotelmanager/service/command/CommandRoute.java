@@ -0,0 +1,22 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+
+// One command type: the parser recognising it, the service call answering it and the formatting of the answer.
+// CommandProcessor tries each route's parser in turn and does the metric and JFR bookkeeping around these steps
+public interface CommandRoute<Q, R> {
+
+    String commandType();
+
+    CommandParser<Q> parser();
+
+    // Copies what the request targets onto the JFR event
+    void describe(Q request, CommandExecutionEvent event);
+
+    R execute(Q request);
+
+    String format(R response);
+
+    int resultSize(R response);
+}
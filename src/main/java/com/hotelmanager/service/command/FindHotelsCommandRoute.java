@@ -0,0 +1,50 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.FindHotelsRequest;
+import com.hotelmanager.model.response.FindHotelsResponse;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.parser.FindHotelsCommandParser;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FindHotelsCommandRoute implements CommandRoute<FindHotelsRequest, FindHotelsResponse> {
+    private final FindHotelsCommandParser parser;
+    private final AvailabilityService availabilityService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "FindHotels";
+    }
+
+    @Override
+    public CommandParser<FindHotelsRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(FindHotelsRequest request, CommandExecutionEvent event) {
+        event.roomType = request.roomType();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public FindHotelsResponse execute(FindHotelsRequest request) {
+        return availabilityService.findHotels(request);
+    }
+
+    @Override
+    public String format(FindHotelsResponse response) {
+        return responseFormatter.formatFindHotelsResponse(response);
+    }
+
+    @Override
+    public int resultSize(FindHotelsResponse response) {
+        return response.totalResults();
+    }
+}
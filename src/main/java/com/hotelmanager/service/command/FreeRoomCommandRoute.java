@@ -0,0 +1,51 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.FreeRoomRequest;
+import com.hotelmanager.model.response.FreeRoomResponse;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.parser.FreeRoomCommandParser;
+import com.hotelmanager.service.availability.RoomAssignmentService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FreeRoomCommandRoute implements CommandRoute<FreeRoomRequest, FreeRoomResponse> {
+    private final FreeRoomCommandParser parser;
+    private final RoomAssignmentService roomAssignmentService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "FreeRoom";
+    }
+
+    @Override
+    public CommandParser<FreeRoomRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(FreeRoomRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.roomType = request.roomType();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public FreeRoomResponse execute(FreeRoomRequest request) {
+        return roomAssignmentService.findFreeRoom(request);
+    }
+
+    @Override
+    public String format(FreeRoomResponse response) {
+        return responseFormatter.formatFreeRoomResponse(response);
+    }
+
+    @Override
+    public int resultSize(FreeRoomResponse response) {
+        return response.roomId().isPresent() ? 1 : 0;
+    }
+}
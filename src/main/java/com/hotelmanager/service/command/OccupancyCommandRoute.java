@@ -0,0 +1,51 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.OccupancyRequest;
+import com.hotelmanager.model.response.OccupancyResponse;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.parser.OccupancyCommandParser;
+import com.hotelmanager.service.analytics.OccupancyAnalyticsService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OccupancyCommandRoute implements CommandRoute<OccupancyRequest, OccupancyResponse> {
+    private final OccupancyCommandParser parser;
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "Occupancy";
+    }
+
+    @Override
+    public CommandParser<OccupancyRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(OccupancyRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.roomType = request.roomType();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public OccupancyResponse execute(OccupancyRequest request) {
+        return occupancyAnalyticsService.calculateOccupancy(request);
+    }
+
+    @Override
+    public String format(OccupancyResponse response) {
+        return responseFormatter.formatOccupancyResponse(response);
+    }
+
+    @Override
+    public int resultSize(OccupancyResponse response) {
+        return response.hotels().size();
+    }
+}
@@ -0,0 +1,50 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.RateMixRequest;
+import com.hotelmanager.model.response.RateMixResponse;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.parser.RateMixCommandParser;
+import com.hotelmanager.service.analytics.OccupancyAnalyticsService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RateMixCommandRoute implements CommandRoute<RateMixRequest, RateMixResponse> {
+    private final RateMixCommandParser parser;
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "RateMix";
+    }
+
+    @Override
+    public CommandParser<RateMixRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(RateMixRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public RateMixResponse execute(RateMixRequest request) {
+        return occupancyAnalyticsService.calculateRateMix(request);
+    }
+
+    @Override
+    public String format(RateMixResponse response) {
+        return responseFormatter.formatRateMixResponse(response);
+    }
+
+    @Override
+    public int resultSize(RateMixResponse response) {
+        return response.rates().size();
+    }
+}
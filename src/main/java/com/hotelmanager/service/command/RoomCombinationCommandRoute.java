@@ -0,0 +1,50 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.RoomCombinationRequest;
+import com.hotelmanager.model.response.RoomCombinationResponse;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.parser.RoomCombinationCommandParser;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RoomCombinationCommandRoute implements CommandRoute<RoomCombinationRequest, RoomCombinationResponse> {
+    private final RoomCombinationCommandParser parser;
+    private final AvailabilityService availabilityService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "RoomCombination";
+    }
+
+    @Override
+    public CommandParser<RoomCombinationRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(RoomCombinationRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.dateRange = request.dateRange();
+    }
+
+    @Override
+    public RoomCombinationResponse execute(RoomCombinationRequest request) {
+        return availabilityService.checkRoomCombination(request);
+    }
+
+    @Override
+    public String format(RoomCombinationResponse response) {
+        return responseFormatter.formatRoomCombinationResponse(response);
+    }
+
+    @Override
+    public int resultSize(RoomCombinationResponse response) {
+        return response.feasibleDates().size();
+    }
+}
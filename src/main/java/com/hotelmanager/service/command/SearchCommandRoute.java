@@ -0,0 +1,58 @@
+package com.hotelmanager.service.command;
+
+import com.hotelmanager.model.request.SearchRequest;
+import com.hotelmanager.model.response.SearchResponse;
+import com.hotelmanager.parser.CommandParser;
+import com.hotelmanager.parser.SearchCommandParser;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class SearchCommandRoute implements StreamingCommandRoute<SearchRequest, SearchResponse> {
+    private final SearchCommandParser parser;
+    private final AvailabilityService availabilityService;
+    private final ResponseFormatter responseFormatter;
+
+    @Override
+    public String commandType() {
+        return "Search";
+    }
+
+    @Override
+    public CommandParser<SearchRequest> parser() {
+        return parser;
+    }
+
+    @Override
+    public void describe(SearchRequest request, CommandExecutionEvent event) {
+        event.hotelId = request.hotelId();
+        event.roomType = request.roomType();
+        event.dateSpanDays = request.daysAhead();
+    }
+
+    @Override
+    public SearchResponse execute(SearchRequest request) {
+        return availabilityService.searchAvailability(request);
+    }
+
+    @Override
+    public String format(SearchResponse response) {
+        return responseFormatter.formatSearchResponse(response);
+    }
+
+    @Override
+    public int resultSize(SearchResponse response) {
+        return response.totalResults();
+    }
+
+    @Override
+    public int stream(SearchRequest request, Consumer<String> output) {
+        return availabilityService.streamSearchAvailability(request, responseFormatter.searchResultWriter(output));
+    }
+}
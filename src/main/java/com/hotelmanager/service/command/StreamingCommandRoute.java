@@ -0,0 +1,9 @@
+package com.hotelmanager.service.command;
+
+import java.util.function.Consumer;
+
+// A route that can also write its results as they are found, returning how many it wrote
+public interface StreamingCommandRoute<Q, R> extends CommandRoute<Q, R> {
+
+    int stream(Q request, Consumer<String> output);
+}
@@ -0,0 +1,276 @@
+package com.hotelmanager.service.data;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hotelmanager.model.Booking;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/*
+ * Reads a bookings file by its extension: a JSON array, JSON Lines (.ndjson, .jsonl) or CSV with a header row
+ * (.csv), each optionally gzipped (.gz). Line-based files are cut into byte ranges at line boundaries, and each
+ * range is memory-mapped and parsed on the fork/join common pool; bookings keep their file order. Gzipped files
+ * cannot be split, so they are parsed in one pass while PipelinedGzipInputStream inflates ahead of the parser.
+ */
+final class BookingFileReader {
+
+    // Ranges are at least this large, so small files are parsed by the calling thread alone
+    static final int DEFAULT_SPLIT_BYTES = 4 << 20;
+    private static final int MAX_SPLIT_BYTES = 256 << 20;
+    private static final String[] CSV_COLUMNS = {"hotelid", "roomtype", "roomrate", "arrival", "departure"};
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader bookingReader;
+    private final int splitBytes;
+
+    BookingFileReader(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_SPLIT_BYTES);
+    }
+
+    BookingFileReader(ObjectMapper objectMapper, int splitBytes) {
+        this.objectMapper = objectMapper;
+        this.bookingReader = objectMapper.readerFor(Booking.class);
+        this.splitBytes = splitBytes;
+    }
+
+    List<Booking> read(File file) throws IOException {
+        String contentName = PipelinedGzipInputStream.contentName(file).toLowerCase(Locale.ROOT);
+        boolean csv = contentName.endsWith(".csv");
+        boolean jsonLines = contentName.endsWith(".ndjson") || contentName.endsWith(".jsonl");
+        if (PipelinedGzipInputStream.isGzip(file)) {
+            try (InputStream in = new PipelinedGzipInputStream(file)) {
+                if (csv) {
+                    return parseCsv(in, file);
+                }
+                return jsonLines ? parseJsonLines(in) : List.of(objectMapper.readValue(in, Booking[].class));
+            }
+        }
+        if (!csv && !jsonLines) {
+            return List.of(objectMapper.readValue(file, Booking[].class));
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = 0;
+            int[] columns = null;
+            if (csv) {
+                dataStart = nextLineStart(channel, 0, size);
+                columns = csvColumns(new String(readBytes(channel, 0, dataStart), StandardCharsets.UTF_8), file);
+            }
+
+            long[] bounds = splitAtLines(channel, dataStart, size);
+            int[] csvColumns = columns;
+            List<List<Booking>> ranges = IntStream.range(0, bounds.length - 1)
+                    .parallel()
+                    .mapToObj(range -> {
+                        try {
+                            byte[] bytes = readBytes(channel, bounds[range], bounds[range + 1]);
+                            return csv ? parseCsv(bytes, csvColumns, bounds[range], file) : parseJsonLines(bytes);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .toList();
+
+            List<Booking> bookings = new ArrayList<>();
+            ranges.forEach(bookings::addAll);
+            return bookings;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Range boundaries from start to end, each after a line break, so no line is cut
+    private long[] splitAtLines(FileChannel channel, long start, long end) throws IOException {
+        long length = end - start;
+        int cpus = Runtime.getRuntime().availableProcessors();
+        long rangeBytes = Math.min(Math.max(splitBytes, (length + cpus - 1) / cpus), MAX_SPLIT_BYTES);
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(start);
+        long position = start;
+        while (end - position > rangeBytes) {
+            position = nextLineStart(channel, position + rangeBytes, end);
+            if (position < end) {
+                bounds.add(position);
+            }
+        }
+        bounds.add(end);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Position just after the first line break at or after the position, or the end when there is none
+    private static long nextLineStart(FileChannel channel, long position, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (position < end) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return end;
+    }
+
+    private static byte[] readBytes(FileChannel channel, long start, long end) throws IOException {
+        byte[] bytes = new byte[Math.toIntExact(end - start)];
+        if (bytes.length > 0) {
+            channel.map(FileChannel.MapMode.READ_ONLY, start, bytes.length).get(bytes);
+        }
+        return bytes;
+    }
+
+    private List<Booking> parseJsonLines(byte[] bytes) throws IOException {
+        try (MappingIterator<Booking> values = bookingReader.readValues(bytes)) {
+            return collect(values);
+        }
+    }
+
+    private List<Booking> parseJsonLines(InputStream in) throws IOException {
+        try (MappingIterator<Booking> values = bookingReader.readValues(in)) {
+            return collect(values);
+        }
+    }
+
+    private static List<Booking> collect(MappingIterator<Booking> values) throws IOException {
+        List<Booking> bookings = new ArrayList<>();
+        while (values.hasNextValue()) {
+            bookings.add(values.nextValue());
+        }
+        return bookings;
+    }
+
+    // Index of each of the booking columns in the header row
+    private static int[] csvColumns(String header, File file) throws IOException {
+        List<String> names = csvFields(header.strip());
+        int[] columns = new int[CSV_COLUMNS.length];
+        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+            columns[i] = -1;
+            for (int j = 0; j < names.size(); j++) {
+                if (names.get(j).toLowerCase(Locale.ROOT).equals(CSV_COLUMNS[i])) {
+                    columns[i] = j;
+                }
+            }
+            if (columns[i] < 0) {
+                throw new IOException("Missing CSV column " + CSV_COLUMNS[i] + " in the header of " + file);
+            }
+        }
+        return columns;
+    }
+
+    private static List<Booking> parseCsv(byte[] bytes, int[] columns, long offset, File file) throws IOException {
+        List<Booking> bookings = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < bytes.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8).strip();
+            if (!line.isEmpty()) {
+                bookings.add(parseCsvLine(line, columns, "byte " + (offset + lineStart), file));
+            }
+            lineStart = lineEnd + 1;
+        }
+        return bookings;
+    }
+
+    private static List<Booking> parseCsv(InputStream in, File file) throws IOException {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String header = lines.readLine();
+        int[] columns = csvColumns(header == null ? "" : header, file);
+        List<Booking> bookings = new ArrayList<>();
+        int lineNumber = 1;
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                bookings.add(parseCsvLine(line.strip(), columns, "line " + lineNumber, file));
+            }
+        }
+        return bookings;
+    }
+
+    private static Booking parseCsvLine(String line, int[] columns, String location, File file) throws IOException {
+        try {
+            List<String> fields = csvFields(line);
+            return new Booking(
+                    fields.get(columns[0]),
+                    fields.get(columns[1]),
+                    fields.get(columns[2]),
+                    parseDate(fields.get(columns[3])),
+                    parseDate(fields.get(columns[4])));
+        } catch (IndexOutOfBoundsException | IllegalArgumentException | DateTimeException e) {
+            throw new IOException("Malformed booking at " + location + " of " + file + ": " + line, e);
+        }
+    }
+
+    // yyyyMMdd, as in the JSON formats
+    private static LocalDate parseDate(String date) {
+        if (date.length() != 8) {
+            throw new DateTimeException("Expected yyyyMMdd: " + date);
+        }
+        return LocalDate.of(Integer.parseInt(date, 0, 4, 10), Integer.parseInt(date, 4, 6, 10),
+                Integer.parseInt(date, 6, 8, 10));
+    }
+
+    // Fields of a CSV row. A field in double quotes may hold commas and doubled quotes, and keeps its surrounding
+    // spaces; other fields are stripped. Quoted line breaks are not supported, as files are split at line breaks
+    private static List<String> csvFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().strip());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && !wasQuoted && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else if (!wasQuoted) {
+                field.append(c);
+            } else if (!Character.isWhitespace(c)) {
+                throw new IllegalArgumentException("Unexpected text after a quoted field");
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(wasQuoted ? field.toString() : field.toString().strip());
+        return fields;
+    }
+}
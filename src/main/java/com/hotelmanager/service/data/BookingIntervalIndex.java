@@ -0,0 +1,149 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/*
+ * Bookings of one hotel and room type sorted by arrival, read as an implicit balanced tree: the middle of every
+ * slice is its root and maxDeparture holds the latest departure within the slice. Overlap queries skip any slice
+ * that departs too early and everything right of a root arriving too late, so they take O(log n + k).
+ * Inserts and deletes return a copy, like OccupancyCalendar.
+ */
+public final class BookingIntervalIndex {
+
+    public static final BookingIntervalIndex EMPTY = new BookingIntervalIndex(new Booking[0]);
+
+    private static final Comparator<Booking> BY_ARRIVAL =
+            Comparator.comparing(Booking::arrival).thenComparing(Booking::departure);
+
+    private final Booking[] bookings;
+    private final long[] arrivals;
+    private final long[] departures;
+    private final long[] maxDeparture;
+
+    private BookingIntervalIndex(Booking[] sortedBookings) {
+        this.bookings = sortedBookings;
+        this.arrivals = new long[sortedBookings.length];
+        this.departures = new long[sortedBookings.length];
+        this.maxDeparture = new long[sortedBookings.length];
+        for (int i = 0; i < sortedBookings.length; i++) {
+            arrivals[i] = sortedBookings[i].arrival().toEpochDay();
+            departures[i] = sortedBookings[i].departure().toEpochDay();
+        }
+        buildMaxDeparture(0, sortedBookings.length);
+    }
+
+    // Bookings covering no nights can overlap nothing and are left out
+    public static BookingIntervalIndex build(Collection<Booking> bookings) {
+        Booking[] sorted = bookings.stream()
+                .filter(booking -> booking.departure().isAfter(booking.arrival()))
+                .sorted(BY_ARRIVAL)
+                .toArray(Booking[]::new);
+        return sorted.length == 0 ? EMPTY : new BookingIntervalIndex(sorted);
+    }
+
+    public int size() {
+        return bookings.length;
+    }
+
+    public List<Booking> bookings() {
+        return List.of(bookings);
+    }
+
+    // Bookings with a night from startEpochDay to endEpochDay, both inclusive, in arrival order
+    public List<Booking> overlapping(long startEpochDay, long endEpochDay) {
+        List<Booking> matches = new ArrayList<>();
+        collect(0, bookings.length, startEpochDay, endEpochDay + 1, (booking, nights) -> matches.add(booking));
+        return matches;
+    }
+
+    // Passes each overlapping booking with its number of nights inside the range, clipped from the date columns
+    public void forEachOverlapping(long startEpochDay, long endEpochDay, ObjLongConsumer<Booking> consumer) {
+        collect(0, bookings.length, startEpochDay, endEpochDay + 1, consumer);
+    }
+
+    public BookingIntervalIndex withBooking(Booking booking) {
+        if (!booking.departure().isAfter(booking.arrival())) {
+            return this;
+        }
+        int insertAt = Arrays.binarySearch(bookings, booking, BY_ARRIVAL);
+        insertAt = insertAt < 0 ? -insertAt - 1 : insertAt;
+
+        Booking[] updated = new Booking[bookings.length + 1];
+        System.arraycopy(bookings, 0, updated, 0, insertAt);
+        updated[insertAt] = booking;
+        System.arraycopy(bookings, insertAt, updated, insertAt + 1, bookings.length - insertAt);
+        return new BookingIntervalIndex(updated);
+    }
+
+    // Removes one booking equal to the given one; returns this index when there is none
+    public BookingIntervalIndex withoutBooking(Booking booking) {
+        int index = indexOf(booking);
+        if (index < 0) {
+            return this;
+        }
+        if (bookings.length == 1) {
+            return EMPTY;
+        }
+
+        Booking[] updated = new Booking[bookings.length - 1];
+        System.arraycopy(bookings, 0, updated, 0, index);
+        System.arraycopy(bookings, index + 1, updated, index, bookings.length - index - 1);
+        return new BookingIntervalIndex(updated);
+    }
+
+    private int indexOf(Booking booking) {
+        int found = Arrays.binarySearch(bookings, booking, BY_ARRIVAL);
+        if (found < 0) {
+            return -1;
+        }
+        // Equal arrival and departure only differ in the remaining fields, so look either side of the hit
+        for (int i = found; i >= 0 && BY_ARRIVAL.compare(bookings[i], booking) == 0; i--) {
+            if (bookings[i].equals(booking)) {
+                return i;
+            }
+        }
+        for (int i = found + 1; i < bookings.length && BY_ARRIVAL.compare(bookings[i], booking) == 0; i++) {
+            if (bookings[i].equals(booking)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long buildMaxDeparture(int from, int to) {
+        if (from >= to) {
+            return Long.MIN_VALUE;
+        }
+        int root = (from + to) >>> 1;
+        long max = Math.max(departures[root],
+                Math.max(buildMaxDeparture(from, root), buildMaxDeparture(root + 1, to)));
+        maxDeparture[root] = max;
+        return max;
+    }
+
+    private void collect(int from, int to, long start, long endExclusive, ObjLongConsumer<Booking> consumer) {
+        if (from >= to) {
+            return;
+        }
+        int root = (from + to) >>> 1;
+        if (maxDeparture[root] <= start) {
+            return;
+        }
+        collect(from, root, start, endExclusive, consumer);
+        if (arrivals[root] >= endExclusive) {
+            return;
+        }
+        if (departures[root] > start) {
+            consumer.accept(bookings[root],
+                    Math.min(departures[root], endExclusive) - Math.max(arrivals[root], start));
+        }
+        collect(root + 1, to, start, endExclusive, consumer);
+    }
+}
@@ -0,0 +1,157 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/*
+ * Every loaded booking, partitioned by the month of its last night. A partition older than the current month holds
+ * only finished stays, so retention drops whole partitions. Changes copy just the partition they touch and
+ * return a new instance, like the other indexes.
+ */
+public final class BookingPartitions {
+
+    public static final BookingPartitions EMPTY = new BookingPartitions(new TreeMap<>(), 0);
+
+    private final NavigableMap<YearMonth, List<Booking>> partitions;
+    private final int size;
+
+    private BookingPartitions(NavigableMap<YearMonth, List<Booking>> partitions, int size) {
+        this.partitions = partitions;
+        this.size = size;
+    }
+
+    public static BookingPartitions build(Collection<Booking> bookings) {
+        NavigableMap<YearMonth, List<Booking>> partitions = new TreeMap<>();
+        for (Booking booking : bookings) {
+            partitions.computeIfAbsent(partitionOf(booking), month -> new ArrayList<>()).add(booking);
+        }
+        partitions.replaceAll((month, monthBookings) -> List.copyOf(monthBookings));
+        return new BookingPartitions(partitions, bookings.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int partitionCount() {
+        return partitions.size();
+    }
+
+    public List<Booking> all() {
+        List<Booking> all = new ArrayList<>(size);
+        partitions.values().forEach(all::addAll);
+        return Collections.unmodifiableList(all);
+    }
+
+    // Partitions before the month, keyed by month, for archiving ahead of withoutMonthsBefore
+    public NavigableMap<YearMonth, List<Booking>> monthsBefore(YearMonth month) {
+        return Collections.unmodifiableNavigableMap(partitions.headMap(month, false));
+    }
+
+    public BookingPartitions withoutMonthsBefore(YearMonth month) {
+        NavigableMap<YearMonth, List<Booking>> kept = new TreeMap<>(partitions.tailMap(month, true));
+        int keptSize = kept.values().stream().mapToInt(List::size).sum();
+        return new BookingPartitions(kept, keptSize);
+    }
+
+    public BookingPartitions withBooking(Booking booking) {
+        YearMonth month = partitionOf(booking);
+        List<Booking> current = partitions.getOrDefault(month, List.of());
+        List<Booking> updated = new ArrayList<>(current.size() + 1);
+        updated.addAll(current);
+        updated.add(booking);
+
+        NavigableMap<YearMonth, List<Booking>> copy = new TreeMap<>(partitions);
+        copy.put(month, Collections.unmodifiableList(updated));
+        return new BookingPartitions(copy, size + 1);
+    }
+
+    // Removes one booking equal to the given one; returns this instance when there is none
+    public BookingPartitions withoutBooking(Booking booking) {
+        YearMonth month = partitionOf(booking);
+        List<Booking> current = partitions.getOrDefault(month, List.of());
+        int index = current.indexOf(booking);
+        if (index < 0) {
+            return this;
+        }
+
+        NavigableMap<YearMonth, List<Booking>> copy = new TreeMap<>(partitions);
+        if (current.size() == 1) {
+            copy.remove(month);
+        } else {
+            List<Booking> updated = new ArrayList<>(current);
+            updated.remove(index);
+            copy.put(month, Collections.unmodifiableList(updated));
+        }
+        return new BookingPartitions(copy, size - 1);
+    }
+
+    // Adds every booking, copying each touched partition once
+    public BookingPartitions withBookings(Collection<Booking> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+
+        NavigableMap<YearMonth, List<Booking>> copy = new TreeMap<>(partitions);
+        Map<YearMonth, List<Booking>> touched = new HashMap<>();
+        for (Booking booking : added) {
+            touched.computeIfAbsent(partitionOf(booking), month -> new ArrayList<>(copy.getOrDefault(month, List.of())))
+                    .add(booking);
+        }
+        touched.forEach((month, monthBookings) -> copy.put(month, Collections.unmodifiableList(monthBookings)));
+        return new BookingPartitions(copy, size + added.size());
+    }
+
+    // Removes one equal booking for each given one, skipping those with none; each touched partition is filtered once
+    public BookingPartitions withoutBookings(Collection<Booking> removed) {
+        if (removed.isEmpty()) {
+            return this;
+        }
+
+        Map<YearMonth, Map<Booking, Integer>> pending = new HashMap<>();
+        for (Booking booking : removed) {
+            pending.computeIfAbsent(partitionOf(booking), month -> new HashMap<>()).merge(booking, 1, Integer::sum);
+        }
+
+        NavigableMap<YearMonth, List<Booking>> copy = new TreeMap<>(partitions);
+        int removedCount = 0;
+        for (Map.Entry<YearMonth, Map<Booking, Integer>> entry : pending.entrySet()) {
+            List<Booking> current = copy.getOrDefault(entry.getKey(), List.of());
+            Map<Booking, Integer> counts = entry.getValue();
+            List<Booking> kept = new ArrayList<>(current.size());
+            for (Booking booking : current) {
+                Integer count = counts.get(booking);
+                if (count == null) {
+                    kept.add(booking);
+                } else if (count == 1) {
+                    counts.remove(booking);
+                } else {
+                    counts.put(booking, count - 1);
+                }
+            }
+            removedCount += current.size() - kept.size();
+            if (kept.isEmpty()) {
+                copy.remove(entry.getKey());
+            } else if (kept.size() < current.size()) {
+                copy.put(entry.getKey(), Collections.unmodifiableList(kept));
+            }
+        }
+        return new BookingPartitions(copy, size - removedCount);
+    }
+
+    // Bookings covering no nights are filed under their arrival month
+    static YearMonth partitionOf(Booking booking) {
+        LocalDate lastNight = booking.departure().minusDays(1);
+        return YearMonth.from(lastNight.isBefore(booking.arrival()) ? booking.arrival() : lastNight);
+    }
+}
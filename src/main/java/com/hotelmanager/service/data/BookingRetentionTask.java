@@ -0,0 +1,58 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.config.RetentionProperties;
+import com.hotelmanager.exception.BookingSystemException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Re-applies the retention policy while running, so partitions age out without a reload
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingRetentionTask {
+
+    private final HotelDataService hotelDataService;
+    private final RetentionProperties retentionProperties;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        if (!retentionProperties.enabled()) {
+            return;
+        }
+
+        log.info("Applying booking retention every {}", retentionProperties.checkInterval());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = retentionProperties.checkInterval().toMillis();
+        scheduler.scheduleAtFixedRate(this::apply, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void apply() {
+        try {
+            hotelDataService.applyRetention();
+        } catch (BookingSystemException e) {
+            log.warn("Failed to apply booking retention: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // An exception escaping a scheduled run would cancel every later run
+            log.error("Failed to apply booking retention", e);
+        }
+    }
+}
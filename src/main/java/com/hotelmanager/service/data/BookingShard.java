@@ -0,0 +1,35 @@
+package com.hotelmanager.service.data;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+ * One entry of a sharded bookings manifest: a bookings file, relative to the manifest, and what it covers.
+ * Every booking in the file belongs to one of the hotels and has all of its nights from "from" to "to", both
+ * inclusive. Missing hotels cover every hotel and a missing bound leaves that side open.
+ */
+public record BookingShard(
+        String file,
+
+        List<String> hotels,
+
+        @JsonFormat(pattern = "yyyyMMdd")
+        LocalDate from,
+
+        @JsonFormat(pattern = "yyyyMMdd")
+        LocalDate to
+) {
+    public boolean coversAllHotels() {
+        return hotels == null || hotels.isEmpty();
+    }
+
+    // A null hotelId stands for every hotel
+    public boolean covers(String hotelId, LocalDate startDate, LocalDate endDate) {
+        return (hotelId == null || coversAllHotels() || hotels.contains(hotelId))
+                && !startDate.isAfter(endDate)
+                && (from == null || !endDate.isBefore(from))
+                && (to == null || !startDate.isAfter(to));
+    }
+}
@@ -0,0 +1,169 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * The shards of a bookings manifest and which of them are resident. Lookups run without locking on every query,
+ * while HotelDataService loads and evicts shards under its own lock. A shard holding a booking change made since
+ * it was read is pinned, as reading it again would lose the change. A shard a running command has read is held until
+ * the command ends; eviction claims a shard by moving its holds from 0 to EVICTING, so a shard is never dropped while
+ * held and a query that finds it being dropped waits on the lock to read it again.
+ */
+final class BookingShardSet {
+
+    static final String MANIFEST = "manifest.json";
+    private static final int EVICTING = -1;
+
+    private final Path directory;
+    private final List<Shard> shards;
+    private final Map<String, List<Shard>> shardsByHotel = new HashMap<>();
+    private final List<Shard> allHotelShards = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+    private long residentBookings;
+
+    static final class Shard {
+        private final BookingShard descriptor;
+        // Bookings taken from the file, null while the shard is not resident
+        private volatile List<Booking> bookings;
+        private volatile long lastUsed;
+        private final AtomicInteger holds = new AtomicInteger();
+        private boolean pinned;
+
+        private Shard(BookingShard descriptor) {
+            this.descriptor = descriptor;
+        }
+
+        BookingShard descriptor() {
+            return descriptor;
+        }
+
+        List<Booking> bookings() {
+            return bookings;
+        }
+    }
+
+    BookingShardSet(Path directory, List<BookingShard> descriptors) {
+        this.directory = directory;
+        this.shards = descriptors.stream().map(Shard::new).toList();
+        for (Shard shard : shards) {
+            if (shard.descriptor.coversAllHotels()) {
+                allHotelShards.add(shard);
+            } else {
+                shard.descriptor.hotels().forEach(hotelId ->
+                        shardsByHotel.computeIfAbsent(hotelId, id -> new ArrayList<>()).add(shard));
+            }
+        }
+    }
+
+    Path fileOf(Shard shard) {
+        return directory.resolve(shard.descriptor.file());
+    }
+
+    // Marks the shards covering the hotel (every hotel when null) and nights as used and holds them, adding each held
+    // shard to held; true when all are held and resident
+    boolean hold(String hotelId, LocalDate startDate, LocalDate endDate, List<Shard> held) {
+        long now = clock.incrementAndGet();
+        boolean resident = true;
+        for (Shard shard : hotelId == null ? shards : shardsByHotel.getOrDefault(hotelId, List.of())) {
+            resident &= hold(shard, hotelId, startDate, endDate, now, held);
+        }
+        if (hotelId != null) {
+            for (Shard shard : allHotelShards) {
+                resident &= hold(shard, hotelId, startDate, endDate, now, held);
+            }
+        }
+        return resident;
+    }
+
+    private static boolean hold(Shard shard, String hotelId, LocalDate startDate, LocalDate endDate, long now,
+                                List<Shard> held) {
+        if (!shard.descriptor.covers(hotelId, startDate, endDate)) {
+            return true;
+        }
+        shard.lastUsed = now;
+        if (!hold(shard)) {
+            return false;
+        }
+        held.add(shard);
+        return shard.bookings != null;
+    }
+
+    // False while the shard is being evicted
+    static boolean hold(Shard shard) {
+        int holds;
+        do {
+            holds = shard.holds.get();
+            if (holds == EVICTING) {
+                return false;
+            }
+        } while (!shard.holds.compareAndSet(holds, holds + 1));
+        return true;
+    }
+
+    static void release(Shard shard) {
+        shard.holds.decrementAndGet();
+    }
+
+    List<Shard> covering(String hotelId, LocalDate startDate, LocalDate endDate) {
+        return shards.stream().filter(shard -> shard.descriptor.covers(hotelId, startDate, endDate)).toList();
+    }
+
+    void markResident(Shard shard, List<Booking> bookings) {
+        shard.bookings = bookings;
+        residentBookings += bookings.size();
+    }
+
+    void markEvicted(Shard shard) {
+        residentBookings -= shard.bookings.size();
+        shard.bookings = null;
+        shard.holds.set(0);
+    }
+
+    void pin(Shard shard) {
+        shard.pinned = true;
+    }
+
+    // Claims the least recently used resident shards, other than held and pinned ones, to evict to get within the
+    // budget; each must then be passed to markEvicted
+    List<Shard> claimEvictions(long maxResidentBookings) {
+        List<Shard> candidates = shards.stream()
+                .filter(shard -> shard.bookings != null && !shard.pinned)
+                .sorted(Comparator.comparingLong(shard -> shard.lastUsed))
+                .toList();
+
+        List<Shard> evicted = new ArrayList<>();
+        long remaining = residentBookings;
+        for (Shard shard : candidates) {
+            if (remaining <= maxResidentBookings) {
+                break;
+            }
+            if (shard.holds.compareAndSet(0, EVICTING)) {
+                evicted.add(shard);
+                remaining -= shard.bookings.size();
+            }
+        }
+        return evicted;
+    }
+
+    int shardCount() {
+        return shards.size();
+    }
+
+    long residentBookings() {
+        return residentBookings;
+    }
+
+    long residentShards() {
+        return shards.stream().filter(shard -> shard.bookings != null).count();
+    }
+}
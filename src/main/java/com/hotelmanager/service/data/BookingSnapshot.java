@@ -0,0 +1,154 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.Hotel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * The hotels, their bookings and every index derived from them, published together by a single volatile write, so a
+ * reader holding one snapshot never pairs a calendar with a stale sold-out bitmap or booking index. A booking change
+ * returns a new snapshot that copies only the maps on the path to the changed hotel and room type.
+ * Room assignment calendars are built on first use into a cache that belongs to the snapshot.
+ */
+public final class BookingSnapshot {
+
+    public static final BookingSnapshot EMPTY = build(Map.of(), BookingPartitions.EMPTY);
+
+    private final Map<String, Hotel> hotels;
+    private final BookingPartitions bookings;
+    private final Map<String, Map<String, OccupancyCalendar>> occupancy;
+    // Occupancy split by rate plan within each hotel and room type; the totals above are kept as well
+    private final Map<String, Map<String, Map<String, OccupancyCalendar>>> rateOccupancy;
+    private final Map<String, Map<String, BookingIntervalIndex>> intervals;
+    private final HotelAvailabilityIndex availability;
+    private final Map<String, Map<String, RoomAssignmentCalendar>> roomAssignments;
+
+    private BookingSnapshot(Map<String, Hotel> hotels, BookingPartitions bookings,
+                            Map<String, Map<String, OccupancyCalendar>> occupancy,
+                            Map<String, Map<String, Map<String, OccupancyCalendar>>> rateOccupancy,
+                            Map<String, Map<String, BookingIntervalIndex>> intervals,
+                            HotelAvailabilityIndex availability,
+                            Map<String, Map<String, RoomAssignmentCalendar>> roomAssignments) {
+        this.hotels = hotels;
+        this.bookings = bookings;
+        this.occupancy = occupancy;
+        this.rateOccupancy = rateOccupancy;
+        this.intervals = intervals;
+        this.availability = availability;
+        this.roomAssignments = roomAssignments;
+    }
+
+    // Builds every index from the partitions
+    static BookingSnapshot build(Map<String, Hotel> hotels, BookingPartitions bookings) {
+        Map<String, Map<String, List<Booking>>> grouped = bookings.all().stream()
+                .collect(Collectors.groupingBy(Booking::hotelId, Collectors.groupingBy(Booking::roomType)));
+        Map<String, Map<String, OccupancyCalendar>> occupancy = buildIndex(grouped, OccupancyCalendar::build);
+        return new BookingSnapshot(hotels, bookings, occupancy,
+                buildIndex(grouped, BookingSnapshot::buildRateCalendars),
+                buildIndex(grouped, BookingIntervalIndex::build),
+                HotelAvailabilityIndex.build(hotels.values(), occupancy),
+                new ConcurrentHashMap<>());
+    }
+
+    public OccupancyCalendar occupancyCalendar(String hotelId, String roomType) {
+        return occupancy.getOrDefault(hotelId, Map.of()).getOrDefault(roomType, OccupancyCalendar.EMPTY);
+    }
+
+    // Calendars of every booked room type of the hotel, keyed by room type code
+    public Map<String, OccupancyCalendar> occupancyCalendars(String hotelId) {
+        return occupancy.getOrDefault(hotelId, Map.of());
+    }
+
+    // Calendars of every rate plan booked for the room type, keyed by rate
+    public Map<String, OccupancyCalendar> rateOccupancyCalendars(String hotelId, String roomType) {
+        return rateOccupancy.getOrDefault(hotelId, Map.of()).getOrDefault(roomType, Map.of());
+    }
+
+    public BookingIntervalIndex bookingIndex(String hotelId, String roomType) {
+        return intervals.getOrDefault(hotelId, Map.of()).getOrDefault(roomType, BookingIntervalIndex.EMPTY);
+    }
+
+    // Interval indexes of every booked room type of the hotel, keyed by room type code
+    public Map<String, BookingIntervalIndex> bookingIndexes(String hotelId) {
+        return intervals.getOrDefault(hotelId, Map.of());
+    }
+
+    public HotelAvailabilityIndex availabilityIndex() {
+        return availability;
+    }
+
+    Map<String, Hotel> hotels() {
+        return hotels;
+    }
+
+    BookingPartitions bookings() {
+        return bookings;
+    }
+
+    // The snapshot's cache of the hotel's room assignment calendars, keyed by room type code
+    Map<String, RoomAssignmentCalendar> roomAssignments(String hotelId) {
+        return roomAssignments.computeIfAbsent(hotelId, id -> new ConcurrentHashMap<>());
+    }
+
+    // Adds (delta 1) or removes (delta -1) the booking, whose change the partitions already hold. Caches of other
+    // hotels are shared, as their bookings are unchanged
+    BookingSnapshot withChange(BookingPartitions changedBookings, Booking booking, int delta) {
+        String hotelId = booking.hotelId();
+        String roomType = booking.roomType();
+
+        OccupancyCalendar calendar = occupancyCalendar(hotelId, roomType).withBooking(booking, delta);
+        Map<String, OccupancyCalendar> rates = new HashMap<>(rateOccupancyCalendars(hotelId, roomType));
+        rates.put(booking.rateKey(),
+                rates.getOrDefault(booking.rateKey(), OccupancyCalendar.EMPTY).withBooking(booking, delta));
+        BookingIntervalIndex index = bookingIndex(hotelId, roomType);
+
+        Map<String, Map<String, RoomAssignmentCalendar>> assignments = new ConcurrentHashMap<>(roomAssignments);
+        Map<String, RoomAssignmentCalendar> hotelAssignments = roomAssignments.get(hotelId);
+        if (hotelAssignments != null) {
+            Map<String, RoomAssignmentCalendar> kept = new ConcurrentHashMap<>(hotelAssignments);
+            kept.remove(roomType);
+            assignments.put(hotelId, kept);
+        }
+
+        return new BookingSnapshot(hotels, changedBookings,
+                with(occupancy, hotelId, roomType, calendar),
+                with(rateOccupancy, hotelId, roomType, rates),
+                with(intervals, hotelId, roomType, delta > 0 ? index.withBooking(booking) : index.withoutBooking(booking)),
+                availability.withBooking(booking, calendar),
+                assignments);
+    }
+
+    private static <T> Map<String, Map<String, T>> with(Map<String, Map<String, T>> index, String hotelId,
+                                                        String roomType, T value) {
+        Map<String, T> entries = new HashMap<>(index.getOrDefault(hotelId, Map.of()));
+        entries.put(roomType, value);
+        Map<String, Map<String, T>> copy = new HashMap<>(index);
+        copy.put(hotelId, entries);
+        return copy;
+    }
+
+    private static Map<String, OccupancyCalendar> buildRateCalendars(List<Booking> roomTypeBookings) {
+        Map<String, OccupancyCalendar> byRate = new HashMap<>();
+        roomTypeBookings.stream()
+                .collect(Collectors.groupingBy(Booking::rateKey))
+                .forEach((rate, rateBookings) -> byRate.put(rate, OccupancyCalendar.build(rateBookings)));
+        return byRate;
+    }
+
+    private static <T> Map<String, Map<String, T>> buildIndex(Map<String, Map<String, List<Booking>>> grouped,
+                                                             Function<List<Booking>, T> builder) {
+        Map<String, Map<String, T>> index = new HashMap<>();
+        grouped.forEach((hotelId, byRoomType) -> {
+            Map<String, T> entries = new HashMap<>();
+            byRoomType.forEach((roomType, roomTypeBookings) -> entries.put(roomType, builder.apply(roomTypeBookings)));
+            index.put(hotelId, entries);
+        });
+        return index;
+    }
+}
@@ -0,0 +1,213 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.RoomType;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/*
+ * Inverted index from night to the hotels with no room of a type left, so portfolio-wide queries intersect bitmaps
+ * instead of visiting every hotel. Hotels are numbered in id order, and only nights on which some hotel is sold out
+ * store a bitmap. A booking change returns a new index sharing everything but the changed room type, so a published
+ * index is never modified and readers need no locking.
+ * Each room type also maps its amenities and features to the hotels offering them, fixed until the next load.
+ */
+public final class HotelAvailabilityIndex {
+
+    public static final HotelAvailabilityIndex EMPTY = new HotelAvailabilityIndex(List.of(), Map.of(), Map.of());
+
+    private final List<String> hotelIds;
+    private final Map<String, Integer> ordinals;
+    private final Map<String, RoomTypeIndex> roomTypes;
+
+    private HotelAvailabilityIndex(List<String> hotelIds, Map<String, Integer> ordinals,
+                                   Map<String, RoomTypeIndex> roomTypes) {
+        this.hotelIds = hotelIds;
+        this.ordinals = ordinals;
+        this.roomTypes = roomTypes;
+    }
+
+    public static HotelAvailabilityIndex build(Collection<Hotel> hotels,
+                                               Map<String, Map<String, OccupancyCalendar>> occupancy) {
+        List<String> hotelIds = hotels.stream().map(Hotel::getId).sorted().toList();
+        Map<String, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < hotelIds.size(); i++) {
+            ordinals.put(hotelIds.get(i), i);
+        }
+
+        Map<String, RoomTypeIndex> roomTypes = new TreeMap<>();
+        for (Hotel hotel : hotels) {
+            int ordinal = ordinals.get(hotel.getId());
+            hotel.getTotalRoomsByType().forEach((roomType, capacity) ->
+                    roomTypes.computeIfAbsent(roomType, type -> new RoomTypeIndex(hotelIds.size()))
+                            .capacity[ordinal] = capacity);
+        }
+        for (Hotel hotel : hotels) {
+            if (hotel.getRoomTypes() == null) {
+                continue;
+            }
+            int ordinal = ordinals.get(hotel.getId());
+            for (RoomType roomType : hotel.getRoomTypes()) {
+                RoomTypeIndex index = roomTypes.get(roomType.code());
+                if (index != null && index.capacity[ordinal] > 0) {
+                    roomType.attributes().forEach(attribute -> index.hotelsByAttribute
+                            .computeIfAbsent(attribute, key -> new BitSet(hotelIds.size())).set(ordinal));
+                }
+            }
+        }
+
+        occupancy.forEach((hotelId, calendars) -> {
+            Integer ordinal = ordinals.get(hotelId);
+            if (ordinal == null) {
+                return;
+            }
+            calendars.forEach((roomType, calendar) -> {
+                RoomTypeIndex index = roomTypes.get(roomType);
+                if (index != null) {
+                    index.markSoldOut(ordinal, calendar);
+                }
+            });
+        });
+        return new HotelAvailabilityIndex(hotelIds, ordinals, roomTypes);
+    }
+
+    // Hotels with at least minCapacity rooms of the type and at least one of them free on every night in the range
+    public BitSet availableHotels(String roomType, long startEpochDay, long endEpochDay, int minCapacity) {
+        RoomTypeIndex index = roomTypes.get(roomType);
+        BitSet available = new BitSet(hotelIds.size());
+        if (index == null) {
+            return available;
+        }
+
+        for (int ordinal = 0; ordinal < index.capacity.length; ordinal++) {
+            if (index.capacity[ordinal] >= Math.max(minCapacity, 1)) {
+                available.set(ordinal);
+            }
+        }
+        for (BitSet soldOut : index.soldOut.subMap(startEpochDay, true, endEpochDay, true).values()) {
+            available.andNot(soldOut);
+            if (available.isEmpty()) {
+                break;
+            }
+        }
+        return available;
+    }
+
+    // Hotels whose rooms of the type carry every attribute, empty when any attribute is unknown
+    public BitSet hotelsWithAttributes(String roomType, Collection<String> attributes) {
+        RoomTypeIndex index = roomTypes.get(roomType);
+        BitSet matching = null;
+        for (String attribute : attributes) {
+            BitSet hotels = index == null ? null : index.hotelsByAttribute.get(RoomType.normalizeAttribute(attribute));
+            if (hotels == null) {
+                return new BitSet();
+            }
+            if (matching == null) {
+                matching = (BitSet) hotels.clone();
+            } else {
+                matching.and(hotels);
+            }
+        }
+        return matching == null ? new BitSet() : matching;
+    }
+
+    // Codes, in order, of the hotel's room types carrying every attribute
+    public List<String> roomTypesWithAttributes(String hotelId, Collection<String> attributes) {
+        Integer ordinal = ordinals.get(hotelId);
+        if (ordinal == null) {
+            return List.of();
+        }
+        return roomTypes.entrySet().stream()
+                .filter(entry -> attributes.stream().allMatch(attribute -> {
+                    BitSet hotels = entry.getValue().hotelsByAttribute.get(RoomType.normalizeAttribute(attribute));
+                    return hotels != null && hotels.get(ordinal);
+                }))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public Collection<String> roomTypeCodes() {
+        return roomTypes.keySet();
+    }
+
+    public String hotelId(int ordinal) {
+        return hotelIds.get(ordinal);
+    }
+
+    public int capacity(String roomType, int ordinal) {
+        RoomTypeIndex index = roomTypes.get(roomType);
+        return index == null ? 0 : index.capacity[ordinal];
+    }
+
+    // Returns an index with the nights of a changed booking re-evaluated against the hotel's updated calendar, or this
+    // index when no night changes
+    HotelAvailabilityIndex withBooking(Booking booking, OccupancyCalendar calendar) {
+        Integer ordinal = ordinals.get(booking.hotelId());
+        RoomTypeIndex index = roomTypes.get(booking.roomType());
+        if (ordinal == null || index == null || index.capacity[ordinal] == 0) {
+            return this;
+        }
+
+        NavigableMap<Long, BitSet> soldOut = null;
+        for (long day = booking.arrival().toEpochDay(); day < booking.departure().toEpochDay(); day++) {
+            boolean full = calendar.occupiedOn(day) >= index.capacity[ordinal];
+            BitSet current = index.soldOut.get(day);
+            if ((current != null && current.get(ordinal)) == full) {
+                continue;
+            }
+
+            if (soldOut == null) {
+                soldOut = new TreeMap<>(index.soldOut);
+            }
+            BitSet updated = current == null ? new BitSet(hotelIds.size()) : (BitSet) current.clone();
+            updated.set(ordinal, full);
+            if (updated.isEmpty()) {
+                soldOut.remove(day);
+            } else {
+                soldOut.put(day, updated);
+            }
+        }
+        if (soldOut == null) {
+            return this;
+        }
+
+        Map<String, RoomTypeIndex> updatedRoomTypes = new TreeMap<>(roomTypes);
+        updatedRoomTypes.put(booking.roomType(), new RoomTypeIndex(index.capacity, index.hotelsByAttribute, soldOut));
+        return new HotelAvailabilityIndex(hotelIds, ordinals, updatedRoomTypes);
+    }
+
+    private static final class RoomTypeIndex {
+        private final int[] capacity;
+        private final Map<String, BitSet> hotelsByAttribute;
+        private final NavigableMap<Long, BitSet> soldOut;
+
+        private RoomTypeIndex(int hotelCount) {
+            this(new int[hotelCount], new HashMap<>(), new TreeMap<>());
+        }
+
+        private RoomTypeIndex(int[] capacity, Map<String, BitSet> hotelsByAttribute, NavigableMap<Long, BitSet> soldOut) {
+            this.capacity = capacity;
+            this.hotelsByAttribute = hotelsByAttribute;
+            this.soldOut = soldOut;
+        }
+
+        // Only used while building, before the index is published
+        private void markSoldOut(int ordinal, OccupancyCalendar calendar) {
+            if (capacity[ordinal] == 0) {
+                return;
+            }
+            calendar.forEachNight((day, occupied) -> {
+                if (occupied >= capacity[ordinal]) {
+                    soldOut.computeIfAbsent(day, night -> new BitSet(capacity.length)).set(ordinal);
+                }
+            });
+        }
+    }
+}
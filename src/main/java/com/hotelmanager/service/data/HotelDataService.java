@@ -1,22 +1,38 @@
 package com.hotelmanager.service.data;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.config.BookingShardProperties;
+import com.hotelmanager.config.HotelLoadProperties;
+import com.hotelmanager.config.RetentionProperties;
 import com.hotelmanager.exception.DataLoadException;
 import com.hotelmanager.model.Booking;
 import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.Room;
+import com.hotelmanager.service.monitoring.DataLoadEvent;
+import com.hotelmanager.util.CommandDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,11 +41,29 @@ import java.util.stream.Collectors;
 public class HotelDataService {
 
     private final ObjectMapper objectMapper;
-    private final Map<String, Hotel> hotels = new HashMap<>();
-    private final List<Booking> bookings = new ArrayList<>();
-    private boolean initialized = false;
+    private final RetentionProperties retentionProperties;
+    private final BookingShardProperties shardProperties;
+    private final HotelLoadProperties hotelLoadProperties;
+
+    // Each load and each booking change publishes a whole new snapshot, so concurrent readers never see partial state
+    private volatile BookingSnapshot snapshot = BookingSnapshot.EMPTY;
+    // Hotels re-read with their rooms and descriptions after a projecting load, on first use
+    private volatile Map<String, Hotel> hotelDetails = new ConcurrentHashMap<>();
+    // Set when the bookings come from a sharded directory, whose shards are read the first time a query needs them
+    private volatile BookingShardSet shardSet;
+    private volatile boolean initialized = false;
+    private String loadedHotelsFile;
+    // Modification time and size of the hotels file when loaded, so details are never read from a different file
+    private volatile HotelsFileVersion loadedHotelsVersion;
+    private String loadedBookingsFile;
+    private Predicate<String> loadedHotelFilter;
 
     public void loadFromFiles(String hotelsFile, String bookingsFile) {
+        loadFromFiles(hotelsFile, bookingsFile, hotelId -> true);
+    }
+
+    // Only hotels accepted by the filter, and their bookings, are kept; sharded workers load just their partition
+    public synchronized void loadFromFiles(String hotelsFile, String bookingsFile, Predicate<String> hotelFilter) {
         log.info("Loading hotel data from: {}", hotelsFile);
         log.info("Loading booking data from: {}", bookingsFile);
 
@@ -37,21 +71,43 @@ public class HotelDataService {
             validateFiles(hotelsFile, bookingsFile);
 
             // Load hotels
-            Hotel[] hotelArray = objectMapper.readValue(new File(hotelsFile), Hotel[].class);
-            hotels.clear();
-            for (Hotel hotel : hotelArray) {
-                hotels.put(hotel.getId(), hotel);
+            HotelsFileVersion hotelsVersion = HotelsFileVersion.of(new File(hotelsFile));
+            DataLoadEvent hotelsEvent = beginLoadEvent(hotelsFile, "hotels");
+            long parseStart = System.nanoTime();
+            List<Hotel> hotelList = isProjecting()
+                    ? new HotelProjectionReader(objectMapper).read(new File(hotelsFile))
+                    : List.of(readHotels(new File(hotelsFile)));
+            long indexStart = System.nanoTime();
+            Map<String, Hotel> loadedHotels = new HashMap<>();
+            for (Hotel hotel : hotelList) {
+                if (!hotelFilter.test(hotel.getId())) {
+                    continue;
+                }
+                loadedHotels.put(hotel.getId(), hotel);
                 log.debug("Loaded hotel: {} with {} room types and {} rooms",
-                        hotel.getId(), hotel.getRoomTypes().size(), hotel.getRooms().size());
+                        hotel.getId(), hotel.getRoomTypes().size(), hotel.getTotalRooms());
             }
+            commitLoadEvent(hotelsEvent, hotelList.size(), parseStart, indexStart);
 
-            // Load bookings
-            Booking[] bookingArray = objectMapper.readValue(new File(bookingsFile), Booking[].class);
-            bookings.clear();
-            bookings.addAll(Arrays.asList(bookingArray));
+            // Load bookings, or just the manifest of a sharded directory
+            if (new File(bookingsFile).isDirectory()) {
+                BookingShardSet loadedShards = readManifest(new File(bookingsFile));
+                shardSet = loadedShards;
+                snapshot = BookingSnapshot.build(loadedHotels, BookingPartitions.EMPTY);
+                log.info("Registered {} booking shards, read on first use", loadedShards.shardCount());
+            } else {
+                shardSet = null;
+                snapshot = BookingSnapshot.build(loadedHotels, readBookings(bookingsFile, hotelFilter));
+            }
 
+            hotelDetails = new ConcurrentHashMap<>();
+            loadedHotelsFile = hotelsFile;
+            loadedHotelsVersion = hotelsVersion;
+            loadedBookingsFile = bookingsFile;
+            loadedHotelFilter = hotelFilter;
             initialized = true;
-            log.info("Successfully loaded {} hotels and {} bookings", hotels.size(), bookings.size());
+            log.info("Successfully loaded {} hotels and {} bookings",
+                    snapshot.hotels().size(), snapshot.bookings().size());
 
         } catch (IOException e) {
             log.error("Failed to load data files", e);
@@ -59,6 +115,54 @@ public class HotelDataService {
         }
     }
 
+    private Hotel[] readHotels(File hotelsFile) throws IOException {
+        if (!PipelinedGzipInputStream.isGzip(hotelsFile)) {
+            return objectMapper.readValue(hotelsFile, Hotel[].class);
+        }
+        try (InputStream in = new PipelinedGzipInputStream(hotelsFile)) {
+            return objectMapper.readValue(in, Hotel[].class);
+        }
+    }
+
+    private BookingPartitions readBookings(String bookingsFile, Predicate<String> hotelFilter) throws IOException {
+        DataLoadEvent bookingsEvent = beginLoadEvent(bookingsFile, "bookings");
+        long parseStart = System.nanoTime();
+        List<Booking> bookingList = new BookingFileReader(objectMapper).read(new File(bookingsFile));
+        long indexStart = System.nanoTime();
+        List<Booking> loadedBookings = new ArrayList<>();
+        for (Booking booking : bookingList) {
+            if (hotelFilter.test(booking.hotelId())) {
+                loadedBookings.add(booking);
+            }
+        }
+        BookingPartitions partitions = BookingPartitions.build(loadedBookings);
+        if (retentionProperties.enabled()) {
+            partitions = retain(partitions, LocalDate.now());
+        }
+        commitLoadEvent(bookingsEvent, bookingList.size(), parseStart, indexStart);
+        return partitions;
+    }
+
+    private DataLoadEvent beginLoadEvent(String file, String kind) {
+        DataLoadEvent event = new DataLoadEvent();
+        event.begin();
+        event.file = file;
+        event.kind = kind;
+        return event;
+    }
+
+    private void commitLoadEvent(DataLoadEvent event, int records, long parseStart, long indexStart) {
+        long now = System.nanoTime();
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = new File(event.file).length();
+            event.records = records;
+            event.parseNanos = indexStart - parseStart;
+            event.indexBuildNanos = now - indexStart;
+            event.commit();
+        }
+    }
+
     private void validateFiles(String hotelsFile, String bookingsFile) {
         File hotelFileObj = new File(hotelsFile);
         File bookingFileObj = new File(bookingsFile);
@@ -70,16 +174,58 @@ public class HotelDataService {
         if (!bookingFileObj.exists() || !bookingFileObj.canRead()) {
             throw new DataLoadException("Bookings file not found or not readable: " + bookingsFile);
         }
+
+        if (bookingFileObj.isDirectory() && !new File(bookingFileObj, BookingShardSet.MANIFEST).canRead()) {
+            throw new DataLoadException("Bookings manifest not found or not readable: "
+                    + new File(bookingFileObj, BookingShardSet.MANIFEST));
+        }
+    }
+
+    private BookingShardSet readManifest(File directory) throws IOException {
+        BookingShard[] descriptors = objectMapper.readValue(new File(directory, BookingShardSet.MANIFEST),
+                BookingShard[].class);
+        for (BookingShard descriptor : descriptors) {
+            if (descriptor.file() == null || !new File(directory, descriptor.file()).canRead()) {
+                throw new DataLoadException("Booking shard not found or not readable: " + descriptor.file());
+            }
+        }
+        return new BookingShardSet(directory.toPath(), List.of(descriptors));
     }
 
     public Optional<Hotel> findHotelById(String hotelId) {
         ensureInitialized();
-        return Optional.ofNullable(hotels.get(hotelId));
+        return Optional.ofNullable(snapshot.hotels().get(hotelId));
     }
 
-    public List<Booking> findBookingsForDate(String hotelId, String roomType, LocalDate date) {
+    // The hotel with its rooms and descriptions, which a projecting load leaves out and reads here only when asked.
+    // The file is read outside the cache, so a slow read never blocks lookups of other hotels; two first lookups of
+    // the same hotel may both read it
+    public Optional<Hotel> findHotelDetails(String hotelId) {
         ensureInitialized();
-        return bookings.stream()
+        Hotel hotel = snapshot.hotels().get(hotelId);
+        if (hotel == null || !isProjecting()) {
+            return Optional.ofNullable(hotel);
+        }
+
+        Map<String, Hotel> details = hotelDetails;
+        Hotel cached = details.get(hotelId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Hotel read = readHotelDetails(hotelId, loadedHotelsVersion);
+        Hotel raced = details.putIfAbsent(hotelId, read);
+        return Optional.of(raced != null ? raced : read);
+    }
+
+    public Collection<Hotel> findAllHotels() {
+        ensureInitialized();
+        return Collections.unmodifiableCollection(snapshot.hotels().values());
+    }
+
+    // A plain scan of every booking that bypasses the indexes, so the reference engine built on it can check them
+    public List<Booking> findBookingsForDate(String hotelId, String roomType, LocalDate date) {
+        loadBookings(hotelId, date, date);
+        return snapshot.bookings().all().stream()
                 .filter(booking -> booking.hotelId().equals(hotelId) &&
                         booking.roomType().equals(roomType) &&
                         !date.isBefore(booking.arrival()) &&
@@ -87,6 +233,323 @@ public class HotelDataService {
                 .collect(Collectors.toList());
     }
 
+    // Bookings with at least one night from startDate to endDate, both inclusive, in arrival order
+    public List<Booking> findBookingsOverlapping(String hotelId, String roomType, LocalDate startDate,
+                                                 LocalDate endDate) {
+        loadBookings(hotelId, startDate, endDate);
+        return snapshot.bookingIndex(hotelId, roomType)
+                .overlapping(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    // Interval indexes of every booked room type of the hotel, keyed by room type code
+    public Map<String, BookingIntervalIndex> getBookingIndexes(String hotelId) {
+        ensureInitialized();
+        return snapshot.bookingIndexes(hotelId);
+    }
+
+    public OccupancyCalendar getOccupancyCalendar(String hotelId, String roomType) {
+        ensureInitialized();
+        return snapshot.occupancyCalendar(hotelId, roomType);
+    }
+
+    // Calendars of every rate plan booked for the room type, keyed by rate
+    public Map<String, OccupancyCalendar> getRateOccupancyCalendars(String hotelId, String roomType) {
+        ensureInitialized();
+        return snapshot.rateOccupancyCalendars(hotelId, roomType);
+    }
+
+    // Calendars of every booked room type of the hotel, keyed by room type code
+    public Map<String, OccupancyCalendar> getOccupancyCalendars(String hotelId) {
+        ensureInitialized();
+        return snapshot.occupancyCalendars(hotelId);
+    }
+
+    // Room assignment replays every booking of the room type, so all of the hotel's shards are read first. The room ids
+    // are resolved before the compute, so a projecting load never reads the hotels file while holding the map's lock
+    public RoomAssignmentCalendar getRoomAssignmentCalendar(String hotelId, String roomType) {
+        loadBookings(hotelId, LocalDate.MIN, LocalDate.MAX);
+        BookingSnapshot current = snapshot;
+        Map<String, RoomAssignmentCalendar> assignments = current.roomAssignments(hotelId);
+        RoomAssignmentCalendar cached = assignments.get(roomType);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> roomIds = findHotelDetails(hotelId).map(Hotel::getRooms).orElse(List.of()).stream()
+                .filter(room -> room.roomType().equals(roomType))
+                .map(Room::roomId)
+                .toList();
+        return assignments.computeIfAbsent(roomType, type -> buildRoomAssignmentCalendar(current, hotelId, roomType, roomIds));
+    }
+
+    public HotelAvailabilityIndex getAvailabilityIndex() {
+        ensureInitialized();
+        return snapshot.availabilityIndex();
+    }
+
+    // For queries combining several indexes, which must all come from the same snapshot
+    public BookingSnapshot getBookingSnapshot() {
+        ensureInitialized();
+        return snapshot;
+    }
+
+    // Reads the shards of a sharded bookings directory that cover the hotel and the nights from startDate to endDate
+    // and are not resident yet. Calendars and indexes hold only resident shards, so queries call this first, once for
+    // everything the command reads; it does nothing when the bookings came from a single file
+    public void loadBookings(String hotelId, LocalDate startDate, LocalDate endDate) {
+        ensureInitialized();
+        holdShards(hotelId, startDate, endDate);
+    }
+
+    // As loadBookings, for every hotel
+    public void loadAllBookings(LocalDate startDate, LocalDate endDate) {
+        ensureInitialized();
+        holdShards(null, startDate, endDate);
+    }
+
+    // The covering shards stay held, and so resident, until the running command ends, so that neither a later load of
+    // the same command nor a concurrent query evicts them before they are read. Outside a command they are released
+    // once loaded
+    private void holdShards(String hotelId, LocalDate startDate, LocalDate endDate) {
+        BookingShardSet shards = shardSet;
+        if (shards == null) {
+            return;
+        }
+
+        List<BookingShardSet.Shard> held = new ArrayList<>();
+        try {
+            if (!shards.hold(hotelId, startDate, endDate, held)) {
+                loadShards(hotelId, startDate, endDate, held);
+            }
+        } finally {
+            if (!CommandDeadline.onClose(() -> held.forEach(BookingShardSet::release))) {
+                held.forEach(BookingShardSet::release);
+            }
+        }
+    }
+
+    public long getResidentBookingShards() {
+        ensureInitialized();
+        BookingShardSet shards = shardSet;
+        return shards == null ? 0 : shards.residentShards();
+    }
+
+    // Re-reads the files of the last load with the same hotel filter
+    public synchronized void reload() {
+        ensureInitialized();
+        loadFromFiles(loadedHotelsFile, loadedBookingsFile, loadedHotelFilter);
+    }
+
+    public synchronized void addBooking(Booking booking) {
+        ensureInitialized();
+        pinShardsOf(booking);
+        BookingSnapshot current = snapshot;
+        snapshot = current.withChange(current.bookings().withBooking(booking), booking, 1);
+    }
+
+    public synchronized boolean cancelBooking(Booking booking) {
+        ensureInitialized();
+        pinShardsOf(booking);
+        BookingSnapshot current = snapshot;
+        BookingPartitions updated = current.bookings().withoutBooking(booking);
+        if (updated == current.bookings()) {
+            return false;
+        }
+
+        snapshot = current.withChange(updated, booking, -1);
+        return true;
+    }
+
+    public int getBookingPartitionCount() {
+        ensureInitialized();
+        return snapshot.bookings().partitionCount();
+    }
+
+    public synchronized int applyRetention() {
+        return applyRetentionAsOf(LocalDate.now());
+    }
+
+    // Drops, after archiving when configured, the partitions outside the retention window and re-indexes the rest
+    public synchronized int applyRetentionAsOf(LocalDate today) {
+        if (!initialized || !retentionProperties.enabled()) {
+            return 0;
+        }
+
+        BookingSnapshot current = snapshot;
+        BookingPartitions retained = retain(current.bookings(), today);
+        int dropped = current.bookings().size() - retained.size();
+        if (dropped > 0) {
+            snapshot = BookingSnapshot.build(current.hotels(), retained);
+        }
+        return dropped;
+    }
+
+    private BookingPartitions retain(BookingPartitions partitions, LocalDate today) {
+        YearMonth firstKept = firstRetainedMonth(today);
+        Map<YearMonth, List<Booking>> expired = partitions.monthsBefore(firstKept);
+        if (expired.isEmpty()) {
+            return partitions;
+        }
+
+        if (!retentionProperties.archiveDirectory().isBlank()) {
+            expired.forEach(this::archive);
+        }
+        BookingPartitions retained = partitions.withoutMonthsBefore(firstKept);
+        log.info("Retention dropped {} bookings in {} partitions before {}",
+                partitions.size() - retained.size(), expired.size(), firstKept);
+        return retained;
+    }
+
+    private YearMonth firstRetainedMonth(LocalDate today) {
+        return YearMonth.from(today).minusMonths(Math.max(retentionProperties.pastMonths(), 0));
+    }
+
+    // Holds and reads the missing covering shards, then evicts the least recently used unheld others beyond the
+    // budget, and re-indexes. Evictions are claimed under this lock, so every covering shard can be held here
+    private synchronized void loadShards(String hotelId, LocalDate startDate, LocalDate endDate,
+                                         List<BookingShardSet.Shard> held) {
+        BookingShardSet shards = shardSet;
+        if (shards == null) {
+            return;
+        }
+
+        List<BookingShardSet.Shard> covering = shards.covering(hotelId, startDate, endDate);
+        Set<BookingShardSet.Shard> alreadyHeld = new HashSet<>(held);
+        List<Booking> loaded = new ArrayList<>();
+        int loadedShards = 0;
+        for (BookingShardSet.Shard shard : covering) {
+            if (!alreadyHeld.contains(shard) && BookingShardSet.hold(shard)) {
+                held.add(shard);
+            }
+            if (shard.bookings() == null) {
+                List<Booking> shardBookings = readShard(shards, shard);
+                shards.markResident(shard, shardBookings);
+                loaded.addAll(shardBookings);
+                loadedShards++;
+            }
+        }
+        if (loadedShards == 0) {
+            return;
+        }
+
+        List<Booking> evicted = new ArrayList<>();
+        List<BookingShardSet.Shard> evictedShards = shards.claimEvictions(shardProperties.maxResidentBookings());
+        for (BookingShardSet.Shard shard : evictedShards) {
+            evicted.addAll(shard.bookings());
+            shards.markEvicted(shard);
+        }
+        BookingSnapshot current = snapshot;
+        snapshot = BookingSnapshot.build(current.hotels(), current.bookings().withoutBookings(evicted).withBookings(loaded));
+
+        log.info("Loaded {} booking shards with {} bookings and evicted {}; {} bookings in {} shards resident",
+                loadedShards, loaded.size(), evictedShards.size(), shards.residentBookings(), shards.residentShards());
+        if (shards.residentBookings() > shardProperties.maxResidentBookings()) {
+            log.warn("Booking shards in use exceed the resident budget of {} bookings",
+                    shardProperties.maxResidentBookings());
+        }
+    }
+
+    private List<Booking> readShard(BookingShardSet shards, BookingShardSet.Shard shard) {
+        File file = shards.fileOf(shard).toFile();
+        DataLoadEvent event = beginLoadEvent(file.getPath(), "bookings-shard");
+        long parseStart = System.nanoTime();
+        List<Booking> shardList;
+        try {
+            shardList = new BookingFileReader(objectMapper).read(file);
+        } catch (IOException e) {
+            log.error("Failed to load booking shard {}", file, e);
+            throw new DataLoadException("Failed to load booking shard " + file + ": " + e.getMessage(), e);
+        }
+
+        long indexStart = System.nanoTime();
+        YearMonth firstKept = retentionProperties.enabled() ? firstRetainedMonth(LocalDate.now()) : null;
+        List<Booking> shardBookings = new ArrayList<>(shardList.size());
+        int uncovered = 0;
+        for (Booking booking : shardList) {
+            if (!loadedHotelFilter.test(booking.hotelId())
+                    || (firstKept != null && BookingPartitions.partitionOf(booking).isBefore(firstKept))) {
+                continue;
+            }
+            if (booking.departure().isAfter(booking.arrival()) && !shard.descriptor()
+                    .covers(booking.hotelId(), booking.arrival(), booking.departure().minusDays(1))) {
+                uncovered++;
+            }
+            shardBookings.add(booking);
+        }
+        if (uncovered > 0) {
+            log.warn("Booking shard {} holds {} bookings outside its manifest entry; queries may miss them",
+                    file, uncovered);
+        }
+        commitLoadEvent(event, shardList.size(), parseStart, indexStart);
+        return shardBookings;
+    }
+
+    // A change needs every shard covering its nights resident, and pinned so eviction cannot discard it
+    private void pinShardsOf(Booking booking) {
+        BookingShardSet shards = shardSet;
+        if (shards == null || !booking.departure().isAfter(booking.arrival())) {
+            return;
+        }
+
+        LocalDate lastNight = booking.departure().minusDays(1);
+        holdShards(booking.hotelId(), booking.arrival(), lastNight);
+        shards.covering(booking.hotelId(), booking.arrival(), lastNight).forEach(shards::pin);
+    }
+
+    private void archive(YearMonth month, List<Booking> monthBookings) {
+        File target = new File(retentionProperties.archiveDirectory(), "bookings-" + month + ".json");
+        try {
+            Files.createDirectories(target.toPath().toAbsolutePath().getParent());
+            objectMapper.writeValue(target, monthBookings);
+        } catch (IOException e) {
+            throw new DataLoadException("Failed to archive bookings to " + target + ": " + e.getMessage(), e);
+        }
+    }
+
+    private RoomAssignmentCalendar buildRoomAssignmentCalendar(BookingSnapshot current, String hotelId, String roomType,
+                                                               List<String> roomIds) {
+        List<Booking> roomTypeBookings = current.bookingIndex(hotelId, roomType).bookings();
+
+        RoomAssignmentCalendar calendar = RoomAssignmentCalendar.build(roomIds, roomTypeBookings);
+        if (calendar.unassignedBookings() > 0) {
+            log.warn("Overbooked: hotelId={}, roomType={}, bookings without a room={}",
+                    hotelId, roomType, calendar.unassignedBookings());
+        }
+        return calendar;
+    }
+
+    private boolean isProjecting() {
+        return hotelLoadProperties.loader() == HotelLoadProperties.Loader.PROJECTING;
+    }
+
+    // The file is checked before and after the read, as details from a replaced file could contradict the projection
+    private Hotel readHotelDetails(String hotelId, HotelsFileVersion version) {
+        File file = version.file();
+        try {
+            version.ensureUnchanged();
+            Hotel details = new HotelProjectionReader(objectMapper).readDetails(file, hotelId)
+                    .orElseThrow(() -> new DataLoadException("Hotel " + hotelId + " no longer in " + file));
+            version.ensureUnchanged();
+            return details;
+        } catch (IOException e) {
+            log.error("Failed to read details of hotel {}", hotelId, e);
+            throw new DataLoadException("Failed to load details of hotel " + hotelId + ": " + e.getMessage(), e);
+        }
+    }
+
+    private record HotelsFileVersion(File file, FileTime lastModified, long size) {
+
+        static HotelsFileVersion of(File file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            return new HotelsFileVersion(file, attributes.lastModifiedTime(), attributes.size());
+        }
+
+        void ensureUnchanged() throws IOException {
+            HotelsFileVersion current = of(file);
+            if (!current.lastModified.equals(lastModified) || current.size != size) {
+                throw new DataLoadException("Hotels file " + file + " changed since it was loaded; Reload() to read it");
+            }
+        }
+    }
 
     private void ensureInitialized() {
         if (!initialized) {
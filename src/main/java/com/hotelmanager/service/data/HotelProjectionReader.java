@@ -0,0 +1,138 @@
+package com.hotelmanager.service.data;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.RoomType;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * Streams a hotels file keeping only what queries read: hotel ids, room type codes with their amenities and
+ * features, and the number of rooms of each type. Names, descriptions and the rooms themselves are skipped without
+ * being bound; readDetails fetches one hotel's full record when a command needs its rooms. Gzipped files are read
+ * the same way.
+ */
+final class HotelProjectionReader {
+
+    private final ObjectMapper objectMapper;
+
+    HotelProjectionReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    List<Hotel> read(File hotelsFile) throws IOException {
+        List<Hotel> hotels = new ArrayList<>();
+        try (JsonParser parser = open(hotelsFile)) {
+            expectArray(parser, parser.nextToken());
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                hotels.add(readHotel(parser));
+            }
+        }
+        return hotels;
+    }
+
+    // Binds the full record of one hotel; the others are parsed one at a time and discarded
+    Optional<Hotel> readDetails(File hotelsFile, String hotelId) throws IOException {
+        try (JsonParser parser = open(hotelsFile)) {
+            expectArray(parser, parser.nextToken());
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                ObjectNode node = objectMapper.readTree(parser);
+                if (hotelId.equals(node.path("id").asText(null))) {
+                    return Optional.of(objectMapper.treeToValue(node, Hotel.class));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Gzipped files are inflated on a separate thread while the parser reads
+    private JsonParser open(File hotelsFile) throws IOException {
+        return PipelinedGzipInputStream.isGzip(hotelsFile)
+                ? objectMapper.getFactory().createParser(new PipelinedGzipInputStream(hotelsFile))
+                : objectMapper.getFactory().createParser(hotelsFile);
+    }
+
+    private Hotel readHotel(JsonParser parser) throws IOException {
+        Hotel hotel = new Hotel();
+        Map<String, Integer> roomCounts = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> hotel.setId(parser.getValueAsString());
+                case "roomTypes" -> hotel.setRoomTypes(value == JsonToken.START_ARRAY ? readRoomTypes(parser) : null);
+                case "rooms" -> countRooms(parser, value, roomCounts);
+                default -> parser.skipChildren();
+            }
+        }
+        hotel.setTotalRoomsByType(roomCounts);
+        return hotel;
+    }
+
+    private List<RoomType> readRoomTypes(JsonParser parser) throws IOException {
+        List<RoomType> roomTypes = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String code = null;
+            List<String> amenities = null;
+            List<String> features = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "code" -> code = parser.getValueAsString();
+                    case "amenities" -> amenities = readStrings(parser, value);
+                    case "features" -> features = readStrings(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            roomTypes.add(new RoomType(code, null, amenities, features));
+        }
+        return roomTypes;
+    }
+
+    private static void countRooms(JsonParser parser, JsonToken value, Map<String, Integer> roomCounts)
+            throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("roomType".equals(field)) {
+                    roomCounts.merge(parser.getValueAsString(), 1, Integer::sum);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static List<String> readStrings(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> strings = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            strings.add(parser.getValueAsString());
+        }
+        return strings;
+    }
+
+    private static void expectArray(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("Expected an array of hotels at " + parser.currentLocation());
+        }
+    }
+}
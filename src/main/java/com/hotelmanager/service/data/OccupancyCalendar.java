@@ -0,0 +1,170 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// Rooms sold per night for one hotel and room type, stored in chunks of 64 nights. Only chunks holding a booked night
+// are allocated, so a booking with an outlying date costs its own nights rather than the span to the other bookings
+public final class OccupancyCalendar {
+
+    private static final int CHUNK_SHIFT = 6;
+    private static final int CHUNK_NIGHTS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_NIGHTS - 1;
+
+    public static final OccupancyCalendar EMPTY = new OccupancyCalendar(new long[0], new int[0][]);
+
+    // Ascending chunk numbers (epoch day >> CHUNK_SHIFT) and the rooms sold on each night of the chunk
+    private final long[] chunkNumbers;
+    private final int[][] chunks;
+
+    @FunctionalInterface
+    public interface NightConsumer {
+        void accept(long epochDay, int occupied);
+    }
+
+    private OccupancyCalendar(long[] chunkNumbers, int[][] chunks) {
+        this.chunkNumbers = chunkNumbers;
+        this.chunks = chunks;
+    }
+
+    public static OccupancyCalendar build(Collection<Booking> bookings) {
+        // Difference arrays: +1 on arrival, -1 on departure, then a prefix sum across the chunks in order. Every chunk
+        // from arrival to departure is allocated, so the running sum is zero across any gap between chunks
+        Map<Long, int[]> byChunk = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (coversNoNights(booking)) {
+                continue;
+            }
+            long arrival = booking.arrival().toEpochDay();
+            long departure = booking.departure().toEpochDay();
+            for (long chunk = arrival >> CHUNK_SHIFT; chunk <= departure >> CHUNK_SHIFT; chunk++) {
+                byChunk.computeIfAbsent(chunk, number -> new int[CHUNK_NIGHTS]);
+            }
+            byChunk.get(arrival >> CHUNK_SHIFT)[(int) (arrival & CHUNK_MASK)]++;
+            byChunk.get(departure >> CHUNK_SHIFT)[(int) (departure & CHUNK_MASK)]--;
+        }
+        if (byChunk.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] chunkNumbers = byChunk.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[][] chunks = new int[chunkNumbers.length][];
+        int running = 0;
+        for (int i = 0; i < chunkNumbers.length; i++) {
+            chunks[i] = byChunk.get(chunkNumbers[i]);
+            for (int night = 0; night < CHUNK_NIGHTS; night++) {
+                running += chunks[i][night];
+                chunks[i][night] = running;
+            }
+        }
+        return new OccupancyCalendar(chunkNumbers, chunks);
+    }
+
+    public int occupiedOn(LocalDate date) {
+        return occupiedOn(date.toEpochDay());
+    }
+
+    public int occupiedOn(long epochDay) {
+        int index = Arrays.binarySearch(chunkNumbers, epochDay >> CHUNK_SHIFT);
+        return index >= 0 ? chunks[index][(int) (epochDay & CHUNK_MASK)] : 0;
+    }
+
+    public int maxOccupied(long startEpochDay, long endEpochDay) {
+        int max = 0;
+        for (int i = firstChunkFrom(startEpochDay); i < chunks.length && firstDay(i) <= endEpochDay; i++) {
+            int from = (int) (Math.max(startEpochDay, firstDay(i)) - firstDay(i));
+            int to = (int) (Math.min(endEpochDay, firstDay(i) + CHUNK_MASK) - firstDay(i));
+            for (int night = from; night <= to; night++) {
+                max = Math.max(max, chunks[i][night]);
+            }
+        }
+        return max;
+    }
+
+    // Room-nights sold from startEpochDay to endEpochDay, both inclusive
+    public long sumOccupied(long startEpochDay, long endEpochDay) {
+        long sum = 0;
+        for (int i = firstChunkFrom(startEpochDay); i < chunks.length && firstDay(i) <= endEpochDay; i++) {
+            int from = (int) (Math.max(startEpochDay, firstDay(i)) - firstDay(i));
+            int to = (int) (Math.min(endEpochDay, firstDay(i) + CHUNK_MASK) - firstDay(i));
+            for (int night = from; night <= to; night++) {
+                sum += chunks[i][night];
+            }
+        }
+        return sum;
+    }
+
+    // Writes rooms sold per night for [startEpochDay, startEpochDay + target.length) into target
+    public void copyOccupied(long startEpochDay, int[] target) {
+        Arrays.fill(target, 0);
+        long endEpochDay = startEpochDay + target.length;
+        for (int i = firstChunkFrom(startEpochDay); i < chunks.length && firstDay(i) < endEpochDay; i++) {
+            long from = Math.max(startEpochDay, firstDay(i));
+            long to = Math.min(endEpochDay, firstDay(i) + CHUNK_NIGHTS);
+            System.arraycopy(chunks[i], (int) (from - firstDay(i)), target, (int) (from - startEpochDay),
+                    (int) (to - from));
+        }
+    }
+
+    // Visits every stored night in date order, skipping the unallocated spans between chunks
+    public void forEachNight(NightConsumer consumer) {
+        for (int i = 0; i < chunks.length; i++) {
+            for (int night = 0; night < CHUNK_NIGHTS; night++) {
+                consumer.accept(firstDay(i) + night, chunks[i][night]);
+            }
+        }
+    }
+
+    // Returns a copy with delta rooms added on every night of the booking. Chunks the booking does not touch are shared
+    public OccupancyCalendar withBooking(Booking booking, int delta) {
+        if (coversNoNights(booking)) {
+            return this;
+        }
+
+        long arrival = booking.arrival().toEpochDay();
+        long lastNight = booking.departure().toEpochDay() - 1;
+        long firstChunk = arrival >> CHUNK_SHIFT;
+        long lastChunk = lastNight >> CHUNK_SHIFT;
+        int before = firstChunkFrom(arrival);
+        int after = firstChunkFrom((lastChunk + 1) << CHUNK_SHIFT);
+        int touched = Math.toIntExact(lastChunk - firstChunk + 1);
+
+        long[] numbers = new long[before + touched + chunks.length - after];
+        int[][] updated = new int[numbers.length][];
+        System.arraycopy(chunkNumbers, 0, numbers, 0, before);
+        System.arraycopy(chunks, 0, updated, 0, before);
+        int existing = before;
+        for (int i = 0; i < touched; i++) {
+            long chunk = firstChunk + i;
+            boolean stored = existing < after && chunkNumbers[existing] == chunk;
+            numbers[before + i] = chunk;
+            updated[before + i] = stored ? chunks[existing++].clone() : new int[CHUNK_NIGHTS];
+        }
+        System.arraycopy(chunkNumbers, after, numbers, before + touched, chunks.length - after);
+        System.arraycopy(chunks, after, updated, before + touched, chunks.length - after);
+
+        for (long day = arrival; day <= lastNight; day++) {
+            updated[before + (int) ((day >> CHUNK_SHIFT) - firstChunk)][(int) (day & CHUNK_MASK)] += delta;
+        }
+        return new OccupancyCalendar(numbers, updated);
+    }
+
+    private long firstDay(int chunkIndex) {
+        return chunkNumbers[chunkIndex] << CHUNK_SHIFT;
+    }
+
+    // Index of the first chunk ending on or after the day
+    private int firstChunkFrom(long epochDay) {
+        int index = Arrays.binarySearch(chunkNumbers, epochDay >> CHUNK_SHIFT);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static boolean coversNoNights(Booking booking) {
+        return !booking.departure().isAfter(booking.arrival());
+    }
+}
@@ -0,0 +1,134 @@
+package com.hotelmanager.service.data;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+
+/*
+ * Reads a gzip file while a separate thread inflates it into a bounded queue of chunks, so decompression runs ahead
+ * of the parser instead of in turn with it, and at most QUEUE_CHUNKS chunks are buffered. Closing the stream stops
+ * the decompressing thread.
+ */
+final class PipelinedGzipInputStream extends InputStream {
+
+    private static final int CHUNK_BYTES = 64 << 10;
+    private static final int QUEUE_CHUNKS = 16;
+    private static final byte[] END = new byte[0];
+
+    private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(QUEUE_CHUNKS);
+    private final Thread decompressor;
+    private volatile Throwable failure;
+    private byte[] current = END;
+    private int position;
+    private boolean finished;
+
+    PipelinedGzipInputStream(File file) {
+        decompressor = new Thread(() -> decompress(file), "gzip-" + file.getName());
+        decompressor.setDaemon(true);
+        decompressor.start();
+    }
+
+    static boolean isGzip(File file) {
+        return file.getName().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    // The file name without a .gz suffix, which names the format of the content
+    static String contentName(File file) {
+        String name = file.getName();
+        return isGzip(file) ? name.substring(0, name.length() - 3) : name;
+    }
+
+    // Whatever ends decompression, an Error included, is recorded and followed by END so the reader never waits forever
+    private void decompress(File file) {
+        boolean closed = false;
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file), CHUNK_BYTES)) {
+            int length;
+            do {
+                byte[] chunk = new byte[CHUNK_BYTES];
+                length = in.readNBytes(chunk, 0, CHUNK_BYTES);
+                if (length > 0) {
+                    chunks.put(length == CHUNK_BYTES ? chunk : Arrays.copyOf(chunk, length));
+                }
+            } while (length == CHUNK_BYTES);
+        } catch (InterruptedException e) {
+            // The reader closed the stream, so nothing waits for the end
+            closed = true;
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            if (!closed) {
+                try {
+                    chunks.put(END);
+                } catch (InterruptedException e) {
+                    // The reader closed the stream
+                }
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return current[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int copied = Math.min(length, current.length - position);
+        System.arraycopy(current, position, buffer, offset, copied);
+        position += copied;
+        return copied;
+    }
+
+    // Takes the next chunk once the current one is used up; false at the end of the content
+    private boolean fill() throws IOException {
+        while (position == current.length) {
+            if (finished) {
+                return false;
+            }
+            try {
+                current = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while decompressing");
+            }
+            position = 0;
+            if (current == END) {
+                finished = true;
+                if (failure instanceof IOException e) {
+                    throw e;
+                }
+                if (failure instanceof Error e) {
+                    throw e;
+                }
+                if (failure != null) {
+                    throw new IOException("Failed to decompress: " + failure.getMessage(), failure);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        current = END;
+        position = 0;
+        decompressor.interrupt();
+    }
+}
@@ -0,0 +1,110 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.RoomAssignmentStrategy;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * Nights taken per physical room of one hotel and room type, one bit per night counted from the first booked night.
+ * Bookings name no room, so they are placed in arrival order on the first room free for the whole stay. Taken in
+ * that order, intervals never need more rooms than the busiest night, so every booking the counts allow is placed.
+ */
+public final class RoomAssignmentCalendar {
+
+    // Idle nights next to a stay with no neighbouring booking on that side
+    private static final long UNBOUNDED_GAP = Integer.MAX_VALUE;
+
+    private final long firstEpochDay;
+    private final List<String> roomIds;
+    private final BitSet[] occupied;
+    private final int unassigned;
+
+    private RoomAssignmentCalendar(long firstEpochDay, List<String> roomIds, BitSet[] occupied, int unassigned) {
+        this.firstEpochDay = firstEpochDay;
+        this.roomIds = roomIds;
+        this.occupied = occupied;
+        this.unassigned = unassigned;
+    }
+
+    public static RoomAssignmentCalendar build(List<String> roomIds, Collection<Booking> bookings) {
+        List<Booking> stays = bookings.stream()
+                .filter(booking -> booking.departure().isAfter(booking.arrival()))
+                .sorted(Comparator.comparing(Booking::arrival).thenComparing(Booking::departure))
+                .toList();
+        long first = stays.isEmpty() ? 0 : stays.get(0).arrival().toEpochDay();
+
+        BitSet[] occupied = new BitSet[roomIds.size()];
+        for (int room = 0; room < occupied.length; room++) {
+            occupied[room] = new BitSet();
+        }
+        int unassigned = 0;
+        for (Booking stay : stays) {
+            int from = (int) (stay.arrival().toEpochDay() - first);
+            int to = (int) (stay.departure().toEpochDay() - first);
+            int room = firstFreeRoom(occupied, from, to);
+            if (room < 0) {
+                unassigned++;
+            } else {
+                occupied[room].set(from, to);
+            }
+        }
+        return new RoomAssignmentCalendar(first, List.copyOf(roomIds), occupied, unassigned);
+    }
+
+    // Bookings beyond the rooms available on some night of their stay
+    public int unassignedBookings() {
+        return unassigned;
+    }
+
+    // A room free on every night from startEpochDay to endEpochDay, both inclusive
+    public Optional<String> findFreeRoom(long startEpochDay, long endEpochDay, RoomAssignmentStrategy strategy) {
+        // Nights before the first booked night are free in every room
+        int from = clamp(startEpochDay - firstEpochDay);
+        int to = clamp(endEpochDay + 1 - firstEpochDay);
+        int room = strategy == RoomAssignmentStrategy.BEST_FIT
+                ? bestFreeRoom(from, to, startEpochDay < firstEpochDay)
+                : firstFreeRoom(occupied, from, to);
+        return room < 0 ? Optional.empty() : Optional.of(roomIds.get(room));
+    }
+
+    private int bestFreeRoom(int from, int to, boolean startsBeforeFirstNight) {
+        int best = -1;
+        long bestGap = Long.MAX_VALUE;
+        for (int room = 0; room < occupied.length; room++) {
+            if (!isFree(occupied[room], from, to)) {
+                continue;
+            }
+            int previous = startsBeforeFirstNight ? -1 : occupied[room].previousSetBit(from - 1);
+            int next = occupied[room].nextSetBit(to);
+            long gap = (previous < 0 ? UNBOUNDED_GAP : from - previous - 1) + (next < 0 ? UNBOUNDED_GAP : next - to);
+            if (gap < bestGap) {
+                best = room;
+                bestGap = gap;
+            }
+        }
+        return best;
+    }
+
+    private static int firstFreeRoom(BitSet[] occupied, int from, int to) {
+        for (int room = 0; room < occupied.length; room++) {
+            if (isFree(occupied[room], from, to)) {
+                return room;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isFree(BitSet nights, int from, int to) {
+        int taken = nights.nextSetBit(from);
+        return taken < 0 || taken >= to;
+    }
+
+    private static int clamp(long offset) {
+        return (int) Math.max(0, Math.min(offset, Integer.MAX_VALUE - 1));
+    }
+}
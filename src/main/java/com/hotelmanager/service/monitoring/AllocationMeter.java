@@ -0,0 +1,38 @@
+package com.hotelmanager.service.monitoring;
+
+import lombok.experimental.UtilityClass;
+
+import java.lang.management.ManagementFactory;
+
+@UtilityClass
+public class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean THREAD_BEAN = resolveThreadBean();
+
+    public boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    // Bytes allocated so far by the calling thread, or -1 when the JVM cannot report it
+    public long currentThreadAllocatedBytes() {
+        return THREAD_BEAN != null ? THREAD_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    public long allocatedSince(long startBytes) {
+        if (startBytes < 0) {
+            return -1;
+        }
+        return currentThreadAllocatedBytes() - startBytes;
+    }
+
+    private com.sun.management.ThreadMXBean resolveThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+}
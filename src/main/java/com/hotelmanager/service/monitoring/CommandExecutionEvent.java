@@ -0,0 +1,65 @@
+package com.hotelmanager.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+@Name("com.hotelmanager.CommandExecution")
+@Label("Command Execution")
+@Category({"Hotel Booking", "Commands"})
+@Description("A single command handled by CommandProcessor")
+@StackTrace(false)
+public class CommandExecutionEvent extends Event {
+
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Hotel Id")
+    public String hotelId;
+
+    @Label("Room Type")
+    public String roomType;
+
+    @Label("Date Range")
+    public String dateRange;
+
+    @Label("Date Span Days")
+    public int dateSpanDays;
+
+    @Label("Result Size")
+    public int resultSize;
+
+    @Label("Allocated Bytes")
+    @DataAmount
+    public long allocatedBytes;
+
+    @Label("Success")
+    public boolean success;
+
+    public void resolveDateSpan() {
+        if (dateRange == null) {
+            return;
+        }
+        int separator = dateRange.indexOf('-');
+        if (separator < 0) {
+            dateSpanDays = 1;
+            return;
+        }
+        try {
+            LocalDate start = LocalDate.parse(dateRange.substring(0, separator), DateTimeFormatter.BASIC_ISO_DATE);
+            LocalDate end = LocalDate.parse(dateRange.substring(separator + 1), DateTimeFormatter.BASIC_ISO_DATE);
+            dateSpanDays = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        } catch (DateTimeParseException e) {
+            dateSpanDays = 0;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.hotelmanager.service.monitoring;
+
+import com.hotelmanager.model.LatencySummary;
+import com.hotelmanager.model.response.StatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+@Component
+@RequiredArgsConstructor
+public class CommandMetrics {
+
+    private final ErrorTracker errorTracker;
+    private final long startedAtNanos = System.nanoTime();
+    private final Map<String, CommandStats> commands = new ConcurrentHashMap<>();
+    private final Map<Stage, LatencyHistogram> stages = createStageHistograms();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    public void recordCommand(String commandType, long elapsedNanos, long allocatedBytes, boolean success) {
+        CommandStats stats = commands.computeIfAbsent(commandType, type -> new CommandStats());
+        stats.latency.record(elapsedNanos);
+        if (allocatedBytes >= 0) {
+            stats.allocation.record(allocatedBytes);
+        }
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    // Gauges are sampled when a snapshot is taken
+    public void registerGauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    // Returns the end timestamp so consecutive stages can be chained without extra clock reads
+    public long recordStage(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stages.get(stage).record(now - startNanos);
+        return now;
+    }
+
+    public StatsResponse snapshot() {
+        Duration uptime = Duration.ofNanos(System.nanoTime() - startedAtNanos);
+        double uptimeSeconds = Math.max(uptime.toNanos() / 1e9, 1e-9);
+
+        Map<String, LatencySummary> commandSummaries = new TreeMap<>();
+        commands.forEach((type, stats) ->
+                commandSummaries.put(type, summarize(stats.latency, stats.allocation, stats.errors.sum(), uptimeSeconds)));
+
+        Map<String, LatencySummary> stageSummaries = new LinkedHashMap<>();
+        stages.forEach((stage, histogram) ->
+                stageSummaries.put(stage.name().toLowerCase(), summarize(histogram, null, 0, uptimeSeconds)));
+
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, value) -> gaugeValues.put(name, value.getAsLong()));
+
+        return new StatsResponse(uptime, commandSummaries, stageSummaries, gaugeValues, errorTracker.getErrorCounts());
+    }
+
+    private LatencySummary summarize(LatencyHistogram histogram, LatencyHistogram allocation,
+                                     long errors, double uptimeSeconds) {
+        long count = histogram.getCount();
+        return new LatencySummary(
+                count,
+                errors,
+                count / uptimeSeconds,
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMax(),
+                allocation != null ? allocation.getValueAtPercentile(50) : 0,
+                allocation != null ? allocation.getValueAtPercentile(99) : 0
+        );
+    }
+
+    private static Map<Stage, LatencyHistogram> createStageHistograms() {
+        Map<Stage, LatencyHistogram> histograms = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            histograms.put(stage, new LatencyHistogram());
+        }
+        return histograms;
+    }
+
+    private static final class CommandStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram allocation = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+}
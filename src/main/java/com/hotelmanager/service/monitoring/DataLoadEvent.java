@@ -0,0 +1,39 @@
+package com.hotelmanager.service.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.hotelmanager.DataLoad")
+@Label("Data Load")
+@Category({"Hotel Booking", "Data"})
+@Description("Loading of one hotels or bookings data file")
+@StackTrace(false)
+public class DataLoadEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Records")
+    public int records;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long parseNanos;
+
+    @Label("Index Build Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long indexBuildNanos;
+}
@@ -0,0 +1,73 @@
+package com.hotelmanager.service.monitoring;
+
+import com.hotelmanager.exception.BookingSystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Component
+public class ErrorTracker {
+
+    private static final Duration DEFAULT_LOG_INTERVAL = Duration.ofSeconds(1);
+
+    private final Map<String, ErrorCounter> counters = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long logIntervalNanos;
+
+    public ErrorTracker() {
+        this(System::nanoTime, DEFAULT_LOG_INTERVAL);
+    }
+
+    ErrorTracker(LongSupplier nanoClock, Duration logInterval) {
+        this.nanoClock = nanoClock;
+        this.logIntervalNanos = logInterval.toNanos();
+    }
+
+    public void record(String command, BookingSystemException e) {
+        String errorType = e.getClass().getSimpleName();
+        ErrorCounter counter = counters.computeIfAbsent(errorType, type -> new ErrorCounter());
+        counter.total.increment();
+
+        if (!e.isExpected()) {
+            log.error("Error processing command: {}", command, e);
+            return;
+        }
+
+        long suppressed = counter.tryAcquireLogSlot(nanoClock.getAsLong(), logIntervalNanos);
+        if (suppressed >= 0) {
+            log.warn("Command rejected ({}): {} - {} [{} similar suppressed]",
+                    errorType, command, e.getMessage(), suppressed);
+        }
+    }
+
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((type, counter) -> snapshot.put(type, counter.total.sum()));
+        return snapshot;
+    }
+
+    private static final class ErrorCounter {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicLong lastLoggedAt = new AtomicLong(Long.MIN_VALUE);
+
+        // Returns how many occurrences were suppressed since the last log line, or -1 to suppress this one
+        private long tryAcquireLogSlot(long now, long intervalNanos) {
+            long last = lastLoggedAt.get();
+            boolean due = last == Long.MIN_VALUE || now - last >= intervalNanos;
+            if (due && lastLoggedAt.compareAndSet(last, now)) {
+                return suppressed.sumThenReset();
+            }
+            suppressed.increment();
+            return -1;
+        }
+    }
+}
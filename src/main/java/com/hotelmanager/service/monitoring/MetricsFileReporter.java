@@ -0,0 +1,73 @@
+package com.hotelmanager.service.monitoring;
+
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class MetricsFileReporter {
+
+    private final CommandMetrics commandMetrics;
+    private final ResponseFormatter responseFormatter;
+    private final String dumpFile;
+    private final Duration dumpInterval;
+    private ScheduledExecutorService scheduler;
+
+    public MetricsFileReporter(CommandMetrics commandMetrics,
+                               ResponseFormatter responseFormatter,
+                               @Value("${monitoring.metrics.dump-file:}") String dumpFile,
+                               @Value("${monitoring.metrics.dump-interval:60s}") Duration dumpInterval) {
+        this.commandMetrics = commandMetrics;
+        this.responseFormatter = responseFormatter;
+        this.dumpFile = dumpFile;
+        this.dumpInterval = dumpInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (dumpFile == null || dumpFile.isBlank()) {
+            return;
+        }
+
+        log.info("Dumping metrics to {} every {}", dumpFile, dumpInterval);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-file-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = dumpInterval.toMillis();
+        scheduler.scheduleAtFixedRate(this::dump, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            dump();
+        }
+    }
+
+    void dump() {
+        Path target = Path.of(dumpFile);
+        try {
+            Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), "metrics", ".tmp");
+            Files.writeString(temp, responseFormatter.formatStatsResponse(commandMetrics.snapshot()));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to dump metrics to {}: {}", dumpFile, e.getMessage());
+        }
+    }
+}
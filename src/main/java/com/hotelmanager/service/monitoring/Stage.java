@@ -0,0 +1,8 @@
+package com.hotelmanager.service.monitoring;
+
+public enum Stage {
+    PARSE,
+    VALIDATE,
+    COMPUTE,
+    FORMAT
+}
@@ -16,6 +16,15 @@ public class ConsoleOutputService {
         }
     }
 
+    public void displayFragment(String fragment) {
+        System.out.print(fragment);
+        System.out.flush();
+    }
+
+    public void displayMessage(String message) {
+        System.out.println(message);
+    }
+
     public void displayError(String message) {
         System.err.println("Error: " + message);
     }
@@ -1,14 +1,34 @@
 package com.hotelmanager.service.presentation;
 
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.model.ChangeType;
 import com.hotelmanager.model.DateRangeAvailability;
+import com.hotelmanager.model.HotelOccupancy;
+import com.hotelmanager.model.LatencySummary;
+import com.hotelmanager.model.request.OccupancyRequest;
+import com.hotelmanager.model.response.AmenitySearchResponse;
 import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.model.response.BatchAvailabilityResponse;
+import com.hotelmanager.model.response.BookingListResponse;
+import com.hotelmanager.model.response.FindHotelsResponse;
+import com.hotelmanager.model.response.FreeRoomResponse;
+import com.hotelmanager.model.response.OccupancyResponse;
+import com.hotelmanager.model.response.RateMixResponse;
+import com.hotelmanager.model.response.RoomCombinationResponse;
 import com.hotelmanager.model.response.SearchResponse;
+import com.hotelmanager.model.response.StatsResponse;
 import org.springframework.stereotype.Component;
 
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
 public class ResponseFormatter {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     public String formatSearchResponse(SearchResponse response) {
         if (response.availabilities().isEmpty()) {
@@ -19,7 +39,134 @@ public class ResponseFormatter {
                 .collect(Collectors.joining(", "));
     }
 
+    // Writes search ranges one at a time in the same ", "-separated format as formatSearchResponse
+    public Consumer<DateRangeAvailability> searchResultWriter(Consumer<String> output) {
+        return new Consumer<>() {
+            private boolean first = true;
+
+            @Override
+            public void accept(DateRangeAvailability range) {
+                output.accept(first ? range.toString() : ", " + range);
+                first = false;
+            }
+        };
+    }
+
+    // One line per matching room type, each listing its ranges as formatSearchResponse does
+    public String formatAmenitySearchResponse(AmenitySearchResponse response) {
+        StringJoiner lines = new StringJoiner(System.lineSeparator());
+        response.availabilitiesByRoomType().forEach((roomType, availabilities) -> lines.add(availabilities.stream()
+                .map(DateRangeAvailability::toString)
+                .collect(Collectors.joining(", ", roomType + ":" + (availabilities.isEmpty() ? "" : " "), ""))));
+        return lines.toString();
+    }
+
     public String formatAvailabilityResponse(AvailabilityResponse response) {
         return response.toString();
     }
-}
\ No newline at end of file
+
+    public String formatBatchAvailabilityResponse(BatchAvailabilityResponse response) {
+        return response.availabilities().stream()
+                .map(AvailabilityResponse::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    public String formatFreeRoomResponse(FreeRoomResponse response) {
+        return String.format("Hotel: %s, Room Type: %s, Date Range: %s, Room: %s",
+                response.hotelId(), response.roomType(), response.dateRange(), response.roomId().orElse("none"));
+    }
+
+    public String formatRoomCombinationResponse(RoomCombinationResponse response) {
+        String feasibleDates = response.feasibleDates().isEmpty() ? "none" : response.feasibleDates().stream()
+                .map(range -> range.startDate().format(DATE_FORMATTER) + "-" + range.endDate().format(DATE_FORMATTER))
+                .collect(Collectors.joining(", "));
+        return String.format("Hotel: %s, Date Range: %s, Feasible Dates: %s, Headroom: %s",
+                response.hotelId(), response.dateRange(), feasibleDates, formatCounts(response.headroomByRoomType()));
+    }
+
+    // One line per hotel, then the portfolio total when every hotel was queried
+    public String formatOccupancyResponse(OccupancyResponse response) {
+        StringJoiner lines = new StringJoiner(System.lineSeparator());
+        response.hotels().forEach(occupancy -> lines.add(formatOccupancy(occupancy, response)));
+        if (OccupancyRequest.ALL.equals(response.total().hotelId())) {
+            lines.add(formatOccupancy(response.total(), response));
+        }
+        return lines.toString();
+    }
+
+    public String formatRateMixResponse(RateMixResponse response) {
+        return response.rates().stream()
+                .map(rate -> String.format("Rate: %s, Bookings: %d, Room Nights: %d, Share: %.1f%%",
+                        rate.roomRate(), rate.bookings(), rate.roomNights(),
+                        rate.roomNights() * 100.0 / response.totalRoomNights()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    public String formatFindHotelsResponse(FindHotelsResponse response) {
+        return String.join(", ", response.hotelIds());
+    }
+
+    // One line per booking, in arrival order
+    public String formatBookingListResponse(BookingListResponse response) {
+        return response.bookings().stream()
+                .map(booking -> String.format("%s, %s, %s-%s, %s", booking.hotelId(), booking.roomType(),
+                        booking.arrival().format(DATE_FORMATTER), booking.departure().format(DATE_FORMATTER),
+                        booking.roomRate()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    // The range is the booked nights, as given to Book and Cancel
+    public String formatBookingChange(BookingChange change) {
+        Booking booking = change.booking();
+        return switch (change.type()) {
+            case ADD, CANCEL -> String.format("Booking %s: %s, %s, %s-%s, %s (sequence %d)",
+                    change.type() == ChangeType.ADD ? "added" : "cancelled",
+                    booking.hotelId(), booking.roomType(), booking.arrival().format(DATE_FORMATTER),
+                    booking.departure().minusDays(1).format(DATE_FORMATTER), booking.roomRate(), change.sequence());
+            case RELOAD -> String.format("Data reloaded (sequence %d)", change.sequence());
+        };
+    }
+
+    public String formatStatsResponse(StatsResponse response) {
+        StringJoiner lines = new StringJoiner(System.lineSeparator());
+        lines.add(String.format("Uptime: %.1fs", response.uptime().toMillis() / 1000.0));
+
+        response.commands().forEach((type, summary) ->
+                lines.add(String.format("Command %s: count=%d, errors=%d, throughput=%.2f/s, %s, alloc p50=%dB, alloc p99=%dB",
+                        type, summary.count(), summary.errors(), summary.throughputPerSecond(),
+                        formatLatency(summary), summary.allocatedBytesP50(), summary.allocatedBytesP99())));
+
+        response.stages().forEach((stage, summary) ->
+                lines.add(String.format("Stage %s: count=%d, %s", stage, summary.count(), formatLatency(summary))));
+
+        response.gauges().forEach((name, value) -> lines.add(String.format("Gauge %s: %d", name, value)));
+
+        lines.add("Errors: " + formatCounts(response.errorsByType()));
+        return lines.toString();
+    }
+
+    private String formatOccupancy(HotelOccupancy occupancy, OccupancyResponse response) {
+        return String.format("Hotel: %s, Room Type: %s, Date Range: %s, Occupancy: %.1f%% (%d/%d room-nights)",
+                occupancy.hotelId(), response.roomType(), response.dateRange(), occupancy.occupancyPercent(),
+                occupancy.soldRoomNights(), occupancy.availableRoomNights());
+    }
+
+    private String formatLatency(LatencySummary summary) {
+        return String.format("p50=%s, p99=%s, p999=%s, max=%s",
+                formatNanos(summary.p50Nanos()), formatNanos(summary.p99Nanos()),
+                formatNanos(summary.p999Nanos()), formatNanos(summary.maxNanos()));
+    }
+
+    private String formatNanos(long nanos) {
+        return String.format("%.1fus", nanos / 1000.0);
+    }
+
+    private String formatCounts(Map<String, ? extends Number> counts) {
+        if (counts.isEmpty()) {
+            return "none";
+        }
+        return counts.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,140 @@
+package com.hotelmanager.service.replication;
+
+import com.hotelmanager.config.ReplicationProperties;
+import com.hotelmanager.exception.BookingNotFoundException;
+import com.hotelmanager.exception.NoAvailabilityException;
+import com.hotelmanager.exception.ReplicationException;
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.model.ChangeType;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.request.BookingRequest;
+import com.hotelmanager.service.availability.AvailabilityEngine;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.validation.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Sequences every booking change applied to HotelDataService. Changes since the latest reload are retained, up to
+// replication.max-retained-changes, because a reload resets state and is all a subscriber further behind needs to
+// replay first. A subscriber behind the oldest retained change is sent a reload in its place.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingChangeLog {
+
+    private final HotelDataService hotelDataService;
+    private final ValidationService validationService;
+    private final AvailabilityEngine availabilityEngine;
+    private final ReplicationProperties replicationProperties;
+    private final Deque<BookingChange> retained = new ArrayDeque<>();
+    private final List<Consumer<BookingChange>> listeners = new CopyOnWriteArrayList<>();
+    private volatile long headSequence;
+
+    public synchronized BookingChange apply(BookingRequest request) {
+        Hotel hotel = validationService.validateHotelExists(request.hotelId());
+        validationService.validateRoomTypeExists(hotel, request.roomType());
+        LocalDate[] dates = validationService.parseDateRange(request.dateRange());
+
+        // As with Availability the range is the nights, both inclusive, so the stay departs the day after the last
+        Booking booking = new Booking(request.hotelId(), request.roomType(), request.roomRate(), dates[0],
+                dates[1].plusDays(1));
+
+        if (request.type() == ChangeType.ADD) {
+            if (availabilityEngine.calculateMinimumAvailability(request.hotelId(), request.roomType(),
+                    dates[0], dates[1]) < 1) {
+                throw new NoAvailabilityException(request.hotelId(), request.roomType());
+            }
+            hotelDataService.addBooking(booking);
+        } else if (!hotelDataService.cancelBooking(booking)) {
+            throw new BookingNotFoundException();
+        }
+        return append(new BookingChange(headSequence + 1, request.type(), booking));
+    }
+
+    public synchronized BookingChange reload() {
+        hotelDataService.reload();
+        retained.clear();
+        return append(new BookingChange(headSequence + 1, ChangeType.RELOAD, null));
+    }
+
+    // Sequences must be contiguous, except that a reload may skip ahead since it replaces all earlier state
+    public synchronized void applyReplicated(BookingChange change) {
+        if (change.sequence() <= headSequence) {
+            return;
+        }
+        if (change.type() != ChangeType.RELOAD && change.sequence() != headSequence + 1) {
+            throw new ReplicationException("Missing changes " + (headSequence + 1) + " to " + (change.sequence() - 1));
+        }
+
+        switch (change.type()) {
+            case ADD -> hotelDataService.addBooking(change.booking());
+            case CANCEL -> {
+                if (!hotelDataService.cancelBooking(change.booking())) {
+                    log.warn("Replicated cancellation {} matched no booking", change.sequence());
+                }
+            }
+            case RELOAD -> {
+                hotelDataService.reload();
+                retained.clear();
+            }
+        }
+        append(change);
+    }
+
+    // Used when following a different primary instance, whose sequence numbers start again from zero
+    public synchronized void reset() {
+        hotelDataService.reload();
+        retained.clear();
+        headSequence = 0;
+    }
+
+    public long headSequence() {
+        return headSequence;
+    }
+
+    // Changes after the sequence, starting with a reload when changes it still needs are no longer retained
+    public synchronized List<BookingChange> changesAfter(long sequence) {
+        if (retained.isEmpty()) {
+            return List.of();
+        }
+
+        List<BookingChange> changes = new ArrayList<>();
+        BookingChange first = retained.getFirst();
+        if (first.type() != ChangeType.RELOAD && first.sequence() > sequence + 1) {
+            log.warn("Changes {} to {} are no longer retained, sending a reload", sequence + 1, first.sequence() - 1);
+            changes.add(new BookingChange(first.sequence() - 1, ChangeType.RELOAD, null));
+        }
+        for (BookingChange change : retained) {
+            if (change.sequence() > sequence) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    // Listeners run while the log is locked and must only hand the change off
+    public Runnable subscribe(Consumer<BookingChange> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    private BookingChange append(BookingChange change) {
+        retained.addLast(change);
+        while (retained.size() > Math.max(replicationProperties.maxRetainedChanges(), 1)) {
+            retained.removeFirst();
+        }
+        headSequence = change.sequence();
+        listeners.forEach(listener -> listener.accept(change));
+        return change;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hotelmanager.service.replication;
+
+import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.parser.BookingCommandParser;
+import com.hotelmanager.service.CommandHandler;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+class ReplicaCommandHandler implements CommandHandler {
+    private static final String STATS_COMMAND = "Stats()";
+    private static final String RELOAD_COMMAND = "Reload()";
+
+    private final CommandHandler delegate;
+    private final BookingCommandParser bookingCommandParser;
+    private final ReplicaFollower replicaFollower;
+
+    @Override
+    public CommandResult processCommand(String command) {
+        return processCommand(command, null);
+    }
+
+    @Override
+    public CommandResult processCommand(String command, Consumer<String> streamingOutput) {
+        if (command == null || STATS_COMMAND.equals(command.trim())) {
+            return delegate.processCommand(command, streamingOutput);
+        }
+
+        if (RELOAD_COMMAND.equals(command.trim()) || bookingCommandParser.canParse(command)) {
+            return CommandResult.error("Replica is read-only, send changes to the primary");
+        }
+
+        if (replicaFollower.isStale()) {
+            return CommandResult.error(replicaFollower.hasSynced()
+                    ? "Replica is stale, last synchronised with the primary "
+                    + replicaFollower.staleness().toMillis() + " ms ago"
+                    : "Replica has not synchronised with the primary yet");
+        }
+
+        return delegate.processCommand(command, streamingOutput);
+    }
+}
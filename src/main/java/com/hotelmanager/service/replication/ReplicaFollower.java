@@ -0,0 +1,160 @@
+package com.hotelmanager.service.replication;
+
+import com.hotelmanager.config.ReplicationProperties;
+import com.hotelmanager.exception.ReplicationException;
+import com.hotelmanager.parser.BookingCommandParser;
+import com.hotelmanager.service.CommandHandler;
+import com.hotelmanager.service.CommandProcessor;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+// Applies a primary's change stream to the local indexes. The replica counts as synchronised whenever a heartbeat shows
+// it has applied everything up to the primary's head; staleness is the time since that last happened.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplicaFollower {
+    private static final long NEVER = Long.MIN_VALUE;
+    private static final Duration NEVER_SYNCED = Duration.ofMillis(Long.MAX_VALUE);
+
+    private final BookingChangeLog bookingChangeLog;
+    private final ReplicationProperties replicationProperties;
+    private final CommandMetrics commandMetrics;
+    private final CommandProcessor commandProcessor;
+    private final BookingCommandParser bookingCommandParser;
+    private volatile long primaryHeadSequence;
+    private volatile long lastSyncedNanos = NEVER;
+    private volatile boolean running;
+    private volatile Socket connection;
+    private Long primaryInstanceId;
+    private Thread follower;
+
+    public synchronized void start(InetSocketAddress primary) {
+        running = true;
+        commandMetrics.registerGauge("replication.lag.changes", this::lagChanges);
+        commandMetrics.registerGauge("replication.staleness.ms",
+                () -> hasSynced() ? staleness().toMillis() : -1);
+        follower = Thread.ofVirtual().name("replica-follower").start(() -> follow(primary));
+        log.info("Following primary at {}", primary);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (follower != null) {
+            follower.interrupt();
+            closeConnection();
+        }
+    }
+
+    public long lagChanges() {
+        return Math.max(0, primaryHeadSequence - bookingChangeLog.headSequence());
+    }
+
+    public Duration staleness() {
+        long synced = lastSyncedNanos;
+        return synced == NEVER ? NEVER_SYNCED : Duration.ofNanos(System.nanoTime() - synced);
+    }
+
+    public boolean hasSynced() {
+        return lastSyncedNanos != NEVER;
+    }
+
+    public boolean isStale() {
+        return staleness().compareTo(replicationProperties.maxStaleness()) > 0;
+    }
+
+    // Serves reads from the local processor while rejecting changes and refusing reads once too stale
+    public CommandHandler readOnlyHandler() {
+        return new ReplicaCommandHandler(commandProcessor, bookingCommandParser, this);
+    }
+
+    private void follow(InetSocketAddress primary) {
+        while (running) {
+            try (Socket socket = new Socket()) {
+                connection = socket;
+                socket.setTcpNoDelay(true);
+                socket.connect(primary);
+                socket.setSoTimeout((int) replicationProperties.maxStaleness().toMillis());
+                receive(socket);
+            } catch (IOException | ReplicationException e) {
+                if (running) {
+                    log.warn("Replication from {} interrupted: {}", primary, e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                // A change that fails to apply must not end the follower; reconnecting replays from the last applied
+                if (running) {
+                    log.error("Replication from {} failed", primary, e);
+                }
+            }
+
+            try {
+                Thread.sleep(replicationProperties.reconnectDelay());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void receive(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        writer.write(ReplicationProtocol.subscribe(bookingChangeLog.headSequence()));
+        writer.write('\n');
+        writer.flush();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] fields = ReplicationProtocol.fields(line);
+            switch (fields[0]) {
+                case ReplicationProtocol.HELLO -> onHello(ReplicationProtocol.longField(fields, 1));
+                case ReplicationProtocol.CHANGE -> bookingChangeLog.applyReplicated(ReplicationProtocol.parseChange(fields));
+                case ReplicationProtocol.HEARTBEAT -> onHeartbeat(ReplicationProtocol.longField(fields, 1));
+                default -> throw new ReplicationException("Unexpected replication message: " + fields[0]);
+            }
+        }
+        throw new IOException("Primary closed the stream");
+    }
+
+    private void onHello(long instanceId) {
+        if (primaryInstanceId != null && primaryInstanceId != instanceId) {
+            log.info("Primary restarted, reloading data before replaying its changes");
+            bookingChangeLog.reset();
+            primaryHeadSequence = 0;
+        }
+        primaryInstanceId = instanceId;
+    }
+
+    private void onHeartbeat(long headSequence) {
+        primaryHeadSequence = headSequence;
+        if (bookingChangeLog.headSequence() >= headSequence) {
+            lastSyncedNanos = System.nanoTime();
+        }
+    }
+
+    private void closeConnection() {
+        Socket socket = connection;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("Failed to close replication connection: {}", e.getMessage());
+            }
+        }
+    }
+}
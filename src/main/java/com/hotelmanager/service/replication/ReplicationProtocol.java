@@ -0,0 +1,74 @@
+package com.hotelmanager.service.replication;
+
+import com.hotelmanager.exception.ReplicationException;
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.model.ChangeType;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+// Tab-separated lines: the replica sends SUBSCRIBE, the primary answers with HELLO then CHANGE and HEARTBEAT lines
+@UtilityClass
+class ReplicationProtocol {
+    static final String SUBSCRIBE = "SUBSCRIBE";
+    static final String HELLO = "HELLO";
+    static final String CHANGE = "CHANGE";
+    static final String HEARTBEAT = "HEARTBEAT";
+
+    private static final String SEPARATOR = "\t";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    static String subscribe(long afterSequence) {
+        return SUBSCRIBE + SEPARATOR + afterSequence;
+    }
+
+    static String hello(long instanceId) {
+        return HELLO + SEPARATOR + instanceId;
+    }
+
+    static String heartbeat(long headSequence) {
+        return HEARTBEAT + SEPARATOR + headSequence;
+    }
+
+    static String change(BookingChange change) {
+        StringBuilder line = new StringBuilder(64)
+                .append(CHANGE).append(SEPARATOR).append(change.sequence()).append(SEPARATOR).append(change.type());
+        Booking booking = change.booking();
+        if (booking != null) {
+            line.append(SEPARATOR).append(booking.hotelId())
+                    .append(SEPARATOR).append(booking.roomType())
+                    .append(SEPARATOR).append(booking.roomRate())
+                    .append(SEPARATOR).append(booking.arrival().format(DATE_FORMATTER))
+                    .append(SEPARATOR).append(booking.departure().format(DATE_FORMATTER));
+        }
+        return line.toString();
+    }
+
+    static String[] fields(String line) {
+        return line.split(SEPARATOR);
+    }
+
+    static long longField(String[] fields, int index) {
+        try {
+            return Long.parseLong(fields[index]);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new ReplicationException("Malformed replication message: " + String.join(" ", fields));
+        }
+    }
+
+    static BookingChange parseChange(String[] fields) {
+        try {
+            long sequence = Long.parseLong(fields[1]);
+            ChangeType type = ChangeType.valueOf(fields[2]);
+            if (type == ChangeType.RELOAD) {
+                return new BookingChange(sequence, type, null);
+            }
+            return new BookingChange(sequence, type, new Booking(fields[3], fields[4], fields[5],
+                    LocalDate.parse(fields[6], DATE_FORMATTER), LocalDate.parse(fields[7], DATE_FORMATTER)));
+        } catch (RuntimeException e) {
+            throw new ReplicationException("Malformed replication message: " + String.join(" ", fields));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.hotelmanager.service.replication;
+
+import com.hotelmanager.config.ReplicationProperties;
+import com.hotelmanager.exception.ServerException;
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Streams the booking change log to replicas: the retained backlog after the replica's last sequence, then live changes,
+// interleaved with heartbeats carrying the primary's head sequence so replicas can measure their lag
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplicationPublisher {
+
+    private final BookingChangeLog bookingChangeLog;
+    private final ReplicationProperties replicationProperties;
+    private final CommandMetrics commandMetrics;
+    private final long instanceId = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+    private final Set<Socket> subscribers = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+
+    public synchronized int start(int port) {
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            throw new ServerException("Failed to publish changes on port " + port, e);
+        }
+
+        commandMetrics.registerGauge("replication.sequence", bookingChangeLog::headSequence);
+        commandMetrics.registerGauge("replication.subscribers", subscribers::size);
+
+        ServerSocket listening = serverSocket;
+        Thread.ofVirtual().name("replication-publisher").start(() -> acceptSubscribers(listening));
+        log.info("Publishing booking changes on port {}", listening.getLocalPort());
+        return listening.getLocalPort();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+
+        closeQuietly(serverSocket);
+        subscribers.forEach(this::closeQuietly);
+        serverSocket = null;
+    }
+
+    private void acceptSubscribers(ServerSocket listening) {
+        while (!listening.isClosed()) {
+            try {
+                Socket socket = listening.accept();
+                if (listening.isClosed()) {
+                    closeQuietly(socket);
+                    break;
+                }
+                socket.setTcpNoDelay(true);
+                subscribers.add(socket);
+                Thread.ofVirtual().name("replication-subscriber-" + socket.getPort()).start(() -> publish(socket));
+            } catch (IOException e) {
+                if (!listening.isClosed()) {
+                    log.warn("Failed to accept replica: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void publish(Socket socket) {
+        int maxPending = Math.max(replicationProperties.maxPendingChanges(), 1);
+        BlockingQueue<BookingChange> pending = new ArrayBlockingQueue<>(maxPending);
+        AtomicBoolean overflowed = new AtomicBoolean();
+        // A replica too slow to drain its queue is dropped rather than buffered without limit. Closing the socket also
+        // frees this thread if it is blocked writing; the replica resubscribes from its last applied change
+        Runnable unsubscribe = bookingChangeLog.subscribe(change -> {
+            if (!pending.offer(change) && overflowed.compareAndSet(false, true)) {
+                closeQuietly(socket);
+            }
+        });
+        long heartbeatMillis = replicationProperties.heartbeatInterval().toMillis();
+
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String[] subscribe = ReplicationProtocol.fields(String.valueOf(reader.readLine()));
+            if (!ReplicationProtocol.SUBSCRIBE.equals(subscribe[0])) {
+                log.warn("Unexpected replication handshake from {}", socket.getRemoteSocketAddress());
+                return;
+            }
+            long sent = ReplicationProtocol.longField(subscribe, 1);
+            log.info("Replica {} subscribed after sequence {}", socket.getRemoteSocketAddress(), sent);
+
+            // Subscribing before reading the backlog means no change can fall between the two
+            writeLine(writer, ReplicationProtocol.hello(instanceId));
+            for (BookingChange change : bookingChangeLog.changesAfter(sent)) {
+                writeLine(writer, ReplicationProtocol.change(change));
+                sent = change.sequence();
+            }
+
+            long nextHeartbeat = System.nanoTime();
+            while (!socket.isClosed()) {
+                long now = System.nanoTime();
+                if (now - nextHeartbeat >= 0) {
+                    writeLine(writer, ReplicationProtocol.heartbeat(bookingChangeLog.headSequence()));
+                    nextHeartbeat = now + TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+                }
+                writer.flush();
+
+                BookingChange change = pending.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                while (change != null) {
+                    if (change.sequence() > sent) {
+                        writeLine(writer, ReplicationProtocol.change(change));
+                        sent = change.sequence();
+                    }
+                    change = pending.poll();
+                }
+            }
+        } catch (IOException e) {
+            if (!overflowed.get()) {
+                log.info("Replica {} disconnected: {}", socket.getRemoteSocketAddress(), e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Replication to {} failed: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        } finally {
+            unsubscribe.run();
+            subscribers.remove(socket);
+            if (overflowed.get()) {
+                log.warn("Replica {} fell more than {} changes behind, disconnected it",
+                        socket.getRemoteSocketAddress(), maxPending);
+            }
+        }
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+
+    private void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Failed to close {}: {}", closeable, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.hotelmanager.service.server;
+
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.exception.ServerException;
+import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.service.CommandHandler;
+import com.hotelmanager.service.CommandProcessor;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// Serves the console line protocol over TCP: one command per line, each response terminated by a blank line.
+// Every connection gets its own virtual thread, so clients can pipeline commands and are answered in order.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommandServer {
+    private static final int BACKLOG = 1024;
+
+    private final CommandProcessor commandProcessor;
+    private final CommandProperties commandProperties;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+    private CommandHandler handler;
+
+    public int start(int port) {
+        return start(port, commandProcessor);
+    }
+
+    public synchronized int start(int port, CommandHandler handler) {
+        this.handler = handler;
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(port), BACKLOG);
+        } catch (IOException e) {
+            throw new ServerException("Failed to listen on port " + port, e);
+        }
+
+        acceptor = Thread.ofVirtual().name("command-server-acceptor").start(this::acceptConnections);
+        log.info("Command server listening on port {}", serverSocket.getLocalPort());
+        return serverSocket.getLocalPort();
+    }
+
+    public void awaitTermination() {
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+
+        closeQuietly(serverSocket);
+        connections.forEach(this::closeQuietly);
+        serverSocket = null;
+    }
+
+    private void acceptConnections() {
+        ServerSocket listening = serverSocket;
+        while (!listening.isClosed()) {
+            try {
+                Socket socket = listening.accept();
+                // Closing a server socket blocked in accept is deferred, so a connection can still slip in after stop
+                if (listening.isClosed()) {
+                    closeQuietly(socket);
+                    break;
+                }
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                Thread.ofVirtual().name("command-client-" + socket.getPort()).start(() -> serve(socket));
+            } catch (IOException e) {
+                if (!listening.isClosed()) {
+                    log.warn("Failed to accept connection: {}", e.getMessage());
+                }
+            }
+        }
+        log.info("Command server stopped");
+    }
+
+    private void serve(Socket socket) {
+        log.debug("Client connected from {}", socket.getRemoteSocketAddress());
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String command;
+            while ((command = readCommand(reader)) != null && !command.trim().isEmpty()) {
+                if (command.length() > commandProperties.maxLineLength()) {
+                    log.warn("Closing connection from {}: command longer than {} characters",
+                            socket.getRemoteSocketAddress(), commandProperties.maxLineLength());
+                    writeResponse(writer, CommandResult.error(
+                            "Command exceeds " + commandProperties.maxLineLength() + " characters"));
+                    writer.flush();
+                    break;
+                }
+                respond(command, writer);
+
+                // Pipelined commands already buffered are answered before a single flush
+                if (!reader.ready()) {
+                    writer.flush();
+                }
+            }
+        } catch (SocketException e) {
+            log.debug("Client {} disconnected: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Connection from {} failed: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    // Reads one line without its terminator, or null at end of stream. Reading stops one character past the limit, so
+    // a client that never sends a newline cannot make the server buffer an unbounded line
+    private String readCommand(BufferedReader reader) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (c != '\r') {
+                line.append((char) c);
+            }
+            if (line.length() > commandProperties.maxLineLength()) {
+                break;
+            }
+        }
+        return c == -1 && line.isEmpty() ? null : line.toString();
+    }
+
+    private void respond(String command, Writer writer) throws IOException {
+        if (!commandProperties.streamSearchResults()) {
+            writeResponse(writer, handler.processCommand(command));
+            return;
+        }
+
+        AtomicBoolean streamed = new AtomicBoolean();
+        Consumer<String> streamingOutput = fragment -> {
+            try {
+                writer.write(fragment);
+                streamed.set(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        CommandResult result = handler.processCommand(command, streamingOutput);
+        if (streamed.get()) {
+            // Streamed output carries everything, including an error that cut it short; end its line and the response
+            writer.write("\n\n");
+            return;
+        }
+        writeResponse(writer, result);
+    }
+
+    private void writeResponse(Writer writer, CommandResult result) throws IOException {
+        String text = result.success() ? result.output() : "Error: " + result.errorMessage();
+        if (!text.isEmpty()) {
+            writer.write(text);
+            writer.write('\n');
+        }
+        writer.write('\n');
+    }
+
+    private void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Failed to close {}: {}", closeable, e.getMessage());
+        }
+    }
+}
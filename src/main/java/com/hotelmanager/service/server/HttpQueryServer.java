@@ -0,0 +1,283 @@
+package com.hotelmanager.service.server;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.exception.BookingSystemException;
+import com.hotelmanager.exception.CommandCancelledException;
+import com.hotelmanager.exception.HotelNotFoundException;
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.exception.RoomTypeNotFoundException;
+import com.hotelmanager.exception.ServerException;
+import com.hotelmanager.model.DateRangeAvailability;
+import com.hotelmanager.model.request.AvailabilityRequest;
+import com.hotelmanager.model.request.SearchRequest;
+import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.AllocationMeter;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.ErrorTracker;
+import com.hotelmanager.service.validation.RequestValidationService;
+import com.hotelmanager.util.CommandDeadline;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// JSON query API over the JDK HTTP server; each exchange runs on its own virtual thread and connections are kept alive
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HttpQueryServer {
+    private static final String AVAILABILITY_PATH = "/availability";
+    private static final String SEARCH_PATH = "/search";
+    private static final String CONTENT_TYPE = "application/json";
+    private static final int BACKLOG = 1024;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final AvailabilityService availabilityService;
+    private final RequestValidationService requestValidationService;
+    private final ErrorTracker errorTracker;
+    private final CommandMetrics commandMetrics;
+    private final CommandProperties commandProperties;
+    private final ObjectMapper objectMapper;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public synchronized int start(int port) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        } catch (IOException e) {
+            throw new ServerException("Failed to listen on port " + port, e);
+        }
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(AVAILABILITY_PATH, exchange -> handle(exchange, this::availability));
+        server.createContext(SEARCH_PATH, exchange -> handle(exchange, this::search));
+        server.start();
+
+        log.info("HTTP query server listening on port {}", server.getAddress().getPort());
+        return server.getAddress().getPort();
+    }
+
+    public void awaitTermination() {
+        try {
+            terminated.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+
+        server.stop(0);
+        executor.close();
+        server = null;
+        terminated.countDown();
+    }
+
+    private void handle(HttpExchange exchange, QueryHandler handler) {
+        String requestType = "GET " + exchange.getHttpContext().getPath();
+        long startBytes = AllocationMeter.currentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        boolean success = false;
+
+        try (exchange; CommandDeadline ignored = CommandDeadline.start(commandProperties.timeBudget())) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            try {
+                handler.handle(exchange, parseQuery(exchange.getRequestURI().getRawQuery()));
+                success = true;
+            } catch (BookingSystemException e) {
+                errorTracker.record(exchange.getRequestURI().toString(), e);
+                sendError(exchange, statusFor(e), e.getMessage());
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.debug("HTTP exchange {} failed: {}", exchange.getRequestURI(), e.getMessage());
+        } finally {
+            commandMetrics.recordCommand(requestType, System.nanoTime() - startNanos,
+                    AllocationMeter.allocatedSince(startBytes), success);
+        }
+    }
+
+    private void availability(HttpExchange exchange, Map<String, String> query) throws IOException {
+        AvailabilityRequest request = new AvailabilityRequest(
+                query.get("hotelId"), query.get("dateRange"), query.get("roomType"),
+                Boolean.parseBoolean(query.get("byRate")));
+        requestValidationService.validate(request);
+        AvailabilityResponse response = availabilityService.checkAvailability(request);
+
+        // Fixed-length bodies keep the connection reusable without chunked framing
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeStringField("hotelId", response.hotelId());
+            generator.writeStringField("roomType", response.roomType());
+            generator.writeStringField("dateRange", response.dateRange());
+            generator.writeNumberField("availability", response.availability());
+            if (!response.soldByRate().isEmpty()) {
+                generator.writeObjectFieldStart("soldByRate");
+                for (Map.Entry<String, Integer> sold : response.soldByRate().entrySet()) {
+                    generator.writeNumberField(sold.getKey(), sold.getValue());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.size());
+        body.writeTo(exchange.getResponseBody());
+    }
+
+    private void search(HttpExchange exchange, Map<String, String> query) throws IOException {
+        SearchRequest request = new SearchRequest(query.get("hotelId"), parseDaysAhead(query.get("daysAhead")),
+                query.get("roomType"), parseOptional(query.get("nights"), "Invalid nights format"),
+                parseOptional(query.get("minRooms"), "Invalid minimum rooms format"));
+        requestValidationService.validate(request);
+
+        SearchResultWriter writer = new SearchResultWriter(exchange, request);
+        int totalResults = availabilityService.streamSearchAvailability(request, writer::write);
+        writer.finish(totalResults);
+    }
+
+    private int parseDaysAhead(String daysAhead) {
+        try {
+            return Integer.parseInt(daysAhead);
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException("Invalid days ahead format");
+        }
+    }
+
+    private int parseOptional(String value, String invalidMessage) {
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException(invalidMessage);
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        // Once a streamed body has started the status is committed, so a failure can only truncate it
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(64);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        }
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.size());
+        body.writeTo(exchange.getResponseBody());
+    }
+
+    private static int statusFor(BookingSystemException e) {
+        if (e instanceof HotelNotFoundException || e instanceof RoomTypeNotFoundException) {
+            return 404;
+        }
+        if (e instanceof CommandCancelledException) {
+            return 503;
+        }
+        return e.isExpected() ? 400 : 500;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    @FunctionalInterface
+    private interface QueryHandler {
+        void handle(HttpExchange exchange, Map<String, String> query) throws IOException;
+    }
+
+    // Headers are only sent with the first range, so validation failures can still be reported with a proper status
+    private final class SearchResultWriter {
+        private final HttpExchange exchange;
+        private final SearchRequest request;
+        private JsonGenerator generator;
+
+        private SearchResultWriter(HttpExchange exchange, SearchRequest request) {
+            this.exchange = exchange;
+            this.request = request;
+        }
+
+        void write(DateRangeAvailability range) {
+            try {
+                begin();
+                generator.writeStartObject();
+                generator.writeStringField("startDate", range.startDate().format(DATE_FORMATTER));
+                generator.writeStringField("endDate", range.endDate().format(DATE_FORMATTER));
+                generator.writeNumberField("availability", range.availability());
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish(int totalResults) throws IOException {
+            begin();
+            generator.writeEndArray();
+            generator.writeNumberField("totalResults", totalResults);
+            generator.writeEndObject();
+            generator.close();
+        }
+
+        private void begin() throws IOException {
+            if (generator != null) {
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            generator = objectMapper.getFactory().createGenerator(body);
+            generator.writeStartObject();
+            generator.writeStringField("hotelId", request.hotelId());
+            generator.writeStringField("roomType", request.roomType());
+            generator.writeNumberField("daysAhead", request.daysAhead());
+            generator.writeArrayFieldStart("availabilities");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.hotelmanager.service.shard;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+public record ShardAssignment(int index, int count) {
+
+    // Parses the "i/N" form used by --shard
+    public static Optional<ShardAssignment> parse(String value) {
+        int separator = value.indexOf('/');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            int index = Integer.parseInt(value.substring(0, separator));
+            int count = Integer.parseInt(value.substring(separator + 1));
+            if (count < 1 || index < 0 || index >= count) {
+                return Optional.empty();
+            }
+            return Optional.of(new ShardAssignment(index, count));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Predicate<String> hotelFilter() {
+        ShardRing ring = new ShardRing(count);
+        return hotelId -> ring.ownerOf(hotelId) == index;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
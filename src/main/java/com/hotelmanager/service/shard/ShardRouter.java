@@ -0,0 +1,310 @@
+package com.hotelmanager.service.shard;
+
+import com.hotelmanager.config.ShardRouterProperties;
+import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.model.HotelOccupancy;
+import com.hotelmanager.service.CommandHandler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Forwards commands to the shard owning their hotel over the --listen line protocol and merges fan-out queries
+@Slf4j
+public class ShardRouter implements CommandHandler, AutoCloseable {
+    private static final Pattern HOTEL_ARGUMENT = Pattern.compile("^\\s*\\w+\\(\\s*(\\w+)\\s*,");
+    private static final String STATS_COMMAND = "Stats()";
+    private static final String FIND_HOTELS_PREFIX = "FindHotels(";
+    private static final String PORTFOLIO_OCCUPANCY_PREFIX = "Occupancy(*";
+    private static final String LIST_SEPARATOR = ", ";
+    private static final String PORTFOLIO_TOTAL_PREFIX = "Hotel: *,";
+    // Everything before the percentage of an occupancy line, and its sold and available room-nights
+    private static final Pattern OCCUPANCY_LINE =
+            Pattern.compile("^(Hotel: ([^,]*),.*Occupancy: )[^(]*\\((\\d+)/(\\d+) room-nights\\)$");
+    private static final String ERROR_PREFIX = "Error: ";
+    private static final List<String> CHANGE_PREFIXES = List.of("Book(", "Cancel(", "Reload(");
+
+    private final ShardRing ring;
+    private final List<ShardClient> shards = new ArrayList<>();
+    // A send connects and reads at most twice, so a scatter waits no longer than that for any shard
+    private final long scatterTimeoutMillis;
+
+    public ShardRouter(List<InetSocketAddress> shardAddresses, ShardRouterProperties properties) {
+        this.ring = new ShardRing(shardAddresses.size());
+        for (int i = 0; i < shardAddresses.size(); i++) {
+            shards.add(new ShardClient(i, shardAddresses.get(i), properties));
+        }
+        this.scatterTimeoutMillis = 2 * (properties.connectTimeout().toMillis() + properties.readTimeout().toMillis());
+    }
+
+    @Override
+    public CommandResult processCommand(String command) {
+        if (command == null || command.trim().isEmpty()) {
+            return CommandResult.error("Empty command");
+        }
+
+        if (STATS_COMMAND.equals(command.trim())) {
+            return scatter(command, this::mergeSections);
+        }
+
+        // Every shard holds a disjoint set of hotels, so portfolio queries go to all of them
+        if (command.trim().startsWith(FIND_HOTELS_PREFIX)) {
+            return scatter(command, this::mergeHotelLists);
+        }
+
+        if (command.trim().startsWith(PORTFOLIO_OCCUPANCY_PREFIX)) {
+            return scatter(command, this::mergeOccupancy);
+        }
+
+        // Commands without a hotel argument are still sent to a shard so that their errors match a single process
+        Matcher matcher = HOTEL_ARGUMENT.matcher(command);
+        int shard = matcher.find() ? ring.ownerOf(matcher.group(1)) : 0;
+        return shards.get(shard).send(command, isReadOnly(command));
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(ShardClient::close);
+    }
+
+    private CommandResult scatter(String command, Function<List<CommandResult>, CommandResult> merger) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<CommandResult>> futures = new ArrayList<>();
+            for (ShardClient shard : shards) {
+                futures.add(executor.submit(() -> shard.send(command, true)));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scatterTimeoutMillis);
+            List<CommandResult> results = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(await(futures.get(i), deadline, shards.get(i)));
+            }
+            return merger.apply(results);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CommandResult.error("Command interrupted");
+        } catch (ExecutionException e) {
+            return CommandResult.error(e.getCause().getMessage());
+        }
+    }
+
+    private static boolean isReadOnly(String command) {
+        String trimmed = command.trim();
+        return CHANGE_PREFIXES.stream().noneMatch(trimmed::startsWith);
+    }
+
+    // Interrupting a virtual thread blocked on a socket closes the socket, so a cancelled send ends at once
+    private static CommandResult await(Future<CommandResult> future, long deadline, ShardClient shard)
+            throws InterruptedException, ExecutionException {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Shard {} did not answer in time", shard);
+            return shard.unavailable();
+        }
+    }
+
+    private CommandResult mergeSections(List<CommandResult> results) {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < results.size(); i++) {
+            CommandResult result = results.get(i);
+            if (i > 0) {
+                output.append('\n');
+            }
+            output.append("Shard ").append(shards.get(i)).append('\n')
+                    .append(result.success() ? result.output() : ERROR_PREFIX + result.errorMessage());
+        }
+        return CommandResult.success(output.toString());
+    }
+
+    private CommandResult mergeHotelLists(List<CommandResult> results) {
+        List<String> hotelIds = new ArrayList<>();
+        for (CommandResult result : results) {
+            if (!result.success()) {
+                return result;
+            }
+            if (!result.output().isEmpty()) {
+                hotelIds.addAll(List.of(result.output().split(LIST_SEPARATOR)));
+            }
+        }
+        Collections.sort(hotelIds);
+        return CommandResult.success(String.join(LIST_SEPARATOR, hotelIds));
+    }
+
+    // Hotel lines of every shard in hotel order, followed by one total line summing the shards' totals
+    private CommandResult mergeOccupancy(List<CommandResult> results) {
+        List<Matcher> hotels = new ArrayList<>();
+        String totalPrefix = null;
+        long sold = 0;
+        long available = 0;
+        for (CommandResult result : results) {
+            if (!result.success()) {
+                return result;
+            }
+            for (String line : result.output().lines().toList()) {
+                Matcher matcher = OCCUPANCY_LINE.matcher(line);
+                if (!matcher.matches()) {
+                    return CommandResult.error("Unexpected occupancy line from shard: " + line);
+                }
+                if (line.startsWith(PORTFOLIO_TOTAL_PREFIX)) {
+                    totalPrefix = matcher.group(1);
+                    sold += Long.parseLong(matcher.group(3));
+                    available += Long.parseLong(matcher.group(4));
+                } else {
+                    hotels.add(matcher);
+                }
+            }
+        }
+
+        hotels.sort(Comparator.comparing(matcher -> matcher.group(2)));
+        List<String> lines = new ArrayList<>();
+        hotels.forEach(matcher -> lines.add(matcher.group()));
+        if (totalPrefix != null) {
+            HotelOccupancy total = new HotelOccupancy("*", sold, available);
+            lines.add(totalPrefix + String.format("%.1f%% (%d/%d room-nights)",
+                    total.occupancyPercent(), sold, available));
+        }
+        return CommandResult.success(String.join("\n", lines));
+    }
+
+    private static final class ShardClient {
+        private final int index;
+        private final InetSocketAddress address;
+        private final ShardRouterProperties properties;
+        private final Queue<ShardConnection> idle = new ConcurrentLinkedQueue<>();
+
+        private ShardClient(int index, InetSocketAddress address, ShardRouterProperties properties) {
+            this.index = index;
+            this.address = address;
+            this.properties = properties;
+        }
+
+        // A pooled connection the shard has since closed fails on first use, so a read-only command is retried once on a
+        // new one. A change is sent once, on a new connection, since a failure after writing it may come after the shard
+        // ran it. A timeout is never retried, as the shard may still run the command
+        CommandResult send(String command, boolean readOnly) {
+            ShardConnection pooled = readOnly ? idle.poll() : null;
+            if (pooled != null) {
+                try {
+                    return exchange(pooled, command);
+                } catch (SocketTimeoutException e) {
+                    return fail(pooled, e);
+                } catch (IOException e) {
+                    log.debug("Pooled connection to shard {} failed, retrying: {}", this, e.getMessage());
+                    pooled.close();
+                }
+            }
+
+            ShardConnection connection = null;
+            try {
+                connection = new ShardConnection(address, properties);
+                return exchange(connection, command);
+            } catch (IOException e) {
+                return fail(connection, e);
+            }
+        }
+
+        private CommandResult exchange(ShardConnection connection, String command) throws IOException {
+            String response = connection.exchange(command);
+            idle.offer(connection);
+            return response.startsWith(ERROR_PREFIX)
+                    ? CommandResult.error(response.substring(ERROR_PREFIX.length()))
+                    : CommandResult.success(response);
+        }
+
+        private CommandResult fail(ShardConnection connection, IOException e) {
+            log.warn("Shard {} failed: {}", this, e.getMessage());
+            if (connection != null) {
+                connection.close();
+            }
+            return unavailable();
+        }
+
+        CommandResult unavailable() {
+            return CommandResult.error("Shard " + index + " unavailable");
+        }
+
+        void close() {
+            ShardConnection connection;
+            while ((connection = idle.poll()) != null) {
+                connection.close();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return index + " (" + address.getHostString() + ":" + address.getPort() + ")";
+        }
+    }
+
+    private static final class ShardConnection {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final Writer writer;
+
+        private ShardConnection(InetSocketAddress address, ShardRouterProperties properties) throws IOException {
+            socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(address, (int) properties.connectTimeout().toMillis());
+            socket.setSoTimeout((int) properties.readTimeout().toMillis());
+            // A stopped local shard's port can be handed out as our ephemeral port, connecting the socket to itself
+            if (socket.getLocalPort() == socket.getPort() && socket.getLocalAddress().equals(socket.getInetAddress())) {
+                socket.close();
+                throw new IOException("Shard is not listening");
+            }
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        String exchange(String command) throws IOException {
+            writer.write(command);
+            writer.write('\n');
+            writer.flush();
+
+            StringBuilder response = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                if (!response.isEmpty()) {
+                    response.append('\n');
+                }
+                response.append(line);
+            }
+            if (line == null) {
+                throw new IOException("Connection closed by shard");
+            }
+            return response.toString();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("Failed to close shard connection: {}", e.getMessage());
+            }
+        }
+    }
+}
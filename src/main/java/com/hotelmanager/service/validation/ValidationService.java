@@ -1,5 +1,6 @@
 package com.hotelmanager.service.validation;
 
+import com.hotelmanager.config.CommandProperties;
 import com.hotelmanager.exception.HotelNotFoundException;
 import com.hotelmanager.exception.InvalidCommandException;
 import com.hotelmanager.exception.InvalidDateRangeException;
@@ -11,71 +12,131 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ValidationService {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // Fixed-message failures are stackless and immutable, so a single shared instance is enough
+    private static final InvalidDateRangeException INVALID_DATE_FORMAT =
+            new InvalidDateRangeException("Invalid date format. Expected YYYYMMDD");
+    private static final InvalidDateRangeException INVALID_RANGE_FORMAT =
+            new InvalidDateRangeException("Invalid date range format. Expected 'YYYYMMDD-YYYYMMDD'");
+    private static final InvalidDateRangeException END_BEFORE_START =
+            new InvalidDateRangeException("End date cannot be before start date");
+    private static final InvalidCommandException NON_POSITIVE_DAYS_AHEAD =
+            new InvalidCommandException("Days ahead must be positive");
+    private static final InvalidCommandException NON_POSITIVE_NIGHTS =
+            new InvalidCommandException("Nights must be positive");
+    private static final InvalidCommandException NON_POSITIVE_MIN_ROOMS =
+            new InvalidCommandException("Minimum rooms must be positive");
+
     private final HotelDataService hotelDataService;
+    private final CommandProperties commandProperties;
 
     public Hotel validateHotelExists(String hotelId) {
         return hotelDataService.findHotelById(hotelId)
                 .orElseThrow(() -> {
-                    log.warn("Validation failed: Hotel not found - hotelId={}", hotelId);
+                    log.debug("Validation failed: Hotel not found - hotelId={}", hotelId);
                     return new HotelNotFoundException(hotelId);
                 });
     }
 
     public void validateRoomTypeExists(Hotel hotel, String roomType) {
         if (hotel.getTotalRoomsByType(roomType) == 0) {
-            log.warn("Validation failed: Room type not found - hotelId={}, roomType={}",
+            log.debug("Validation failed: Room type not found - hotelId={}, roomType={}",
                     hotel.getId(), roomType);
             throw new RoomTypeNotFoundException(hotel.getId(), roomType);
         }
     }
 
     public LocalDate[] parseDateRange(String dateRange) {
-        try {
-            if (dateRange.contains("-")) {
-                return parseRangeDates(dateRange);
-            } else {
-                LocalDate date = parseDate(dateRange);
-                return new LocalDate[]{date, date};
-            }
-        } catch (DateTimeParseException e) {
-            log.error("Date parsing failed: dateRange={}", dateRange, e);
-            throw new InvalidDateRangeException("Invalid date format. Expected YYYYMMDD");
+        if (dateRange.contains("-")) {
+            return parseRangeDates(dateRange);
+        } else {
+            LocalDate date = parseDate(dateRange);
+            return new LocalDate[]{date, date};
         }
     }
 
     public void validateDaysAhead(int daysAhead) {
         if (daysAhead <= 0) {
-            log.warn("Validation failed: Invalid days ahead - daysAhead={}", daysAhead);
-            throw new InvalidCommandException("Days ahead must be positive");
+            log.debug("Validation failed: Invalid days ahead - daysAhead={}", daysAhead);
+            throw NON_POSITIVE_DAYS_AHEAD;
+        }
+        if (daysAhead > commandProperties.maxDaysAhead()) {
+            log.debug("Validation failed: Days ahead beyond horizon - daysAhead={}", daysAhead);
+            throw new InvalidCommandException("Days ahead must not exceed " + commandProperties.maxDaysAhead());
+        }
+    }
+
+    public void validateNights(int nights) {
+        if (nights <= 0) {
+            log.debug("Validation failed: Invalid nights - nights={}", nights);
+            throw NON_POSITIVE_NIGHTS;
+        }
+        if (nights > commandProperties.maxDaysAhead()) {
+            log.debug("Validation failed: Stay beyond horizon - nights={}", nights);
+            throw new InvalidCommandException("Nights must not exceed " + commandProperties.maxDaysAhead());
+        }
+    }
+
+    public void validateMinRooms(int minRooms) {
+        if (minRooms <= 0) {
+            log.debug("Validation failed: Invalid minimum rooms - minRooms={}", minRooms);
+            throw NON_POSITIVE_MIN_ROOMS;
         }
     }
 
     private LocalDate[] parseRangeDates(String dateRange) {
         String[] dates = dateRange.split("-");
         if (dates.length != 2) {
-            throw new InvalidDateRangeException("Invalid date range format. Expected 'YYYYMMDD-YYYYMMDD'");
+            throw INVALID_RANGE_FORMAT;
         }
 
         LocalDate startDate = parseDate(dates[0]);
         LocalDate endDate = parseDate(dates[1]);
 
         if (endDate.isBefore(startDate)) {
-            throw new InvalidDateRangeException("End date cannot be before start date");
+            throw END_BEFORE_START;
+        }
+        // Range commands keep per-night state, so a range is bounded by the same horizon as Search
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= commandProperties.maxDaysAhead()) {
+            log.debug("Validation failed: Date range beyond horizon - dateRange={}", dateRange);
+            throw new InvalidDateRangeException(
+                    "Date range must not exceed " + commandProperties.maxDaysAhead() + " days");
         }
 
         return new LocalDate[]{startDate, endDate};
     }
 
+    // Parses YYYYMMDD by hand so that a malformed date throws only the shared stackless exception. Days past the end of
+    // the month resolve to its last day, as the smart-resolving yyyyMMdd formatter did
     private LocalDate parseDate(String date) {
-        return LocalDate.parse(date, DATE_FORMATTER);
+        if (date.length() != 8 || !isDigits(date)) {
+            log.debug("Date parsing failed: date={}", date);
+            throw INVALID_DATE_FORMAT;
+        }
+        int year = Integer.parseInt(date, 0, 4, 10);
+        int month = Integer.parseInt(date, 4, 6, 10);
+        int day = Integer.parseInt(date, 6, 8, 10);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+            log.debug("Date parsing failed: date={}", date);
+            throw INVALID_DATE_FORMAT;
+        }
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth()));
+    }
+
+    private static boolean isDigits(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.hotelmanager.util;
+
+import com.hotelmanager.exception.CommandCancelledException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Cooperative time budget for the command running on the current thread. Long loops call checkpoint(),
+ * which aborts the command once the budget is spent or another thread has called cancel(). Resources the command
+ * holds until it ends are released by actions registered with onClose().
+ */
+public final class CommandDeadline implements AutoCloseable {
+
+    private static final ThreadLocal<CommandDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long budgetMillis;
+    private final long deadlineNanos;
+    private final CommandDeadline previous;
+    private final List<Runnable> closeActions = new ArrayList<>();
+    private volatile boolean cancelled;
+
+    private CommandDeadline(Duration budget, CommandDeadline previous) {
+        this.budgetMillis = budget.toMillis();
+        this.deadlineNanos = System.nanoTime() + budget.toNanos();
+        this.previous = previous;
+    }
+
+    public static CommandDeadline start(Duration budget) {
+        CommandDeadline deadline = new CommandDeadline(budget, CURRENT.get());
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public static void checkpoint() {
+        CommandDeadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.check();
+        }
+    }
+
+    // Runs the action when the command on the current thread ends; false, without running it, when none is running
+    public static boolean onClose(Runnable action) {
+        CommandDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return false;
+        }
+        deadline.closeActions.add(action);
+        return true;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public void check() {
+        if (cancelled) {
+            throw new CommandCancelledException("Command cancelled");
+        }
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new CommandCancelledException("Command exceeded time budget of " + budgetMillis + " ms");
+        }
+    }
+
+    @Override
+    public void close() {
+        closeActions.forEach(Runnable::run);
+        closeActions.clear();
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
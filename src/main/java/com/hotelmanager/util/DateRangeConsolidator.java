@@ -0,0 +1,45 @@
+package com.hotelmanager.util;
+
+import com.hotelmanager.model.DateRangeAvailability;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+// Incremental form of DateRangeUtil.consolidateDateRanges: each range is emitted as soon as it closes
+public class DateRangeConsolidator {
+
+    private final Consumer<DateRangeAvailability> sink;
+    private LocalDate rangeStart;
+    private LocalDate lastDate;
+    private int rangeAvailability;
+    private int emitted;
+
+    public DateRangeConsolidator(Consumer<DateRangeAvailability> sink) {
+        this.sink = sink;
+    }
+
+    public void accept(LocalDate date, int availability) {
+        if (rangeStart != null && date.equals(lastDate.plusDays(1)) && availability == rangeAvailability) {
+            lastDate = date;
+            return;
+        }
+
+        emitCurrentRange();
+        rangeStart = date;
+        lastDate = date;
+        rangeAvailability = availability;
+    }
+
+    public int finish() {
+        emitCurrentRange();
+        rangeStart = null;
+        return emitted;
+    }
+
+    private void emitCurrentRange() {
+        if (rangeStart != null) {
+            sink.accept(new DateRangeAvailability(rangeStart, lastDate, rangeAvailability));
+            emitted++;
+        }
+    }
+}
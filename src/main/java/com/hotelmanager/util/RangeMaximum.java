@@ -0,0 +1,34 @@
+package com.hotelmanager.util;
+
+// Sparse table: level k holds the maximum of every run of 2^k values, so any range is covered by two overlapping runs
+public final class RangeMaximum {
+
+    private final int[][] levels;
+
+    private RangeMaximum(int[][] levels) {
+        this.levels = levels;
+    }
+
+    public static RangeMaximum of(int[] values) {
+        int levelCount = Math.max(32 - Integer.numberOfLeadingZeros(values.length), 1);
+        int[][] levels = new int[levelCount][];
+        levels[0] = values.clone();
+        for (int level = 1; level < levelCount; level++) {
+            int half = 1 << (level - 1);
+            int[] previous = levels[level - 1];
+            int[] current = new int[values.length - (half << 1) + 1];
+            for (int i = 0; i < current.length; i++) {
+                current[i] = Math.max(previous[i], previous[i + half]);
+            }
+            levels[level] = current;
+        }
+        return new RangeMaximum(levels);
+    }
+
+    // Maximum of values[from..to], both inclusive
+    public int max(int from, int to) {
+        int level = 31 - Integer.numberOfLeadingZeros(to - from + 1);
+        int[] runs = levels[level];
+        return Math.max(runs[from], runs[to - (1 << level) + 1]);
+    }
+}
@@ -0,0 +1,30 @@
+package com.hotelmanager.util;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class SlidingWindowMinimum {
+
+    // Minimum of every run of `window` consecutive values, in one pass over a monotonic deque of indices
+    public int[] of(int[] values, int window) {
+        int[] minimums = new int[Math.max(values.length - window + 1, 0)];
+        int[] deque = new int[values.length];
+        int head = 0;
+        int tail = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            // Earlier values no smaller than this one can never be a window minimum again
+            while (tail > head && values[deque[tail - 1]] >= values[i]) {
+                tail--;
+            }
+            deque[tail++] = i;
+            if (deque[head] <= i - window) {
+                head++;
+            }
+            if (i >= window - 1) {
+                minimums[i - window + 1] = values[deque[head]];
+            }
+        }
+        return minimums;
+    }
+}
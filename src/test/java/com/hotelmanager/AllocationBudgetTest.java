@@ -0,0 +1,273 @@
+package com.hotelmanager;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelmanager.config.BookingShardProperties;
+import com.hotelmanager.config.HotelLoadProperties;
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.config.ReplicationProperties;
+import com.hotelmanager.config.RetentionProperties;
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.Room;
+import com.hotelmanager.model.RoomType;
+import com.hotelmanager.parser.AmenityFindHotelsCommandParser;
+import com.hotelmanager.parser.AmenitySearchCommandParser;
+import com.hotelmanager.parser.AvailabilityCommandParser;
+import com.hotelmanager.parser.BatchAvailabilityCommandParser;
+import com.hotelmanager.parser.BookingCommandParser;
+import com.hotelmanager.parser.BookingListCommandParser;
+import com.hotelmanager.parser.FindHotelsCommandParser;
+import com.hotelmanager.parser.FreeRoomCommandParser;
+import com.hotelmanager.parser.OccupancyCommandParser;
+import com.hotelmanager.parser.RateMixCommandParser;
+import com.hotelmanager.parser.RoomCombinationCommandParser;
+import com.hotelmanager.parser.SearchCommandParser;
+import com.hotelmanager.service.CommandProcessor;
+import com.hotelmanager.service.analytics.OccupancyAnalyticsService;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.availability.BookingQueryService;
+import com.hotelmanager.service.availability.IndexedAvailabilityEngine;
+import com.hotelmanager.service.availability.RoomAssignmentService;
+import com.hotelmanager.service.command.AmenityFindHotelsCommandRoute;
+import com.hotelmanager.service.command.AmenitySearchCommandRoute;
+import com.hotelmanager.service.command.AvailabilityCommandRoute;
+import com.hotelmanager.service.command.BatchAvailabilityCommandRoute;
+import com.hotelmanager.service.command.BookingChangeCommandRoute;
+import com.hotelmanager.service.command.BookingListCommandRoute;
+import com.hotelmanager.service.command.FindHotelsCommandRoute;
+import com.hotelmanager.service.command.FreeRoomCommandRoute;
+import com.hotelmanager.service.command.OccupancyCommandRoute;
+import com.hotelmanager.service.command.RateMixCommandRoute;
+import com.hotelmanager.service.command.RoomCombinationCommandRoute;
+import com.hotelmanager.service.command.SearchCommandRoute;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.monitoring.AllocationMeter;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.ErrorTracker;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import com.hotelmanager.service.replication.BookingChangeLog;
+import com.hotelmanager.service.validation.RequestValidationService;
+import com.hotelmanager.service.validation.ValidationService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+ * Guards the GC pressure of the command hot path. Budgets are average bytes allocated per command on the
+ * calling thread, measured after warm-up so that class loading and JIT noise do not count. Logging is
+ * silenced to measure the command path itself. Commands run on the indexed engine, the shipped default.
+ * Lower a budget when an optimization lands; raising one needs a good reason.
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 1_000;
+
+    private static final long AVAILABILITY_BUDGET_BYTES = 8 * 1024;
+    private static final long SEARCH_BUDGET_BYTES = 32 * 1024;
+    private static final long INVALID_COMMAND_BUDGET_BYTES = 8 * 1024;
+
+    private static final int ROOMS_PER_TYPE = 20;
+    private static final String SEARCH_OUTPUT = "\\(\\d{8}-\\d{8}, \\d+\\)(, \\(\\d{8}-\\d{8}, \\d+\\))*";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @TempDir
+    static Path tempDir;
+
+    private static CommandProcessor commandProcessor;
+    private static List<Booking> bookings;
+    private static Level originalLevel;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        Logger logger = (Logger) LoggerFactory.getLogger("com.hotelmanager");
+        originalLevel = logger.getLevel();
+        logger.setLevel(Level.WARN);
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Path hotelFile = tempDir.resolve("hotels.json");
+        Path bookingFile = tempDir.resolve("bookings.json");
+        objectMapper.writeValue(hotelFile.toFile(), List.of(createHotel()));
+        bookings = createBookings();
+        objectMapper.writeValue(bookingFile.toFile(), bookings);
+
+        HotelDataService dataService = new HotelDataService(objectMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), HotelLoadProperties.defaults());
+        dataService.loadFromFiles(hotelFile.toString(), bookingFile.toString());
+        commandProcessor = createCommandProcessor(dataService);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        ((Logger) LoggerFactory.getLogger("com.hotelmanager")).setLevel(originalLevel);
+    }
+
+    @Test
+    @DisplayName("Availability command should stay within its allocation budget")
+    void availabilityCommand_ShouldStayWithinAllocationBudget() {
+        LocalDate start = LocalDate.now().plusDays(10);
+        LocalDate end = start.plusDays(6);
+        String dateRange = start.format(DATE_FORMATTER) + "-" + end.format(DATE_FORMATTER);
+
+        Measurement measurement = measure(String.format("Availability(H1, %s, DBL)", dateRange));
+
+        assertThat(measurement.result()).isEqualTo(CommandResult.success(String.format(
+                "Hotel: H1, Room Type: DBL, Date Range: %s, Available Rooms: %d",
+                dateRange, expectedAvailability("DBL", start, end))));
+        assertThat(measurement.averageBytes()).isLessThan(AVAILABILITY_BUDGET_BYTES);
+    }
+
+    @Test
+    @DisplayName("Search command should stay within its allocation budget")
+    void searchCommand_ShouldStayWithinAllocationBudget() {
+        Measurement measurement = measure("Search(H1, 30, DBL)");
+
+        assertThat(measurement.result().success()).isTrue();
+        assertThat(measurement.result().output()).matches(SEARCH_OUTPUT);
+        assertThat(measurement.averageBytes()).isLessThan(SEARCH_BUDGET_BYTES);
+    }
+
+    @Test
+    @DisplayName("Rejected command should stay within its allocation budget")
+    void invalidCommand_ShouldStayWithinAllocationBudget() {
+        Measurement measurement = measure("Availability(H9, 20240901, DBL)");
+
+        assertThat(measurement.result()).isEqualTo(CommandResult.error("Hotel not found: H9"));
+        assertThat(measurement.averageBytes()).isLessThan(INVALID_COMMAND_BUDGET_BYTES);
+    }
+
+    private record Measurement(CommandResult result, long averageBytes) {
+    }
+
+    // Runs the command cold, warms up, then measures; the measured runs must answer exactly as the cold run did
+    private Measurement measure(String command) {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation accounting not supported by this JVM");
+
+        CommandResult coldResult = commandProcessor.processCommand(command);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            commandProcessor.processCommand(command);
+        }
+
+        long start = AllocationMeter.currentThreadAllocatedBytes();
+        CommandResult result = null;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            result = commandProcessor.processCommand(command);
+        }
+        long average = AllocationMeter.allocatedSince(start) / MEASURED_ITERATIONS;
+
+        assertThat(result).isEqualTo(coldResult);
+        return new Measurement(result, average);
+    }
+
+    // Rooms of the type free on every night from start to end inclusive, counted straight from the generated bookings
+    private static int expectedAvailability(String roomType, LocalDate start, LocalDate end) {
+        int available = ROOMS_PER_TYPE;
+        for (LocalDate night = start; !night.isAfter(end); night = night.plusDays(1)) {
+            LocalDate current = night;
+            long sold = bookings.stream()
+                    .filter(booking -> booking.roomType().equals(roomType))
+                    .filter(booking -> !booking.arrival().isAfter(current) && booking.departure().isAfter(current))
+                    .count();
+            available = Math.min(available, ROOMS_PER_TYPE - (int) sold);
+        }
+        return available;
+    }
+
+    private static Hotel createHotel() {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS_PER_TYPE; i++) {
+            rooms.add(new Room("SGL", "1" + i));
+            rooms.add(new Room("DBL", "2" + i));
+        }
+
+        Hotel hotel = new Hotel();
+        hotel.setId("H1");
+        hotel.setName("Allocation Test Hotel");
+        hotel.setRoomTypes(List.of(
+                new RoomType("SGL", "Single Room", List.of("WiFi"), List.of("Non-smoking")),
+                new RoomType("DBL", "Double Room", List.of("WiFi", "Minibar"), List.of("Sea View"))
+        ));
+        hotel.setRooms(rooms);
+        return hotel;
+    }
+
+    private static List<Booking> createBookings() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDate arrival = today.plusDays(random.nextInt(365));
+            bookings.add(new Booking("H1", random.nextBoolean() ? "SGL" : "DBL", "Standard",
+                    arrival, arrival.plusDays(1 + random.nextInt(7))));
+        }
+        return bookings;
+    }
+
+    private static CommandProcessor createCommandProcessor(HotelDataService dataService) {
+        var errorTracker = new ErrorTracker();
+        var commandMetrics = new CommandMetrics(errorTracker);
+        var validationService = new ValidationService(dataService, CommandProperties.defaults());
+        var availabilityEngine = new IndexedAvailabilityEngine(dataService);
+        var availabilityService = new AvailabilityService(validationService, availabilityEngine, commandMetrics);
+        var requestValidationService = new RequestValidationService(
+                Validation.buildDefaultValidatorFactory().getValidator());
+
+        var roomAssignmentService = new RoomAssignmentService(validationService, dataService, commandMetrics);
+        var bookingQueryService = new BookingQueryService(validationService, dataService, commandMetrics);
+        var occupancyAnalyticsService = new OccupancyAnalyticsService(validationService, dataService, commandMetrics);
+        var bookingChangeLog = new BookingChangeLog(dataService, validationService, availabilityEngine,
+                ReplicationProperties.defaults());
+        var responseFormatter = new ResponseFormatter();
+
+        return new CommandProcessor(
+                List.of(
+                        new AvailabilityCommandRoute(new AvailabilityCommandParser(requestValidationService),
+                                availabilityService, responseFormatter),
+                        new SearchCommandRoute(new SearchCommandParser(requestValidationService),
+                                availabilityService, responseFormatter),
+                        new FindHotelsCommandRoute(new FindHotelsCommandParser(requestValidationService),
+                                availabilityService, responseFormatter),
+                        new AmenitySearchCommandRoute(new AmenitySearchCommandParser(requestValidationService),
+                                availabilityService, responseFormatter),
+                        new AmenityFindHotelsCommandRoute(new AmenityFindHotelsCommandParser(requestValidationService),
+                                availabilityService, responseFormatter),
+                        new RoomCombinationCommandRoute(new RoomCombinationCommandParser(requestValidationService),
+                                availabilityService, responseFormatter),
+                        new BatchAvailabilityCommandRoute(new BatchAvailabilityCommandParser(requestValidationService),
+                                availabilityService, responseFormatter),
+                        new FreeRoomCommandRoute(new FreeRoomCommandParser(requestValidationService),
+                                roomAssignmentService, responseFormatter),
+                        new BookingListCommandRoute(new BookingListCommandParser(requestValidationService),
+                                bookingQueryService, responseFormatter),
+                        new OccupancyCommandRoute(new OccupancyCommandParser(requestValidationService),
+                                occupancyAnalyticsService, responseFormatter),
+                        new RateMixCommandRoute(new RateMixCommandParser(requestValidationService),
+                                occupancyAnalyticsService, responseFormatter),
+                        new BookingChangeCommandRoute(new BookingCommandParser(requestValidationService),
+                                bookingChangeLog, responseFormatter)),
+                responseFormatter,
+                errorTracker,
+                commandMetrics,
+                CommandProperties.defaults(),
+                bookingChangeLog);
+    }
+}
@@ -1,9 +1,16 @@
 package com.hotelmanager;
 
+import com.hotelmanager.config.ShardRouterProperties;
 import com.hotelmanager.exception.DataLoadException;
 import com.hotelmanager.service.presentation.ConsoleOutputService;
+import com.hotelmanager.service.CommandHandler;
 import com.hotelmanager.service.HotelBookingService;
 import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.replication.ReplicaFollower;
+import com.hotelmanager.service.replication.ReplicationPublisher;
+import com.hotelmanager.service.server.CommandServer;
+import com.hotelmanager.service.server.HttpQueryServer;
+import com.hotelmanager.service.shard.ShardRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.*;
@@ -27,11 +35,24 @@ class HotelBookingApplicationTest {
     @Mock
     private ConsoleOutputService consoleOutputService;
 
+    @Mock
+    private CommandServer commandServer;
+
+    @Mock
+    private HttpQueryServer httpQueryServer;
+
+    @Mock
+    private ReplicationPublisher replicationPublisher;
+
+    @Mock
+    private ReplicaFollower replicaFollower;
+
     private HotelBookingApplication application;
 
     @BeforeEach
     void setUp() {
-        application = new HotelBookingApplication(hotelDataService, hotelBookingService, consoleOutputService);
+        application = new HotelBookingApplication(hotelDataService, hotelBookingService, consoleOutputService,
+                commandServer, httpQueryServer, replicationPublisher, replicaFollower, ShardRouterProperties.defaults());
     }
 
     @Test
@@ -47,6 +68,151 @@ class HotelBookingApplicationTest {
         verify(hotelDataService).loadFromFiles("test_hotels.json", "test_bookings.json");
         verify(hotelBookingService).startCommandLoop();
         verifyNoInteractions(consoleOutputService);
+        verifyNoInteractions(commandServer);
+    }
+
+    @Test
+    void executeApplication_WithListenPort_ShouldServeInsteadOfCommandLoop() {
+        // Given
+        String[] args = {"--hotels", "test_hotels.json", "--bookings", "test_bookings.json", "--listen", "7070"};
+        when(commandServer.start(7070)).thenReturn(7070);
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(hotelDataService).loadFromFiles("test_hotels.json", "test_bookings.json");
+        verify(consoleOutputService).displayMessage("Listening on port 7070");
+        verify(commandServer).awaitTermination();
+        verify(hotelBookingService, never()).startCommandLoop();
+        verifyNoInteractions(httpQueryServer);
+    }
+
+    @Test
+    void executeApplication_WithHttpPort_ShouldServeHttpApi() {
+        // Given
+        String[] args = {"--hotels", "test_hotels.json", "--bookings", "test_bookings.json", "--http", "8080"};
+        when(httpQueryServer.start(8080)).thenReturn(8080);
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(consoleOutputService).displayMessage("HTTP API listening on port 8080");
+        verify(httpQueryServer).awaitTermination();
+        verifyNoInteractions(commandServer);
+        verify(hotelBookingService, never()).startCommandLoop();
+    }
+
+    @Test
+    void executeApplication_WithShard_ShouldLoadOnlyItsPartition() {
+        // Given
+        String[] args = {"--hotels", "test_hotels.json", "--bookings", "test_bookings.json", "--shard", "1/3"};
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(hotelDataService).loadFromFiles(eq("test_hotels.json"), eq("test_bookings.json"), any());
+        verify(hotelDataService, never()).loadFromFiles("test_hotels.json", "test_bookings.json");
+        verify(hotelBookingService).startCommandLoop();
+    }
+
+    @Test
+    void executeApplication_WithInvalidShard_ShouldDisplayUsage() {
+        // Given
+        String[] args = {"--hotels", "test_hotels.json", "--bookings", "test_bookings.json", "--shard", "3/3"};
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(consoleOutputService).displayError(contains("--shard <i/N>"));
+        verifyNoInteractions(hotelDataService);
+    }
+
+    @Test
+    void executeApplication_WithRoute_ShouldServeRouterWithoutLoadingData() {
+        // Given
+        String[] args = {"--route", "localhost:7001,localhost:7002", "--listen", "7000"};
+        when(commandServer.start(eq(7000), any(ShardRouter.class))).thenReturn(7000);
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(consoleOutputService).displayMessage("Listening on port 7000");
+        verify(commandServer).awaitTermination();
+        verifyNoInteractions(hotelDataService);
+        verify(hotelBookingService, never()).startCommandLoop();
+    }
+
+    @Test
+    void executeApplication_WithInvalidRoute_ShouldDisplayUsage() {
+        // Given
+        String[] args = {"--route", "localhost"};
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(consoleOutputService).displayError(contains("--route <host:port,...>"));
+        verifyNoInteractions(commandServer);
+    }
+
+    @Test
+    void executeApplication_WithPublish_ShouldPublishChangesAndStartCommandLoop() {
+        // Given
+        String[] args = {"--hotels", "test_hotels.json", "--bookings", "test_bookings.json", "--publish", "7100"};
+        when(replicationPublisher.start(7100)).thenReturn(7100);
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(consoleOutputService).displayMessage("Publishing changes on port 7100");
+        verify(hotelBookingService).startCommandLoop();
+    }
+
+    @Test
+    void executeApplication_WithReplicate_ShouldFollowPrimaryAndServeReadOnly() {
+        // Given
+        String[] args = {"--hotels", "test_hotels.json", "--bookings", "test_bookings.json",
+                "--replicate", "localhost:7100"};
+        CommandHandler readOnlyHandler = command -> null;
+        when(replicaFollower.readOnlyHandler()).thenReturn(readOnlyHandler);
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(hotelDataService).loadFromFiles("test_hotels.json", "test_bookings.json");
+        verify(replicaFollower).start(any());
+        verify(hotelBookingService).startCommandLoop(readOnlyHandler);
+        verify(hotelBookingService, never()).startCommandLoop();
+    }
+
+    @Test
+    void executeApplication_WithInvalidListenPort_ShouldDisplayUsage() {
+        // Given
+        String[] args = {"--hotels", "test_hotels.json", "--bookings", "test_bookings.json", "--listen", "http"};
+
+        // When
+        boolean result = application.executeApplication(args);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(consoleOutputService).displayError(contains("--listen <port>"));
+        verifyNoInteractions(hotelDataService);
+        verifyNoInteractions(commandServer);
     }
 
     @Test
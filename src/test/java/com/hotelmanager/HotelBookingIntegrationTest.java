@@ -2,17 +2,58 @@ package com.hotelmanager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelmanager.config.BookingShardProperties;
+import com.hotelmanager.config.HotelLoadProperties;
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.config.ReplicationProperties;
+import com.hotelmanager.config.ShardRouterProperties;
+import com.hotelmanager.config.RetentionProperties;
 import com.hotelmanager.model.Booking;
 import com.hotelmanager.model.Hotel;
 import com.hotelmanager.model.Room;
 import com.hotelmanager.model.RoomType;
+import com.hotelmanager.parser.AmenityFindHotelsCommandParser;
+import com.hotelmanager.parser.AmenitySearchCommandParser;
+import com.hotelmanager.parser.AvailabilityCommandParser;
+import com.hotelmanager.parser.BatchAvailabilityCommandParser;
+import com.hotelmanager.parser.BookingCommandParser;
+import com.hotelmanager.parser.BookingListCommandParser;
+import com.hotelmanager.parser.FindHotelsCommandParser;
+import com.hotelmanager.parser.FreeRoomCommandParser;
+import com.hotelmanager.parser.OccupancyCommandParser;
+import com.hotelmanager.parser.RateMixCommandParser;
+import com.hotelmanager.parser.RoomCombinationCommandParser;
+import com.hotelmanager.parser.SearchCommandParser;
+import com.hotelmanager.service.analytics.OccupancyAnalyticsService;
 import com.hotelmanager.service.availability.AvailabilityCalculator;
 import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.availability.BookingQueryService;
+import com.hotelmanager.service.availability.RoomAssignmentService;
+import com.hotelmanager.service.command.CommandRoute;
+import com.hotelmanager.service.command.AmenityFindHotelsCommandRoute;
+import com.hotelmanager.service.command.AmenitySearchCommandRoute;
+import com.hotelmanager.service.command.AvailabilityCommandRoute;
+import com.hotelmanager.service.command.BatchAvailabilityCommandRoute;
+import com.hotelmanager.service.command.BookingChangeCommandRoute;
+import com.hotelmanager.service.command.BookingListCommandRoute;
+import com.hotelmanager.service.command.FindHotelsCommandRoute;
+import com.hotelmanager.service.command.FreeRoomCommandRoute;
+import com.hotelmanager.service.command.OccupancyCommandRoute;
+import com.hotelmanager.service.command.RateMixCommandRoute;
+import com.hotelmanager.service.command.RoomCombinationCommandRoute;
+import com.hotelmanager.service.command.SearchCommandRoute;
 import com.hotelmanager.service.data.HotelDataService;
 import com.hotelmanager.service.CommandProcessor;
 import com.hotelmanager.service.HotelBookingService;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.ErrorTracker;
 import com.hotelmanager.service.presentation.ConsoleOutputService;
 import com.hotelmanager.service.presentation.ResponseFormatter;
+import com.hotelmanager.service.replication.BookingChangeLog;
+import com.hotelmanager.service.replication.ReplicaFollower;
+import com.hotelmanager.service.replication.ReplicationPublisher;
+import com.hotelmanager.service.server.CommandServer;
+import com.hotelmanager.service.server.HttpQueryServer;
 import com.hotelmanager.service.validation.RequestValidationService;
 import com.hotelmanager.service.validation.ValidationService;
 import jakarta.validation.Validator;
@@ -39,15 +80,43 @@ class HotelBookingIntegrationTest {
     private ByteArrayOutputStream outputStream;
     private ByteArrayOutputStream errorStream;
 
-    private static CommandProcessor getCommandProcessor(Validator validator, AvailabilityService availabilityService) {
+    private static CommandProcessor getCommandProcessor(Validator validator, AvailabilityService availabilityService,
+                                                        RoomAssignmentService roomAssignmentService,
+                                                        BookingQueryService bookingQueryService,
+                                                        OccupancyAnalyticsService occupancyAnalyticsService,
+                                                        ErrorTracker errorTracker, CommandMetrics commandMetrics,
+                                                        BookingChangeLog bookingChangeLog) {
         var requestValidationService = new RequestValidationService(validator);
-
-        var availabilityParser = new com.hotelmanager.parser.AvailabilityCommandParser(requestValidationService);
-        var searchParser = new com.hotelmanager.parser.SearchCommandParser(requestValidationService);
         var responseFormatter = new ResponseFormatter();
 
-        return new CommandProcessor(
-                availabilityParser, searchParser, availabilityService, responseFormatter);
+        var routes = List.<CommandRoute<?, ?>>of(
+                new AvailabilityCommandRoute(new AvailabilityCommandParser(requestValidationService),
+                        availabilityService, responseFormatter),
+                new SearchCommandRoute(new SearchCommandParser(requestValidationService),
+                        availabilityService, responseFormatter),
+                new FindHotelsCommandRoute(new FindHotelsCommandParser(requestValidationService),
+                        availabilityService, responseFormatter),
+                new AmenitySearchCommandRoute(new AmenitySearchCommandParser(requestValidationService),
+                        availabilityService, responseFormatter),
+                new AmenityFindHotelsCommandRoute(new AmenityFindHotelsCommandParser(requestValidationService),
+                        availabilityService, responseFormatter),
+                new RoomCombinationCommandRoute(new RoomCombinationCommandParser(requestValidationService),
+                        availabilityService, responseFormatter),
+                new BatchAvailabilityCommandRoute(new BatchAvailabilityCommandParser(requestValidationService),
+                        availabilityService, responseFormatter),
+                new FreeRoomCommandRoute(new FreeRoomCommandParser(requestValidationService),
+                        roomAssignmentService, responseFormatter),
+                new BookingListCommandRoute(new BookingListCommandParser(requestValidationService),
+                        bookingQueryService, responseFormatter),
+                new OccupancyCommandRoute(new OccupancyCommandParser(requestValidationService),
+                        occupancyAnalyticsService, responseFormatter),
+                new RateMixCommandRoute(new RateMixCommandParser(requestValidationService),
+                        occupancyAnalyticsService, responseFormatter),
+                new BookingChangeCommandRoute(new BookingCommandParser(requestValidationService),
+                        bookingChangeLog, responseFormatter));
+
+        return new CommandProcessor(routes, responseFormatter, errorTracker, commandMetrics,
+                CommandProperties.defaults(), bookingChangeLog);
     }
 
     @BeforeEach
@@ -199,17 +268,37 @@ class HotelBookingIntegrationTest {
     }
 
     private HotelBookingApplication createApplication() {
-        var dataService = new HotelDataService(objectMapper);
+        var dataService = new HotelDataService(objectMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), HotelLoadProperties.defaults());
         var availabilityCalculator = new AvailabilityCalculator(dataService);
-        var validationService = new ValidationService(dataService);
-        var availabilityService = new AvailabilityService(validationService, availabilityCalculator);
+        var validationService = new ValidationService(dataService, CommandProperties.defaults());
+        var errorTracker = new ErrorTracker();
+        var commandMetrics = new CommandMetrics(errorTracker);
+        var availabilityService = new AvailabilityService(validationService, availabilityCalculator, commandMetrics);
 
         var validator = jakarta.validation.Validation.buildDefaultValidatorFactory().getValidator();
-        var commandProcessor = getCommandProcessor(validator, availabilityService);
+        var bookingChangeLog = new BookingChangeLog(dataService, validationService, availabilityCalculator,
+                ReplicationProperties.defaults());
+        var roomAssignmentService = new RoomAssignmentService(validationService, dataService, commandMetrics);
+        var bookingQueryService = new BookingQueryService(validationService, dataService, commandMetrics);
+        var occupancyAnalyticsService = new OccupancyAnalyticsService(validationService, dataService, commandMetrics);
+        var commandProcessor = getCommandProcessor(validator, availabilityService, roomAssignmentService,
+                bookingQueryService, occupancyAnalyticsService, errorTracker, commandMetrics, bookingChangeLog);
 
         var consoleOutputService = new ConsoleOutputService();
-        var hotelBookingService = new HotelBookingService(commandProcessor, consoleOutputService);
+        var hotelBookingService = new HotelBookingService(commandProcessor, consoleOutputService,
+                CommandProperties.defaults());
+
+        var commandServer = new CommandServer(commandProcessor, CommandProperties.defaults());
+        var httpQueryServer = new HttpQueryServer(availabilityService, new RequestValidationService(validator),
+                errorTracker, commandMetrics, CommandProperties.defaults(), objectMapper);
+
+        var replicationPublisher = new ReplicationPublisher(bookingChangeLog, ReplicationProperties.defaults(),
+                commandMetrics);
+        var replicaFollower = new ReplicaFollower(bookingChangeLog, ReplicationProperties.defaults(), commandMetrics,
+                commandProcessor, new BookingCommandParser(new RequestValidationService(validator)));
 
-        return new HotelBookingApplication(dataService, hotelBookingService, consoleOutputService);
+        return new HotelBookingApplication(dataService, hotelBookingService, consoleOutputService, commandServer,
+                httpQueryServer, replicationPublisher, replicaFollower, ShardRouterProperties.defaults());
     }
 }
\ No newline at end of file
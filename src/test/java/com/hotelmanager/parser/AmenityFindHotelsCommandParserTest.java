@@ -0,0 +1,43 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.model.request.AmenityFindHotelsRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AmenityFindHotelsCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private AmenityFindHotelsCommandParser parser;
+
+    @Test
+    @DisplayName("Should recognise hotel searches filtered by a bracketed attribute list")
+    void canParse_WithAttributeList_ShouldReturnTrue() {
+        assertThat(parser.canParse("FindHotels(20250610-20250614, [Sea View, Minibar], 2)")).isTrue();
+        assertThat(parser.canParse("FindHotels(20250610-20250614, DBL, 2)")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse a filtered hotel search into a request")
+    void parse_WithAttributeList_ShouldReturnRequest() {
+        // When
+        AmenityFindHotelsRequest request = parser.parse("FindHotels(20250610, [Sea View], 1)");
+
+        // Then
+        assertThat(request).isEqualTo(new AmenityFindHotelsRequest("20250610", List.of("Sea View"), 1));
+        verify(validationService).validate(request);
+    }
+}
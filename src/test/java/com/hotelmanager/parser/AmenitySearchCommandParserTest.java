@@ -0,0 +1,44 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.model.request.AmenitySearchRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AmenitySearchCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private AmenitySearchCommandParser parser;
+
+    @Test
+    @DisplayName("Should recognise searches filtered by a bracketed attribute list")
+    void canParse_WithAttributeList_ShouldReturnTrue() {
+        assertThat(parser.canParse("Search(H1, 30, [Sea View, Minibar])")).isTrue();
+        assertThat(parser.canParse("Search(H1, 30, [WiFi])")).isTrue();
+        assertThat(parser.canParse("Search(H1, 30, DBL)")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse trimmed attributes, skipping empty entries")
+    void parse_WithAttributeList_ShouldReturnRequest() {
+        // When
+        AmenitySearchRequest request = parser.parse("Search(H1, 30, [ Sea View ,Minibar, ])");
+
+        // Then
+        assertThat(request).isEqualTo(new AmenitySearchRequest("H1", 30, List.of("Sea View", "Minibar")));
+        verify(validationService).validate(request);
+    }
+}
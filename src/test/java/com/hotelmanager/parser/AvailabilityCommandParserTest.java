@@ -95,6 +95,17 @@ class AvailabilityCommandParserTest {
         assertThat(result.roomType()).isEqualTo("SGL");
     }
 
+    @Test
+    @DisplayName("Should parse an optional rate plan breakdown")
+    void parse_WithRateBreakdown_ShouldRequestIt() {
+        assertThat(parser.parse("Availability(H1, 20240901-20240903, SGL, ByRate)"))
+                .isEqualTo(new AvailabilityRequest("H1", "20240901-20240903", "SGL", true));
+        assertThat(parser.parse("Availability(H1, 20240901, SGL)").byRate()).isFalse();
+        assertThatThrownBy(() -> parser.parse("Availability(H1, 20240901, SGL, ByRoom)"))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Invalid availability breakdown: ByRoom");
+    }
+
     @Test
     @DisplayName("Should throw exception for invalid command format")
     void parse_WithInvalidFormat_ShouldThrowException() {
@@ -0,0 +1,45 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.model.request.BatchAvailabilityRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchAvailabilityCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private BatchAvailabilityCommandParser parser;
+
+    @Test
+    @DisplayName("Should recognise availability checks with a bracketed list of date ranges")
+    void canParse_WithDateRangeList_ShouldReturnTrue() {
+        assertThat(parser.canParse("Availability(H1, [20240901-20240903, 20240910], DBL)")).isTrue();
+        assertThat(parser.canParse("Availability(H1, 20240901-20240903, DBL)")).isFalse();
+        assertThat(parser.canParse("Availability(H1, 20240901, [2 DBL])")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse the date ranges in request order")
+    void parse_WithDateRangeList_ShouldReturnRequest() {
+        // When
+        BatchAvailabilityRequest request = parser.parse("Availability(H1, [20240910,20240901-20240903], DBL)");
+
+        // Then
+        assertThat(request).isEqualTo(new BatchAvailabilityRequest("H1",
+                List.of("20240910", "20240901-20240903"), "DBL"));
+        verify(validationService).validate(request);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.ChangeType;
+import com.hotelmanager.model.request.BookingRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private BookingCommandParser parser;
+
+    @Test
+    @DisplayName("Should recognise book and cancel commands")
+    void canParse_WithBookingCommands_ShouldReturnTrue() {
+        assertThat(parser.canParse("Book(H1, 20240901-20240903, SGL, Prepaid)")).isTrue();
+        assertThat(parser.canParse("Cancel(H1, 20240901, DBL, Standard)")).isTrue();
+        assertThat(parser.canParse("Book(H1, 20240901, SGL)")).isFalse();
+        assertThat(parser.canParse("Availability(H1, 20240901, SGL)")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse a book command into an add request")
+    void parse_WithBookCommand_ShouldReturnAddRequest() {
+        // When
+        BookingRequest request = parser.parse("Book(H1, 20240901-20240903, SGL, Prepaid)");
+
+        // Then
+        assertThat(request).isEqualTo(
+                new BookingRequest(ChangeType.ADD, "H1", "20240901-20240903", "SGL", "Prepaid"));
+        verify(validationService).validate(request);
+    }
+
+    @Test
+    @DisplayName("Should parse a cancel command into a cancel request")
+    void parse_WithCancelCommand_ShouldReturnCancelRequest() {
+        // When
+        BookingRequest request = parser.parse("Cancel(H2, 20240901, DBL, Standard)");
+
+        // Then
+        assertThat(request.type()).isEqualTo(ChangeType.CANCEL);
+        assertThat(request.hotelId()).isEqualTo("H2");
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid booking command")
+    void parse_WithInvalidCommand_ShouldThrowException() {
+        assertThatThrownBy(() -> parser.parse("Book(H1)"))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Invalid booking command");
+    }
+}
@@ -0,0 +1,35 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.model.request.BookingListRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookingListCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private BookingListCommandParser parser;
+
+    @Test
+    @DisplayName("Should parse a bookings query and leave Book commands to the booking parser")
+    void parse_WithValidCommand_ShouldReturnRequest() {
+        // When
+        BookingListRequest request = parser.parse("Bookings(H1, 20240901-20240905, DBL)");
+
+        // Then
+        assertThat(request).isEqualTo(new BookingListRequest("H1", "20240901-20240905", "DBL"));
+        verify(validationService).validate(request);
+        assertThat(parser.canParse("Book(H1, 20240901-20240905, DBL, Prepaid)")).isFalse();
+    }
+}
@@ -0,0 +1,52 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.request.FindHotelsRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FindHotelsCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private FindHotelsCommandParser parser;
+
+    @Test
+    @DisplayName("Should recognise find hotels commands")
+    void canParse_WithFindHotelsCommand_ShouldReturnTrue() {
+        assertThat(parser.canParse("FindHotels(20250610-20250614, DBL, 2)")).isTrue();
+        assertThat(parser.canParse("FindHotels(20250610, SGL, 1)")).isTrue();
+        assertThat(parser.canParse("FindHotels(H1, 20250610, SGL)")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse a find hotels command into a request")
+    void parse_WithValidCommand_ShouldReturnRequest() {
+        // When
+        FindHotelsRequest request = parser.parse("FindHotels(20250610-20250614, DBL, 2)");
+
+        // Then
+        assertThat(request).isEqualTo(new FindHotelsRequest("20250610-20250614", "DBL", 2));
+        verify(validationService).validate(request);
+    }
+
+    @Test
+    @DisplayName("Should reject minimum room counts that do not fit an int")
+    void parse_WithOversizedMinRooms_ShouldThrowException() {
+        assertThatThrownBy(() -> parser.parse("FindHotels(20250610, DBL, 99999999999)"))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Invalid minimum rooms format");
+    }
+}
@@ -0,0 +1,48 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.RoomAssignmentStrategy;
+import com.hotelmanager.model.request.FreeRoomRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FreeRoomCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private FreeRoomCommandParser parser;
+
+    @Test
+    @DisplayName("Should parse a free room query, defaulting to first fit")
+    void parse_WithoutStrategy_ShouldUseFirstFit() {
+        // When
+        FreeRoomRequest request = parser.parse("FreeRoom(H1, 20250610-20250614, DBL)");
+
+        // Then
+        assertThat(request).isEqualTo(new FreeRoomRequest("H1", "20250610-20250614", "DBL",
+                RoomAssignmentStrategy.FIRST_FIT));
+        verify(validationService).validate(request);
+    }
+
+    @Test
+    @DisplayName("Should parse an explicit room assignment strategy")
+    void parse_WithStrategy_ShouldUseIt() {
+        assertThat(parser.parse("FreeRoom(H1, 20250610, DBL, bestfit)").strategy())
+                .isEqualTo(RoomAssignmentStrategy.BEST_FIT);
+        assertThatThrownBy(() -> parser.parse("FreeRoom(H1, 20250610, DBL, Random)"))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Invalid room assignment strategy: Random");
+    }
+}
@@ -0,0 +1,42 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.model.request.OccupancyRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private OccupancyCommandParser parser;
+
+    @Test
+    @DisplayName("Should parse an occupancy query for one hotel and room type")
+    void parse_WithHotelAndRoomType_ShouldReturnRequest() {
+        // When
+        OccupancyRequest request = parser.parse("Occupancy(H1, 20240901-20240930, DBL)");
+
+        // Then
+        assertThat(request).isEqualTo(new OccupancyRequest("H1", "20240901-20240930", "DBL"));
+        verify(validationService).validate(request);
+    }
+
+    @Test
+    @DisplayName("Should accept * for every hotel and every room type")
+    void parse_WithWildcards_ShouldReturnRequest() {
+        assertThat(parser.parse("Occupancy(*, 20240901-20240930, *)"))
+                .isEqualTo(new OccupancyRequest("*", "20240901-20240930", "*"));
+        assertThat(parser.canParse("Occupancy(H*, 20240901, DBL)")).isFalse();
+    }
+}
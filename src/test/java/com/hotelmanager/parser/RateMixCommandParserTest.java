@@ -0,0 +1,34 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.model.request.RateMixRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateMixCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private RateMixCommandParser parser;
+
+    @Test
+    @DisplayName("Should parse a rate mix query")
+    void parse_WithValidCommand_ShouldReturnRequest() {
+        // When
+        RateMixRequest request = parser.parse("RateMix(H1, 20240901-20240930)");
+
+        // Then
+        assertThat(request).isEqualTo(new RateMixRequest("H1", "20240901-20240930"));
+        verify(validationService).validate(request);
+    }
+}
@@ -0,0 +1,55 @@
+package com.hotelmanager.parser;
+
+import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.RoomRequirement;
+import com.hotelmanager.model.request.RoomCombinationRequest;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RoomCombinationCommandParserTest {
+
+    @Mock
+    private RequestValidationService validationService;
+
+    @InjectMocks
+    private RoomCombinationCommandParser parser;
+
+    @Test
+    @DisplayName("Should recognise availability checks with a bracketed list of room requirements")
+    void canParse_WithRequirementList_ShouldReturnTrue() {
+        assertThat(parser.canParse("Availability(H1, 20250610-20250614, [2 DBL, 1 SGL])")).isTrue();
+        assertThat(parser.canParse("Availability(H1, 20250610-20250614, DBL)")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse each quantity and room type pair into a request")
+    void parse_WithRequirementList_ShouldReturnRequest() {
+        // When
+        RoomCombinationRequest request = parser.parse("Availability(H1, 20250610, [2 DBL,1 SGL])");
+
+        // Then
+        assertThat(request).isEqualTo(new RoomCombinationRequest("H1", "20250610",
+                List.of(new RoomRequirement("DBL", 2), new RoomRequirement("SGL", 1))));
+        verify(validationService).validate(request);
+    }
+
+    @Test
+    @DisplayName("Should reject requirements without a quantity")
+    void parse_WithMissingQuantity_ShouldThrowException() {
+        assertThatThrownBy(() -> parser.parse("Availability(H1, 20250610, [2 DBL, SGL])"))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Invalid room requirement: SGL");
+    }
+}
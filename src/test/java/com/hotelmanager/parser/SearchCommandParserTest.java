@@ -51,6 +51,45 @@ class SearchCommandParserTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("Should parse an optional length of stay, defaulting to one night")
+    void parse_WithNights_ShouldReturnRequestWithNights() {
+        // When
+        SearchRequest withNights = parser.parse("Search(H1, 30, DBL, 3)");
+        SearchRequest withoutNights = parser.parse("Search(H1, 30, DBL)");
+
+        // Then
+        assertThat(withNights).isEqualTo(new SearchRequest("H1", 30, "DBL", 3));
+        assertThat(withoutNights.nights()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should parse an optional labelled minimum room count, with or without a length of stay")
+    void parse_WithMinRooms_ShouldReturnRequestWithMinRooms() {
+        // When
+        SearchRequest withMinRooms = parser.parse("Search(H1, 30, DBL, minRooms=3)");
+        SearchRequest withNightsAndMinRooms = parser.parse("Search(H1, 30, DBL, 2, minRooms = 3)");
+        SearchRequest withoutMinRooms = parser.parse("Search(H1, 30, DBL, 2)");
+
+        // Then
+        assertThat(withMinRooms).isEqualTo(new SearchRequest("H1", 30, "DBL", 1, 3));
+        assertThat(withNightsAndMinRooms).isEqualTo(new SearchRequest("H1", 30, "DBL", 2, 3));
+        assertThat(withoutMinRooms.minRooms()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not accept an unlabelled minimum room count")
+    void canParse_WithUnlabelledMinRooms_ShouldReturnFalse() {
+        // Given
+        String command = "Search(H1, 30, DBL, 1, 3)";
+
+        // When
+        boolean result = parser.canParse(command);
+
+        // Then
+        assertThat(result).isFalse();
+    }
+
     @Test
     @DisplayName("Should parse valid search command")
     void parse_WithValidCommand_ShouldReturnRequest() {
@@ -1,26 +1,100 @@
 package com.hotelmanager.service;
 
+import com.hotelmanager.config.CommandProperties;
 import com.hotelmanager.exception.BookingSystemException;
+import com.hotelmanager.exception.CommandCancelledException;
 import com.hotelmanager.exception.InvalidCommandException;
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.model.ChangeType;
 import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.model.DateRangeAvailability;
+import com.hotelmanager.model.HotelOccupancy;
+import com.hotelmanager.model.RateMixEntry;
+import com.hotelmanager.model.RoomAssignmentStrategy;
+import com.hotelmanager.model.RoomRequirement;
+import com.hotelmanager.model.request.AmenitySearchRequest;
 import com.hotelmanager.model.request.AvailabilityRequest;
+import com.hotelmanager.model.request.BatchAvailabilityRequest;
+import com.hotelmanager.model.request.BookingRequest;
+import com.hotelmanager.model.request.FindHotelsRequest;
+import com.hotelmanager.model.request.BookingListRequest;
+import com.hotelmanager.model.request.FreeRoomRequest;
+import com.hotelmanager.model.request.OccupancyRequest;
+import com.hotelmanager.model.request.RateMixRequest;
+import com.hotelmanager.model.request.RoomCombinationRequest;
 import com.hotelmanager.model.request.SearchRequest;
+import com.hotelmanager.model.response.AmenitySearchResponse;
 import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.model.response.BatchAvailabilityResponse;
+import com.hotelmanager.model.response.FindHotelsResponse;
+import com.hotelmanager.model.response.BookingListResponse;
+import com.hotelmanager.model.response.FreeRoomResponse;
+import com.hotelmanager.model.response.OccupancyResponse;
+import com.hotelmanager.model.response.RateMixResponse;
+import com.hotelmanager.model.response.RoomCombinationResponse;
 import com.hotelmanager.model.response.SearchResponse;
+import com.hotelmanager.model.response.StatsResponse;
+import com.hotelmanager.parser.AmenityFindHotelsCommandParser;
+import com.hotelmanager.parser.AmenitySearchCommandParser;
 import com.hotelmanager.parser.AvailabilityCommandParser;
+import com.hotelmanager.parser.BatchAvailabilityCommandParser;
+import com.hotelmanager.parser.BookingCommandParser;
+import com.hotelmanager.parser.FindHotelsCommandParser;
+import com.hotelmanager.parser.BookingListCommandParser;
+import com.hotelmanager.parser.FreeRoomCommandParser;
+import com.hotelmanager.parser.OccupancyCommandParser;
+import com.hotelmanager.parser.RateMixCommandParser;
+import com.hotelmanager.parser.RoomCombinationCommandParser;
 import com.hotelmanager.parser.SearchCommandParser;
+import com.hotelmanager.service.analytics.OccupancyAnalyticsService;
 import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.availability.BookingQueryService;
+import com.hotelmanager.service.availability.RoomAssignmentService;
+import com.hotelmanager.service.command.AmenityFindHotelsCommandRoute;
+import com.hotelmanager.service.command.AmenitySearchCommandRoute;
+import com.hotelmanager.service.command.AvailabilityCommandRoute;
+import com.hotelmanager.service.command.BatchAvailabilityCommandRoute;
+import com.hotelmanager.service.command.BookingChangeCommandRoute;
+import com.hotelmanager.service.command.BookingListCommandRoute;
+import com.hotelmanager.service.command.FindHotelsCommandRoute;
+import com.hotelmanager.service.command.FreeRoomCommandRoute;
+import com.hotelmanager.service.command.OccupancyCommandRoute;
+import com.hotelmanager.service.command.RateMixCommandRoute;
+import com.hotelmanager.service.command.RoomCombinationCommandRoute;
+import com.hotelmanager.service.command.SearchCommandRoute;
+import com.hotelmanager.service.monitoring.CommandExecutionEvent;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.ErrorTracker;
 import com.hotelmanager.service.presentation.ResponseFormatter;
+import com.hotelmanager.service.replication.BookingChangeLog;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -34,13 +108,63 @@ class CommandProcessorTest {
     @Mock
     private SearchCommandParser searchParser;
 
+    @Mock
+    private BookingCommandParser bookingParser;
+
+    @Mock
+    private FindHotelsCommandParser findHotelsParser;
+
+    @Mock
+    private AmenitySearchCommandParser amenitySearchParser;
+
+    @Mock
+    private AmenityFindHotelsCommandParser amenityFindHotelsParser;
+
+    @Mock
+    private RoomCombinationCommandParser roomCombinationParser;
+
+    @Mock
+    private BatchAvailabilityCommandParser batchAvailabilityParser;
+
+    @Mock
+    private FreeRoomCommandParser freeRoomParser;
+
+    @Mock
+    private BookingListCommandParser bookingListParser;
+
+    @Mock
+    private OccupancyCommandParser occupancyParser;
+
+    @Mock
+    private RateMixCommandParser rateMixParser;
+
     @Mock
     private AvailabilityService availabilityService;
 
+    @Mock
+    private RoomAssignmentService roomAssignmentService;
+
+    @Mock
+    private BookingQueryService bookingQueryService;
+
+    @Mock
+    private OccupancyAnalyticsService occupancyAnalyticsService;
+
     @Mock
     private ResponseFormatter responseFormatter;
 
-    @InjectMocks
+    @Mock
+    private ErrorTracker errorTracker;
+
+    @Mock
+    private CommandMetrics commandMetrics;
+
+    @Spy
+    private CommandProperties commandProperties = CommandProperties.defaults();
+
+    @Mock
+    private BookingChangeLog bookingChangeLog;
+
     private CommandProcessor commandProcessor;
 
     private AvailabilityRequest mockAvailabilityRequest;
@@ -50,6 +174,21 @@ class CommandProcessorTest {
 
     @BeforeEach
     void setUp() {
+        commandProcessor = new CommandProcessor(List.of(
+                new AvailabilityCommandRoute(availabilityParser, availabilityService, responseFormatter),
+                new SearchCommandRoute(searchParser, availabilityService, responseFormatter),
+                new FindHotelsCommandRoute(findHotelsParser, availabilityService, responseFormatter),
+                new AmenitySearchCommandRoute(amenitySearchParser, availabilityService, responseFormatter),
+                new AmenityFindHotelsCommandRoute(amenityFindHotelsParser, availabilityService, responseFormatter),
+                new RoomCombinationCommandRoute(roomCombinationParser, availabilityService, responseFormatter),
+                new BatchAvailabilityCommandRoute(batchAvailabilityParser, availabilityService, responseFormatter),
+                new FreeRoomCommandRoute(freeRoomParser, roomAssignmentService, responseFormatter),
+                new BookingListCommandRoute(bookingListParser, bookingQueryService, responseFormatter),
+                new OccupancyCommandRoute(occupancyParser, occupancyAnalyticsService, responseFormatter),
+                new RateMixCommandRoute(rateMixParser, occupancyAnalyticsService, responseFormatter),
+                new BookingChangeCommandRoute(bookingParser, bookingChangeLog, responseFormatter)),
+                responseFormatter, errorTracker, commandMetrics, commandProperties, bookingChangeLog);
+
         mockAvailabilityRequest = new AvailabilityRequest("H1", "20240901", "SGL");
         mockAvailabilityResponse = new AvailabilityResponse("H1", "SGL", "20240901", 2, "Success");
 
@@ -120,6 +259,7 @@ class CommandProcessorTest {
         verify(availabilityParser).parse(command);
         verify(availabilityService).checkAvailability(mockAvailabilityRequest);
         verify(responseFormatter).formatAvailabilityResponse(mockAvailabilityResponse);
+        verify(commandMetrics).recordCommand(eq("Availability"), anyLong(), anyLong(), eq(true));
     }
 
     @Test
@@ -150,6 +290,232 @@ class CommandProcessorTest {
         verify(responseFormatter).formatSearchResponse(mockSearchResponse);
     }
 
+    @Test
+    @DisplayName("Should find hotels across the portfolio")
+    void processCommand_WithFindHotelsCommand_ShouldReturnHotelIds() {
+        // Given
+        String command = "FindHotels(20250610-20250614, DBL, 2)";
+        FindHotelsRequest request = new FindHotelsRequest("20250610-20250614", "DBL", 2);
+        FindHotelsResponse response = new FindHotelsResponse(List.of("H1", "H7"), 2);
+
+        when(findHotelsParser.canParse(command)).thenReturn(true);
+        when(findHotelsParser.parse(command)).thenReturn(request);
+        when(availabilityService.findHotels(request)).thenReturn(response);
+        when(responseFormatter.formatFindHotelsResponse(response)).thenReturn("H1, H7");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("H1, H7");
+        verify(commandMetrics).recordCommand(eq("FindHotels"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should return a concrete free room for a stay")
+    void processCommand_WithFreeRoomCommand_ShouldReturnRoom() {
+        // Given
+        String command = "FreeRoom(H1, 20250610-20250614, DBL)";
+        FreeRoomRequest request = new FreeRoomRequest("H1", "20250610-20250614", "DBL",
+                RoomAssignmentStrategy.FIRST_FIT);
+        FreeRoomResponse response = new FreeRoomResponse("H1", "DBL", "20250610-20250614", Optional.of("202"));
+
+        when(freeRoomParser.canParse(command)).thenReturn(true);
+        when(freeRoomParser.parse(command)).thenReturn(request);
+        when(roomAssignmentService.findFreeRoom(request)).thenReturn(response);
+        when(responseFormatter.formatFreeRoomResponse(response)).thenReturn("Room: 202");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("Room: 202");
+        verify(commandMetrics).recordCommand(eq("FreeRoom"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should report portfolio occupancy")
+    void processCommand_WithOccupancyCommand_ShouldReturnOccupancy() {
+        // Given
+        String command = "Occupancy(*, 20240901-20240930, *)";
+        OccupancyRequest request = new OccupancyRequest("*", "20240901-20240930", "*");
+        OccupancyResponse response = new OccupancyResponse("*", "20240901-20240930",
+                List.of(new HotelOccupancy("H1", 30, 60)), new HotelOccupancy("*", 30, 60));
+
+        when(occupancyParser.canParse(command)).thenReturn(true);
+        when(occupancyParser.parse(command)).thenReturn(request);
+        when(occupancyAnalyticsService.calculateOccupancy(request)).thenReturn(response);
+        when(responseFormatter.formatOccupancyResponse(response)).thenReturn("Occupancy: 50.0%");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("Occupancy: 50.0%");
+        verify(commandMetrics).recordCommand(eq("Occupancy"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should report the room-night mix by rate")
+    void processCommand_WithRateMixCommand_ShouldReturnRates() {
+        // Given
+        String command = "RateMix(H1, 20240901-20240930)";
+        RateMixRequest request = new RateMixRequest("H1", "20240901-20240930");
+        RateMixResponse response = new RateMixResponse("H1", "20240901-20240930",
+                List.of(new RateMixEntry("Prepaid", 1, 2)), 2);
+
+        when(rateMixParser.canParse(command)).thenReturn(true);
+        when(rateMixParser.parse(command)).thenReturn(request);
+        when(occupancyAnalyticsService.calculateRateMix(request)).thenReturn(response);
+        when(responseFormatter.formatRateMixResponse(response)).thenReturn("Rate: Prepaid");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("Rate: Prepaid");
+        verify(commandMetrics).recordCommand(eq("RateMix"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should list the bookings overlapping a date range")
+    void processCommand_WithBookingsCommand_ShouldListBookings() {
+        // Given
+        String command = "Bookings(H1, 20240901-20240905, DBL)";
+        BookingListRequest request = new BookingListRequest("H1", "20240901-20240905", "DBL");
+        BookingListResponse response = new BookingListResponse(List.of(
+                new Booking("H1", "DBL", "Prepaid", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 3))), 1);
+
+        when(bookingListParser.canParse(command)).thenReturn(true);
+        when(bookingListParser.parse(command)).thenReturn(request);
+        when(bookingQueryService.listBookings(request)).thenReturn(response);
+        when(responseFormatter.formatBookingListResponse(response)).thenReturn("H1, DBL, 20240901-20240903, Prepaid");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("H1, DBL, 20240901-20240903, Prepaid");
+        verify(commandMetrics).recordCommand(eq("BookingList"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should answer a batch of date ranges for one hotel and room type")
+    void processCommand_WithBatchAvailabilityCommand_ShouldReturnOneLinePerRange() {
+        // Given
+        String command = "Availability(H1, [20240901-20240903, 20240910], DBL)";
+        BatchAvailabilityRequest request = new BatchAvailabilityRequest("H1",
+                List.of("20240901-20240903", "20240910"), "DBL");
+        BatchAvailabilityResponse response = new BatchAvailabilityResponse(List.of(
+                new AvailabilityResponse("H1", "DBL", "20240901-20240903", 1, "Success"),
+                new AvailabilityResponse("H1", "DBL", "20240910", 3, "Success")));
+
+        when(batchAvailabilityParser.canParse(command)).thenReturn(true);
+        when(batchAvailabilityParser.parse(command)).thenReturn(request);
+        when(availabilityService.checkBatchAvailability(request)).thenReturn(response);
+        when(responseFormatter.formatBatchAvailabilityResponse(response)).thenReturn("two lines");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("two lines");
+        verify(commandMetrics).recordCommand(eq("BatchAvailability"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should check several room types together for a room combination")
+    void processCommand_WithRoomCombinationCommand_ShouldReturnFeasibleDates() {
+        // Given
+        String command = "Availability(H1, 20250610-20250614, [2 DBL, 1 SGL])";
+        RoomCombinationRequest request = new RoomCombinationRequest("H1", "20250610-20250614",
+                List.of(new RoomRequirement("DBL", 2), new RoomRequirement("SGL", 1)));
+        RoomCombinationResponse response = new RoomCombinationResponse("H1", "20250610-20250614", List.of(),
+                Map.of("DBL", -1, "SGL", 0));
+
+        when(roomCombinationParser.canParse(command)).thenReturn(true);
+        when(roomCombinationParser.parse(command)).thenReturn(request);
+        when(availabilityService.checkRoomCombination(request)).thenReturn(response);
+        when(responseFormatter.formatRoomCombinationResponse(response)).thenReturn("Feasible Dates: none");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("Feasible Dates: none");
+        verify(commandMetrics).recordCommand(eq("RoomCombination"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should search availability of room types matching amenities")
+    void processCommand_WithAmenitySearchCommand_ShouldReturnRangesPerRoomType() {
+        // Given
+        String command = "Search(H1, 30, [Sea View, Minibar])";
+        AmenitySearchRequest request = new AmenitySearchRequest("H1", 30, List.of("Sea View", "Minibar"));
+        AmenitySearchResponse response = new AmenitySearchResponse(Map.of("DBL", List.of()), 0);
+
+        when(amenitySearchParser.canParse(command)).thenReturn(true);
+        when(amenitySearchParser.parse(command)).thenReturn(request);
+        when(availabilityService.searchAmenityAvailability(request)).thenReturn(response);
+        when(responseFormatter.formatAmenitySearchResponse(response)).thenReturn("DBL:");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("DBL:");
+        verify(commandMetrics).recordCommand(eq("AmenitySearch"), anyLong(), anyLong(), eq(true));
+        verify(searchParser).canParse(command);
+        verifyNoInteractions(bookingParser);
+    }
+
+    @Test
+    @DisplayName("Should apply booking changes through the change log")
+    void processCommand_WithBookCommand_ShouldApplyChange() {
+        // Given
+        String command = "Book(H1, 20240901-20240903, SGL, Prepaid)";
+        BookingRequest request = new BookingRequest(ChangeType.ADD, "H1", "20240901-20240903", "SGL", "Prepaid");
+        BookingChange change = new BookingChange(1, ChangeType.ADD, new Booking("H1", "SGL", "Prepaid",
+                LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 3)));
+
+        when(bookingParser.canParse(command)).thenReturn(true);
+        when(bookingParser.parse(command)).thenReturn(request);
+        when(bookingChangeLog.apply(request)).thenReturn(change);
+        when(responseFormatter.formatBookingChange(change)).thenReturn("Booking added");
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("Booking added");
+        verify(commandMetrics).recordCommand(eq("BookingChange"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should reload data through the change log")
+    void processCommand_WithReloadCommand_ShouldReload() {
+        // Given
+        BookingChange change = new BookingChange(2, ChangeType.RELOAD, null);
+        when(bookingChangeLog.reload()).thenReturn(change);
+        when(responseFormatter.formatBookingChange(change)).thenReturn("Data reloaded (sequence 2)");
+
+        // When
+        CommandResult result = commandProcessor.processCommand("Reload()");
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("Data reloaded (sequence 2)");
+    }
+
     @Test
     @DisplayName("Should return error for invalid command format")
     void processCommand_WithInvalidCommand_ShouldReturnError() {
@@ -169,9 +535,113 @@ class CommandProcessorTest {
 
         verify(availabilityParser).canParse(command);
         verify(searchParser).canParse(command);
+        verify(commandMetrics).recordCommand(eq("Unrecognised"), anyLong(), anyLong(), eq(false));
         verifyNoInteractions(availabilityService, responseFormatter);
     }
 
+    @Test
+    @DisplayName("Should emit a JFR event describing the command")
+    void processCommand_WithRecordingEnabled_ShouldEmitCommandEvent(@TempDir Path tempDir) throws Exception {
+        // Given
+        String command = "Availability(H1, 20240901-20240903, SGL)";
+        AvailabilityRequest request = new AvailabilityRequest("H1", "20240901-20240903", "SGL");
+
+        when(availabilityParser.canParse(command)).thenReturn(true);
+        when(availabilityParser.parse(command)).thenReturn(request);
+        when(availabilityService.checkAvailability(request)).thenReturn(mockAvailabilityResponse);
+        when(responseFormatter.formatAvailabilityResponse(mockAvailabilityResponse)).thenReturn("ok");
+
+        // When
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandExecutionEvent.class);
+            recording.start();
+            commandProcessor.processCommand(command);
+            recording.stop();
+            Path dump = tempDir.resolve("commands.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        // Then
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("commandType")).isEqualTo("Availability");
+        assertThat(event.getString("hotelId")).isEqualTo("H1");
+        assertThat(event.getString("roomType")).isEqualTo("SGL");
+        assertThat(event.getInt("dateSpanDays")).isEqualTo(3);
+        assertThat(event.getInt("resultSize")).isEqualTo(1);
+        assertThat(event.getBoolean("success")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stream search results to the output when requested")
+    void processCommand_WithStreamingOutput_ShouldStreamSearchResults() {
+        // Given
+        String command = "Search(H1, 5, DBL)";
+        List<String> fragments = new ArrayList<>();
+
+        when(availabilityParser.canParse(command)).thenReturn(false);
+        when(searchParser.canParse(command)).thenReturn(true);
+        when(searchParser.parse(command)).thenReturn(mockSearchRequest);
+        when(availabilityService.streamSearchAvailability(eq(mockSearchRequest), any())).thenReturn(2);
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command, fragments::add);
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEmpty();
+        verify(responseFormatter).searchResultWriter(any());
+        verify(availabilityService, never()).searchAvailability(any());
+    }
+
+    @Test
+    @DisplayName("Should write the error after streamed ranges when a search is cut short")
+    void processCommand_WithStreamingOutputCancelled_ShouldStreamError() {
+        // Given
+        String command = "Search(H1, 5, DBL)";
+        List<String> fragments = new ArrayList<>();
+        DateRangeAvailability range = new DateRangeAvailability(
+                LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 2), 3);
+
+        when(availabilityParser.canParse(command)).thenReturn(false);
+        when(searchParser.canParse(command)).thenReturn(true);
+        when(searchParser.parse(command)).thenReturn(mockSearchRequest);
+        when(responseFormatter.searchResultWriter(any()))
+                .thenAnswer(invocation -> new ResponseFormatter().searchResultWriter(invocation.getArgument(0)));
+        when(availabilityService.streamSearchAvailability(eq(mockSearchRequest), any())).thenAnswer(invocation -> {
+            Consumer<DateRangeAvailability> writer = invocation.getArgument(1);
+            writer.accept(range);
+            throw new CommandCancelledException("Command exceeded time budget of 5 ms");
+        });
+
+        // When
+        CommandResult result = commandProcessor.processCommand(command, fragments::add);
+
+        // Then
+        assertThat(result.success()).isFalse();
+        assertThat(String.join("", fragments)).isEqualTo(
+                "(20240901-20240902, 3)" + System.lineSeparator() + "Error: Command exceeded time budget of 5 ms");
+    }
+
+    @Test
+    @DisplayName("Should return formatted metrics for stats command")
+    void processCommand_WithStatsCommand_ShouldReturnStats() {
+        // Given
+        StatsResponse stats = new StatsResponse(Duration.ofSeconds(1), Map.of(), Map.of(), Map.of(), Map.of());
+        when(commandMetrics.snapshot()).thenReturn(stats);
+        when(responseFormatter.formatStatsResponse(stats)).thenReturn("Uptime: 1.0s");
+
+        // When
+        CommandResult result = commandProcessor.processCommand("Stats()");
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("Uptime: 1.0s");
+        verifyNoInteractions(availabilityParser, searchParser, availabilityService);
+    }
+
     @Test
     @DisplayName("Should handle exceptions from availability parser")
     void processCommand_WithParserException_ShouldReturnError() {
@@ -192,6 +662,7 @@ class CommandProcessorTest {
 
         verify(availabilityParser).canParse(command);
         verify(availabilityParser).parse(command);
+        verify(errorTracker).record(eq(command), any(InvalidCommandException.class));
         verifyNoInteractions(availabilityService, responseFormatter);
     }
 
@@ -248,6 +719,7 @@ class CommandProcessorTest {
         verify(searchParser).canParse(command);
         verify(searchParser).parse(command);
         verify(availabilityService).searchAvailability(mockSearchRequest);
+        verify(commandMetrics).recordCommand(eq("Search"), anyLong(), anyLong(), eq(false));
         verifyNoInteractions(responseFormatter);
     }
 
@@ -1,5 +1,6 @@
 package com.hotelmanager.service;
 
+import com.hotelmanager.config.CommandProperties;
 import com.hotelmanager.model.CommandResult;
 import com.hotelmanager.service.presentation.ConsoleOutputService;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
@@ -24,6 +26,9 @@ class HotelBookingServiceTest {
     @Mock
     private ConsoleOutputService consoleOutputService;
 
+    @Spy
+    private CommandProperties commandProperties = CommandProperties.defaults();
+
     @InjectMocks
     private HotelBookingService hotelBookingService;
 
@@ -0,0 +1,134 @@
+package com.hotelmanager.service.analytics;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.HotelOccupancy;
+import com.hotelmanager.model.RateMixEntry;
+import com.hotelmanager.model.Room;
+import com.hotelmanager.model.request.OccupancyRequest;
+import com.hotelmanager.model.request.RateMixRequest;
+import com.hotelmanager.model.response.OccupancyResponse;
+import com.hotelmanager.model.response.RateMixResponse;
+import com.hotelmanager.service.data.BookingIntervalIndex;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.data.OccupancyCalendar;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.validation.ValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyAnalyticsServiceTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+    private static final LocalDate SEP_10 = LocalDate.of(2024, 9, 10);
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private HotelDataService hotelDataService;
+
+    @Mock
+    private CommandMetrics commandMetrics;
+
+    @InjectMocks
+    private OccupancyAnalyticsService occupancyAnalyticsService;
+
+    @Test
+    @DisplayName("Should sum sold room-nights against capacity for every hotel holding the room type")
+    void calculateOccupancy_WithAllHotels_ShouldReportEachHotelAndTotal() {
+        // Given
+        Hotel h1 = hotel("H1", new Room("DBL", "201"), new Room("DBL", "202"), new Room("SGL", "101"));
+        Hotel h2 = hotel("H2", new Room("DBL", "301"));
+        Hotel h3 = hotel("H3", new Room("SGL", "401"));
+        OccupancyRequest request = new OccupancyRequest("*", "20240901-20240910", "DBL");
+
+        when(hotelDataService.findAllHotels()).thenReturn(List.of(h2, h3, h1));
+        when(validationService.parseDateRange("20240901-20240910")).thenReturn(new LocalDate[]{SEP_1, SEP_10});
+        when(hotelDataService.getOccupancyCalendar("H1", "DBL")).thenReturn(OccupancyCalendar.build(List.of(
+                booking("H1", "Prepaid", SEP_1.minusDays(2), SEP_1.plusDays(3)),
+                booking("H1", "Standard", SEP_1.plusDays(8), SEP_1.plusDays(12)))));
+        when(hotelDataService.getOccupancyCalendar("H2", "DBL")).thenReturn(OccupancyCalendar.EMPTY);
+        when(hotelDataService.getOccupancyCalendar("H3", "DBL")).thenReturn(OccupancyCalendar.EMPTY);
+
+        // When
+        OccupancyResponse response = occupancyAnalyticsService.calculateOccupancy(request);
+
+        // Then
+        assertThat(response.hotels()).containsExactly(
+                new HotelOccupancy("H1", 5, 20),
+                new HotelOccupancy("H2", 0, 10));
+        assertThat(response.total()).isEqualTo(new HotelOccupancy("*", 5, 30));
+    }
+
+    @Test
+    @DisplayName("Should cover every room type of a single hotel")
+    void calculateOccupancy_WithAllRoomTypes_ShouldUseEveryRoom() {
+        // Given
+        Hotel hotel = hotel("H1", new Room("DBL", "201"), new Room("SGL", "101"));
+        OccupancyRequest request = new OccupancyRequest("H1", "20240901-20240910", "*");
+
+        when(validationService.validateHotelExists("H1")).thenReturn(hotel);
+        when(validationService.parseDateRange("20240901-20240910")).thenReturn(new LocalDate[]{SEP_1, SEP_10});
+        when(hotelDataService.getOccupancyCalendars("H1")).thenReturn(Map.of(
+                "DBL", OccupancyCalendar.build(List.of(booking("H1", "Prepaid", SEP_1, SEP_1.plusDays(4)))),
+                "SGL", OccupancyCalendar.build(List.of(booking("H1", "Prepaid", SEP_1, SEP_1.plusDays(1))))));
+
+        // When
+        OccupancyResponse response = occupancyAnalyticsService.calculateOccupancy(request);
+
+        // Then
+        assertThat(response.hotels()).containsExactly(new HotelOccupancy("H1", 5, 20));
+        assertThat(response.total().occupancyPercent()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("Should split room-nights inside the range by rate, largest first")
+    void calculateRateMix_ShouldGroupNightsByRate() {
+        // Given
+        RateMixRequest request = new RateMixRequest("H1", "20240901-20240910");
+
+        when(validationService.parseDateRange("20240901-20240910")).thenReturn(new LocalDate[]{SEP_1, SEP_10});
+        when(hotelDataService.getBookingIndexes("H1")).thenReturn(Map.of(
+                "DBL", BookingIntervalIndex.build(List.of(
+                        booking("H1", "Prepaid", SEP_1.minusDays(2), SEP_1.plusDays(3)),
+                        booking("H1", "Standard", SEP_1.plusDays(8), SEP_1.plusDays(12)))),
+                "SGL", BookingIntervalIndex.build(List.of(
+                        booking("H1", "Prepaid", SEP_1.plusDays(2), SEP_1.plusDays(4)),
+                        booking("H1", "Standard", SEP_10.plusDays(1), SEP_10.plusDays(3))))));
+
+        // When
+        RateMixResponse response = occupancyAnalyticsService.calculateRateMix(request);
+
+        // Then
+        assertThat(response.rates()).containsExactly(
+                new RateMixEntry("Prepaid", 2, 5),
+                new RateMixEntry("Standard", 1, 2));
+        assertThat(response.totalRoomNights()).isEqualTo(7);
+        verify(validationService).validateHotelExists("H1");
+    }
+
+    private static Hotel hotel(String id, Room... rooms) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setRooms(List.of(rooms));
+        return hotel;
+    }
+
+    private static Booking booking(String hotelId, String roomRate, LocalDate arrival, LocalDate departure) {
+        return new Booking(hotelId, "DBL", roomRate, arrival, departure);
+    }
+}
@@ -16,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -75,6 +76,26 @@ class AvailabilityCalculatorTest {
         assertThat(result).isEqualTo(3); // 5 total rooms - 2 bookings = 3 minimum
     }
 
+    @Test
+    @DisplayName("Should report the most rooms sold per rate plan on any night")
+    void calculateSoldByRate_ShouldTakePeakPerRate() {
+        // Given
+        LocalDate startDate = LocalDate.of(2024, 9, 1);
+        Booking prepaid = new Booking("H1", "SGL", "Prepaid", startDate, startDate.plusDays(2));
+        Booking standard = new Booking("H1", "SGL", "Standard", startDate, startDate.plusDays(1));
+
+        when(hotelDataService.findBookingsForDate("H1", "SGL", startDate)).thenReturn(List.of(prepaid, standard));
+        when(hotelDataService.findBookingsForDate("H1", "SGL", startDate.plusDays(1)))
+                .thenReturn(List.of(prepaid, prepaid));
+
+        // When
+        Map<String, Integer> result = availabilityCalculator.calculateSoldByRate("H1", "SGL",
+                startDate, startDate.plusDays(1));
+
+        // Then
+        assertThat(result).containsExactly(Map.entry("Prepaid", 2), Map.entry("Standard", 1));
+    }
+
     @Test
     @DisplayName("Should handle single date range")
     void calculateMinimumAvailability_WithSingleDate_ShouldCalculateCorrectly() {
@@ -144,6 +165,28 @@ class AvailabilityCalculatorTest {
         assertThat(result.get(1).availability()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Should only return dates meeting the minimum room count")
+    void findAvailableDates_WithMinRooms_ShouldSkipDatesBelowThreshold() {
+        // Given
+        String hotelId = "H1";
+        String roomType = "SGL";
+        LocalDate today = LocalDate.now();
+
+        when(hotelDataService.findHotelById(hotelId)).thenReturn(Optional.of(mockHotel));
+        when(mockHotel.getTotalRoomsByType(roomType)).thenReturn(2);
+        when(hotelDataService.findBookingsForDate(eq(hotelId), eq(roomType), eq(today)))
+                .thenReturn(List.of(mockBookings.get(0)));
+        when(hotelDataService.findBookingsForDate(eq(hotelId), eq(roomType), eq(today.plusDays(1))))
+                .thenReturn(List.of());
+
+        // When
+        List<DailyAvailability> result = availabilityCalculator.findAvailableDates(hotelId, roomType, 2, 2);
+
+        // Then
+        assertThat(result).containsExactly(new DailyAvailability(today.plusDays(1), 2));
+    }
+
     @Test
     @DisplayName("Should return empty list when no availability")
     void findAvailableDates_WithNoAvailability_ShouldReturnEmptyList() {
@@ -0,0 +1,247 @@
+package com.hotelmanager.service.availability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelmanager.config.BookingShardProperties;
+import com.hotelmanager.config.HotelLoadProperties;
+import com.hotelmanager.config.RetentionProperties;
+import com.hotelmanager.exception.HotelNotFoundException;
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.DateRange;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.Room;
+import com.hotelmanager.model.RoomType;
+import com.hotelmanager.service.data.HotelDataService;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Checks candidate engines against the reference AvailabilityCalculator over randomly generated datasets,
+ * including overbooking, zero-night bookings, unknown room types and ranges outside the booked period.
+ * Portfolio-wide and amenity-filtered searches are also compared after bookings are added and cancelled post-load,
+ * and the booking interval index is checked against a scan of every booking.
+ * To adopt a new engine, add it to candidateEngines().
+ */
+class AvailabilityEngineDifferentialTest {
+
+    private static final int DATASETS = 25;
+    private static final int QUERIES_PER_ROOM_TYPE = 20;
+    private static final List<String> ROOM_TYPES = List.of("SGL", "DBL", "TWN", "SUITE");
+    private static final List<String> AMENITIES = List.of("WiFi", "TV", "Minibar");
+    private static final List<String> FEATURES = List.of("Sea View", "Non-smoking");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path tempDir;
+
+    static Stream<Named<Function<HotelDataService, AvailabilityEngine>>> candidateEngines() {
+        return Stream.of(
+                Named.of("indexed", IndexedAvailabilityEngine::new)
+        );
+    }
+
+    @ParameterizedTest(name = "{0} engine matches reference")
+    @MethodSource("candidateEngines")
+    void candidateEngine_ShouldMatchReferenceOnGeneratedDatasets(
+            Function<HotelDataService, AvailabilityEngine> engineFactory) throws IOException {
+        for (long seed = 1; seed <= DATASETS; seed++) {
+            Random random = new Random(seed);
+            List<Hotel> hotels = generateHotels(random);
+            List<Booking> bookings = generateBookings(random, hotels);
+            HotelDataService dataService = load(hotels, bookings, seed);
+
+            AvailabilityEngine reference = new AvailabilityCalculator(dataService);
+            AvailabilityEngine candidate = engineFactory.apply(dataService);
+
+            for (Hotel hotel : hotels) {
+                for (String roomType : ROOM_TYPES) {
+                    compareQueries(reference, candidate, hotel.getId(), roomType, random, seed);
+                }
+                compareCombinedDaily(reference, candidate, hotel.getId(), random, seed);
+                compareBookingIndex(dataService, hotel.getId(), random, seed);
+            }
+            assertThatThrownBy(() -> candidate.calculateMinimumAvailability("HX", "SGL", today(), today()))
+                    .isInstanceOf(HotelNotFoundException.class);
+
+            compareHotelSearches(reference, candidate, hotels, random, seed);
+            // Indexes maintained incrementally must still agree once bookings change after loading
+            generateBookings(random, hotels).stream().limit(20).forEach(dataService::addBooking);
+            bookings.stream().limit(20).forEach(dataService::cancelBooking);
+            compareHotelSearches(reference, candidate, hotels, random, seed);
+        }
+    }
+
+    private void compareQueries(AvailabilityEngine reference, AvailabilityEngine candidate,
+                                String hotelId, String roomType, Random random, long seed) {
+        String context = String.format("seed=%d, hotel=%s, roomType=%s", seed, hotelId, roomType);
+        List<DateRange> ranges = new ArrayList<>();
+
+        for (int i = 0; i < QUERIES_PER_ROOM_TYPE; i++) {
+            LocalDate start = today().plusDays(random.nextInt(240) - 90);
+            LocalDate end = start.plusDays(random.nextInt(40));
+            ranges.add(new DateRange(start, end));
+
+            assertThat(candidate.calculateMinimumAvailability(hotelId, roomType, start, end))
+                    .as("minimum %s %s..%s", context, start, end)
+                    .isEqualTo(reference.calculateMinimumAvailability(hotelId, roomType, start, end));
+
+            int days = random.nextInt(60);
+            assertThat(candidate.calculateDailyAvailability(hotelId, roomType, start, days))
+                    .as("daily %s from %s for %d days", context, start, days)
+                    .isEqualTo(reference.calculateDailyAvailability(hotelId, roomType, start, days));
+        }
+
+        assertThat(candidate.calculateMinimumAvailability(hotelId, roomType, ranges))
+                .as("bulk minimum %s", context)
+                .isEqualTo(reference.calculateMinimumAvailability(hotelId, roomType, ranges));
+
+        LocalDate rateStart = today().plusDays(random.nextInt(240) - 90);
+        LocalDate rateEnd = rateStart.plusDays(random.nextInt(40));
+        assertThat(candidate.calculateSoldByRate(hotelId, roomType, rateStart, rateEnd))
+                .as("sold by rate %s %s..%s", context, rateStart, rateEnd)
+                .isEqualTo(reference.calculateSoldByRate(hotelId, roomType, rateStart, rateEnd));
+
+        int daysAhead = 1 + random.nextInt(200);
+        assertThat(candidate.findAvailableDates(hotelId, roomType, daysAhead))
+                .as("available dates %s for %d days", context, daysAhead)
+                .isEqualTo(reference.findAvailableDates(hotelId, roomType, daysAhead));
+
+        int minRooms = 1 + random.nextInt(4);
+        assertThat(candidate.findAvailableDates(hotelId, roomType, daysAhead, minRooms))
+                .as("available dates %s for %d days, minRooms=%d", context, daysAhead, minRooms)
+                .isEqualTo(reference.findAvailableDates(hotelId, roomType, daysAhead, minRooms));
+    }
+
+    private void compareCombinedDaily(AvailabilityEngine reference, AvailabilityEngine candidate,
+                                      String hotelId, Random random, long seed) {
+        LocalDate start = today().plusDays(random.nextInt(240) - 90);
+        int days = random.nextInt(60);
+        Map<String, int[]> combined = candidate.calculateDailyAvailability(hotelId, ROOM_TYPES, start, days);
+
+        assertThat(combined.keySet()).containsExactlyElementsOf(ROOM_TYPES);
+        for (String roomType : ROOM_TYPES) {
+            assertThat(combined.get(roomType))
+                    .as("combined daily seed=%d, hotel=%s, roomType=%s from %s for %d days",
+                            seed, hotelId, roomType, start, days)
+                    .isEqualTo(reference.calculateDailyAvailability(hotelId, roomType, start, days));
+        }
+    }
+
+    // The interval index behind Bookings(...) and room assignment must list what a scan of every booking finds
+    private void compareBookingIndex(HotelDataService dataService, String hotelId, Random random, long seed) {
+        for (String roomType : ROOM_TYPES) {
+            LocalDate date = today().plusDays(random.nextInt(240) - 90);
+            assertThat(dataService.findBookingsOverlapping(hotelId, roomType, date, date))
+                    .as("bookings seed=%d, hotel=%s, roomType=%s on %s", seed, hotelId, roomType, date)
+                    .containsExactlyInAnyOrderElementsOf(dataService.findBookingsForDate(hotelId, roomType, date));
+        }
+    }
+
+    private void compareHotelSearches(AvailabilityEngine reference, AvailabilityEngine candidate,
+                                      List<Hotel> hotels, Random random, long seed) {
+        List<List<String>> attributeFilters = List.of(List.of("WiFi"), List.of("sea view", "MINIBAR"),
+                List.of("TV", "Non-smoking", "WiFi"), List.of("Balcony"));
+        for (List<String> attributes : attributeFilters) {
+            LocalDate start = today().plusDays(random.nextInt(240) - 90);
+            LocalDate end = start.plusDays(random.nextInt(40));
+            int minRooms = 1 + random.nextInt(4);
+
+            assertThat(candidate.findHotelsWithAttributes(attributes, start, end, minRooms))
+                    .as("hotels seed=%d, attributes=%s, %s..%s, minRooms=%d", seed, attributes, start, end, minRooms)
+                    .isEqualTo(reference.findHotelsWithAttributes(attributes, start, end, minRooms));
+            for (Hotel hotel : hotels) {
+                assertThat(candidate.findRoomTypes(hotel.getId(), attributes))
+                        .as("room types seed=%d, hotel=%s, attributes=%s", seed, hotel.getId(), attributes)
+                        .isEqualTo(reference.findRoomTypes(hotel.getId(), attributes));
+            }
+        }
+
+        for (String roomType : List.of("SGL", "DBL", "TWN", "SUITE", "PENT")) {
+            for (int i = 0; i < QUERIES_PER_ROOM_TYPE; i++) {
+                LocalDate start = today().plusDays(random.nextInt(240) - 90);
+                LocalDate end = start.plusDays(random.nextInt(40));
+                int minRooms = 1 + random.nextInt(4);
+
+                assertThat(candidate.findHotels(roomType, start, end, minRooms))
+                        .as("hotels seed=%d, roomType=%s, %s..%s, minRooms=%d", seed, roomType, start, end, minRooms)
+                        .isEqualTo(reference.findHotels(roomType, start, end, minRooms));
+            }
+        }
+    }
+
+    private List<Hotel> generateHotels(Random random) {
+        List<Hotel> hotels = new ArrayList<>();
+        int hotelCount = 1 + random.nextInt(4);
+        for (int h = 0; h < hotelCount; h++) {
+            List<Room> rooms = new ArrayList<>();
+            List<RoomType> roomTypes = new ArrayList<>();
+            for (String roomType : ROOM_TYPES) {
+                int count = random.nextInt(7);
+                if (count > 0) {
+                    roomTypes.add(new RoomType(roomType, roomType, randomSubset(random, AMENITIES),
+                            randomSubset(random, FEATURES)));
+                }
+                for (int r = 0; r < count; r++) {
+                    rooms.add(new Room(roomType, roomType + r));
+                }
+            }
+
+            Hotel hotel = new Hotel();
+            hotel.setId("H" + h);
+            hotel.setName("Generated " + h);
+            hotel.setRoomTypes(roomTypes);
+            hotel.setRooms(rooms);
+            hotels.add(hotel);
+        }
+        return hotels;
+    }
+
+    private static List<String> randomSubset(Random random, List<String> values) {
+        return values.stream().filter(value -> random.nextBoolean()).toList();
+    }
+
+    private List<Booking> generateBookings(Random random, List<Hotel> hotels) {
+        List<Booking> bookings = new ArrayList<>();
+        int bookingCount = random.nextInt(400);
+        for (int i = 0; i < bookingCount; i++) {
+            String hotelId = random.nextInt(20) == 0 ? "HX" : hotels.get(random.nextInt(hotels.size())).getId();
+            LocalDate arrival = today().plusDays(random.nextInt(210) - 60);
+            LocalDate departure = arrival.plusDays(random.nextInt(12) - 1);
+            bookings.add(new Booking(hotelId, ROOM_TYPES.get(random.nextInt(ROOM_TYPES.size())),
+                    random.nextBoolean() ? "Standard" : "Prepaid", arrival, departure));
+        }
+        return bookings;
+    }
+
+    private HotelDataService load(List<Hotel> hotels, List<Booking> bookings, long seed) throws IOException {
+        Path hotelFile = tempDir.resolve("hotels-" + seed + ".json");
+        Path bookingFile = tempDir.resolve("bookings-" + seed + ".json");
+        objectMapper.writeValue(hotelFile.toFile(), hotels);
+        objectMapper.writeValue(bookingFile.toFile(), bookings);
+
+        HotelDataService dataService = new HotelDataService(objectMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), HotelLoadProperties.defaults());
+        dataService.loadFromFiles(hotelFile.toString(), bookingFile.toString());
+        return dataService;
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now();
+    }
+}
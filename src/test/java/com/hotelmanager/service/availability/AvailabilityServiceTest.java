@@ -1,12 +1,23 @@
 package com.hotelmanager.service.availability;
 
 import com.hotelmanager.model.DailyAvailability;
+import com.hotelmanager.model.DateRange;
 import com.hotelmanager.model.DateRangeAvailability;
 import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.RoomRequirement;
+import com.hotelmanager.model.request.AmenitySearchRequest;
 import com.hotelmanager.model.request.AvailabilityRequest;
+import com.hotelmanager.model.request.BatchAvailabilityRequest;
+import com.hotelmanager.model.request.FindHotelsRequest;
+import com.hotelmanager.model.request.RoomCombinationRequest;
 import com.hotelmanager.model.request.SearchRequest;
+import com.hotelmanager.model.response.AmenitySearchResponse;
 import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.model.response.BatchAvailabilityResponse;
+import com.hotelmanager.model.response.FindHotelsResponse;
+import com.hotelmanager.model.response.RoomCombinationResponse;
 import com.hotelmanager.model.response.SearchResponse;
+import com.hotelmanager.service.monitoring.CommandMetrics;
 import com.hotelmanager.service.validation.ValidationService;
 import com.hotelmanager.util.DateRangeUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,12 +31,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,7 +54,10 @@ class AvailabilityServiceTest {
     private ValidationService validationService;
 
     @Mock
-    private AvailabilityCalculator availabilityCalculator;
+    private AvailabilityEngine availabilityEngine;
+
+    @Mock
+    private CommandMetrics commandMetrics;
 
     @InjectMocks
     private AvailabilityService availabilityService;
@@ -85,7 +106,7 @@ class AvailabilityServiceTest {
 
         when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
         when(validationService.parseDateRange("20240901-20240903")).thenReturn(mockDateRange);
-        when(availabilityCalculator.calculateMinimumAvailability(
+        when(availabilityEngine.calculateMinimumAvailability(
                 "H1", "SGL", mockDateRange[0], mockDateRange[1])).thenReturn(2);
 
         // When
@@ -102,8 +123,31 @@ class AvailabilityServiceTest {
         verify(validationService).validateHotelExists("H1");
         verify(validationService).validateRoomTypeExists(mockHotel, "SGL");
         verify(validationService).parseDateRange("20240901-20240903");
-        verify(availabilityCalculator).calculateMinimumAvailability(
+        verify(availabilityEngine).calculateMinimumAvailability(
                 "H1", "SGL", mockDateRange[0], mockDateRange[1]);
+        verify(availabilityEngine, never()).calculateSoldByRate(any(), any(), any(), any());
+        assertThat(response.soldByRate()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should add rooms sold per rate plan only when the breakdown is requested")
+    void checkAvailability_WithRateBreakdown_ShouldIncludeSoldByRate() {
+        // Given
+        AvailabilityRequest request = new AvailabilityRequest("H1", "20240901-20240903", "SGL", true);
+
+        when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
+        when(validationService.parseDateRange("20240901-20240903")).thenReturn(mockDateRange);
+        when(availabilityEngine.calculateMinimumAvailability(
+                "H1", "SGL", mockDateRange[0], mockDateRange[1])).thenReturn(2);
+        when(availabilityEngine.calculateSoldByRate("H1", "SGL", mockDateRange[0], mockDateRange[1]))
+                .thenReturn(Map.of("Prepaid", 1, "Standard", 2));
+
+        // When
+        AvailabilityResponse response = availabilityService.checkAvailability(request);
+
+        // Then
+        assertThat(response.availability()).isEqualTo(2);
+        assertThat(response.soldByRate()).containsExactlyInAnyOrderEntriesOf(Map.of("Prepaid", 1, "Standard", 2));
     }
 
     @Test
@@ -114,7 +158,7 @@ class AvailabilityServiceTest {
             SearchRequest request = new SearchRequest("H1", 5, "DBL");
 
             when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
-            when(availabilityCalculator.findAvailableDates("H1", "DBL", 5))
+            when(availabilityEngine.findAvailableDates("H1", "DBL", 5, 1))
                     .thenReturn(mockDailyAvailabilities);
             mockedUtil.when(() -> DateRangeUtil.consolidateDateRanges(mockDailyAvailabilities))
                     .thenReturn(mockDateRangeAvailabilities);
@@ -130,11 +174,52 @@ class AvailabilityServiceTest {
             verify(validationService).validateHotelExists("H1");
             verify(validationService).validateRoomTypeExists(mockHotel, "DBL");
             verify(validationService).validateDaysAhead(5);
-            verify(availabilityCalculator).findAvailableDates("H1", "DBL", 5);
+            verify(availabilityEngine).findAvailableDates("H1", "DBL", 5, 1);
             mockedUtil.verify(() -> DateRangeUtil.consolidateDateRanges(mockDailyAvailabilities));
         }
     }
 
+    @Test
+    @DisplayName("Should find hotels with enough rooms across the portfolio")
+    void findHotels_WithValidRequest_ShouldReturnHotelIds() {
+        // Given
+        FindHotelsRequest request = new FindHotelsRequest("20240901-20240903", "DBL", 2);
+
+        when(validationService.parseDateRange("20240901-20240903")).thenReturn(mockDateRange);
+        when(availabilityEngine.findHotels("DBL", mockDateRange[0], mockDateRange[1], 2))
+                .thenReturn(List.of("H1", "H3"));
+
+        // When
+        FindHotelsResponse response = availabilityService.findHotels(request);
+
+        // Then
+        assertThat(response.hotelIds()).containsExactly("H1", "H3");
+        assertThat(response.totalResults()).isEqualTo(2);
+        verify(validationService, never()).validateHotelExists(anyString());
+    }
+
+    @Test
+    @DisplayName("Should search each room type matching the requested amenities")
+    void searchAmenityAvailability_ShouldReturnRangesPerMatchingRoomType() {
+        // Given
+        AmenitySearchRequest request = new AmenitySearchRequest("H1", 5, List.of("Sea View"));
+
+        when(availabilityEngine.findRoomTypes("H1", List.of("Sea View"))).thenReturn(List.of("DBL", "SUITE"));
+        when(availabilityEngine.findAvailableDates("H1", "DBL", 5)).thenReturn(mockDailyAvailabilities);
+        when(availabilityEngine.findAvailableDates("H1", "SUITE", 5)).thenReturn(List.of());
+
+        // When
+        AmenitySearchResponse response = availabilityService.searchAmenityAvailability(request);
+
+        // Then
+        assertThat(response.availabilitiesByRoomType()).containsOnlyKeys("DBL", "SUITE");
+        assertThat(response.availabilitiesByRoomType().get("DBL")).isEqualTo(mockDateRangeAvailabilities);
+        assertThat(response.availabilitiesByRoomType().get("SUITE")).isEmpty();
+        assertThat(response.totalResults()).isEqualTo(2);
+        verify(validationService).validateHotelExists("H1");
+        verify(validationService).validateDaysAhead(5);
+    }
+
     @Test
     @DisplayName("Should handle single date availability check")
     void checkAvailability_WithSingleDate_ShouldReturnAvailabilityResponse() {
@@ -147,7 +232,7 @@ class AvailabilityServiceTest {
 
         when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
         when(validationService.parseDateRange("20240901")).thenReturn(singleDateRange);
-        when(availabilityCalculator.calculateMinimumAvailability(
+        when(availabilityEngine.calculateMinimumAvailability(
                 "H1", "SGL", singleDateRange[0], singleDateRange[1])).thenReturn(3);
 
         // When
@@ -158,7 +243,7 @@ class AvailabilityServiceTest {
         assertThat(response.availability()).isEqualTo(3);
         assertThat(response.dateRange()).isEqualTo("20240901");
 
-        verify(availabilityCalculator).calculateMinimumAvailability(
+        verify(availabilityEngine).calculateMinimumAvailability(
                 "H1", "SGL", singleDateRange[0], singleDateRange[1]);
     }
 
@@ -170,7 +255,7 @@ class AvailabilityServiceTest {
 
         when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
         when(validationService.parseDateRange("20240901")).thenReturn(mockDateRange);
-        when(availabilityCalculator.calculateMinimumAvailability(
+        when(availabilityEngine.calculateMinimumAvailability(
                 anyString(), anyString(), any(LocalDate.class), any(LocalDate.class))).thenReturn(0);
 
         // When
@@ -188,7 +273,7 @@ class AvailabilityServiceTest {
 
         when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
         when(validationService.parseDateRange("20240901")).thenReturn(mockDateRange);
-        when(availabilityCalculator.calculateMinimumAvailability(
+        when(availabilityEngine.calculateMinimumAvailability(
                 anyString(), anyString(), any(LocalDate.class), any(LocalDate.class))).thenReturn(-2);
 
         // When
@@ -208,7 +293,7 @@ class AvailabilityServiceTest {
             List<DateRangeAvailability> emptyResults = new ArrayList<>();
 
             when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
-            when(availabilityCalculator.findAvailableDates("H1", "DBL", 5))
+            when(availabilityEngine.findAvailableDates("H1", "DBL", 5, 1))
                     .thenReturn(emptyDailyAvailabilities);
             mockedUtil.when(() -> DateRangeUtil.consolidateDateRanges(emptyDailyAvailabilities))
                     .thenReturn(emptyResults);
@@ -222,4 +307,128 @@ class AvailabilityServiceTest {
             assertThat(response.totalResults()).isEqualTo(0);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return arrival dates on which every night of the stay is available")
+    void searchAvailability_WithNights_ShouldReturnBookableArrivals() {
+        // Given
+        SearchRequest request = new SearchRequest("H1", 5, "DBL", 3);
+        LocalDate today = LocalDate.now();
+
+        when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
+        when(availabilityEngine.calculateDailyAvailability("H1", "DBL", today, 7))
+                .thenReturn(new int[]{2, 2, 1, 2, 2, 0, 2});
+
+        // When
+        SearchResponse response = availabilityService.searchAvailability(request);
+
+        // Then
+        assertThat(response.availabilities()).containsExactly(
+                new DateRangeAvailability(today, today.plusDays(2), 1));
+        verify(validationService).validateNights(3);
+        verify(availabilityEngine, never()).findAvailableDates(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should skip arrivals below the minimum room count while consolidating stays")
+    void searchAvailability_WithNightsAndMinRooms_ShouldSkipDatesBelowThreshold() {
+        // Given
+        SearchRequest request = new SearchRequest("H1", 5, "DBL", 2, 2);
+        LocalDate today = LocalDate.now();
+
+        when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
+        when(availabilityEngine.calculateDailyAvailability("H1", "DBL", today, 6))
+                .thenReturn(new int[]{3, 3, 1, 2, 2, 2});
+
+        // When
+        SearchResponse response = availabilityService.searchAvailability(request);
+
+        // Then
+        assertThat(response.availabilities()).containsExactly(
+                new DateRangeAvailability(today, today, 3),
+                new DateRangeAvailability(today.plusDays(3), today.plusDays(4), 2));
+        verify(validationService).validateMinRooms(2);
+    }
+
+    @Test
+    @DisplayName("Should stream consolidated ranges computed chunk by chunk")
+    void streamSearchAvailability_ShouldEmitConsolidatedRanges() {
+        // Given
+        SearchRequest request = new SearchRequest("H1", 400, "DBL");
+        LocalDate today = LocalDate.now();
+        int[] firstChunk = new int[366];
+        int[] secondChunk = new int[34];
+        Arrays.fill(firstChunk, 2);
+        firstChunk[10] = 0;
+        Arrays.fill(secondChunk, 2);
+
+        when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
+        when(availabilityEngine.calculateDailyAvailability("H1", "DBL", today, 366)).thenReturn(firstChunk);
+        when(availabilityEngine.calculateDailyAvailability("H1", "DBL", today.plusDays(366), 34))
+                .thenReturn(secondChunk);
+        List<DateRangeAvailability> emitted = new ArrayList<>();
+
+        // When
+        int count = availabilityService.streamSearchAvailability(request, emitted::add);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(emitted).containsExactly(
+                new DateRangeAvailability(today, today.plusDays(9), 2),
+                new DateRangeAvailability(today.plusDays(11), today.plusDays(399), 2));
+        verify(validationService).validateDaysAhead(400);
+    }
+
+    @Test
+    @DisplayName("Should report feasible nights and per-type headroom for a room combination")
+    void checkRoomCombination_WithSeveralRoomTypes_ShouldReturnFeasibleDatesAndHeadroom() {
+        // Given
+        RoomCombinationRequest request = new RoomCombinationRequest("H1", "20240901-20240904",
+                List.of(new RoomRequirement("DBL", 1), new RoomRequirement("SGL", 1), new RoomRequirement("DBL", 1)));
+        LocalDate start = LocalDate.of(2024, 9, 1);
+        Map<String, int[]> daily = new LinkedHashMap<>();
+        daily.put("DBL", new int[]{3, 2, 1, 2});
+        daily.put("SGL", new int[]{1, 2, 2, 4});
+
+        when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
+        when(validationService.parseDateRange("20240901-20240904"))
+                .thenReturn(new LocalDate[]{start, LocalDate.of(2024, 9, 4)});
+        when(availabilityEngine.calculateDailyAvailability("H1", List.of("DBL", "SGL"), start, 4)).thenReturn(daily);
+
+        // When
+        RoomCombinationResponse response = availabilityService.checkRoomCombination(request);
+
+        // Then
+        assertThat(response.feasibleDates()).containsExactly(
+                new DateRange(start, start.plusDays(1)),
+                new DateRange(start.plusDays(3), start.plusDays(3)));
+        assertThat(response.headroomByRoomType()).containsExactly(entry("DBL", -1), entry("SGL", 0));
+        verify(validationService, times(2)).validateRoomTypeExists(mockHotel, "DBL");
+        verify(validationService).validateRoomTypeExists(mockHotel, "SGL");
+    }
+
+    @Test
+    @DisplayName("Should answer every date range of a batch from one engine call, in request order")
+    void checkBatchAvailability_WithSeveralRanges_ShouldReturnResultsInRequestOrder() {
+        // Given
+        BatchAvailabilityRequest request = new BatchAvailabilityRequest("H1",
+                List.of("20240910", "20240901-20240903"), "DBL");
+        LocalDate september10 = LocalDate.of(2024, 9, 10);
+
+        when(validationService.validateHotelExists("H1")).thenReturn(mockHotel);
+        when(validationService.parseDateRange("20240910")).thenReturn(new LocalDate[]{september10, september10});
+        when(validationService.parseDateRange("20240901-20240903")).thenReturn(mockDateRange);
+        when(availabilityEngine.calculateMinimumAvailability("H1", "DBL", List.of(
+                new DateRange(september10, september10), new DateRange(mockDateRange[0], mockDateRange[1]))))
+                .thenReturn(new int[]{3, 1});
+
+        // When
+        BatchAvailabilityResponse response = availabilityService.checkBatchAvailability(request);
+
+        // Then
+        assertThat(response.availabilities()).containsExactly(
+                new AvailabilityResponse("H1", "DBL", "20240910", 3, "Success"),
+                new AvailabilityResponse("H1", "DBL", "20240901-20240903", 1, "Success"));
+        verify(validationService).validateRoomTypeExists(mockHotel, "DBL");
+    }
+}
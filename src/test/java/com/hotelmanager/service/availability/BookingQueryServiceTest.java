@@ -0,0 +1,60 @@
+package com.hotelmanager.service.availability;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.request.BookingListRequest;
+import com.hotelmanager.model.response.BookingListResponse;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.validation.ValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingQueryServiceTest {
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private HotelDataService hotelDataService;
+
+    @Mock
+    private CommandMetrics commandMetrics;
+
+    @InjectMocks
+    private BookingQueryService bookingQueryService;
+
+    @Test
+    @DisplayName("Should list the bookings overlapping the requested range")
+    void listBookings_ShouldReturnOverlappingBookings() {
+        // Given
+        Hotel hotel = new Hotel();
+        LocalDate start = LocalDate.of(2024, 9, 1);
+        LocalDate end = LocalDate.of(2024, 9, 5);
+        Booking booking = new Booking("H1", "DBL", "Prepaid", start.minusDays(1), start.plusDays(2));
+
+        when(validationService.validateHotelExists("H1")).thenReturn(hotel);
+        when(validationService.parseDateRange("20240901-20240905")).thenReturn(new LocalDate[]{start, end});
+        when(hotelDataService.findBookingsOverlapping("H1", "DBL", start, end)).thenReturn(List.of(booking));
+
+        // When
+        BookingListResponse response = bookingQueryService.listBookings(
+                new BookingListRequest("H1", "20240901-20240905", "DBL"));
+
+        // Then
+        assertThat(response).isEqualTo(new BookingListResponse(List.of(booking), 1));
+        verify(validationService).validateRoomTypeExists(hotel, "DBL");
+    }
+}
@@ -0,0 +1,101 @@
+package com.hotelmanager.service.availability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelmanager.config.BookingShardProperties;
+import com.hotelmanager.config.HotelLoadProperties;
+import com.hotelmanager.config.RetentionProperties;
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.DateRange;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.Room;
+import com.hotelmanager.model.RoomType;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.monitoring.AllocationMeter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class IndexedAvailabilityEngineTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+
+    @TempDir
+    Path tempDir;
+
+    private IndexedAvailabilityEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Hotel hotel = new Hotel();
+        hotel.setId("H1");
+        hotel.setName("Batch Test Hotel");
+        hotel.setRoomTypes(List.of(new RoomType("DBL", "Double Room", List.of(), List.of())));
+        hotel.setRooms(List.of(new Room("DBL", "201"), new Room("DBL", "202"), new Room("DBL", "203")));
+        List<Booking> bookings = List.of(
+                new Booking("H1", "DBL", "Standard", SEP_1, SEP_1.plusDays(3)),
+                new Booking("H1", "DBL", "Standard", SEP_1.plusDays(1), SEP_1.plusDays(2)),
+                new Booking("H1", "DBL", "Standard", LocalDate.of(3000, 1, 1), LocalDate.of(3000, 1, 5)));
+
+        Path hotelFile = tempDir.resolve("hotels.json");
+        Path bookingFile = tempDir.resolve("bookings.json");
+        objectMapper.writeValue(hotelFile.toFile(), List.of(hotel));
+        objectMapper.writeValue(bookingFile.toFile(), bookings);
+        HotelDataService dataService = new HotelDataService(objectMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), HotelLoadProperties.defaults());
+        dataService.loadFromFiles(hotelFile.toString(), bookingFile.toString());
+        engine = new IndexedAvailabilityEngine(dataService);
+    }
+
+    @Test
+    @DisplayName("Should answer huge overlapping batch ranges without copying their nights")
+    void calculateMinimumAvailability_WithHugeOverlappingRanges_ShouldNotCopyNights() {
+        // Given
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation accounting not supported by this JVM");
+        List<DateRange> ranges = List.of(
+                new DateRange(LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31)),
+                new DateRange(LocalDate.of(1, 1, 2), LocalDate.of(9999, 12, 30)),
+                new DateRange(SEP_1.plusDays(2), LocalDate.of(2999, 12, 31)));
+        engine.calculateMinimumAvailability("H1", "DBL", ranges);
+
+        // When
+        long start = AllocationMeter.currentThreadAllocatedBytes();
+        int[] minimums = engine.calculateMinimumAvailability("H1", "DBL", ranges);
+        long allocated = AllocationMeter.allocatedSince(start);
+
+        // Then
+        assertThat(minimums).containsExactly(1, 1, 2);
+        assertThat(allocated).isLessThan(1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("Should answer short overlapping batch ranges as single ranges do")
+    void calculateMinimumAvailability_WithOverlappingRanges_ShouldMatchSingleRanges() {
+        // Given
+        List<DateRange> ranges = List.of(
+                new DateRange(SEP_1.minusDays(3), SEP_1),
+                new DateRange(SEP_1.plusDays(1), SEP_1.plusDays(1)),
+                new DateRange(SEP_1, SEP_1.plusDays(5)),
+                new DateRange(SEP_1.plusDays(2), SEP_1.plusDays(9)));
+
+        // When
+        int[] minimums = engine.calculateMinimumAvailability("H1", "DBL", ranges);
+
+        // Then
+        for (int i = 0; i < ranges.size(); i++) {
+            assertThat(minimums[i]).isEqualTo(engine.calculateMinimumAvailability(
+                    "H1", "DBL", ranges.get(i).startDate(), ranges.get(i).endDate()));
+        }
+        assertThat(minimums).containsExactly(2, 1, 1, 2);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hotelmanager.service.availability;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.RoomAssignmentStrategy;
+import com.hotelmanager.model.request.FreeRoomRequest;
+import com.hotelmanager.model.response.FreeRoomResponse;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.data.RoomAssignmentCalendar;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.validation.ValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomAssignmentServiceTest {
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private HotelDataService hotelDataService;
+
+    @Mock
+    private CommandMetrics commandMetrics;
+
+    @InjectMocks
+    private RoomAssignmentService roomAssignmentService;
+
+    @Test
+    @DisplayName("Should return a concrete room free for every night of the range")
+    void findFreeRoom_WithFreeRoom_ShouldReturnRoomId() {
+        // Given
+        Hotel hotel = new Hotel();
+        LocalDate start = LocalDate.of(2025, 6, 10);
+        LocalDate end = LocalDate.of(2025, 6, 14);
+        FreeRoomRequest request = new FreeRoomRequest("H1", "20250610-20250614", "DBL",
+                RoomAssignmentStrategy.FIRST_FIT);
+        RoomAssignmentCalendar calendar = RoomAssignmentCalendar.build(List.of("201", "202"),
+                List.of(new Booking("H1", "DBL", "Standard", start.minusDays(1), start.plusDays(1))));
+
+        when(validationService.validateHotelExists("H1")).thenReturn(hotel);
+        when(validationService.parseDateRange("20250610-20250614")).thenReturn(new LocalDate[]{start, end});
+        when(hotelDataService.getRoomAssignmentCalendar("H1", "DBL")).thenReturn(calendar);
+
+        // When
+        FreeRoomResponse response = roomAssignmentService.findFreeRoom(request);
+
+        // Then
+        assertThat(response).isEqualTo(new FreeRoomResponse("H1", "DBL", "20250610-20250614", Optional.of("202")));
+        verify(validationService).validateRoomTypeExists(hotel, "DBL");
+    }
+}
@@ -0,0 +1,203 @@
+package com.hotelmanager.service.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelmanager.model.Booking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingFileReaderTest {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @TempDir
+    Path tempDir;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    // Tiny ranges, so every test file is cut into many ranges parsed in parallel
+    private final BookingFileReader reader = new BookingFileReader(objectMapper, 16);
+
+    @Test
+    @DisplayName("Should parse JSON Lines split across ranges, keeping file order")
+    void read_WithJsonLines_ShouldParseEveryLineInOrder() throws IOException {
+        // Given
+        List<Booking> bookings = bookings(200);
+        Path file = tempDir.resolve("bookings.ndjson");
+        Files.writeString(file, bookings.stream()
+                .map(this::toJson)
+                .collect(Collectors.joining("\n", "", "\n\n")));
+
+        // When
+        List<Booking> read = reader.read(file.toFile());
+
+        // Then
+        assertThat(read).containsExactlyElementsOf(bookings);
+    }
+
+    @Test
+    @DisplayName("Should parse CSV by header names, with quotes, CRLF line breaks and blank lines")
+    void read_WithCsv_ShouldMapColumnsByHeader() throws IOException {
+        // Given
+        List<Booking> bookings = bookings(150);
+        Path file = tempDir.resolve("bookings.csv");
+        Files.writeString(file, bookings.stream()
+                .map(booking -> String.join(",", booking.arrival().format(DATE_FORMAT),
+                        booking.departure().format(DATE_FORMAT), "\"" + booking.hotelId() + "\"",
+                        booking.roomRate(), booking.roomType()))
+                .collect(Collectors.joining("\r\n", "arrival,departure,hotelId,roomRate,roomType\r\n", "\r\n\r\n")));
+
+        // When
+        List<Booking> read = reader.read(file.toFile());
+
+        // Then
+        assertThat(read).containsExactlyElementsOf(bookings);
+    }
+
+    @Test
+    @DisplayName("Should keep commas and doubled quotes inside a quoted rate in a middle or the last column")
+    void read_WithQuotedCommaInCsv_ShouldKeepWholeField() throws IOException {
+        // Given
+        Path middle = tempDir.resolve("middle.csv");
+        Files.writeString(middle, "hotelId,roomType,roomRate,arrival,departure\n"
+                + "H1,SGL,\"Prepaid, NR\",20240901,20240903\n"
+                + "H1,DBL, \"Say \"\"Hi\"\"\" ,20240902,20240904\n");
+        Path last = tempDir.resolve("last.csv");
+        Files.writeString(last, "hotelId,roomType,arrival,departure,roomRate\n"
+                + "H1,SGL,20240901,20240903,\"Prepaid, NR\"\n");
+
+        // When
+        List<Booking> fromMiddle = reader.read(middle.toFile());
+        List<Booking> fromLast = reader.read(last.toFile());
+
+        // Then
+        Booking prepaid = new Booking("H1", "SGL", "Prepaid, NR", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 3));
+        assertThat(fromMiddle).containsExactly(prepaid,
+                new Booking("H1", "DBL", "Say \"Hi\"", LocalDate.of(2024, 9, 2), LocalDate.of(2024, 9, 4)));
+        assertThat(fromLast).containsExactly(prepaid);
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV row with an unterminated quote")
+    void read_WithUnterminatedQuoteInCsv_ShouldThrowException() throws IOException {
+        // Given
+        Path file = tempDir.resolve("bookings.csv");
+        Files.writeString(file, "hotelId,roomType,roomRate,arrival,departure\nH1,SGL,\"Prepaid,20240901,20240903\n");
+
+        // When/Then
+        assertThatThrownBy(() -> reader.read(file.toFile()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Malformed booking at byte 44");
+    }
+
+    @Test
+    @DisplayName("Should parse gzipped JSON Lines and CSV while they are inflated")
+    void read_WithGzippedFiles_ShouldParseDecompressedContent() throws IOException {
+        // Given
+        List<Booking> bookings = bookings(100);
+        Path jsonLines = gzip("bookings.jsonl.gz", bookings.stream()
+                .map(this::toJson)
+                .collect(Collectors.joining("\n")));
+        Path csv = gzip("bookings.csv.gz", bookings.stream()
+                .map(booking -> String.join(",", booking.hotelId(), booking.roomType(), booking.roomRate(),
+                        booking.arrival().format(DATE_FORMAT), booking.departure().format(DATE_FORMAT)))
+                .collect(Collectors.joining("\n", "hotelId,roomType,roomRate,arrival,departure\n", "\n")));
+
+        // When/Then
+        assertThat(reader.read(jsonLines.toFile())).containsExactlyElementsOf(bookings);
+        assertThat(reader.read(csv.toFile())).containsExactlyElementsOf(bookings);
+    }
+
+    @Test
+    @DisplayName("Should report the line of a malformed row in a gzipped CSV")
+    void read_WithMalformedGzippedCsv_ShouldThrowException() throws IOException {
+        // Given
+        Path file = gzip("bookings.csv.gz", "hotelId,roomType,roomRate,arrival,departure\nH1,SGL\n");
+
+        // When/Then
+        assertThatThrownBy(() -> reader.read(file.toFile()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Malformed booking at line 2");
+    }
+
+    @Test
+    @DisplayName("Should report the position of a malformed CSV row")
+    void read_WithMalformedCsv_ShouldThrowException() throws IOException {
+        // Given
+        Path file = tempDir.resolve("bookings.csv");
+        Files.writeString(file, "hotelId,roomType,roomRate,arrival,departure\nH1,SGL,Standard,2024-09-01,20240903\n");
+
+        // When/Then
+        assertThatThrownBy(() -> reader.read(file.toFile()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Malformed booking at byte 44");
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV header without a booking column")
+    void read_WithIncompleteCsvHeader_ShouldThrowException() throws IOException {
+        // Given
+        Path file = tempDir.resolve("bookings.csv");
+        Files.writeString(file, "hotelId,roomType,arrival,departure\nH1,SGL,20240901,20240903\n");
+
+        // When/Then
+        assertThatThrownBy(() -> reader.read(file.toFile()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Missing CSV column roomrate");
+    }
+
+    @Test
+    @DisplayName("Should keep reading other files as a JSON array")
+    void read_WithJsonArray_ShouldParseArray() throws IOException {
+        // Given
+        List<Booking> bookings = bookings(3);
+        Path file = tempDir.resolve("bookings.json");
+        objectMapper.writeValue(file.toFile(), bookings);
+
+        // When
+        List<Booking> read = reader.read(file.toFile());
+
+        // Then
+        assertThat(read).containsExactlyElementsOf(bookings);
+    }
+
+    private List<Booking> bookings(int count) {
+        LocalDate start = LocalDate.of(2024, 9, 1);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Booking("H" + (i % 7), i % 2 == 0 ? "SGL" : "DBL", i % 3 == 0 ? "Prepaid" : "Standard",
+                        start.plusDays(i % 30), start.plusDays(i % 30 + 1 + i % 4)))
+                .toList();
+    }
+
+    private Path gzip(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)),
+                StandardCharsets.UTF_8)) {
+            out.write(content);
+        }
+        return file;
+    }
+
+    private String toJson(Booking booking) {
+        try {
+            return objectMapper.writeValueAsString(booking);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
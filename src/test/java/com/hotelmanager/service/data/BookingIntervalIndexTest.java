@@ -0,0 +1,89 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingIntervalIndexTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+
+    @Test
+    @DisplayName("Should return every booking with a night inside the range, in arrival order")
+    void overlapping_ShouldReturnBookingsSharingANight() {
+        // Given
+        Booking early = booking(0, 3);
+        Booking longStay = booking(1, 10);
+        Booking late = booking(6, 8);
+        BookingIntervalIndex index = BookingIntervalIndex.build(List.of(late, early, longStay, booking(4, 4)));
+
+        // When/Then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.overlapping(night(2), night(2))).containsExactly(early, longStay);
+        assertThat(index.overlapping(night(3), night(5))).containsExactly(longStay);
+        assertThat(index.overlapping(night(7), night(20))).containsExactly(longStay, late);
+        assertThat(index.overlapping(night(10), night(12))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should pass each overlapping booking with its nights clipped to the range")
+    void forEachOverlapping_ShouldClipNightsToRange() {
+        // Given
+        BookingIntervalIndex index = BookingIntervalIndex.build(List.of(booking(0, 3), booking(1, 10), booking(6, 8)));
+        List<Long> nights = new ArrayList<>();
+
+        // When
+        index.forEachOverlapping(night(2), night(6), (booking, count) -> nights.add(count));
+
+        // Then
+        assertThat(nights).containsExactly(1L, 5L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force scan across random inserts, deletes and queries")
+    void overlapping_AfterRandomUpdates_ShouldMatchScan() {
+        Random random = new Random(43);
+        List<Booking> expected = new ArrayList<>();
+        BookingIntervalIndex index = BookingIntervalIndex.EMPTY;
+
+        for (int step = 0; step < 500; step++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                Booking removed = expected.remove(random.nextInt(expected.size()));
+                index = index.withoutBooking(removed);
+            } else {
+                int arrival = random.nextInt(60);
+                Booking added = booking(arrival, arrival + 1 + random.nextInt(14));
+                expected.add(added);
+                index = index.withBooking(added);
+            }
+
+            int start = random.nextInt(70);
+            int end = start + random.nextInt(10);
+            assertThat(index.overlapping(night(start), night(end)))
+                    .containsExactlyInAnyOrderElementsOf(scan(expected, start, end));
+            assertThat(index.size()).isEqualTo(expected.size());
+        }
+    }
+
+    private static List<Booking> scan(List<Booking> bookings, int start, int end) {
+        return bookings.stream()
+                .filter(booking -> booking.arrival().toEpochDay() <= night(end)
+                        && booking.departure().toEpochDay() > night(start))
+                .toList();
+    }
+
+    private static long night(int offset) {
+        return SEP_1.plusDays(offset).toEpochDay();
+    }
+
+    private static Booking booking(int arrival, int departure) {
+        return new Booking("H1", "SGL", "Standard", SEP_1.plusDays(arrival), SEP_1.plusDays(departure));
+    }
+}
@@ -0,0 +1,82 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingPartitionsTest {
+
+    private static final YearMonth AUGUST = YearMonth.of(2024, 8);
+    private static final YearMonth SEPTEMBER = YearMonth.of(2024, 9);
+
+    @Test
+    @DisplayName("Should file each booking under the month of its last night")
+    void build_ShouldPartitionByLastNight() {
+        // Given
+        Booking departsFirst = booking(LocalDate.of(2024, 8, 30), LocalDate.of(2024, 9, 1));
+        Booking crossesMonth = booking(LocalDate.of(2024, 8, 30), LocalDate.of(2024, 9, 2));
+        Booking noNights = booking(LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 1));
+
+        // When
+        BookingPartitions partitions = BookingPartitions.build(List.of(departsFirst, crossesMonth, noNights));
+
+        // Then
+        assertThat(partitions.size()).isEqualTo(3);
+        assertThat(partitions.partitionCount()).isEqualTo(2);
+        assertThat(partitions.monthsBefore(SEPTEMBER)).containsOnlyKeys(AUGUST);
+        assertThat(partitions.monthsBefore(SEPTEMBER).get(AUGUST)).containsExactly(departsFirst);
+        assertThat(partitions.withoutMonthsBefore(SEPTEMBER).all()).containsExactly(crossesMonth, noNights);
+    }
+
+    @Test
+    @DisplayName("Should add and remove bookings without changing the original partitions")
+    void withBooking_ShouldCopyOnlyTouchedPartition() {
+        // Given
+        Booking august = booking(LocalDate.of(2024, 8, 10), LocalDate.of(2024, 8, 12));
+        Booking september = booking(LocalDate.of(2024, 9, 10), LocalDate.of(2024, 9, 12));
+        BookingPartitions original = BookingPartitions.build(List.of(august));
+
+        // When
+        BookingPartitions added = original.withBooking(september);
+        BookingPartitions removed = added.withoutBooking(august);
+
+        // Then
+        assertThat(original.all()).containsExactly(august);
+        assertThat(added.all()).containsExactly(august, september);
+        assertThat(removed.all()).containsExactly(september);
+        assertThat(removed.partitionCount()).isEqualTo(1);
+        assertThat(removed.withoutBooking(august)).isSameAs(removed);
+    }
+
+    @Test
+    @DisplayName("Should add and remove whole batches, skipping bookings that are not present")
+    void withBookings_ShouldAddAndRemoveBatches() {
+        // Given
+        Booking august = booking(LocalDate.of(2024, 8, 10), LocalDate.of(2024, 8, 12));
+        Booking september = booking(LocalDate.of(2024, 9, 10), LocalDate.of(2024, 9, 12));
+        Booking absent = booking(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 2));
+        BookingPartitions original = BookingPartitions.build(List.of(august));
+
+        // When
+        BookingPartitions added = original.withBookings(List.of(september, september));
+        BookingPartitions removed = added.withoutBookings(List.of(august, september, absent));
+
+        // Then
+        assertThat(added.size()).isEqualTo(3);
+        assertThat(added.all()).containsExactly(august, september, september);
+        assertThat(removed.size()).isEqualTo(1);
+        assertThat(removed.all()).containsExactly(september);
+        assertThat(removed.partitionCount()).isEqualTo(1);
+        assertThat(original.all()).containsExactly(august);
+    }
+
+    private static Booking booking(LocalDate arrival, LocalDate departure) {
+        return new Booking("H1", "SGL", "Standard", arrival, departure);
+    }
+}
@@ -0,0 +1,36 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.config.RetentionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingRetentionTaskTest {
+
+    @Mock
+    private HotelDataService hotelDataService;
+
+    @Spy
+    private RetentionProperties retentionProperties = RetentionProperties.defaults();
+
+    @InjectMocks
+    private BookingRetentionTask bookingRetentionTask;
+
+    @Test
+    @DisplayName("Should log an unexpected failure so that later scheduled runs still happen")
+    void apply_WithUnexpectedFailure_ShouldNotThrow() {
+        // Given
+        when(hotelDataService.applyRetention()).thenThrow(new IllegalStateException("Index corrupted"));
+
+        // When/Then
+        assertThatCode(bookingRetentionTask::apply).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.Room;
+import com.hotelmanager.model.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotelAvailabilityIndexTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+    private static final long FIRST = SEP_1.toEpochDay();
+
+    @Test
+    @DisplayName("Should exclude hotels sold out on any night of the range")
+    void availableHotels_ShouldExcludeSoldOutHotels() {
+        // Given
+        Booking h2Booking = booking("H2", SEP_1.plusDays(1), SEP_1.plusDays(2));
+        HotelAvailabilityIndex index = HotelAvailabilityIndex.build(
+                List.of(hotel("H2", 1), hotel("H1", 2), hotel("H3", 0)),
+                Map.of("H2", Map.of("DBL", OccupancyCalendar.build(List.of(h2Booking)))));
+
+        // When / Then
+        assertThat(hotelIds(index, "DBL", FIRST, FIRST, 1))
+                .containsExactly("H1", "H2");
+        assertThat(hotelIds(index, "DBL", FIRST, FIRST + 2, 1))
+                .containsExactly("H1");
+        assertThat(hotelIds(index, "DBL", FIRST, FIRST, 2))
+                .containsExactly("H1");
+        assertThat(hotelIds(index, "SUITE", FIRST, FIRST, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should follow booking changes in new indexes and leave the original unchanged")
+    void withBooking_ShouldTrackBookingChangesCopyOnWrite() {
+        // Given
+        HotelAvailabilityIndex index = HotelAvailabilityIndex.build(List.of(hotel("H1", 1)), Map.of());
+        Booking booking = booking("H1", SEP_1, SEP_1.plusDays(2));
+        OccupancyCalendar booked = OccupancyCalendar.EMPTY.withBooking(booking, 1);
+
+        // When
+        HotelAvailabilityIndex afterBooking = index.withBooking(booking, booked);
+
+        // Then
+        assertThat(hotelIds(afterBooking, "DBL", FIRST + 1, FIRST + 1, 1)).isEmpty();
+        assertThat(hotelIds(afterBooking, "DBL", FIRST + 2, FIRST + 2, 1)).containsExactly("H1");
+        assertThat(hotelIds(index, "DBL", FIRST, FIRST + 1, 1)).containsExactly("H1");
+
+        // When
+        HotelAvailabilityIndex afterCancel = afterBooking.withBooking(booking, booked.withBooking(booking, -1));
+
+        // Then
+        assertThat(hotelIds(afterCancel, "DBL", FIRST, FIRST + 1, 1)).containsExactly("H1");
+        assertThat(hotelIds(afterBooking, "DBL", FIRST, FIRST + 1, 1)).isEmpty();
+        assertThat(afterCancel.withBooking(booking, OccupancyCalendar.EMPTY)).isSameAs(afterCancel);
+    }
+
+    @Test
+    @DisplayName("Should match room types carrying every amenity and feature regardless of case")
+    void hotelsWithAttributes_ShouldIntersectAttributeBitmaps() {
+        // Given
+        Hotel seaView = hotel("H1", 2);
+        seaView.setRoomTypes(List.of(new RoomType("DBL", "Double", List.of("WiFi", "Minibar"), List.of("Sea View"))));
+        Hotel cityView = hotel("H2", 2);
+        cityView.setRoomTypes(List.of(new RoomType("DBL", "Double", List.of("WiFi"), List.of("City View"))));
+        HotelAvailabilityIndex index = HotelAvailabilityIndex.build(List.of(seaView, cityView), Map.of());
+
+        // When / Then
+        assertThat(index.hotelsWithAttributes("DBL", List.of("wifi")).cardinality()).isEqualTo(2);
+        assertThat(index.hotelsWithAttributes("DBL", List.of("Sea View", "MINIBAR")).stream().mapToObj(index::hotelId))
+                .containsExactly("H1");
+        assertThat(index.hotelsWithAttributes("DBL", List.of("WiFi", "Balcony")).isEmpty()).isTrue();
+        assertThat(index.roomTypesWithAttributes("H2", List.of("City View"))).containsExactly("DBL");
+        assertThat(index.roomTypesWithAttributes("H2", List.of("Sea View"))).isEmpty();
+    }
+
+    private static List<String> hotelIds(HotelAvailabilityIndex index, String roomType, long start, long end,
+                                         int minCapacity) {
+        return index.availableHotels(roomType, start, end, minCapacity).stream().mapToObj(index::hotelId).toList();
+    }
+
+    private static Hotel hotel(String id, int doubleRooms) {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < doubleRooms; i++) {
+            rooms.add(new Room("DBL", id + "-" + i));
+        }
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setRooms(rooms);
+        return hotel;
+    }
+
+    private static Booking booking(String hotelId, LocalDate arrival, LocalDate departure) {
+        return new Booking(hotelId, "DBL", "Standard", arrival, departure);
+    }
+}
@@ -1,11 +1,21 @@
 package com.hotelmanager.service.data;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelmanager.config.BookingShardProperties;
+import com.hotelmanager.config.HotelLoadProperties;
+import com.hotelmanager.config.RetentionProperties;
 import com.hotelmanager.exception.DataLoadException;
 import com.hotelmanager.model.Booking;
 import com.hotelmanager.model.Hotel;
 import com.hotelmanager.model.Room;
+import com.hotelmanager.model.RoomAssignmentStrategy;
 import com.hotelmanager.model.RoomType;
+import com.hotelmanager.service.monitoring.DataLoadEvent;
+import com.hotelmanager.util.CommandDeadline;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,20 +23,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +54,12 @@ class HotelDataServiceTest {
     Path tempDir;
     @Mock
     private ObjectMapper objectMapper;
+    @Spy
+    private RetentionProperties retentionProperties = RetentionProperties.defaults();
+    @Spy
+    private BookingShardProperties shardProperties = BookingShardProperties.defaults();
+    @Spy
+    private HotelLoadProperties hotelLoadProperties = HotelLoadProperties.defaults();
     @InjectMocks
     private HotelDataService hotelDataService;
     private Path hotelsFilePath;
@@ -100,6 +123,29 @@ class HotelDataServiceTest {
         assertThat(loadedHotel.get().getId()).isEqualTo("H1");
     }
 
+    @Test
+    @DisplayName("Should keep only the hotels and bookings accepted by the filter")
+    void loadFromFiles_WithHotelFilter_ShouldLoadOnlyPartition() throws IOException {
+        // Given
+        Hotel otherHotel = createTestHotel();
+        otherHotel.setId("H2");
+        Booking otherBooking = new Booking("H2", "SGL", "Standard",
+                LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 3));
+
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel, otherHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class)))
+                .thenReturn(new Booking[]{testBooking, otherBooking});
+
+        // When
+        hotelDataService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString(), "H1"::equals);
+
+        // Then
+        assertThat(hotelDataService.findHotelById("H1")).isPresent();
+        assertThat(hotelDataService.findHotelById("H2")).isEmpty();
+        assertThat(hotelDataService.findBookingsForDate("H1", "SGL", LocalDate.of(2024, 9, 1))).hasSize(1);
+        assertThat(hotelDataService.findBookingsForDate("H2", "SGL", LocalDate.of(2024, 9, 1))).isEmpty();
+    }
+
     @Test
     @DisplayName("Should throw exception when hotels file doesn't exist")
     void loadFromFiles_WithNonExistentHotelsFile_ShouldThrowException() {
@@ -186,6 +232,364 @@ class HotelDataServiceTest {
                 .hasMessage("Hotel data not initialized");
     }
 
+    @Test
+    @DisplayName("Should assign rooms from the loaded bookings and reassign after a booking is added")
+    void getRoomAssignmentCalendar_AfterAddBooking_ShouldReflectNewBooking() throws IOException {
+        // Given
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class))).thenReturn(new Booking[]{testBooking});
+        hotelDataService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+        long firstNight = LocalDate.of(2024, 9, 1).toEpochDay();
+        long lastNight = LocalDate.of(2024, 9, 2).toEpochDay();
+
+        // When
+        Optional<String> beforeAdd = hotelDataService.getRoomAssignmentCalendar("H1", "SGL")
+                .findFreeRoom(firstNight, lastNight, RoomAssignmentStrategy.FIRST_FIT);
+        hotelDataService.addBooking(testBooking);
+        Optional<String> afterAdd = hotelDataService.getRoomAssignmentCalendar("H1", "SGL")
+                .findFreeRoom(firstNight, lastNight, RoomAssignmentStrategy.FIRST_FIT);
+
+        // Then
+        assertThat(beforeAdd).contains("102");
+        assertThat(afterAdd).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find bookings overlapping a range and drop them once cancelled")
+    void findBookingsOverlapping_AfterCancel_ShouldReflectChange() throws IOException {
+        // Given
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class))).thenReturn(new Booking[]{testBooking});
+        hotelDataService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+        Booking later = new Booking("H1", "SGL", "Prepaid", LocalDate.of(2024, 9, 2), LocalDate.of(2024, 9, 6));
+        hotelDataService.addBooking(later);
+
+        // When
+        List<Booking> beforeCancel = hotelDataService.findBookingsOverlapping("H1", "SGL",
+                LocalDate.of(2024, 9, 2), LocalDate.of(2024, 9, 4));
+        hotelDataService.cancelBooking(testBooking);
+        List<Booking> afterCancel = hotelDataService.findBookingsOverlapping("H1", "SGL",
+                LocalDate.of(2024, 9, 2), LocalDate.of(2024, 9, 4));
+
+        // Then
+        assertThat(beforeCancel).containsExactly(testBooking, later);
+        assertThat(afterCancel).containsExactly(later);
+        assertThat(hotelDataService.findBookingsOverlapping("H1", "SGL",
+                LocalDate.of(2024, 9, 6), LocalDate.of(2024, 9, 8))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep occupancy per rate plan and update it with added bookings")
+    void getRateOccupancyCalendars_AfterAddBooking_ShouldSplitByRate() throws IOException {
+        // Given
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class))).thenReturn(new Booking[]{testBooking});
+        hotelDataService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+        LocalDate night = LocalDate.of(2024, 9, 2);
+
+        // When
+        hotelDataService.addBooking(new Booking("H1", "SGL", "Prepaid", night, night.plusDays(1)));
+        Map<String, OccupancyCalendar> byRate = hotelDataService.getRateOccupancyCalendars("H1", "SGL");
+
+        // Then
+        assertThat(byRate).containsOnlyKeys("Standard", "Prepaid");
+        assertThat(byRate.get("Standard").occupiedOn(night)).isEqualTo(1);
+        assertThat(byRate.get("Prepaid").occupiedOn(night)).isEqualTo(1);
+        assertThat(hotelDataService.getOccupancyCalendar("H1", "SGL").occupiedOn(night)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should publish booking changes as a new snapshot and leave the one a reader holds unchanged")
+    void addBooking_ShouldPublishNewSnapshotLeavingHeldSnapshotUnchanged() throws IOException {
+        // Given
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class))).thenReturn(new Booking[]{testBooking});
+        hotelDataService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+        LocalDate night = LocalDate.of(2024, 9, 2);
+        BookingSnapshot held = hotelDataService.getBookingSnapshot();
+
+        // When
+        hotelDataService.addBooking(new Booking("H1", "SGL", "Prepaid", night, night.plusDays(1)));
+        BookingSnapshot published = hotelDataService.getBookingSnapshot();
+
+        // Then
+        assertThat(held.occupancyCalendar("H1", "SGL").occupiedOn(night)).isEqualTo(1);
+        assertThat(held.rateOccupancyCalendars("H1", "SGL")).containsOnlyKeys("Standard");
+        assertThat(held.bookingIndex("H1", "SGL").bookings()).hasSize(1);
+        assertThat(held.availabilityIndex().availableHotels("SGL", night.toEpochDay(), night.toEpochDay(), 1)
+                .cardinality()).isEqualTo(1);
+        assertThat(published.occupancyCalendar("H1", "SGL").occupiedOn(night)).isEqualTo(2);
+        assertThat(published.rateOccupancyCalendars("H1", "SGL")).containsOnlyKeys("Standard", "Prepaid");
+        assertThat(published.bookingIndex("H1", "SGL").bookings()).hasSize(2);
+        assertThat(published.availabilityIndex().availableHotels("SGL", night.toEpochDay(), night.toEpochDay(), 1)
+                .isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should load bookings without a rate and group them under the unknown rate")
+    void loadFromFiles_WithBookingWithoutRate_ShouldUseUnknownRate() throws IOException {
+        // Given
+        LocalDate night = LocalDate.of(2024, 9, 1);
+        Booking noRate = new Booking("H1", "SGL", null, night, night.plusDays(1));
+        Booking blankRate = new Booking("H1", "SGL", " ", night, night.plusDays(1));
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class))).thenReturn(new Booking[]{noRate, testBooking});
+
+        // When
+        hotelDataService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+        hotelDataService.addBooking(blankRate);
+        Map<String, OccupancyCalendar> byRate = hotelDataService.getRateOccupancyCalendars("H1", "SGL");
+
+        // Then
+        assertThat(byRate).containsOnlyKeys(Booking.UNKNOWN_RATE, "Standard");
+        assertThat(byRate.get(Booking.UNKNOWN_RATE).occupiedOn(night)).isEqualTo(2);
+        assertThat(hotelDataService.getOccupancyCalendar("H1", "SGL").occupiedOn(night)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop partitions outside the retention window on load")
+    void loadFromFiles_WithRetention_ShouldDropFinishedMonths() throws IOException {
+        // Given
+        HotelDataService retainingService = new HotelDataService(objectMapper,
+                new RetentionProperties(true, 1, "", Duration.ofDays(1)), BookingShardProperties.defaults(),
+                HotelLoadProperties.defaults());
+        LocalDate today = LocalDate.now();
+        Booking current = new Booking("H1", "SGL", "Standard", today, today.plusDays(2));
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class)))
+                .thenReturn(new Booking[]{testBooking, current});
+
+        // When
+        retainingService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+
+        // Then
+        assertThat(retainingService.getBookingPartitionCount()).isEqualTo(1);
+        assertThat(retainingService.findBookingsForDate("H1", "SGL", LocalDate.of(2024, 9, 1))).isEmpty();
+        assertThat(retainingService.findBookingsForDate("H1", "SGL", today)).containsExactly(current);
+    }
+
+    @Test
+    @DisplayName("Should archive and drop expired partitions while running and re-index the rest")
+    void applyRetentionAsOf_ShouldArchiveExpiredPartitions() throws IOException {
+        // Given
+        Path archiveDirectory = tempDir.resolve("archive");
+        HotelDataService retainingService = new HotelDataService(objectMapper,
+                new RetentionProperties(true, 0, archiveDirectory.toString(), Duration.ofDays(1)),
+                BookingShardProperties.defaults(), HotelLoadProperties.defaults());
+        LocalDate today = LocalDate.now();
+        LocalDate nextMonth = today.plusMonths(1).withDayOfMonth(1);
+        Booking thisMonth = new Booking("H1", "SGL", "Standard", today, today.plusDays(1));
+        Booking later = new Booking("H1", "SGL", "Prepaid", nextMonth.plusDays(5), nextMonth.plusDays(7));
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class)))
+                .thenReturn(new Booking[]{thisMonth, later});
+        retainingService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+
+        // When
+        int dropped = retainingService.applyRetentionAsOf(nextMonth);
+
+        // Then
+        assertThat(dropped).isEqualTo(1);
+        verify(objectMapper).writeValue(archiveDirectory.resolve("bookings-" + YearMonth.from(today) + ".json").toFile(),
+                List.of(thisMonth));
+        assertThat(retainingService.getBookingPartitionCount()).isEqualTo(1);
+        assertThat(retainingService.findBookingsForDate("H1", "SGL", today)).isEmpty();
+        assertThat(retainingService.cancelBooking(thisMonth)).isFalse();
+        assertThat(retainingService.cancelBooking(later)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read a booking shard only when a query first touches its hotel and nights")
+    void loadFromFiles_WithShardDirectory_ShouldReadShardsOnFirstUse() throws IOException {
+        // Given
+        Booking october = new Booking("H1", "SGL", "Prepaid", LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 7));
+        Path shardDirectory = givenShards(october);
+
+        // When
+        hotelDataService.loadFromFiles(hotelsFilePath.toString(), shardDirectory.toString());
+        long residentAfterLoad = hotelDataService.getResidentBookingShards();
+        List<Booking> september = hotelDataService.findBookingsForDate("H1", "SGL", LocalDate.of(2024, 9, 1));
+
+        // Then
+        assertThat(residentAfterLoad).isZero();
+        assertThat(september).containsExactly(testBooking);
+        assertThat(hotelDataService.getResidentBookingShards()).isEqualTo(1);
+        assertThat(hotelDataService.getOccupancyCalendar("H1", "SGL").occupiedOn(LocalDate.of(2024, 10, 5))).isZero();
+
+        hotelDataService.loadBookings("H1", LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31));
+        assertThat(hotelDataService.getOccupancyCalendar("H1", "SGL").occupiedOn(LocalDate.of(2024, 10, 5))).isEqualTo(1);
+        verify(objectMapper).readValue(shardDirectory.resolve("2024-10.json").toFile(), Booking[].class);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used shard beyond the budget but keep changed shards")
+    void loadBookings_OverBudget_ShouldEvictColdUnchangedShards() throws IOException {
+        // Given
+        HotelDataService budgetedService = new HotelDataService(objectMapper, RetentionProperties.defaults(),
+                new BookingShardProperties(1), HotelLoadProperties.defaults());
+        Booking october = new Booking("H1", "SGL", "Prepaid", LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 7));
+        Path shardDirectory = givenShards(october);
+        budgetedService.loadFromFiles(hotelsFilePath.toString(), shardDirectory.toString());
+
+        // When
+        budgetedService.loadBookings("H1", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 1));
+        budgetedService.loadBookings("H1", LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 5));
+        long residentAfterEviction = budgetedService.getResidentBookingShards();
+        boolean cancelled = budgetedService.cancelBooking(testBooking);
+
+        // Then
+        assertThat(residentAfterEviction).isEqualTo(1);
+        assertThat(budgetedService.getOccupancyCalendar("H1", "SGL").occupiedOn(LocalDate.of(2024, 9, 1))).isZero();
+        assertThat(cancelled).isTrue();
+
+        budgetedService.loadBookings("H1", LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 5));
+        assertThat(budgetedService.getResidentBookingShards()).isEqualTo(2);
+        assertThat(budgetedService.findBookingsForDate("H1", "SGL", LocalDate.of(2024, 9, 1))).isEmpty();
+        assertThat(budgetedService.findBookingsForDate("H1", "SGL", LocalDate.of(2024, 10, 5))).containsExactly(october);
+    }
+
+    @Test
+    @DisplayName("Should keep shards read by a command resident until the command ends")
+    void loadBookings_InCommandOverBudget_ShouldKeepHeldShards() throws IOException {
+        // Given
+        HotelDataService budgetedService = new HotelDataService(objectMapper, RetentionProperties.defaults(),
+                new BookingShardProperties(1), HotelLoadProperties.defaults());
+        Booking october = new Booking("H1", "SGL", "Prepaid", LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 7));
+        Path shardDirectory = givenShards(october);
+        budgetedService.loadFromFiles(hotelsFilePath.toString(), shardDirectory.toString());
+
+        // When
+        long residentInCommand;
+        int septemberOccupied;
+        try (CommandDeadline ignored = CommandDeadline.start(Duration.ofMinutes(1))) {
+            budgetedService.loadBookings("H1", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 1));
+            budgetedService.loadBookings("H1", LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 5));
+            residentInCommand = budgetedService.getResidentBookingShards();
+            septemberOccupied = budgetedService.getOccupancyCalendar("H1", "SGL").occupiedOn(LocalDate.of(2024, 9, 1));
+        }
+
+        // Then
+        assertThat(residentInCommand).isEqualTo(2);
+        assertThat(septemberOccupied).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a bookings directory without a manifest")
+    void loadFromFiles_WithDirectoryWithoutManifest_ShouldThrowException() {
+        // When/Then
+        assertThatThrownBy(() -> hotelDataService.loadFromFiles(hotelsFilePath.toString(), tempDir.toString()))
+                .isInstanceOf(DataLoadException.class)
+                .hasMessageContaining("Bookings manifest not found");
+    }
+
+    // A September shard holding testBooking and an October shard holding the given booking, both for H1
+    private Path givenShards(Booking october) throws IOException {
+        Path shardDirectory = Files.createDirectory(tempDir.resolve("shards"));
+        Path manifest = Files.createFile(shardDirectory.resolve("manifest.json"));
+        Path septemberShard = Files.createFile(shardDirectory.resolve("2024-09.json"));
+        Path octoberShard = Files.createFile(shardDirectory.resolve("2024-10.json"));
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(new Hotel[]{testHotel});
+        when(objectMapper.readValue(manifest.toFile(), BookingShard[].class)).thenReturn(new BookingShard[]{
+                new BookingShard("2024-09.json", List.of("H1"), LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 30)),
+                new BookingShard("2024-10.json", null, LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31))});
+        when(objectMapper.readValue(septemberShard.toFile(), Booking[].class)).thenReturn(new Booking[]{testBooking});
+        lenient().when(objectMapper.readValue(octoberShard.toFile(), Booking[].class))
+                .thenReturn(new Booking[]{october});
+        return shardDirectory;
+    }
+
+    @Test
+    @DisplayName("Should load projected hotels and read their rooms only when a free room is asked for")
+    void loadFromFiles_WithProjectingLoader_ShouldReadRoomsOnDemand() throws IOException {
+        // Given
+        ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        HotelDataService projectingService = new HotelDataService(jsonMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), new HotelLoadProperties(HotelLoadProperties.Loader.PROJECTING));
+        jsonMapper.writeValue(hotelsFilePath.toFile(), List.of(testHotel));
+        jsonMapper.writeValue(bookingsFilePath.toFile(), List.of(testBooking));
+
+        // When
+        projectingService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+        Hotel projected = projectingService.findHotelById("H1").orElseThrow();
+        Optional<String> freeRoom = projectingService.getRoomAssignmentCalendar("H1", "SGL").findFreeRoom(
+                LocalDate.of(2024, 9, 1).toEpochDay(), LocalDate.of(2024, 9, 2).toEpochDay(),
+                RoomAssignmentStrategy.FIRST_FIT);
+
+        // Then
+        assertThat(projected.getRooms()).isNull();
+        assertThat(projected.getTotalRoomsByType("SGL")).isEqualTo(2);
+        assertThat(freeRoom).contains("102");
+        assertThat(projectingService.findHotelDetails("H1").orElseThrow().getName()).isEqualTo("Test Hotel");
+    }
+
+    @Test
+    @DisplayName("Should refuse to read hotel details from a hotels file replaced since the load")
+    void findHotelDetails_AfterHotelsFileChanged_ShouldThrowException() throws IOException {
+        // Given
+        ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        HotelDataService projectingService = new HotelDataService(jsonMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), new HotelLoadProperties(HotelLoadProperties.Loader.PROJECTING));
+        jsonMapper.writeValue(hotelsFilePath.toFile(), List.of(testHotel));
+        jsonMapper.writeValue(bookingsFilePath.toFile(), List.of(testBooking));
+        projectingService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+
+        // When
+        testHotel.setName("Renamed Test Hotel");
+        jsonMapper.writeValue(hotelsFilePath.toFile(), List.of(testHotel));
+
+        // Then
+        assertThatThrownBy(() -> projectingService.findHotelDetails("H1"))
+                .isInstanceOf(DataLoadException.class)
+                .hasMessageContaining("changed since it was loaded");
+    }
+
+    @Test
+    @DisplayName("Should not cache a room assignment calendar when the hotel's rooms cannot be read")
+    void getRoomAssignmentCalendar_AfterHotelsFileChanged_ShouldThrowWithoutCaching() throws IOException {
+        // Given
+        ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        HotelDataService projectingService = new HotelDataService(jsonMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), new HotelLoadProperties(HotelLoadProperties.Loader.PROJECTING));
+        jsonMapper.writeValue(hotelsFilePath.toFile(), List.of(testHotel));
+        jsonMapper.writeValue(bookingsFilePath.toFile(), List.of(testBooking));
+        projectingService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+
+        // When
+        testHotel.setName("Renamed Test Hotel");
+        jsonMapper.writeValue(hotelsFilePath.toFile(), List.of(testHotel));
+
+        // Then
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(() -> projectingService.getRoomAssignmentCalendar("H1", "SGL"))
+                    .isInstanceOf(DataLoadException.class)
+                    .hasMessageContaining("changed since it was loaded");
+        }
+    }
+
+    @Test
+    @DisplayName("Should load gzipped hotels and bookings files directly")
+    void loadFromFiles_WithGzippedFiles_ShouldLoadSuccessfully() throws IOException {
+        // Given
+        ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        HotelDataService gzipService = new HotelDataService(jsonMapper, RetentionProperties.defaults(),
+                BookingShardProperties.defaults(), HotelLoadProperties.defaults());
+        Path hotelsGzip = tempDir.resolve("hotels.json.gz");
+        Path bookingsGzip = tempDir.resolve("bookings.json.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(hotelsGzip))) {
+            jsonMapper.writeValue(out, List.of(testHotel));
+        }
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(bookingsGzip))) {
+            jsonMapper.writeValue(out, List.of(testBooking));
+        }
+
+        // When
+        gzipService.loadFromFiles(hotelsGzip.toString(), bookingsGzip.toString());
+
+        // Then
+        assertThat(gzipService.findHotelById("H1")).isPresent();
+        assertThat(gzipService.findBookingsForDate("H1", "SGL", LocalDate.of(2024, 9, 2))).containsExactly(testBooking);
+    }
+
     @Test
     @DisplayName("Should find bookings for specific date")
     void findBookingsForDate_WithMatchingBookings_ShouldReturnBookings() throws IOException {
@@ -280,4 +684,32 @@ class HotelDataServiceTest {
         assertThat(hotelDataService.findHotelById("H1")).isEmpty();
         assertThat(hotelDataService.findBookingsForDate("H1", "SGL", LocalDate.now())).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should emit a JFR event per loaded file")
+    void loadFromFiles_WithRecordingEnabled_ShouldEmitDataLoadEvents() throws IOException {
+        // Given
+        Hotel[] hotels = {testHotel};
+        Booking[] bookings = {testBooking, testBooking};
+
+        when(objectMapper.readValue(any(File.class), eq(Hotel[].class))).thenReturn(hotels);
+        when(objectMapper.readValue(any(File.class), eq(Booking[].class))).thenReturn(bookings);
+
+        // When
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(DataLoadEvent.class);
+            recording.start();
+            hotelDataService.loadFromFiles(hotelsFilePath.toString(), bookingsFilePath.toString());
+            recording.stop();
+            Path dump = tempDir.resolve("load.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        // Then
+        assertThat(events).extracting(event -> event.getString("kind")).containsExactly("hotels", "bookings");
+        assertThat(events).extracting(event -> event.getInt("records")).containsExactly(1, 2);
+        assertThat(events.get(1).getString("file")).isEqualTo(bookingsFilePath.toString());
+    }
+}
@@ -0,0 +1,84 @@
+package com.hotelmanager.service.data;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotelProjectionReaderTest {
+
+    private static final String HOTELS = """
+            [
+              {"id": "H1", "name": "Hotel California", "address": {"city": "Nowhere"},
+               "roomTypes": [
+                 {"code": "SGL", "description": "Single Room", "amenities": ["WiFi"], "features": ["Non-smoking"]},
+                 {"code": "DBL", "description": "Double Room", "amenities": ["WiFi", "TV"], "features": null}
+               ],
+               "rooms": [
+                 {"roomType": "SGL", "roomId": "101"},
+                 {"roomId": "102", "roomType": "SGL"},
+                 {"roomType": "DBL", "roomId": "201"}
+               ]},
+              {"id": "H2", "roomTypes": [], "rooms": []}
+            ]
+            """;
+
+    @TempDir
+    Path tempDir;
+    private Path hotelsFile;
+    private HotelProjectionReader reader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        hotelsFile = Files.writeString(tempDir.resolve("hotels.json"), HOTELS);
+        // Unknown fields are ignored, as by the application's ObjectMapper
+        reader = new HotelProjectionReader(new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+
+    @Test
+    @DisplayName("Should keep ids, room type attributes and room counts, skipping rooms and descriptions")
+    void read_ShouldProjectQueriedFields() throws IOException {
+        // When
+        List<Hotel> hotels = reader.read(hotelsFile.toFile());
+
+        // Then
+        assertThat(hotels).extracting(Hotel::getId).containsExactly("H1", "H2");
+        Hotel hotel = hotels.get(0);
+        assertThat(hotel.getTotalRoomsByType()).isEqualTo(Map.of("SGL", 2, "DBL", 1));
+        assertThat(hotel.getTotalRooms()).isEqualTo(3);
+        assertThat(hotel.getRooms()).isNull();
+        assertThat(hotel.getName()).isNull();
+        assertThat(hotel.getRoomTypes().get(0).description()).isNull();
+        assertThat(hotel.getRoomTypes().get(0).amenities()).containsExactly("WiFi");
+        assertThat(hotel.getRoomTypes().get(1).hasAttributes(List.of("tv"))).isTrue();
+        assertThat(hotels.get(1).getTotalRooms()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should bind the full record of just the requested hotel")
+    void readDetails_ShouldReturnFullHotel() throws IOException {
+        // When
+        Optional<Hotel> details = reader.readDetails(hotelsFile.toFile(), "H1");
+        Optional<Hotel> missing = reader.readDetails(hotelsFile.toFile(), "H9");
+
+        // Then
+        assertThat(details).isPresent();
+        assertThat(details.get().getName()).isEqualTo("Hotel California");
+        assertThat(details.get().getRooms()).extracting(Room::roomId).containsExactly("101", "102", "201");
+        assertThat(missing).isEmpty();
+    }
+}
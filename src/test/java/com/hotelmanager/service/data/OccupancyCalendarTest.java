@@ -0,0 +1,152 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.service.monitoring.AllocationMeter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class OccupancyCalendarTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+
+    @Test
+    @DisplayName("Should count bookings per night excluding departure day")
+    void build_WithOverlappingBookings_ShouldCountNightsPerDay() {
+        // Given
+        List<Booking> bookings = List.of(
+                booking(SEP_1, SEP_1.plusDays(3)),
+                booking(SEP_1.plusDays(1), SEP_1.plusDays(2))
+        );
+
+        // When
+        OccupancyCalendar calendar = OccupancyCalendar.build(bookings);
+
+        // Then
+        assertThat(calendar.occupiedOn(SEP_1.minusDays(1))).isZero();
+        assertThat(calendar.occupiedOn(SEP_1)).isEqualTo(1);
+        assertThat(calendar.occupiedOn(SEP_1.plusDays(1))).isEqualTo(2);
+        assertThat(calendar.occupiedOn(SEP_1.plusDays(2))).isEqualTo(1);
+        assertThat(calendar.occupiedOn(SEP_1.plusDays(3))).isZero();
+        assertThat(calendar.maxOccupied(SEP_1.toEpochDay(), SEP_1.plusDays(10).toEpochDay())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should add and remove bookings without changing the original calendar")
+    void withBooking_ShouldWidenSpanAndLeaveOriginalUntouched() {
+        // Given
+        OccupancyCalendar original = OccupancyCalendar.build(List.of(booking(SEP_1, SEP_1.plusDays(2))));
+
+        // When
+        OccupancyCalendar added = original.withBooking(booking(SEP_1.minusDays(1), SEP_1.plusDays(4)), 1);
+        OccupancyCalendar removed = added.withBooking(booking(SEP_1, SEP_1.plusDays(2)), -1);
+
+        // Then
+        assertThat(original.occupiedOn(SEP_1.minusDays(1))).isZero();
+        assertThat(added.occupiedOn(SEP_1.minusDays(1))).isEqualTo(1);
+        assertThat(added.occupiedOn(SEP_1)).isEqualTo(2);
+        assertThat(added.occupiedOn(SEP_1.plusDays(3))).isEqualTo(1);
+        assertThat(added.occupiedOn(SEP_1.plusDays(4))).isZero();
+        assertThat(removed.occupiedOn(SEP_1)).isEqualTo(1);
+        assertThat(OccupancyCalendar.EMPTY.withBooking(booking(SEP_1, SEP_1.plusDays(1)), 1).occupiedOn(SEP_1))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should sum room-nights sold over a range, counting nights outside the calendar as empty")
+    void sumOccupied_ShouldAddNightsInsideRange() {
+        // Given
+        OccupancyCalendar calendar = OccupancyCalendar.build(List.of(
+                booking(SEP_1, SEP_1.plusDays(3)),
+                booking(SEP_1.plusDays(1), SEP_1.plusDays(2))));
+
+        // When/Then
+        assertThat(calendar.sumOccupied(SEP_1.minusDays(5).toEpochDay(), SEP_1.plusDays(9).toEpochDay())).isEqualTo(4);
+        assertThat(calendar.sumOccupied(SEP_1.plusDays(1).toEpochDay(), SEP_1.plusDays(1).toEpochDay())).isEqualTo(2);
+        assertThat(OccupancyCalendar.EMPTY.sumOccupied(SEP_1.toEpochDay(), SEP_1.plusDays(9).toEpochDay())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore bookings without nights")
+    void build_WithZeroNightBookings_ShouldReturnEmpty() {
+        // When
+        OccupancyCalendar calendar = OccupancyCalendar.build(List.of(booking(SEP_1, SEP_1)));
+
+        // Then
+        assertThat(calendar).isSameAs(OccupancyCalendar.EMPTY);
+        assertThat(calendar.maxOccupied(SEP_1.toEpochDay(), SEP_1.plusDays(5).toEpochDay())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should copy a window that only partially overlaps the calendar")
+    void copyOccupied_WithPartialOverlap_ShouldZeroFillOutsideCalendar() {
+        // Given
+        OccupancyCalendar calendar = OccupancyCalendar.build(List.of(booking(SEP_1, SEP_1.plusDays(2))));
+        int[] window = new int[5];
+
+        // When
+        calendar.copyOccupied(SEP_1.minusDays(2).toEpochDay(), window);
+
+        // Then
+        assertThat(window).containsExactly(0, 0, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Should store bookings with outlying dates without allocating the nights between them")
+    void build_WithOutlyingDates_ShouldOnlyStoreBookedNights() {
+        // Given
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation accounting not supported by this JVM");
+        LocalDate distantPast = LocalDate.of(-1_000_000, 1, 1);
+        LocalDate distantFuture = LocalDate.of(1_000_000, 1, 1);
+        List<Booking> bookings = List.of(
+                booking(distantPast, distantPast.plusDays(2)),
+                booking(SEP_1, SEP_1.plusDays(3)),
+                booking(distantFuture, distantFuture.plusDays(1)));
+
+        // When
+        long start = AllocationMeter.currentThreadAllocatedBytes();
+        OccupancyCalendar calendar = OccupancyCalendar.build(bookings)
+                .withBooking(booking(SEP_1.plusDays(1), SEP_1.plusDays(2)), 1);
+        long allocated = AllocationMeter.allocatedSince(start);
+
+        // Then
+        assertThat(allocated).isLessThan(64 * 1024);
+        assertThat(calendar.occupiedOn(distantPast.plusDays(1))).isEqualTo(1);
+        assertThat(calendar.occupiedOn(distantFuture)).isEqualTo(1);
+        assertThat(calendar.occupiedOn(SEP_1.plusDays(1))).isEqualTo(2);
+        assertThat(calendar.occupiedOn(SEP_1.minusYears(100))).isZero();
+        assertThat(calendar.maxOccupied(LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay())).isEqualTo(2);
+        assertThat(calendar.sumOccupied(LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay())).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should add a booking spanning several chunks next to stored ones")
+    void withBooking_AcrossChunks_ShouldMatchRebuiltCalendar() {
+        // Given
+        Booking early = booking(SEP_1, SEP_1.plusDays(2));
+        Booking late = booking(SEP_1.plusDays(400), SEP_1.plusDays(402));
+        Booking spanning = booking(SEP_1.minusDays(70), SEP_1.plusDays(200));
+
+        // When
+        OccupancyCalendar updated = OccupancyCalendar.build(List.of(early, late)).withBooking(spanning, 1);
+        OccupancyCalendar rebuilt = OccupancyCalendar.build(List.of(early, late, spanning));
+
+        // Then
+        int[] updatedNights = new int[600];
+        int[] rebuiltNights = new int[600];
+        updated.copyOccupied(SEP_1.minusDays(100).toEpochDay(), updatedNights);
+        rebuilt.copyOccupied(SEP_1.minusDays(100).toEpochDay(), rebuiltNights);
+        assertThat(updatedNights).isEqualTo(rebuiltNights);
+        assertThat(updated.sumOccupied(SEP_1.minusDays(100).toEpochDay(), SEP_1.plusDays(500).toEpochDay()))
+                .isEqualTo(2 + 2 + 270);
+    }
+
+    private Booking booking(LocalDate arrival, LocalDate departure) {
+        return new Booking("H1", "SGL", "Standard", arrival, departure);
+    }
+}
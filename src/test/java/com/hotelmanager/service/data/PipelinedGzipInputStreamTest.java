@@ -0,0 +1,89 @@
+package com.hotelmanager.service.data;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelinedGzipInputStreamTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should return the decompressed content of a file larger than the chunk queue")
+    void read_ShouldInflateWholeFile() throws IOException {
+        // Given
+        byte[] content = new byte[3 << 20];
+        new Random(42).nextBytes(content);
+        Path file = gzip("large.bin.gz", content);
+
+        // When
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        try (InputStream in = new PipelinedGzipInputStream(file.toFile())) {
+            read.write(in.read());
+            byte[] buffer = new byte[10_000];
+            for (int length = in.read(buffer); length >= 0; length = in.read(buffer)) {
+                read.write(buffer, 0, length);
+            }
+        }
+
+        // Then
+        assertThat(read.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("Should report a corrupt file to the reader")
+    void read_WithCorruptFile_ShouldThrowException() throws IOException {
+        // Given
+        Path file = Files.write(tempDir.resolve("corrupt.json.gz"), new byte[]{1, 2, 3, 4});
+
+        // When/Then
+        try (InputStream in = new PipelinedGzipInputStream(file.toFile())) {
+            assertThatThrownBy(in::readAllBytes).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop at the end of the content once closed early")
+    void close_BeforeEnd_ShouldEndStream() throws IOException {
+        // Given
+        Path file = gzip("large.bin.gz", new byte[4 << 20]);
+        InputStream in = new PipelinedGzipInputStream(file.toFile());
+        in.read(new byte[1024]);
+
+        // When
+        in.close();
+
+        // Then
+        assertThat(in.read()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should name the content format without the gzip suffix")
+    void contentName_ShouldStripGzipSuffix() {
+        assertThat(PipelinedGzipInputStream.contentName(tempDir.resolve("bookings.ndjson.GZ").toFile()))
+                .isEqualTo("bookings.ndjson");
+        assertThat(PipelinedGzipInputStream.contentName(tempDir.resolve("bookings.csv").toFile()))
+                .isEqualTo("bookings.csv");
+    }
+
+    private Path gzip(String name, byte[] content) throws IOException {
+        Path file = tempDir.resolve(name);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(content);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,72 @@
+package com.hotelmanager.service.data;
+
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.RoomAssignmentStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomAssignmentCalendarTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+
+    @Test
+    @DisplayName("Should place bookings in arrival order and return the first room free for the whole stay")
+    void findFreeRoom_WithFirstFit_ShouldReturnFirstFreeRoom() {
+        // Given
+        RoomAssignmentCalendar calendar = RoomAssignmentCalendar.build(List.of("101", "102", "103"), List.of(
+                booking(SEP_1.plusDays(1), SEP_1.plusDays(4)),
+                booking(SEP_1, SEP_1.plusDays(2))));
+
+        // When/Then
+        assertThat(find(calendar, SEP_1.plusDays(2), SEP_1.plusDays(2), RoomAssignmentStrategy.FIRST_FIT))
+                .contains("101");
+        assertThat(find(calendar, SEP_1, SEP_1.plusDays(3), RoomAssignmentStrategy.FIRST_FIT)).contains("103");
+        assertThat(calendar.unassignedBookings()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should prefer the free room leaving the fewest idle nights with best fit")
+    void findFreeRoom_WithBestFit_ShouldReturnTightestRoom() {
+        // Given
+        RoomAssignmentCalendar calendar = RoomAssignmentCalendar.build(List.of("101", "102"), List.of(
+                booking(SEP_1, SEP_1.plusDays(2)),
+                booking(SEP_1.plusDays(1), SEP_1.plusDays(9))));
+
+        // When/Then
+        assertThat(find(calendar, SEP_1.plusDays(9), SEP_1.plusDays(10), RoomAssignmentStrategy.FIRST_FIT))
+                .contains("101");
+        assertThat(find(calendar, SEP_1.plusDays(9), SEP_1.plusDays(10), RoomAssignmentStrategy.BEST_FIT))
+                .contains("102");
+    }
+
+    @Test
+    @DisplayName("Should report no room when every room is taken on some night of the stay")
+    void findFreeRoom_WhenFullyBooked_ShouldReturnEmpty() {
+        // Given
+        RoomAssignmentCalendar calendar = RoomAssignmentCalendar.build(List.of("101"), List.of(
+                booking(SEP_1.plusDays(4), SEP_1.plusDays(6)),
+                booking(SEP_1.plusDays(5), SEP_1.plusDays(7))));
+
+        // When/Then
+        assertThat(find(calendar, SEP_1.plusDays(3), SEP_1.plusDays(4), RoomAssignmentStrategy.FIRST_FIT)).isEmpty();
+        assertThat(find(calendar, SEP_1, SEP_1.plusDays(3), RoomAssignmentStrategy.BEST_FIT)).contains("101");
+        assertThat(find(calendar, SEP_1.minusDays(30), SEP_1.minusDays(29), RoomAssignmentStrategy.FIRST_FIT))
+                .contains("101");
+        assertThat(calendar.unassignedBookings()).isEqualTo(1);
+    }
+
+    private static Optional<String> find(RoomAssignmentCalendar calendar, LocalDate start, LocalDate end,
+                                         RoomAssignmentStrategy strategy) {
+        return calendar.findFreeRoom(start.toEpochDay(), end.toEpochDay(), strategy);
+    }
+
+    private static Booking booking(LocalDate arrival, LocalDate departure) {
+        return new Booking("H1", "DBL", "Standard", arrival, departure);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hotelmanager.service.monitoring;
+
+import com.hotelmanager.exception.HotelNotFoundException;
+import com.hotelmanager.model.LatencySummary;
+import com.hotelmanager.model.response.StatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommandMetricsTest {
+
+    private ErrorTracker errorTracker;
+    private CommandMetrics commandMetrics;
+
+    @BeforeEach
+    void setUp() {
+        errorTracker = new ErrorTracker();
+        commandMetrics = new CommandMetrics(errorTracker);
+    }
+
+    @Test
+    @DisplayName("Should summarize latency and errors per command type")
+    void snapshot_WithRecordedCommands_ShouldSummarizePerType() {
+        // Given
+        commandMetrics.recordCommand("Availability", 1_000, 256, true);
+        commandMetrics.recordCommand("Availability", 3_000, 512, false);
+        commandMetrics.recordCommand("Search", 10_000, -1, true);
+        errorTracker.record("Availability(H9, 20240901, SGL)", new HotelNotFoundException("H9"));
+
+        // When
+        StatsResponse stats = commandMetrics.snapshot();
+
+        // Then
+        LatencySummary availability = stats.commands().get("Availability");
+        assertThat(availability.count()).isEqualTo(2);
+        assertThat(availability.errors()).isEqualTo(1);
+        assertThat(availability.maxNanos()).isEqualTo(3_000);
+        assertThat(availability.throughputPerSecond()).isPositive();
+        assertThat(availability.allocatedBytesP99()).isEqualTo(512);
+        assertThat(stats.commands().get("Search").count()).isEqualTo(1);
+        assertThat(stats.commands().get("Search").allocatedBytesP50()).isZero();
+        assertThat(stats.errorsByType()).containsEntry("HotelNotFoundException", 1L);
+    }
+
+    @Test
+    @DisplayName("Should time stages and return the end timestamp")
+    void recordStage_ShouldRecordElapsedTime() {
+        // Given
+        long start = System.nanoTime();
+
+        // When
+        long end = commandMetrics.recordStage(Stage.PARSE, start);
+
+        // Then
+        assertThat(end).isGreaterThanOrEqualTo(start);
+        StatsResponse stats = commandMetrics.snapshot();
+        assertThat(stats.stages()).containsKeys("parse", "validate", "compute", "format");
+        assertThat(stats.stages().get("parse").count()).isEqualTo(1);
+        assertThat(stats.stages().get("format").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should sample registered gauges at snapshot time")
+    void snapshot_WithGauge_ShouldReportCurrentValue() {
+        // Given
+        long[] lag = {3};
+        commandMetrics.registerGauge("replication.lag.changes", () -> lag[0]);
+        lag[0] = 5;
+
+        // When
+        StatsResponse stats = commandMetrics.snapshot();
+
+        // Then
+        assertThat(stats.gauges()).containsEntry("replication.lag.changes", 5L);
+    }
+}
@@ -0,0 +1,68 @@
+package com.hotelmanager.service.monitoring;
+
+import com.hotelmanager.exception.DataLoadException;
+import com.hotelmanager.exception.HotelNotFoundException;
+import com.hotelmanager.exception.InvalidCommandException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorTrackerTest {
+
+    private AtomicLong clock;
+    private ErrorTracker errorTracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        errorTracker = new ErrorTracker(clock::get, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should count errors per exception type")
+    void record_WithMixedErrors_ShouldCountPerType() {
+        // When
+        errorTracker.record("Availability(H9, 20240901, SGL)", new HotelNotFoundException("H9"));
+        errorTracker.record("Availability(H8, 20240901, SGL)", new HotelNotFoundException("H8"));
+        errorTracker.record("Search(H1, 0, SGL)", new InvalidCommandException("Days ahead must be positive"));
+
+        // Then
+        assertThat(errorTracker.getErrorCounts())
+                .containsEntry("HotelNotFoundException", 2L)
+                .containsEntry("InvalidCommandException", 1L);
+    }
+
+    @Test
+    @DisplayName("Should keep counting while log output is throttled")
+    void record_WithinLogInterval_ShouldStillCountEveryError() {
+        // When
+        for (int i = 0; i < 1000; i++) {
+            clock.addAndGet(Duration.ofMillis(1).toNanos());
+            errorTracker.record("Availability(H9, 20240901, SGL)", new HotelNotFoundException("H9"));
+        }
+
+        // Then
+        assertThat(errorTracker.getErrorCounts()).containsEntry("HotelNotFoundException", 1000L);
+    }
+
+    @Test
+    @DisplayName("Should count unexpected errors")
+    void record_WithUnexpectedError_ShouldCount() {
+        // When
+        errorTracker.record("Availability(H1, 20240901, SGL)", new DataLoadException("Hotel data not initialized"));
+
+        // Then
+        assertThat(errorTracker.getErrorCounts()).containsEntry("DataLoadException", 1L);
+    }
+
+    @Test
+    @DisplayName("Should return empty counts when nothing was recorded")
+    void getErrorCounts_WithNoErrors_ShouldReturnEmpty() {
+        assertThat(errorTracker.getErrorCounts()).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package com.hotelmanager.service.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should return zero percentiles when empty")
+    void getValueAtPercentile_WhenEmpty_ShouldReturnZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record small values exactly")
+    void record_WithSmallValues_ShouldBeExact() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+
+        // Then
+        assertThat(histogram.getCount()).isEqualTo(50);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(25);
+        assertThat(histogram.getMax()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should report percentiles within bucket precision for large values")
+    void getValueAtPercentile_WithUniformValues_ShouldStayWithinPrecision() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        // Then
+        assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 * 0.04));
+        assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 * 0.04));
+        assertThat((double) histogram.getValueAtPercentile(99.9)).isCloseTo(99_900_000, within(99_900_000 * 0.04));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100_000_000);
+    }
+
+    @Test
+    @DisplayName("Should map bucket boundaries consistently")
+    void bucketIndex_ShouldRoundTripThroughHighestEquivalentValue() {
+        for (long value : new long[]{0, 63, 64, 65, 127, 128, 1_000_000, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.highestEquivalentValue(index))).isEqualTo(index);
+        }
+    }
+}
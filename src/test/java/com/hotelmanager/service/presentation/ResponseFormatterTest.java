@@ -1,15 +1,36 @@
 package com.hotelmanager.service.presentation;
 
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.model.ChangeType;
+import com.hotelmanager.model.DateRange;
 import com.hotelmanager.model.DateRangeAvailability;
+import com.hotelmanager.model.HotelOccupancy;
+import com.hotelmanager.model.LatencySummary;
+import com.hotelmanager.model.RateMixEntry;
+import com.hotelmanager.model.response.AmenitySearchResponse;
 import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.model.response.BatchAvailabilityResponse;
+import com.hotelmanager.model.response.FindHotelsResponse;
+import com.hotelmanager.model.response.BookingListResponse;
+import com.hotelmanager.model.response.FreeRoomResponse;
+import com.hotelmanager.model.response.OccupancyResponse;
+import com.hotelmanager.model.response.RateMixResponse;
+import com.hotelmanager.model.response.RoomCombinationResponse;
 import com.hotelmanager.model.response.SearchResponse;
+import com.hotelmanager.model.response.StatsResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -98,4 +119,187 @@ class ResponseFormatterTest {
         // Then
         assertThat(result).isEqualTo("Hotel: H1, Room Type: SGL, Date Range: 20240901-20240903, Available Rooms: 1");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should append rooms sold per rate plan when present")
+    void formatAvailabilityResponse_WithSoldByRate_ShouldAppendBreakdown() {
+        // Given
+        AvailabilityResponse response = new AvailabilityResponse("H1", "SGL", "20240901-20240903", 1, "Success",
+                new TreeMap<>(Map.of("Prepaid", 1, "Standard", 2)));
+
+        // When/Then
+        assertThat(responseFormatter.formatAvailabilityResponse(response)).isEqualTo(
+                "Hotel: H1, Room Type: SGL, Date Range: 20240901-20240903, Available Rooms: 1, "
+                        + "Sold by Rate: Prepaid=1, Standard=2");
+    }
+
+    @Test
+    @DisplayName("Should format stats response with commands, stages and errors")
+    void formatStatsResponse_ShouldIncludeAllSections() {
+        // Given
+        LatencySummary summary = new LatencySummary(4, 1, 2.0, 1_500, 9_000, 12_000, 12_000, 640, 1_024);
+        StatsResponse response = new StatsResponse(
+                Duration.ofSeconds(2),
+                Map.of("Availability", summary),
+                Map.of("parse", summary),
+                Map.of("replication.lag.changes", 3L),
+                Map.of("HotelNotFoundException", 1L));
+
+        // When
+        String result = responseFormatter.formatStatsResponse(response);
+
+        // Then
+        assertThat(result)
+                .contains("Uptime: 2.0s")
+                .contains("Command Availability: count=4, errors=1, throughput=2.00/s, p50=1.5us, p99=9.0us, p999=12.0us, max=12.0us, alloc p50=640B, alloc p99=1024B")
+                .contains("Stage parse: count=4")
+                .contains("Gauge replication.lag.changes: 3")
+                .contains("Errors: HotelNotFoundException=1");
+    }
+
+    @Test
+    @DisplayName("Should format amenity search results as one line per room type")
+    void formatAmenitySearchResponse_ShouldListRangesPerRoomType() {
+        // Given
+        Map<String, List<DateRangeAvailability>> byRoomType = new LinkedHashMap<>();
+        byRoomType.put("DBL", List.of(
+                new DateRangeAvailability(LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 2), 2),
+                new DateRangeAvailability(LocalDate.of(2024, 9, 5), LocalDate.of(2024, 9, 5), 1)));
+        byRoomType.put("SUITE", List.of());
+
+        // When
+        String output = responseFormatter.formatAmenitySearchResponse(new AmenitySearchResponse(byRoomType, 2));
+
+        // Then
+        assertThat(output).isEqualTo("DBL: (20240901-20240902, 2), (20240905-20240905, 1)" + System.lineSeparator() + "SUITE:");
+    }
+
+    @Test
+    @DisplayName("Should format occupancy per hotel with a portfolio total")
+    void formatOccupancyResponse_WithAllHotels_ShouldAppendTotal() {
+        // Given
+        OccupancyResponse response = new OccupancyResponse("*", "20240901-20240910", List.of(
+                new HotelOccupancy("H1", 15, 40), new HotelOccupancy("H2", 0, 20)),
+                new HotelOccupancy("*", 15, 60));
+
+        // When/Then
+        assertThat(responseFormatter.formatOccupancyResponse(response)).isEqualTo(
+                "Hotel: H1, Room Type: *, Date Range: 20240901-20240910, Occupancy: 37.5% (15/40 room-nights)"
+                        + System.lineSeparator()
+                        + "Hotel: H2, Room Type: *, Date Range: 20240901-20240910, Occupancy: 0.0% (0/20 room-nights)"
+                        + System.lineSeparator()
+                        + "Hotel: *, Room Type: *, Date Range: 20240901-20240910, Occupancy: 25.0% (15/60 room-nights)");
+    }
+
+    @Test
+    @DisplayName("Should format each rate with its share of room-nights")
+    void formatRateMixResponse_ShouldListRates() {
+        // Given
+        RateMixResponse response = new RateMixResponse("H1", "20240901-20240910", List.of(
+                new RateMixEntry("Prepaid", 2, 6), new RateMixEntry("Standard", 1, 2)), 8);
+
+        // When/Then
+        assertThat(responseFormatter.formatRateMixResponse(response)).isEqualTo(
+                "Rate: Prepaid, Bookings: 2, Room Nights: 6, Share: 75.0%" + System.lineSeparator()
+                        + "Rate: Standard, Bookings: 1, Room Nights: 2, Share: 25.0%");
+    }
+
+    @Test
+    @DisplayName("Should format overlapping bookings one per line")
+    void formatBookingListResponse_ShouldListBookings() {
+        // Given
+        List<Booking> bookings = List.of(
+                new Booking("H1", "DBL", "Prepaid", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 3)),
+                new Booking("H1", "DBL", "Standard", LocalDate.of(2024, 9, 2), LocalDate.of(2024, 9, 5)));
+
+        // When/Then
+        assertThat(responseFormatter.formatBookingListResponse(new BookingListResponse(bookings, 2)))
+                .isEqualTo("H1, DBL, 20240901-20240903, Prepaid" + System.lineSeparator()
+                        + "H1, DBL, 20240902-20240905, Standard");
+        assertThat(responseFormatter.formatBookingListResponse(new BookingListResponse(List.of(), 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should format the assigned room, or none when every room is taken")
+    void formatFreeRoomResponse_ShouldIncludeRoomId() {
+        assertThat(responseFormatter.formatFreeRoomResponse(
+                new FreeRoomResponse("H1", "DBL", "20250610-20250614", Optional.of("202"))))
+                .isEqualTo("Hotel: H1, Room Type: DBL, Date Range: 20250610-20250614, Room: 202");
+        assertThat(responseFormatter.formatFreeRoomResponse(
+                new FreeRoomResponse("H1", "DBL", "20250610", Optional.empty())))
+                .isEqualTo("Hotel: H1, Room Type: DBL, Date Range: 20250610, Room: none");
+    }
+
+    @Test
+    @DisplayName("Should format batch availability results one per line")
+    void formatBatchAvailabilityResponse_ShouldWriteOneLinePerRange() {
+        // Given
+        BatchAvailabilityResponse response = new BatchAvailabilityResponse(List.of(
+                new AvailabilityResponse("H1", "DBL", "20240910", 3, "Success"),
+                new AvailabilityResponse("H1", "DBL", "20240901-20240903", 1, "Success")));
+
+        // When/Then
+        assertThat(responseFormatter.formatBatchAvailabilityResponse(response)).isEqualTo(
+                "Hotel: H1, Room Type: DBL, Date Range: 20240910, Available Rooms: 3" + System.lineSeparator()
+                        + "Hotel: H1, Room Type: DBL, Date Range: 20240901-20240903, Available Rooms: 1");
+    }
+
+    @Test
+    @DisplayName("Should format feasible date ranges and headroom of a room combination")
+    void formatRoomCombinationResponse_ShouldListRangesAndHeadroom() {
+        // Given
+        Map<String, Integer> headroom = new LinkedHashMap<>();
+        headroom.put("DBL", 0);
+        headroom.put("SGL", -1);
+        RoomCombinationResponse feasible = new RoomCombinationResponse("H1", "20240901-20240905",
+                List.of(new DateRange(LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 2)),
+                        new DateRange(LocalDate.of(2024, 9, 5), LocalDate.of(2024, 9, 5))), headroom);
+        RoomCombinationResponse infeasible = new RoomCombinationResponse("H1", "20240901", List.of(), headroom);
+
+        // When/Then
+        assertThat(responseFormatter.formatRoomCombinationResponse(feasible)).isEqualTo(
+                "Hotel: H1, Date Range: 20240901-20240905, Feasible Dates: 20240901-20240902, 20240905-20240905, "
+                        + "Headroom: DBL=0, SGL=-1");
+        assertThat(responseFormatter.formatRoomCombinationResponse(infeasible)).isEqualTo(
+                "Hotel: H1, Date Range: 20240901, Feasible Dates: none, Headroom: DBL=0, SGL=-1");
+    }
+
+    @Test
+    @DisplayName("Should format hotel lists as comma-separated ids")
+    void formatFindHotelsResponse_ShouldJoinHotelIds() {
+        assertThat(responseFormatter.formatFindHotelsResponse(new FindHotelsResponse(List.of("H1", "H3"), 2)))
+                .isEqualTo("H1, H3");
+        assertThat(responseFormatter.formatFindHotelsResponse(new FindHotelsResponse(List.of(), 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should format booking changes with their nights and sequence")
+    void formatBookingChange_ShouldDescribeChange() {
+        // Given
+        Booking booking = new Booking("H1", "DBL", "Prepaid", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 4));
+
+        // When / Then
+        assertThat(responseFormatter.formatBookingChange(new BookingChange(4, ChangeType.CANCEL, booking)))
+                .isEqualTo("Booking cancelled: H1, DBL, 20240901-20240903, Prepaid (sequence 4)");
+        assertThat(responseFormatter.formatBookingChange(new BookingChange(5, ChangeType.RELOAD, null)))
+                .isEqualTo("Data reloaded (sequence 5)");
+    }
+
+    @Test
+    @DisplayName("Should write streamed search ranges in the same format as a full response")
+    void searchResultWriter_ShouldMatchFormattedSearchResponse() {
+        // Given
+        List<DateRangeAvailability> availabilities = List.of(
+                new DateRangeAvailability(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 3), 2),
+                new DateRangeAvailability(LocalDate.of(2024, 12, 3), LocalDate.of(2024, 12, 10), 1)
+        );
+        StringBuilder output = new StringBuilder();
+
+        // When
+        availabilities.forEach(responseFormatter.searchResultWriter(output::append));
+
+        // Then
+        assertThat(output.toString())
+                .isEqualTo(responseFormatter.formatSearchResponse(new SearchResponse(availabilities, 2)));
+    }
+}
@@ -0,0 +1,215 @@
+package com.hotelmanager.service.replication;
+
+import com.hotelmanager.config.ReplicationProperties;
+import com.hotelmanager.exception.BookingNotFoundException;
+import com.hotelmanager.exception.NoAvailabilityException;
+import com.hotelmanager.exception.ReplicationException;
+import com.hotelmanager.model.Booking;
+import com.hotelmanager.model.BookingChange;
+import com.hotelmanager.model.ChangeType;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.request.BookingRequest;
+import com.hotelmanager.service.availability.AvailabilityEngine;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.validation.ValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingChangeLogTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+    private static final Booking BOOKING = new Booking("H1", "SGL", "Prepaid", SEP_1, SEP_1.plusDays(3));
+
+    @Mock
+    private HotelDataService hotelDataService;
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private AvailabilityEngine availabilityEngine;
+
+    @Spy
+    private ReplicationProperties replicationProperties =
+            new ReplicationProperties(Duration.ofMillis(200), Duration.ofSeconds(2), Duration.ofMillis(500), 3, 10000);
+
+    @InjectMocks
+    private BookingChangeLog bookingChangeLog;
+
+    @Test
+    @DisplayName("Should apply bookings and assign consecutive sequences")
+    void apply_WithBookings_ShouldSequenceChanges() {
+        // Given
+        givenValidRequest("20240901-20240903", SEP_1, SEP_1.plusDays(2));
+        givenAvailability(SEP_1, SEP_1.plusDays(2), 1);
+        List<BookingChange> published = new ArrayList<>();
+        bookingChangeLog.subscribe(published::add);
+
+        // When
+        BookingChange first = bookingChangeLog.apply(request(ChangeType.ADD, "20240901-20240903"));
+        BookingChange second = bookingChangeLog.apply(request(ChangeType.ADD, "20240901-20240903"));
+
+        // Then
+        assertThat(first).isEqualTo(new BookingChange(1, ChangeType.ADD, BOOKING));
+        assertThat(second.sequence()).isEqualTo(2);
+        assertThat(bookingChangeLog.headSequence()).isEqualTo(2);
+        assertThat(published).containsExactly(first, second);
+        verify(hotelDataService, times(2)).addBooking(BOOKING);
+    }
+
+    @Test
+    @DisplayName("Should book a single night for a single date")
+    void apply_WithSingleDate_ShouldBookOneNight() {
+        // Given
+        givenValidRequest("20240901", SEP_1, SEP_1);
+        givenAvailability(SEP_1, SEP_1, 1);
+
+        // When
+        BookingChange change = bookingChangeLog.apply(request(ChangeType.ADD, "20240901"));
+
+        // Then
+        assertThat(change.booking().departure()).isEqualTo(SEP_1.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("Should book the nights of the range, departing the day after the last")
+    void apply_WithRange_ShouldDepartAfterLastNight() {
+        // Given
+        givenValidRequest("20240901-20240903", SEP_1, SEP_1.plusDays(2));
+        givenAvailability(SEP_1, SEP_1.plusDays(2), 1);
+
+        // When
+        BookingChange change = bookingChangeLog.apply(request(ChangeType.ADD, "20240901-20240903"));
+
+        // Then
+        assertThat(change.booking().departure()).isEqualTo(LocalDate.of(2024, 9, 4));
+    }
+
+    @Test
+    @DisplayName("Should reject a booking when a night of the stay has no room free")
+    void apply_WithNightSoldOut_ShouldThrow() {
+        // Given
+        givenValidRequest("20240901-20240903", SEP_1, SEP_1.plusDays(2));
+        givenAvailability(SEP_1, SEP_1.plusDays(2), 0);
+
+        // When / Then
+        assertThatThrownBy(() -> bookingChangeLog.apply(request(ChangeType.ADD, "20240901-20240903")))
+                .isInstanceOf(NoAvailabilityException.class)
+                .hasMessage("No 'SGL' room available in hotel 'H1' for every night of the stay");
+        assertThat(bookingChangeLog.headSequence()).isZero();
+        verify(hotelDataService, never()).addBooking(BOOKING);
+    }
+
+    @Test
+    @DisplayName("Should reject cancelling a booking that does not exist")
+    void apply_WithUnknownCancellation_ShouldThrow() {
+        // Given
+        givenValidRequest("20240901-20240903", SEP_1, SEP_1.plusDays(2));
+        when(hotelDataService.cancelBooking(BOOKING)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> bookingChangeLog.apply(request(ChangeType.CANCEL, "20240901-20240903")))
+                .isInstanceOf(BookingNotFoundException.class);
+        assertThat(bookingChangeLog.headSequence()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should only retain changes since the latest reload")
+    void changesAfter_AfterReload_ShouldStartFromReload() {
+        // Given
+        givenValidRequest("20240901-20240903", SEP_1, SEP_1.plusDays(2));
+        givenAvailability(SEP_1, SEP_1.plusDays(2), 1);
+        bookingChangeLog.apply(request(ChangeType.ADD, "20240901-20240903"));
+        BookingChange reload = bookingChangeLog.reload();
+        BookingChange after = bookingChangeLog.apply(request(ChangeType.ADD, "20240901-20240903"));
+
+        // When / Then
+        assertThat(bookingChangeLog.changesAfter(0)).containsExactly(reload, after);
+        assertThat(bookingChangeLog.changesAfter(2)).containsExactly(after);
+        assertThat(bookingChangeLog.changesAfter(3)).isEmpty();
+        verify(hotelDataService).reload();
+    }
+
+    @Test
+    @DisplayName("Should retain only the newest changes and send a reload to subscribers further behind")
+    void changesAfter_BeyondRetainedChanges_ShouldStartWithReload() {
+        // Given
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            bookingChangeLog.applyReplicated(new BookingChange(sequence, ChangeType.ADD, BOOKING));
+        }
+
+        // When
+        List<BookingChange> behind = bookingChangeLog.changesAfter(0);
+        List<BookingChange> retained = bookingChangeLog.changesAfter(2);
+
+        // Then
+        assertThat(behind).extracting(BookingChange::sequence).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(behind.get(0).type()).isEqualTo(ChangeType.RELOAD);
+        assertThat(retained).extracting(BookingChange::sequence).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should apply replicated changes in order and ignore duplicates")
+    void applyReplicated_ShouldApplyEachChangeOnce() {
+        // When
+        bookingChangeLog.applyReplicated(new BookingChange(1, ChangeType.ADD, BOOKING));
+        bookingChangeLog.applyReplicated(new BookingChange(1, ChangeType.ADD, BOOKING));
+
+        // Then
+        assertThat(bookingChangeLog.headSequence()).isEqualTo(1);
+        verify(hotelDataService).addBooking(BOOKING);
+    }
+
+    @Test
+    @DisplayName("Should reject a gap in replicated sequences")
+    void applyReplicated_WithGap_ShouldThrow() {
+        assertThatThrownBy(() -> bookingChangeLog.applyReplicated(new BookingChange(3, ChangeType.ADD, BOOKING)))
+                .isInstanceOf(ReplicationException.class)
+                .hasMessage("Missing changes 1 to 2");
+        verify(hotelDataService, never()).addBooking(BOOKING);
+    }
+
+    @Test
+    @DisplayName("Should accept a replicated reload that skips ahead")
+    void applyReplicated_WithReloadAfterGap_ShouldReload() {
+        // When
+        bookingChangeLog.applyReplicated(new BookingChange(5, ChangeType.RELOAD, null));
+
+        // Then
+        assertThat(bookingChangeLog.headSequence()).isEqualTo(5);
+        verify(hotelDataService).reload();
+    }
+
+    private void givenValidRequest(String dateRange, LocalDate start, LocalDate end) {
+        Hotel hotel = new Hotel();
+        hotel.setId("H1");
+        when(validationService.validateHotelExists("H1")).thenReturn(hotel);
+        when(validationService.parseDateRange(dateRange)).thenReturn(new LocalDate[]{start, end});
+    }
+
+    private void givenAvailability(LocalDate start, LocalDate end, int availability) {
+        when(availabilityEngine.calculateMinimumAvailability("H1", "SGL", start, end)).thenReturn(availability);
+    }
+
+    private static BookingRequest request(ChangeType type, String dateRange) {
+        return new BookingRequest(type, "H1", dateRange, "SGL", "Prepaid");
+    }
+}
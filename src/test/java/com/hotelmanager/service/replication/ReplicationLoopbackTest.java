@@ -0,0 +1,249 @@
+package com.hotelmanager.service.replication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hotelmanager.config.BookingShardProperties;
+import com.hotelmanager.config.HotelLoadProperties;
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.config.ReplicationProperties;
+import com.hotelmanager.config.RetentionProperties;
+import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.model.Hotel;
+import com.hotelmanager.model.Room;
+import com.hotelmanager.model.RoomType;
+import com.hotelmanager.parser.AmenityFindHotelsCommandParser;
+import com.hotelmanager.parser.AmenitySearchCommandParser;
+import com.hotelmanager.parser.AvailabilityCommandParser;
+import com.hotelmanager.parser.BatchAvailabilityCommandParser;
+import com.hotelmanager.parser.BookingCommandParser;
+import com.hotelmanager.parser.BookingListCommandParser;
+import com.hotelmanager.parser.FindHotelsCommandParser;
+import com.hotelmanager.parser.FreeRoomCommandParser;
+import com.hotelmanager.parser.OccupancyCommandParser;
+import com.hotelmanager.parser.RateMixCommandParser;
+import com.hotelmanager.parser.RoomCombinationCommandParser;
+import com.hotelmanager.parser.SearchCommandParser;
+import com.hotelmanager.service.CommandHandler;
+import com.hotelmanager.service.CommandProcessor;
+import com.hotelmanager.service.analytics.OccupancyAnalyticsService;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.availability.BookingQueryService;
+import com.hotelmanager.service.availability.IndexedAvailabilityEngine;
+import com.hotelmanager.service.availability.RoomAssignmentService;
+import com.hotelmanager.service.command.AmenityFindHotelsCommandRoute;
+import com.hotelmanager.service.command.AmenitySearchCommandRoute;
+import com.hotelmanager.service.command.AvailabilityCommandRoute;
+import com.hotelmanager.service.command.BatchAvailabilityCommandRoute;
+import com.hotelmanager.service.command.BookingChangeCommandRoute;
+import com.hotelmanager.service.command.BookingListCommandRoute;
+import com.hotelmanager.service.command.CommandRoute;
+import com.hotelmanager.service.command.FindHotelsCommandRoute;
+import com.hotelmanager.service.command.FreeRoomCommandRoute;
+import com.hotelmanager.service.command.OccupancyCommandRoute;
+import com.hotelmanager.service.command.RateMixCommandRoute;
+import com.hotelmanager.service.command.RoomCombinationCommandRoute;
+import com.hotelmanager.service.command.SearchCommandRoute;
+import com.hotelmanager.service.data.HotelDataService;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.ErrorTracker;
+import com.hotelmanager.service.presentation.ResponseFormatter;
+import com.hotelmanager.service.validation.RequestValidationService;
+import com.hotelmanager.service.validation.ValidationService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ReplicationLoopbackTest {
+
+    private static final String AVAILABILITY = "Availability(H1, 20240901, SGL)";
+    private static final ReplicationProperties PROPERTIES =
+            new ReplicationProperties(Duration.ofMillis(50), Duration.ofMillis(500), Duration.ofMillis(50), 100000, 4);
+    private static final String BOOK = "Book(H1, 20240901, SGL, Standard)";
+    private static final String CANCEL = "Cancel(H1, 20240901, SGL, Standard)";
+
+    @TempDir
+    Path tempDir;
+
+    private Node primary;
+    private int port;
+    private Node replica;
+    private ReplicationPublisher publisher;
+    private ReplicaFollower follower;
+    private CommandHandler replicaHandler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Path hotelsFile = tempDir.resolve("hotels.json");
+        Path bookingsFile = tempDir.resolve("bookings.json");
+        objectMapper.writeValue(hotelsFile.toFile(), List.of(createHotel()));
+        objectMapper.writeValue(bookingsFile.toFile(), List.of());
+
+        primary = new Node(objectMapper, hotelsFile, bookingsFile);
+        replica = new Node(objectMapper, hotelsFile, bookingsFile);
+
+        publisher = new ReplicationPublisher(primary.changeLog, PROPERTIES, primary.metrics);
+        port = publisher.start(0);
+        follower = new ReplicaFollower(replica.changeLog, PROPERTIES, replica.metrics, replica.processor,
+                replica.bookingParser);
+        follower.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        replicaHandler = follower.readOnlyHandler();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !follower.isStale());
+    }
+
+    @AfterEach
+    void tearDown() {
+        follower.stop();
+        publisher.stop();
+    }
+
+    @Test
+    @DisplayName("Should serve bookings made on the primary from the replica")
+    void replica_AfterPrimaryChanges_ShouldCatchUp() {
+        // When
+        assertThat(primary.processor.processCommand("Book(H1, 20240901-20240903, SGL, Prepaid)").output())
+                .isEqualTo("Booking added: H1, SGL, 20240901-20240903, Prepaid (sequence 1)");
+        primary.processor.processCommand("Book(H1, 20240901, SGL, Standard)");
+        primary.processor.processCommand("Cancel(H1, 20240901-20240903, SGL, Prepaid)");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(replicaHandler.processCommand(AVAILABILITY).output()).endsWith("Available Rooms: 1"));
+        assertThat(replica.changeLog.headSequence()).isEqualTo(3);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(replica.metrics.snapshot().gauges()).containsEntry("replication.lag.changes", 0L));
+    }
+
+    @Test
+    @DisplayName("Should replay a reload on the replica")
+    void replica_AfterPrimaryReload_ShouldReload() {
+        // When
+        primary.processor.processCommand("Book(H1, 20240901, SGL, Standard)");
+        primary.processor.processCommand("Reload()");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> replica.changeLog.headSequence() == 2);
+        assertThat(replicaHandler.processCommand(AVAILABILITY).output()).endsWith("Available Rooms: 2");
+    }
+
+    @Test
+    @DisplayName("Should reject changes sent to the replica")
+    void replica_WithBookCommand_ShouldBeReadOnly() {
+        CommandResult result = replicaHandler.processCommand("Book(H1, 20240901, SGL, Standard)");
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("Replica is read-only, send changes to the primary");
+    }
+
+    @Test
+    @DisplayName("Should refuse reads once the primary has been unreachable beyond the staleness bound")
+    void replica_WhenPrimaryStops_ShouldRefuseStaleReads() {
+        // When
+        publisher.stop();
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            CommandResult result = replicaHandler.processCommand(AVAILABILITY);
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorMessage()).startsWith("Replica is stale, last synchronised with the primary");
+        });
+        assertThat(replicaHandler.processCommand("Stats()").output()).contains("Gauge replication.staleness.ms");
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber that falls too far behind while other replicas keep up")
+    void publisher_WithStalledSubscriber_ShouldDropIt() throws IOException {
+        // Given: a subscriber that never completes the handshake, so nothing is drained from its queue
+        try (Socket stalled = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            stalled.setSoTimeout(5000);
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    assertThat(primary.metrics.snapshot().gauges()).containsEntry("replication.subscribers", 2L));
+
+            // When
+            for (int i = 0; i < 10; i++) {
+                primary.processor.processCommand(i % 2 == 0 ? BOOK : CANCEL);
+            }
+
+            // Then
+            assertThat(stalled.getInputStream().read()).isEqualTo(-1);
+        }
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(primary.metrics.snapshot().gauges()).containsEntry("replication.subscribers", 1L));
+        await().atMost(Duration.ofSeconds(5)).until(() -> replica.changeLog.headSequence() == 10);
+    }
+
+    private static Hotel createHotel() {
+        Hotel hotel = new Hotel();
+        hotel.setId("H1");
+        hotel.setName("Replicated Hotel");
+        hotel.setRoomTypes(List.of(new RoomType("SGL", "Single Room", List.of(), List.of())));
+        hotel.setRooms(List.of(new Room("SGL", "101"), new Room("SGL", "102")));
+        return hotel;
+    }
+
+    private static final class Node {
+        private final HotelDataService dataService;
+        private final CommandMetrics metrics = new CommandMetrics(new ErrorTracker());
+        private final BookingChangeLog changeLog;
+        private final BookingCommandParser bookingParser;
+        private final CommandProcessor processor;
+
+        private Node(ObjectMapper objectMapper, Path hotelsFile, Path bookingsFile) {
+            dataService = new HotelDataService(objectMapper, RetentionProperties.defaults(),
+                    BookingShardProperties.defaults(), HotelLoadProperties.defaults());
+            dataService.loadFromFiles(hotelsFile.toString(), bookingsFile.toString());
+            var validationService = new ValidationService(dataService, CommandProperties.defaults());
+            var requestValidationService = new RequestValidationService(
+                    Validation.buildDefaultValidatorFactory().getValidator());
+            var availabilityEngine = new IndexedAvailabilityEngine(dataService);
+            changeLog = new BookingChangeLog(dataService, validationService, availabilityEngine, PROPERTIES);
+            bookingParser = new BookingCommandParser(requestValidationService);
+            var availabilityService = new AvailabilityService(validationService, availabilityEngine, metrics);
+            var roomAssignmentService = new RoomAssignmentService(validationService, dataService, metrics);
+            var bookingQueryService = new BookingQueryService(validationService, dataService, metrics);
+            var analyticsService = new OccupancyAnalyticsService(validationService, dataService, metrics);
+            var responseFormatter = new ResponseFormatter();
+            var routes = List.<CommandRoute<?, ?>>of(
+                    new AvailabilityCommandRoute(new AvailabilityCommandParser(requestValidationService),
+                            availabilityService, responseFormatter),
+                    new SearchCommandRoute(new SearchCommandParser(requestValidationService),
+                            availabilityService, responseFormatter),
+                    new FindHotelsCommandRoute(new FindHotelsCommandParser(requestValidationService),
+                            availabilityService, responseFormatter),
+                    new AmenitySearchCommandRoute(new AmenitySearchCommandParser(requestValidationService),
+                            availabilityService, responseFormatter),
+                    new AmenityFindHotelsCommandRoute(new AmenityFindHotelsCommandParser(requestValidationService),
+                            availabilityService, responseFormatter),
+                    new RoomCombinationCommandRoute(new RoomCombinationCommandParser(requestValidationService),
+                            availabilityService, responseFormatter),
+                    new BatchAvailabilityCommandRoute(new BatchAvailabilityCommandParser(requestValidationService),
+                            availabilityService, responseFormatter),
+                    new FreeRoomCommandRoute(new FreeRoomCommandParser(requestValidationService),
+                            roomAssignmentService, responseFormatter),
+                    new BookingListCommandRoute(new BookingListCommandParser(requestValidationService),
+                            bookingQueryService, responseFormatter),
+                    new OccupancyCommandRoute(new OccupancyCommandParser(requestValidationService),
+                            analyticsService, responseFormatter),
+                    new RateMixCommandRoute(new RateMixCommandParser(requestValidationService),
+                            analyticsService, responseFormatter),
+                    new BookingChangeCommandRoute(bookingParser, changeLog, responseFormatter));
+            processor = new CommandProcessor(routes, responseFormatter, new ErrorTracker(), metrics,
+                    CommandProperties.defaults(), changeLog);
+        }
+    }
+}
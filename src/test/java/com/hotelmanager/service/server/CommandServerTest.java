@@ -0,0 +1,176 @@
+package com.hotelmanager.service.server;
+
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.service.CommandProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommandServerTest {
+
+    @Mock
+    private CommandProcessor commandProcessor;
+
+    @Spy
+    private CommandProperties commandProperties = CommandProperties.defaults();
+
+    @InjectMocks
+    private CommandServer commandServer;
+
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        port = commandServer.start(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commandServer.stop();
+    }
+
+    @Test
+    @DisplayName("Should answer pipelined commands in order on one connection")
+    void serve_WithPipelinedCommands_ShouldAnswerInOrder() throws IOException {
+        // Given
+        when(commandProcessor.processCommand(anyString()))
+                .thenAnswer(invocation -> CommandResult.success("echo " + invocation.getArgument(0)));
+
+        try (Socket socket = connect()) {
+            // When
+            send(socket, "Availability(H1, 20240901, SGL)\nSearch(H1, 5, DBL)\nStats()\n");
+            BufferedReader reader = reader(socket);
+
+            // Then
+            assertThat(readResponse(reader)).isEqualTo("echo Availability(H1, 20240901, SGL)");
+            assertThat(readResponse(reader)).isEqualTo("echo Search(H1, 5, DBL)");
+            assertThat(readResponse(reader)).isEqualTo("echo Stats()");
+        }
+    }
+
+    @Test
+    @DisplayName("Should frame multi-line, empty and error responses with a blank line")
+    void serve_WithVariousResults_ShouldTerminateEachResponseWithBlankLine() throws IOException {
+        // Given
+        when(commandProcessor.processCommand("Stats()")).thenReturn(CommandResult.success("Uptime: 1.0s\nErrors: none"));
+        when(commandProcessor.processCommand("Search(H1, 1, DBL)")).thenReturn(CommandResult.success(""));
+        when(commandProcessor.processCommand("Bogus")).thenReturn(CommandResult.error("Invalid command format"));
+
+        try (Socket socket = connect()) {
+            // When
+            send(socket, "Stats()\nSearch(H1, 1, DBL)\nBogus\n");
+            BufferedReader reader = reader(socket);
+
+            // Then
+            assertThat(readResponse(reader)).isEqualTo("Uptime: 1.0s\nErrors: none");
+            assertThat(readResponse(reader)).isEmpty();
+            assertThat(readResponse(reader)).isEqualTo("Error: Invalid command format");
+        }
+    }
+
+    @Test
+    @DisplayName("Should close the connection on a blank line")
+    void serve_WithBlankLine_ShouldCloseConnection() throws IOException {
+        try (Socket socket = connect()) {
+            // When
+            send(socket, "\n");
+
+            // Then
+            assertThat(reader(socket).readLine()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an overlong line and close the connection")
+    void serve_WithOverlongLine_ShouldAnswerErrorAndCloseConnection() throws IOException {
+        // Given
+        when(commandProperties.maxLineLength()).thenReturn(16);
+
+        try (Socket socket = connect()) {
+            // When
+            send(socket, "Search(H1, 5, DBL, minRooms=3)\nStats()\n");
+            BufferedReader reader = reader(socket);
+
+            // Then
+            assertThat(readResponse(reader)).isEqualTo("Error: Command exceeds 16 characters");
+            assertThat(reader.readLine()).isNull();
+        }
+        verifyNoInteractions(commandProcessor);
+    }
+
+    @Test
+    @DisplayName("Should serve many clients concurrently")
+    void serve_WithConcurrentClients_ShouldAnswerEachClient() throws Exception {
+        // Given
+        when(commandProcessor.processCommand(anyString()))
+                .thenAnswer(invocation -> CommandResult.success("echo " + invocation.getArgument(0)));
+        int clients = 32;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                String command = "Search(H" + i + ", 5, DBL)";
+                responses.add(executor.submit(() -> {
+                    try (Socket socket = connect()) {
+                        send(socket, command + "\n");
+                        return readResponse(reader(socket));
+                    }
+                }));
+            }
+
+            // Then
+            for (int i = 0; i < clients; i++) {
+                assertThat(responses.get(i).get()).isEqualTo("echo Search(H" + i + ", 5, DBL)");
+            }
+        }
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), port);
+    }
+
+    private static void send(Socket socket, String text) throws IOException {
+        OutputStream output = socket.getOutputStream();
+        output.write(text.getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static String readResponse(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            lines.add(line);
+        }
+        return String.join("\n", lines);
+    }
+}
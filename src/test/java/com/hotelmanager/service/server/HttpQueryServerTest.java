@@ -0,0 +1,198 @@
+package com.hotelmanager.service.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.exception.HotelNotFoundException;
+import com.hotelmanager.model.DateRangeAvailability;
+import com.hotelmanager.model.request.AvailabilityRequest;
+import com.hotelmanager.model.request.SearchRequest;
+import com.hotelmanager.model.response.AvailabilityResponse;
+import com.hotelmanager.service.availability.AvailabilityService;
+import com.hotelmanager.service.monitoring.CommandMetrics;
+import com.hotelmanager.service.monitoring.ErrorTracker;
+import com.hotelmanager.service.validation.RequestValidationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HttpQueryServerTest {
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @Mock
+    private RequestValidationService requestValidationService;
+
+    @Mock
+    private ErrorTracker errorTracker;
+
+    @Mock
+    private CommandMetrics commandMetrics;
+
+    @Spy
+    private CommandProperties commandProperties = CommandProperties.defaults();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private HttpQueryServer httpQueryServer;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + httpQueryServer.start(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpQueryServer.stop();
+    }
+
+    @Test
+    @DisplayName("Should return availability as JSON")
+    void availability_WithValidQuery_ShouldReturnJson() throws Exception {
+        // Given
+        AvailabilityRequest request = new AvailabilityRequest("H1", "20240901-20240903", "SGL");
+        when(availabilityService.checkAvailability(request))
+                .thenReturn(new AvailabilityResponse("H1", "SGL", "20240901-20240903", 2, "Success"));
+
+        // When
+        HttpResponse<String> response = get("/availability?hotelId=H1&dateRange=20240901-20240903&roomType=SGL");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(response.body()).isEqualTo(
+                "{\"hotelId\":\"H1\",\"roomType\":\"SGL\",\"dateRange\":\"20240901-20240903\",\"availability\":2}");
+        verify(requestValidationService).validate(request);
+        verify(commandMetrics, timeout(1000)).recordCommand(eq("GET /availability"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should add rooms sold per rate plan when requested")
+    void availability_WithRateBreakdown_ShouldReturnSoldByRate() throws Exception {
+        // Given
+        AvailabilityRequest request = new AvailabilityRequest("H1", "20240901-20240903", "SGL", true);
+        when(availabilityService.checkAvailability(request)).thenReturn(new AvailabilityResponse(
+                "H1", "SGL", "20240901-20240903", 2, "Success", new TreeMap<>(Map.of("Prepaid", 1, "Standard", 2))));
+
+        // When
+        HttpResponse<String> response = get("/availability?hotelId=H1&dateRange=20240901-20240903&roomType=SGL&byRate=true");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("{\"hotelId\":\"H1\",\"roomType\":\"SGL\",\"dateRange\":\"20240901-20240903\","
+                + "\"availability\":2,\"soldByRate\":{\"Prepaid\":1,\"Standard\":2}}");
+    }
+
+    @Test
+    @DisplayName("Should stream search ranges as JSON")
+    void search_WithValidQuery_ShouldStreamJson() throws Exception {
+        // Given
+        SearchRequest request = new SearchRequest("H1", 5, "DBL");
+        when(availabilityService.streamSearchAvailability(eq(request), any())).thenAnswer(invocation -> {
+            Consumer<DateRangeAvailability> sink = invocation.getArgument(1);
+            sink.accept(new DateRangeAvailability(LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 2), 2));
+            sink.accept(new DateRangeAvailability(LocalDate.of(2024, 9, 3), LocalDate.of(2024, 9, 3), 1));
+            return 2;
+        });
+
+        // When
+        HttpResponse<String> response = get("/search?hotelId=H1&daysAhead=5&roomType=DBL");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("{\"hotelId\":\"H1\",\"roomType\":\"DBL\",\"daysAhead\":5,"
+                + "\"availabilities\":[{\"startDate\":\"20240901\",\"endDate\":\"20240902\",\"availability\":2},"
+                + "{\"startDate\":\"20240903\",\"endDate\":\"20240903\",\"availability\":1}],\"totalResults\":2}");
+        verify(commandMetrics, timeout(1000)).recordCommand(eq("GET /search"), anyLong(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should return an empty availability list when nothing is free")
+    void search_WithNoResults_ShouldReturnEmptyList() throws Exception {
+        // Given
+        when(availabilityService.streamSearchAvailability(any(), any())).thenReturn(0);
+
+        // When
+        HttpResponse<String> response = get("/search?hotelId=H1&daysAhead=5&roomType=DBL");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).endsWith("\"availabilities\":[],\"totalResults\":0}");
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown hotel")
+    void availability_WithUnknownHotel_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(availabilityService.checkAvailability(any())).thenThrow(new HotelNotFoundException("H9"));
+
+        // When
+        HttpResponse<String> response = get("/availability?hotelId=H9&dateRange=20240901&roomType=SGL");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(404);
+        assertThat(response.body()).contains("\"error\":");
+        verify(errorTracker).record(any(), any(HotelNotFoundException.class));
+        verify(commandMetrics, timeout(1000)).recordCommand(eq("GET /availability"), anyLong(), anyLong(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a non-numeric days ahead")
+    void search_WithInvalidDaysAhead_ShouldReturnBadRequest() throws Exception {
+        // When
+        HttpResponse<String> response = get("/search?hotelId=H1&daysAhead=soon&roomType=DBL");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.body()).isEqualTo("{\"error\":\"Invalid days ahead format\"}");
+        verify(availabilityService, never()).streamSearchAvailability(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject methods other than GET")
+    void availability_WithPost_ShouldReturnMethodNotAllowed() throws Exception {
+        // When
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/availability"))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(405);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
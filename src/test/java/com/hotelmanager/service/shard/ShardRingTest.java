@@ -0,0 +1,75 @@
+package com.hotelmanager.service.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRingTest {
+
+    private static final int HOTELS = 10_000;
+
+    @Test
+    @DisplayName("Should assign each hotel to the same shard on every ring")
+    void ownerOf_ShouldBeDeterministic() {
+        ShardRing first = new ShardRing(4);
+        ShardRing second = new ShardRing(4);
+
+        IntStream.range(0, HOTELS).mapToObj(i -> "H" + i)
+                .forEach(hotelId -> assertThat(first.ownerOf(hotelId)).isEqualTo(second.ownerOf(hotelId)));
+    }
+
+    @Test
+    @DisplayName("Should spread hotels evenly across shards")
+    void ownerOf_ShouldBalancePartitions() {
+        // Given
+        ShardRing ring = new ShardRing(4);
+        int[] counts = new int[4];
+
+        // When
+        IntStream.range(0, HOTELS).forEach(i -> counts[ring.ownerOf("H" + i)]++);
+
+        // Then
+        for (int count : counts) {
+            assertThat(count).isBetween(HOTELS / 4 * 7 / 10, HOTELS / 4 * 13 / 10);
+        }
+    }
+
+    @Test
+    @DisplayName("Should only move hotels onto the new shard when one is added")
+    void ownerOf_WhenShardAdded_ShouldMoveAboutOneShare() {
+        // Given
+        ShardRing before = new ShardRing(4);
+        ShardRing after = new ShardRing(5);
+
+        // When
+        long moved = IntStream.range(0, HOTELS).mapToObj(i -> "H" + i)
+                .filter(hotelId -> before.ownerOf(hotelId) != after.ownerOf(hotelId))
+                .peek(hotelId -> assertThat(after.ownerOf(hotelId)).isEqualTo(4))
+                .count();
+
+        // Then
+        assertThat(moved).isBetween(HOTELS / 5 * 7 / 10L, HOTELS / 5 * 13 / 10L);
+    }
+
+    @Test
+    @DisplayName("Should parse shard assignments and reject invalid ones")
+    void parse_ShouldValidateAssignment() {
+        assertThat(ShardAssignment.parse("1/3")).contains(new ShardAssignment(1, 3));
+        assertThat(ShardAssignment.parse("3/3")).isEmpty();
+        assertThat(ShardAssignment.parse("-1/3")).isEmpty();
+        assertThat(ShardAssignment.parse("1")).isEmpty();
+        assertThat(ShardAssignment.parse("a/b")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should partition hotels so that every hotel has exactly one owner")
+    void hotelFilter_ShouldPartitionHotels() {
+        var filters = IntStream.range(0, 3).mapToObj(i -> new ShardAssignment(i, 3).hotelFilter()).toList();
+
+        IntStream.range(0, HOTELS).mapToObj(i -> "H" + i)
+                .forEach(hotelId -> assertThat(filters.stream().filter(f -> f.test(hotelId)).count()).isEqualTo(1));
+    }
+}
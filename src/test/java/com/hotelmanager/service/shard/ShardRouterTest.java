@@ -0,0 +1,271 @@
+package com.hotelmanager.service.shard;
+
+import com.hotelmanager.config.CommandProperties;
+import com.hotelmanager.config.ShardRouterProperties;
+import com.hotelmanager.model.CommandResult;
+import com.hotelmanager.service.CommandProcessor;
+import com.hotelmanager.service.server.CommandServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ShardRouterTest {
+
+    private static final int SHARDS = 3;
+    private static final List<String> HOTELS_BY_SHARD = List.of("H3, H6", "", "H1, H4");
+    private static final String OCCUPANCY_PREFIX = "Room Type: DBL, Date Range: 20240901-20240930, Occupancy: ";
+    private static final List<String> OCCUPANCY_BY_SHARD = List.of(
+            "Hotel: H3, " + OCCUPANCY_PREFIX + "50.0% (15/30 room-nights)\n"
+                    + "Hotel: *, " + OCCUPANCY_PREFIX + "50.0% (15/30 room-nights)",
+            "Hotel: *, " + OCCUPANCY_PREFIX + "0.0% (0/0 room-nights)",
+            "Hotel: H1, " + OCCUPANCY_PREFIX + "10.0% (3/30 room-nights)\n"
+                    + "Hotel: H4, " + OCCUPANCY_PREFIX + "100.0% (60/60 room-nights)\n"
+                    + "Hotel: *, " + OCCUPANCY_PREFIX + "70.0% (63/90 room-nights)");
+
+    private final List<CommandServer> servers = new ArrayList<>();
+    private ShardRouter router;
+    private ShardRing ring;
+
+    @BeforeEach
+    void setUp() {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            int shard = i;
+            CommandServer server = new CommandServer(mock(CommandProcessor.class), CommandProperties.defaults());
+            int port = server.start(0, command -> {
+                if (command.startsWith("Bad")) {
+                    return CommandResult.error("Invalid command format");
+                }
+                if (command.startsWith("Occupancy(*")) {
+                    return CommandResult.success(OCCUPANCY_BY_SHARD.get(shard));
+                }
+                return command.startsWith("FindHotels")
+                        ? CommandResult.success(HOTELS_BY_SHARD.get(shard))
+                        : CommandResult.success("shard " + shard + ": " + command);
+            });
+            servers.add(server);
+            addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        }
+        router = new ShardRouter(addresses, ShardRouterProperties.defaults());
+        ring = new ShardRing(SHARDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.close();
+        servers.forEach(CommandServer::stop);
+    }
+
+    @Test
+    @DisplayName("Should forward each command to the shard owning its hotel")
+    void processCommand_ShouldRouteByHotel() {
+        IntStream.range(0, 50).mapToObj(i -> "H" + i).forEach(hotelId -> {
+            String command = "Availability(" + hotelId + ", 20240901, SGL)";
+
+            CommandResult result = router.processCommand(command);
+
+            assertThat(result.success()).isTrue();
+            assertThat(result.output()).isEqualTo("shard " + ring.ownerOf(hotelId) + ": " + command);
+        });
+    }
+
+    @Test
+    @DisplayName("Should relay shard errors unchanged")
+    void processCommand_WithShardError_ShouldReturnError() {
+        CommandResult result = router.processCommand("Bad input");
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("Invalid command format");
+    }
+
+    @Test
+    @DisplayName("Should merge stats from every shard")
+    void processCommand_WithStats_ShouldMergeAllShards() {
+        CommandResult result = router.processCommand("Stats()");
+
+        assertThat(result.success()).isTrue();
+        for (int i = 0; i < SHARDS; i++) {
+            assertThat(result.output()).contains("Shard " + i + " (").contains("shard " + i + ": Stats()");
+        }
+    }
+
+    @Test
+    @DisplayName("Should query every shard for hotels and merge their lists in order")
+    void processCommand_WithFindHotels_ShouldMergeAllShards() {
+        CommandResult result = router.processCommand("FindHotels(20250610-20250614, DBL, 2)");
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.output()).isEqualTo("H1, H3, H4, H6");
+    }
+
+    @Test
+    @DisplayName("Should merge portfolio occupancy from every shard into one total and keep hotel occupancy on its owner")
+    void processCommand_WithPortfolioOccupancy_ShouldMergeAllShards() {
+        CommandResult portfolio = router.processCommand("Occupancy(*, 20240901-20240930, DBL)");
+        CommandResult single = router.processCommand("Occupancy(H1, 20240901-20240930, *)");
+
+        assertThat(portfolio.success()).isTrue();
+        assertThat(portfolio.output()).isEqualTo(String.join("\n",
+                "Hotel: H1, " + OCCUPANCY_PREFIX + "10.0% (3/30 room-nights)",
+                "Hotel: H3, " + OCCUPANCY_PREFIX + "50.0% (15/30 room-nights)",
+                "Hotel: H4, " + OCCUPANCY_PREFIX + "100.0% (60/60 room-nights)",
+                "Hotel: *, " + OCCUPANCY_PREFIX + "65.0% (78/120 room-nights)"));
+        assertThat(single.output()).isEqualTo("shard " + ring.ownerOf("H1") + ": Occupancy(H1, 20240901-20240930, *)");
+    }
+
+    @Test
+    @DisplayName("Should report an unavailable shard as an error")
+    void processCommand_WithStoppedShard_ShouldReturnError() {
+        // Given
+        String hotelId = IntStream.range(0, 50).mapToObj(i -> "H" + i)
+                .filter(id -> ring.ownerOf(id) == 1).findFirst().orElseThrow();
+        servers.get(1).stop();
+
+        // When
+        CommandResult result = router.processCommand("Search(" + hotelId + ", 5, DBL)");
+
+        // Then
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).isEqualTo("Shard 1 unavailable");
+    }
+
+    @Test
+    @DisplayName("Should give up on a shard that does not answer within the read timeout")
+    void processCommand_WithSilentShard_ShouldTimeOut() throws IOException {
+        try (ServerSocket silent = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             ShardRouter timingOut = new ShardRouter(List.of(new InetSocketAddress(silent.getInetAddress(),
+                     silent.getLocalPort())), new ShardRouterProperties(Duration.ofSeconds(1), Duration.ofMillis(200)))) {
+            // When
+            CommandResult result = timingOut.processCommand("Stats()");
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(result.output()).endsWith("Error: Shard 0 unavailable");
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry on a new connection when the shard has closed the pooled one")
+    void processCommand_WithClosedPooledConnection_ShouldRetry() throws IOException {
+        try (ServerSocket oneShot = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+             ShardRouter retrying = new ShardRouter(List.of(new InetSocketAddress(oneShot.getInetAddress(),
+                     oneShot.getLocalPort())), ShardRouterProperties.defaults())) {
+            // Given
+            Thread.ofVirtual().start(() -> answerOncePerConnection(oneShot));
+            retrying.processCommand("Availability(H1, 20240901, SGL)");
+
+            // When
+            CommandResult result = retrying.processCommand("Availability(H1, 20240902, SGL)");
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(result.output()).isEqualTo("answered Availability(H1, 20240902, SGL)");
+        }
+    }
+
+    @Test
+    @DisplayName("Should not resend a change when the connection fails after the command was written")
+    void processCommand_WithChangeOnFailingConnection_ShouldNotRetry() throws IOException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        try (ServerSocket crashing = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+             ShardRouter failing = new ShardRouter(List.of(new InetSocketAddress(crashing.getInetAddress(),
+                     crashing.getLocalPort())), ShardRouterProperties.defaults())) {
+            // Given
+            Thread.ofVirtual().start(() -> failOnChanges(crashing, received));
+            failing.processCommand("Availability(H1, 20240901, SGL)");
+
+            // When
+            CommandResult result = failing.processCommand("Book(H1, 20240901, SGL, Standard)");
+
+            // Then
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorMessage()).isEqualTo("Shard 0 unavailable");
+            assertThat(received).containsExactly("Availability(H1, 20240901, SGL)", "Book(H1, 20240901, SGL, Standard)");
+        }
+    }
+
+    @Test
+    @DisplayName("Should send a change on a new connection rather than a pooled one the shard may have closed")
+    void processCommand_WithChangeAfterPooledConnectionClosed_ShouldSucceed() throws IOException {
+        try (ServerSocket oneShot = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+             ShardRouter changing = new ShardRouter(List.of(new InetSocketAddress(oneShot.getInetAddress(),
+                     oneShot.getLocalPort())), ShardRouterProperties.defaults())) {
+            // Given
+            Thread.ofVirtual().start(() -> answerOncePerConnection(oneShot));
+            changing.processCommand("Availability(H1, 20240901, SGL)");
+
+            // When
+            CommandResult result = changing.processCommand("Book(H1, 20240901, SGL, Standard)");
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(result.output()).isEqualTo("answered Book(H1, 20240901, SGL, Standard)");
+        }
+    }
+
+    // Answers read-only commands, each connection on its own thread, but closes the connection without answering once
+    // it reads a change, as a shard failing while running it
+    private static void failOnChanges(ServerSocket serverSocket, List<String> received) {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().start(() -> answerUntilChange(socket, received));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private static void answerUntilChange(Socket socket, List<String> received) {
+        try (socket) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream output = socket.getOutputStream();
+            String command;
+            while ((command = reader.readLine()) != null) {
+                received.add(command);
+                if (command.startsWith("Book(")) {
+                    return;
+                }
+                output.write(("answered " + command + "\n\n").getBytes(StandardCharsets.UTF_8));
+                output.flush();
+            }
+        } catch (IOException e) {
+            // The router closed the connection
+        }
+    }
+
+    // Answers the first command of each connection, then closes it
+    private static void answerOncePerConnection(ServerSocket serverSocket) {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                String command = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)).readLine();
+                OutputStream output = socket.getOutputStream();
+                output.write(("answered " + command + "\n\n").getBytes(StandardCharsets.UTF_8));
+                output.flush();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hotelmanager.service.validation;
 
+import com.hotelmanager.config.CommandProperties;
 import com.hotelmanager.exception.HotelNotFoundException;
 import com.hotelmanager.exception.InvalidCommandException;
 import com.hotelmanager.exception.InvalidDateRangeException;
@@ -12,9 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +31,9 @@ class ValidationServiceTest {
     @Mock
     private HotelDataService hotelDataService;
 
+    @Spy
+    private CommandProperties commandProperties = CommandProperties.defaults();
+
     @InjectMocks
     private ValidationService validationService;
 
@@ -166,6 +172,45 @@ class ValidationServiceTest {
                 .hasMessage("End date cannot be before start date");
     }
 
+    @Test
+    @DisplayName("Should reject a date range longer than the horizon")
+    void parseDateRange_WithRangeBeyondHorizon_ShouldThrowException() {
+        // Given
+        LocalDate start = LocalDate.of(2024, 9, 1);
+        String longest = "20240901-" + start.plusDays(3649).format(DateTimeFormatter.BASIC_ISO_DATE);
+        String tooLong = "20240901-" + start.plusDays(3650).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        // When/Then
+        assertThat(validationService.parseDateRange(longest)[1]).isEqualTo(start.plusDays(3649));
+        assertThatThrownBy(() -> validationService.parseDateRange(tooLong))
+                .isInstanceOf(InvalidDateRangeException.class)
+                .hasMessage("Date range must not exceed 3650 days");
+    }
+
+    @Test
+    @DisplayName("Should throw stackless exception for expected validation failures")
+    void parseDateRange_WithInvalidDate_ShouldThrowStacklessException() {
+        // When/Then
+        assertThatThrownBy(() -> validationService.parseDateRange("invalid"))
+                .isInstanceOfSatisfying(InvalidDateRangeException.class, e -> {
+                    assertThat(e.isExpected()).isTrue();
+                    assertThat(e.getStackTrace()).isEmpty();
+                });
+    }
+
+    @Test
+    @DisplayName("Should reject out-of-range months and days and resolve a day past the month end to its last day")
+    void parseDateRange_WithOutOfRangeFields_ShouldRejectOrResolve() {
+        // When/Then
+        assertThatThrownBy(() -> validationService.parseDateRange("20241301"))
+                .hasMessage("Invalid date format. Expected YYYYMMDD");
+        assertThatThrownBy(() -> validationService.parseDateRange("20240932"))
+                .hasMessage("Invalid date format. Expected YYYYMMDD");
+        assertThatThrownBy(() -> validationService.parseDateRange("2024091"))
+                .hasMessage("Invalid date format. Expected YYYYMMDD");
+        assertThat(validationService.parseDateRange("20240230")[0]).isEqualTo(LocalDate.of(2024, 2, 29));
+    }
+
     @Test
     @DisplayName("Should validate positive days ahead successfully")
     void validateDaysAhead_WithPositiveValue_ShouldNotThrowException() {
@@ -182,6 +227,15 @@ class ValidationServiceTest {
                 .hasMessage("Days ahead must be positive");
     }
 
+    @Test
+    @DisplayName("Should throw exception when days ahead exceeds the configured horizon")
+    void validateDaysAhead_BeyondMaximum_ShouldThrowException() {
+        // When/Then
+        assertThatThrownBy(() -> validationService.validateDaysAhead(2_000_000_000))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Days ahead must not exceed 3650");
+    }
+
     @Test
     @DisplayName("Should throw exception for negative days ahead")
     void validateDaysAhead_WithNegativeValue_ShouldThrowException() {
@@ -190,4 +244,27 @@ class ValidationServiceTest {
                 .isInstanceOf(InvalidCommandException.class)
                 .hasMessage("Days ahead must be positive");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reject stays that are not positive or exceed the configured horizon")
+    void validateNights_WithInvalidValues_ShouldThrowException() {
+        // When/Then
+        validationService.validateNights(7);
+        assertThatThrownBy(() -> validationService.validateNights(0))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Nights must be positive");
+        assertThatThrownBy(() -> validationService.validateNights(3651))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Nights must not exceed 3650");
+    }
+
+    @Test
+    @DisplayName("Should throw exception for a non-positive minimum room count")
+    void validateMinRooms_WithNonPositiveValue_ShouldThrowException() {
+        // When/Then
+        validationService.validateMinRooms(2);
+        assertThatThrownBy(() -> validationService.validateMinRooms(0))
+                .isInstanceOf(InvalidCommandException.class)
+                .hasMessage("Minimum rooms must be positive");
+    }
+}
@@ -0,0 +1,90 @@
+package com.hotelmanager.util;
+
+import com.hotelmanager.exception.CommandCancelledException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandDeadlineTest {
+
+    @Test
+    @DisplayName("Should pass checkpoints when no deadline is active")
+    void checkpoint_WithoutDeadline_ShouldNotThrow() {
+        assertThatCode(CommandDeadline::checkpoint).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should pass checkpoints within the budget")
+    void checkpoint_WithinBudget_ShouldNotThrow() {
+        try (CommandDeadline ignored = CommandDeadline.start(Duration.ofMinutes(1))) {
+            assertThatCode(CommandDeadline::checkpoint).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    @DisplayName("Should abort once the budget is spent")
+    void checkpoint_AfterBudget_ShouldThrow() {
+        try (CommandDeadline ignored = CommandDeadline.start(Duration.ZERO)) {
+            assertThatThrownBy(CommandDeadline::checkpoint)
+                    .isInstanceOf(CommandCancelledException.class)
+                    .hasMessage("Command exceeded time budget of 0 ms");
+        }
+    }
+
+    @Test
+    @DisplayName("Should abort after cancel is requested")
+    void checkpoint_AfterCancel_ShouldThrow() {
+        try (CommandDeadline deadline = CommandDeadline.start(Duration.ofMinutes(1))) {
+            deadline.cancel();
+
+            assertThatThrownBy(CommandDeadline::checkpoint)
+                    .isInstanceOf(CommandCancelledException.class)
+                    .hasMessage("Command cancelled");
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop applying once closed")
+    void checkpoint_AfterClose_ShouldNotThrow() {
+        CommandDeadline.start(Duration.ZERO).close();
+
+        assertThatCode(CommandDeadline::checkpoint).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should run close actions when the command ends")
+    void onClose_WithDeadline_ShouldRunActionOnClose() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        boolean registered;
+        int runsBeforeClose;
+        try (CommandDeadline ignored = CommandDeadline.start(Duration.ofMinutes(1))) {
+            registered = CommandDeadline.onClose(runs::incrementAndGet);
+            runsBeforeClose = runs.get();
+        }
+
+        // Then
+        assertThat(registered).isTrue();
+        assertThat(runsBeforeClose).isZero();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not register close actions when no deadline is active")
+    void onClose_WithoutDeadline_ShouldReturnFalse() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When/Then
+        assertThat(CommandDeadline.onClose(runs::incrementAndGet)).isFalse();
+        assertThat(runs.get()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.hotelmanager.util;
+
+import com.hotelmanager.model.DailyAvailability;
+import com.hotelmanager.model.DateRangeAvailability;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DateRangeConsolidatorTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2024, 9, 1);
+
+    @Test
+    @DisplayName("Should emit the same ranges as DateRangeUtil")
+    void accept_WithGapsAndChanges_ShouldMatchDateRangeUtil() {
+        // Given
+        List<DailyAvailability> days = List.of(
+                new DailyAvailability(SEP_1, 2),
+                new DailyAvailability(SEP_1.plusDays(1), 2),
+                new DailyAvailability(SEP_1.plusDays(2), 1),
+                new DailyAvailability(SEP_1.plusDays(4), 1),
+                new DailyAvailability(SEP_1.plusDays(5), 1)
+        );
+        List<DateRangeAvailability> emitted = new ArrayList<>();
+        DateRangeConsolidator consolidator = new DateRangeConsolidator(emitted::add);
+
+        // When
+        days.forEach(day -> consolidator.accept(day.date(), day.availability()));
+        int count = consolidator.finish();
+
+        // Then
+        assertThat(emitted).isEqualTo(DateRangeUtil.consolidateDateRanges(days));
+        assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should emit a range as soon as it closes")
+    void accept_WhenRangeCloses_ShouldEmitImmediately() {
+        // Given
+        List<DateRangeAvailability> emitted = new ArrayList<>();
+        DateRangeConsolidator consolidator = new DateRangeConsolidator(emitted::add);
+
+        // When
+        consolidator.accept(SEP_1, 2);
+        consolidator.accept(SEP_1.plusDays(1), 1);
+
+        // Then
+        assertThat(emitted).containsExactly(new DateRangeAvailability(SEP_1, SEP_1, 2));
+    }
+
+    @Test
+    @DisplayName("Should emit nothing when no days were accepted")
+    void finish_WithNoDays_ShouldEmitNothing() {
+        // Given
+        List<DateRangeAvailability> emitted = new ArrayList<>();
+
+        // When
+        int count = new DateRangeConsolidator(emitted::add).finish();
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(emitted).isEmpty();
+    }
+}
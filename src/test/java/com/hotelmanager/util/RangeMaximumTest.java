@@ -0,0 +1,37 @@
+package com.hotelmanager.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RangeMaximumTest {
+
+    @Test
+    @DisplayName("Should return the maximum of inclusive ranges")
+    void max_ShouldReturnRangeMaximum() {
+        RangeMaximum maximum = RangeMaximum.of(new int[]{1, 4, 2, 0, 3});
+
+        assertThat(maximum.max(0, 4)).isEqualTo(4);
+        assertThat(maximum.max(2, 4)).isEqualTo(3);
+        assertThat(maximum.max(3, 3)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force maximum over random values")
+    void max_WithRandomValues_ShouldMatchBruteForce() {
+        Random random = new Random(11);
+        for (int run = 0; run < 200; run++) {
+            int[] values = random.ints(1 + random.nextInt(70), -3, 9).toArray();
+            RangeMaximum maximum = RangeMaximum.of(values);
+
+            int from = random.nextInt(values.length);
+            int to = from + random.nextInt(values.length - from);
+            assertThat(maximum.max(from, to))
+                    .isEqualTo(Arrays.stream(values, from, to + 1).max().orElseThrow());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.hotelmanager.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowMinimumTest {
+
+    @Test
+    @DisplayName("Should return the minimum of every window")
+    void of_ShouldReturnWindowMinimums() {
+        assertThat(SlidingWindowMinimum.of(new int[]{2, 2, 1, 2, 2, 0, 2}, 3)).containsExactly(1, 1, 1, 0, 0);
+        assertThat(SlidingWindowMinimum.of(new int[]{3, -1, 4}, 1)).containsExactly(3, -1, 4);
+        assertThat(SlidingWindowMinimum.of(new int[]{3, 1}, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force minimum over random values")
+    void of_WithRandomValues_ShouldMatchBruteForce() {
+        Random random = new Random(7);
+        for (int run = 0; run < 200; run++) {
+            int[] values = random.ints(random.nextInt(60), -3, 6).toArray();
+            int window = 1 + random.nextInt(10);
+
+            int[] expected = new int[Math.max(values.length - window + 1, 0)];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = Arrays.stream(values, i, i + window).min().orElseThrow();
+            }
+
+            assertThat(SlidingWindowMinimum.of(values, window)).isEqualTo(expected);
+        }
+    }
+}